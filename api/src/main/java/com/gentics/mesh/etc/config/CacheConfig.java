@@ -15,14 +15,114 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_NAVIGATION_SIZE_ENV = "MESH_CACHE_NAVIGATION_SIZE";
+
+	public static final String MESH_CACHE_LINK_SIZE_ENV = "MESH_CACHE_LINK_SIZE";
+
+	public static final String MESH_CACHE_LINK_CONTENT_SIZE_ENV = "MESH_CACHE_LINK_CONTENT_SIZE";
+
+	public static final String MESH_CACHE_PROJECT_NAME_SIZE_ENV = "MESH_CACHE_PROJECT_NAME_SIZE";
+
+	public static final String MESH_CACHE_BRANCH_NAME_SIZE_ENV = "MESH_CACHE_BRANCH_NAME_SIZE";
+
+	public static final String MESH_CACHE_TAG_NAME_SIZE_ENV = "MESH_CACHE_TAG_NAME_SIZE";
+
+	public static final String MESH_CACHE_TAG_FAMILY_NAME_SIZE_ENV = "MESH_CACHE_TAG_FAMILY_NAME_SIZE";
+
+	public static final String MESH_CACHE_USER_NAME_SIZE_ENV = "MESH_CACHE_USER_NAME_SIZE";
+
+	public static final String MESH_CACHE_GROUP_NAME_SIZE_ENV = "MESH_CACHE_GROUP_NAME_SIZE";
+
+	public static final String MESH_CACHE_ROLE_NAME_SIZE_ENV = "MESH_CACHE_ROLE_NAME_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_NAVIGATION_CACHE_SIZE = 5_000;
+
+	private static final long DEFAULT_LINK_CACHE_SIZE = 50_000;
+
+	private static final long DEFAULT_LINK_CONTENT_CACHE_SIZE = 20_000_000;
+
+	private static final long DEFAULT_PROJECT_NAME_CACHE_SIZE = 1_000;
+
+	private static final long DEFAULT_BRANCH_NAME_CACHE_SIZE = 5_000;
+
+	private static final long DEFAULT_TAG_NAME_CACHE_SIZE = 20_000;
+
+	private static final long DEFAULT_TAG_FAMILY_NAME_CACHE_SIZE = 5_000;
+
+	private static final long DEFAULT_USER_NAME_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_GROUP_NAME_CACHE_SIZE = 1_000;
+
+	private static final long DEFAULT_ROLE_NAME_CACHE_SIZE = 1_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of rendered navigation subtrees which will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NAVIGATION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NAVIGATION_SIZE_ENV, description = "Override the navigation cache size.")
+	private long navigationCacheSize = DEFAULT_NAVIGATION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of resolved mesh links which will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_SIZE_ENV, description = "Override the link cache size.")
+	private long linkCacheSize = DEFAULT_LINK_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum total length in characters of the contents for which the parsed mesh links will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_CONTENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_CONTENT_SIZE_ENV, description = "Override the link content cache size.")
+	private long linkContentCacheSize = DEFAULT_LINK_CONTENT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of projects which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PROJECT_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PROJECT_NAME_SIZE_ENV, description = "Override the project name cache size.")
+	private long projectNameCacheSize = DEFAULT_PROJECT_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of branchs which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_BRANCH_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_BRANCH_NAME_SIZE_ENV, description = "Override the branch name cache size.")
+	private long branchNameCacheSize = DEFAULT_BRANCH_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of tags which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_TAG_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_TAG_NAME_SIZE_ENV, description = "Override the tag name cache size.")
+	private long tagNameCacheSize = DEFAULT_TAG_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of tag familys which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_TAG_FAMILY_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_TAG_FAMILY_NAME_SIZE_ENV, description = "Override the tag family name cache size.")
+	private long tagFamilyNameCacheSize = DEFAULT_TAG_FAMILY_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of users which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_USER_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_USER_NAME_SIZE_ENV, description = "Override the user name cache size.")
+	private long userNameCacheSize = DEFAULT_USER_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of groups which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GROUP_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GROUP_NAME_SIZE_ENV, description = "Override the group name cache size.")
+	private long groupNameCacheSize = DEFAULT_GROUP_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of roles which will be cached for the lookup by name. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_ROLE_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_ROLE_NAME_SIZE_ENV, description = "Override the role name cache size.")
+	private long roleNameCacheSize = DEFAULT_ROLE_NAME_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -37,6 +137,106 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getNavigationCacheSize() {
+		return navigationCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setNavigationCacheSize(long navigationCacheSize) {
+		this.navigationCacheSize = navigationCacheSize;
+		return this;
+	}
+
+	public long getLinkCacheSize() {
+		return linkCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setLinkCacheSize(long linkCacheSize) {
+		this.linkCacheSize = linkCacheSize;
+		return this;
+	}
+
+	public long getLinkContentCacheSize() {
+		return linkContentCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setLinkContentCacheSize(long linkContentCacheSize) {
+		this.linkContentCacheSize = linkContentCacheSize;
+		return this;
+	}
+
+	public long getProjectNameCacheSize() {
+		return projectNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setProjectNameCacheSize(long projectNameCacheSize) {
+		this.projectNameCacheSize = projectNameCacheSize;
+		return this;
+	}
+
+	public long getBranchNameCacheSize() {
+		return branchNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setBranchNameCacheSize(long branchNameCacheSize) {
+		this.branchNameCacheSize = branchNameCacheSize;
+		return this;
+	}
+
+	public long getTagNameCacheSize() {
+		return tagNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setTagNameCacheSize(long tagNameCacheSize) {
+		this.tagNameCacheSize = tagNameCacheSize;
+		return this;
+	}
+
+	public long getTagFamilyNameCacheSize() {
+		return tagFamilyNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setTagFamilyNameCacheSize(long tagFamilyNameCacheSize) {
+		this.tagFamilyNameCacheSize = tagFamilyNameCacheSize;
+		return this;
+	}
+
+	public long getUserNameCacheSize() {
+		return userNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setUserNameCacheSize(long userNameCacheSize) {
+		this.userNameCacheSize = userNameCacheSize;
+		return this;
+	}
+
+	public long getGroupNameCacheSize() {
+		return groupNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setGroupNameCacheSize(long groupNameCacheSize) {
+		this.groupNameCacheSize = groupNameCacheSize;
+		return this;
+	}
+
+	public long getRoleNameCacheSize() {
+		return roleNameCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setRoleNameCacheSize(long roleNameCacheSize) {
+		this.roleNameCacheSize = roleNameCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
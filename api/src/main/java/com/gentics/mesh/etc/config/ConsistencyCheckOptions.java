@@ -0,0 +1,97 @@
+package com.gentics.mesh.etc.config;
+
+import java.io.File;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.annotation.Setter;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Options related to the consistency check and repair operations.
+ */
+@GenerateDocumentation
+public class ConsistencyCheckOptions implements Option {
+
+	public static final int DEFAULT_WORKERS = 2;
+	public static final int DEFAULT_PARTITION_SIZE = 10_000;
+	public static final int DEFAULT_RATE_LIMIT = 0;
+	public static final String DEFAULT_CHECKPOINT_DIRECTORY = "data" + File.separator + "consistency";
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of workers which process the partitions of a consistency check in parallel. Repair operations always use a single worker. "
+		+ "Default: " + DEFAULT_WORKERS)
+	@EnvironmentVariable(name = "MESH_CONSISTENCY_CHECK_WORKERS", description = "Override the amount of consistency check workers.")
+	private int workers = DEFAULT_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of elements which are processed within a single partition and transaction. Default: " + DEFAULT_PARTITION_SIZE)
+	@EnvironmentVariable(name = "MESH_CONSISTENCY_CHECK_PARTITION_SIZE", description = "Override the consistency check partition size.")
+	private int partitionSize = DEFAULT_PARTITION_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of elements which are checked per second over all workers. Use 0 to disable the limit. Default: "
+		+ DEFAULT_RATE_LIMIT)
+	@EnvironmentVariable(name = "MESH_CONSISTENCY_CHECK_RATE_LIMIT", description = "Override the consistency check rate limit.")
+	private int rateLimit = DEFAULT_RATE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the directory in which the progress checkpoints of running consistency checks are stored.")
+	@EnvironmentVariable(name = "MESH_CONSISTENCY_CHECK_CHECKPOINT_DIRECTORY", description = "Override the consistency check checkpoint directory.")
+	private String checkpointDirectory = DEFAULT_CHECKPOINT_DIRECTORY;
+
+	public int getWorkers() {
+		return workers;
+	}
+
+	@Setter
+	public ConsistencyCheckOptions setWorkers(int workers) {
+		this.workers = workers;
+		return this;
+	}
+
+	public int getPartitionSize() {
+		return partitionSize;
+	}
+
+	@Setter
+	public ConsistencyCheckOptions setPartitionSize(int partitionSize) {
+		this.partitionSize = partitionSize;
+		return this;
+	}
+
+	public int getRateLimit() {
+		return rateLimit;
+	}
+
+	@Setter
+	public ConsistencyCheckOptions setRateLimit(int rateLimit) {
+		this.rateLimit = rateLimit;
+		return this;
+	}
+
+	public String getCheckpointDirectory() {
+		return checkpointDirectory;
+	}
+
+	@Setter
+	public ConsistencyCheckOptions setCheckpointDirectory(String checkpointDirectory) {
+		this.checkpointDirectory = checkpointDirectory;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (getWorkers() < 1) {
+			throw new IllegalArgumentException("The amount of consistency check workers must be at least 1.");
+		}
+		if (getPartitionSize() < 1) {
+			throw new IllegalArgumentException("The consistency check partition size must be at least 1.");
+		}
+		if (getRateLimit() < 0) {
+			throw new IllegalArgumentException("The consistency check rate limit must not be negative.");
+		}
+	}
+}
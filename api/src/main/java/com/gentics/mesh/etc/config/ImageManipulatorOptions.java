@@ -1,6 +1,8 @@
 package com.gentics.mesh.etc.config;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -20,6 +22,7 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
 	public static final String MESH_IMAGE_CACHE_DIRECTORY_ENV = "MESH_IMAGE_CACHE_DIRECTORY";
+	public static final String MESH_IMAGE_RENDITION_PRESETS_ENV = "MESH_IMAGE_RENDITION_PRESETS";
 
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
@@ -56,6 +59,11 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the rendition presets which will be generated in the background once an image has been uploaded. Each preset is specified using the image manipulation query parameters (e.g. w=200&h=200&crop=fp). Default: none")
+	@EnvironmentVariable(name = MESH_IMAGE_RENDITION_PRESETS_ENV, description = "Override the comma separated list of image rendition presets.")
+	private List<String> renditionPresets = new ArrayList<>();
+
 	public String getImageCacheDirectory() {
 		return imageCacheDirectory;
 	}
@@ -106,6 +114,16 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public List<String> getRenditionPresets() {
+		return renditionPresets;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setRenditionPresets(List<String> renditionPresets) {
+		this.renditionPresets = renditionPresets;
+		return this;
+	}
+
 	/**
 	 * Validate the options.
 	 */
@@ -25,6 +25,10 @@ public abstract class MeshOptions implements Option {
 	public static final int DEFAULT_MAX_DEPTH = 10;
 	public static final int DEFAULT_PLUGIN_TIMEOUT = 120;
 	public static final long DEFAULT_MIGRATION_TRIGGER_INTERVAL = 60_000;
+	public static final int DEFAULT_PUBLISH_MAX_BATCH_SIZE = 500;
+	public static final int DEFAULT_PERMISSION_MAX_BATCH_SIZE = 500;
+	public static final int DEFAULT_VERSION_PURGE_PARTITION_SIZE = 1000;
+	public static final int DEFAULT_VERSION_PURGE_WORKERS = 1;
 
 	public static final String MESH_DEFAULT_LANG_ENV = "MESH_DEFAULT_LANG";
 	public static final String MESH_LANGUAGES_FILE_PATH_ENV = "MESH_LANGUAGES_FILE_PATH";
@@ -33,6 +37,7 @@ public abstract class MeshOptions implements Option {
 	public static final String MESH_PLUGIN_DIR_ENV = "MESH_PLUGIN_DIR";
 	public static final String MESH_PLUGIN_USE_HTTP2_ENV = "MESH_PLUGIN_USE_HTTP2";
 	public static final String MESH_PLUGIN_TIMEOUT_ENV = "MESH_PLUGIN_TIMEOUT";
+	public static final String MESH_PLUGIN_USE_LOCAL_TRANSPORT_ENV = "MESH_PLUGIN_USE_LOCAL_TRANSPORT";
 	public static final String MESH_NODE_NAME_ENV = "MESH_NODE_NAME";
 	public static final String MESH_CLUSTER_INIT_ENV = "MESH_CLUSTER_INIT";
 	public static final String MESH_LOCK_PATH_ENV = "MESH_LOCK_PATH";
@@ -42,6 +47,11 @@ public abstract class MeshOptions implements Option {
 	public static final String MESH_INITIAL_ADMIN_PASSWORD_FORCE_RESET_ENV = "MESH_INITIAL_ADMIN_PASSWORD_FORCE_RESET";
 	public static final String MESH_MAX_PURGE_BATCH_SIZE = "MESH_MAX_PURGE_BATCH_SIZE";
 	public static final String MESH_MAX_MIGRATION_BATCH_SIZE = "MESH_MAX_MIGRATION_BATCH_SIZE";
+	public static final String MESH_MICRONODE_MIGRATION_IN_PLACE = "MESH_MICRONODE_MIGRATION_IN_PLACE";
+	public static final String MESH_MAX_PUBLISH_BATCH_SIZE = "MESH_MAX_PUBLISH_BATCH_SIZE";
+	public static final String MESH_MAX_PERMISSION_BATCH_SIZE = "MESH_MAX_PERMISSION_BATCH_SIZE";
+	public static final String MESH_VERSION_PURGE_PARTITION_SIZE = "MESH_VERSION_PURGE_PARTITION_SIZE";
+	public static final String MESH_VERSION_PURGE_WORKERS = "MESH_VERSION_PURGE_WORKERS";
 	public static final String MESH_MIGRATION_TRIGGER_INTERVAL = "MESH_MIGRATION_TRIGGER_INTERVAL";
 
 
@@ -111,6 +121,10 @@ public abstract class MeshOptions implements Option {
 	@JsonPropertyDescription("Debug info options.")
 	private DebugInfoOptions debugInfoOptions = new DebugInfoOptions();
 
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Consistency check options.")
+	private ConsistencyCheckOptions consistencyCheckOptions = new ConsistencyCheckOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -142,11 +156,36 @@ public abstract class MeshOptions implements Option {
 	@EnvironmentVariable(name = MESH_MAX_PURGE_BATCH_SIZE, description = "Override the maximum purge batch size.")
 	private int versionPurgeMaxBatchSize = 10;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of nodes whose versions are purged in a single partition. Each partition is purged in its own transaction, the progress of a purge job is stored after each partition. Default: " + DEFAULT_VERSION_PURGE_PARTITION_SIZE)
+	@EnvironmentVariable(name = MESH_VERSION_PURGE_PARTITION_SIZE, description = "Override the version purge partition size.")
+	private int versionPurgePartitionSize = DEFAULT_VERSION_PURGE_PARTITION_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of partitions which are purged in parallel by a version purge. Default: " + DEFAULT_VERSION_PURGE_WORKERS)
+	@EnvironmentVariable(name = MESH_VERSION_PURGE_WORKERS, description = "Override the amount of parallel version purge workers.")
+	private int versionPurgeWorkers = DEFAULT_VERSION_PURGE_WORKERS;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The maximum amount of entities to be migrated in a single transaction. This setting affects schema, microschema and branch migrations")
 	@EnvironmentVariable(name = MESH_MAX_MIGRATION_BATCH_SIZE, description = "Override the maximum migration batch size")
 	private int migrationMaxBatchSize = 50;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If true, microschema migrations which only add fields that are not required or change the label or the index settings of fields will update the existing micronodes in place instead of creating new versions of the contents. Micronodes which are also used by contents of other branches are still migrated by creating new versions. Older versions of the contents which share the micronodes will show the updated micronodes. Default: false")
+	@EnvironmentVariable(name = MESH_MICRONODE_MIGRATION_IN_PLACE, description = "Override the in place micronode migration flag.")
+	private boolean micronodeMigrationInPlace = false;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of nodes which are published or taken offline in a single transaction by the jobs for recursive publish and take offline requests. Default: " + DEFAULT_PUBLISH_MAX_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_MAX_PUBLISH_BATCH_SIZE, description = "Override the maximum publish batch size")
+	private int publishMaxBatchSize = DEFAULT_PUBLISH_MAX_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of nodes whose permissions are changed in a single transaction by the jobs for recursive permission requests. Default: " + DEFAULT_PERMISSION_MAX_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_MAX_PERMISSION_BATCH_SIZE, description = "Override the maximum permission batch size")
+	private int permissionMaxBatchSize = DEFAULT_PERMISSION_MAX_BATCH_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Interval in ms for the automatic migration job trigger. Setting this to a non-positive value will disable automatic job triggering. Default: " + DEFAULT_MIGRATION_TRIGGER_INTERVAL + " ms.")
 	@EnvironmentVariable(name = MESH_MIGRATION_TRIGGER_INTERVAL, description = "Override the migration trigger interval")
@@ -161,6 +200,11 @@ public abstract class MeshOptions implements Option {
 	@EnvironmentVariable(name = MESH_PLUGIN_USE_HTTP2_ENV, description = "Override the HTTP/2 usage flag for plugins.")
 	private boolean pluginUseHttp2 = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If true, the REST clients of plugins will dispatch supported requests directly to the endpoint handlers instead of sending them to the HTTP port of the instance. Default: false")
+	@EnvironmentVariable(name = MESH_PLUGIN_USE_LOCAL_TRANSPORT_ENV, description = "Override the local transport usage flag for plugins.")
+	private boolean pluginUseLocalTransport = false;
+
 	/* EXTRA Command Line Arguments */
 	@JsonIgnore
 	@EnvironmentVariable(name = MESH_CLUSTER_INIT_ENV, description = "Enable or disable the initial cluster database setup. This is useful for testing.")
@@ -388,6 +432,17 @@ public abstract class MeshOptions implements Option {
 		return this;
 	}
 
+	@JsonProperty("consistencyCheck")
+	public ConsistencyCheckOptions getConsistencyCheckOptions() {
+		return consistencyCheckOptions;
+	}
+
+	@Setter
+	public MeshOptions setConsistencyCheckOptions(ConsistencyCheckOptions consistencyCheckOptions) {
+		this.consistencyCheckOptions = consistencyCheckOptions;
+		return this;
+	}
+
 	@Getter
 	@JsonProperty("cache")
 	public CacheConfig getCacheConfig() {
@@ -525,6 +580,26 @@ public abstract class MeshOptions implements Option {
 		return this;
 	}
 
+	public int getVersionPurgePartitionSize() {
+		return versionPurgePartitionSize;
+	}
+
+	@Setter
+	public MeshOptions setVersionPurgePartitionSize(int versionPurgePartitionSize) {
+		this.versionPurgePartitionSize = versionPurgePartitionSize;
+		return this;
+	}
+
+	public int getVersionPurgeWorkers() {
+		return versionPurgeWorkers;
+	}
+
+	@Setter
+	public MeshOptions setVersionPurgeWorkers(int versionPurgeWorkers) {
+		this.versionPurgeWorkers = versionPurgeWorkers;
+		return this;
+	}
+
 	public int getMigrationMaxBatchSize() {
 		return migrationMaxBatchSize;
 	}
@@ -534,6 +609,36 @@ public abstract class MeshOptions implements Option {
 		this.migrationMaxBatchSize = migrationMaxBatchSize;
 	}
 
+	public boolean isMicronodeMigrationInPlace() {
+		return micronodeMigrationInPlace;
+	}
+
+	@Setter
+	public MeshOptions setMicronodeMigrationInPlace(boolean micronodeMigrationInPlace) {
+		this.micronodeMigrationInPlace = micronodeMigrationInPlace;
+		return this;
+	}
+
+	public int getPublishMaxBatchSize() {
+		return publishMaxBatchSize;
+	}
+
+	@Setter
+	public MeshOptions setPublishMaxBatchSize(int publishMaxBatchSize) {
+		this.publishMaxBatchSize = publishMaxBatchSize;
+		return this;
+	}
+
+	public int getPermissionMaxBatchSize() {
+		return permissionMaxBatchSize;
+	}
+
+	@Setter
+	public MeshOptions setPermissionMaxBatchSize(int permissionMaxBatchSize) {
+		this.permissionMaxBatchSize = permissionMaxBatchSize;
+		return this;
+	}
+
 	public boolean isPluginUseHttp2() {
 		return pluginUseHttp2;
 	}
@@ -544,6 +649,16 @@ public abstract class MeshOptions implements Option {
 		return this;
 	}
 
+	public boolean isPluginUseLocalTransport() {
+		return pluginUseLocalTransport;
+	}
+
+	@Setter
+	public MeshOptions setPluginUseLocalTransport(boolean pluginUseLocalTransport) {
+		this.pluginUseLocalTransport = pluginUseLocalTransport;
+		return this;
+	}
+
 	@JsonIgnore
 	public abstract NativeQueryFiltering getNativeQueryFiltering();
 
@@ -595,10 +710,25 @@ public abstract class MeshOptions implements Option {
 		if (getVertxOptions() != null) {
 			getVertxOptions().validate(this);
 		}
+		if (getConsistencyCheckOptions() != null) {
+			getConsistencyCheckOptions().validate(this);
+		}
 		Objects.requireNonNull(getNodeName(), "The node name must be specified.");
 		if (getVersionPurgeMaxBatchSize() <= 0) {
 			throw new IllegalArgumentException("versionPurgeMaxBatchSize must be positive.");
 		}
+		if (getVersionPurgePartitionSize() <= 0) {
+			throw new IllegalArgumentException("versionPurgePartitionSize must be positive.");
+		}
+		if (getVersionPurgeWorkers() <= 0) {
+			throw new IllegalArgumentException("versionPurgeWorkers must be positive.");
+		}
+		if (getPublishMaxBatchSize() <= 0) {
+			throw new IllegalArgumentException("publishMaxBatchSize must be positive.");
+		}
+		if (getPermissionMaxBatchSize() <= 0) {
+			throw new IllegalArgumentException("permissionMaxBatchSize must be positive.");
+		}
 		// TODO check for other invalid characters in node name
 	}
 
@@ -22,6 +22,12 @@ public class MeshUploadOptions implements Option {
 	public static final int DEFAULT_DOCUMENT_PARSER_LIMIT = 40_000;
 	public static final boolean DEFAULT_UPLOAD_PARSER_FLAG = true;
 	public static final long DEFAULT_CHECK_INTERVAL = 60_000;
+	public static final int DEFAULT_PARSER_THREADS = 2;
+	public static final int DEFAULT_PARSER_QUEUE_SIZE = 100;
+	public static final long DEFAULT_PARSER_TIMEOUT = 60_000;
+	public static final long DEFAULT_PARSER_FILE_SIZE_LIMIT = 0;
+	public static final long DEFAULT_PARSER_CACHE_SIZE = 10_000_000;
+	public static final boolean DEFAULT_PARSER_ASYNC_FLAG = false;
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
@@ -30,6 +36,12 @@ public class MeshUploadOptions implements Option {
 	public static final String MESH_BINARY_DOCUMENT_PARSER_ENV = "MESH_BINARY_DOCUMENT_PARSER";
 	public static final String MESH_BINARY_METADATA_WHITELIST_ENV = "MESH_BINARY_METADATA_WHITELIST";
 	public static final String MESH_BINARY_CHECK_INTERVAL = "MESH_BINARY_CHECK_INTERVAL";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_THREADS_ENV = "MESH_BINARY_DOCUMENT_PARSER_THREADS";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_QUEUE_SIZE_ENV = "MESH_BINARY_DOCUMENT_PARSER_QUEUE_SIZE";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_TIMEOUT_ENV = "MESH_BINARY_DOCUMENT_PARSER_TIMEOUT";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_FILE_SIZE_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_FILE_SIZE_LIMIT";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_CACHE_SIZE_ENV = "MESH_BINARY_DOCUMENT_PARSER_CACHE_SIZE";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_ASYNC_ENV = "MESH_BINARY_DOCUMENT_PARSER_ASYNC";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_BYTE_LIMIT + " (" + DEFAULT_FILEUPLOAD_MB_LIMIT + " MB)")
@@ -68,6 +80,41 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_CHECK_INTERVAL, description = "Override the binary check interval")
 	private long checkInterval = DEFAULT_CHECK_INTERVAL;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which are used to parse uploaded documents. Default: " + DEFAULT_PARSER_THREADS)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_THREADS_ENV, description = "Override the amount of parser threads.")
+	private int parserThreads = DEFAULT_PARSER_THREADS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of uploads which may wait for the document parser. Uploads will be rejected when the limit has been reached. Default: "
+		+ DEFAULT_PARSER_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_QUEUE_SIZE_ENV, description = "Override the parser queue size.")
+	private int parserQueueSize = DEFAULT_PARSER_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Timeout in milliseconds for parsing a single upload. Uploads which exceed the timeout will be stored without extracted metadata and contents. For values less than one no timeout is applied. Default: "
+		+ DEFAULT_PARSER_TIMEOUT)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_TIMEOUT_ENV, description = "Override the parser timeout.")
+	private long parserTimeout = DEFAULT_PARSER_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Size limit in bytes for uploads which will be parsed. Larger uploads will be stored without extracted metadata and contents. For values less than one no limit is applied. Default: "
+		+ DEFAULT_PARSER_FILE_SIZE_LIMIT)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_FILE_SIZE_LIMIT_ENV, description = "Override the parser file size limit.")
+	private long parserFileSizeLimit = DEFAULT_PARSER_FILE_SIZE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum size of the cache for parser results in characters of the extracted contents. The results are reused for uploads with the same content. Setting this to 0 will disable the cache. Default: "
+		+ DEFAULT_PARSER_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_CACHE_SIZE_ENV, description = "Override the parser cache size.")
+	private long parserCacheSize = DEFAULT_PARSER_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If true, uploads will be answered before the document parser has finished. The extracted metadata and contents will be added to the binary field in the background. Default: "
+		+ DEFAULT_PARSER_ASYNC_FLAG)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_ASYNC_ENV, description = "Override the asynchronous document parser flag.")
+	private boolean parserAsync = DEFAULT_PARSER_ASYNC_FLAG;
+
 	/**
 	 * Return the upload limit in bytes.
 	 *
@@ -209,4 +256,124 @@ public class MeshUploadOptions implements Option {
 		this.checkInterval = checkInterval;
 		return this;
 	}
+
+	/**
+	 * Return the amount of document parser threads.
+	 *
+	 * @return
+	 */
+	public int getParserThreads() {
+		return parserThreads;
+	}
+
+	/**
+	 * Set the amount of document parser threads.
+	 *
+	 * @param parserThreads
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserThreads(int parserThreads) {
+		this.parserThreads = parserThreads;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of uploads which may wait for the document parser.
+	 *
+	 * @return
+	 */
+	public int getParserQueueSize() {
+		return parserQueueSize;
+	}
+
+	/**
+	 * Set the maximum amount of uploads which may wait for the document parser.
+	 *
+	 * @param parserQueueSize
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserQueueSize(int parserQueueSize) {
+		this.parserQueueSize = parserQueueSize;
+		return this;
+	}
+
+	/**
+	 * Return the parser timeout in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getParserTimeout() {
+		return parserTimeout;
+	}
+
+	/**
+	 * Set the parser timeout in milliseconds.
+	 *
+	 * @param parserTimeout
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserTimeout(long parserTimeout) {
+		this.parserTimeout = parserTimeout;
+		return this;
+	}
+
+	/**
+	 * Return the size limit in bytes for uploads which will be parsed.
+	 *
+	 * @return
+	 */
+	public long getParserFileSizeLimit() {
+		return parserFileSizeLimit;
+	}
+
+	/**
+	 * Set the size limit in bytes for uploads which will be parsed.
+	 *
+	 * @param parserFileSizeLimit
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserFileSizeLimit(long parserFileSizeLimit) {
+		this.parserFileSizeLimit = parserFileSizeLimit;
+		return this;
+	}
+
+	/**
+	 * Return the maximum size of the parser result cache.
+	 *
+	 * @return
+	 */
+	public long getParserCacheSize() {
+		return parserCacheSize;
+	}
+
+	/**
+	 * Set the maximum size of the parser result cache.
+	 *
+	 * @param parserCacheSize
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserCacheSize(long parserCacheSize) {
+		this.parserCacheSize = parserCacheSize;
+		return this;
+	}
+
+	/**
+	 * Check whether uploads are parsed in the background.
+	 *
+	 * @return
+	 */
+	public boolean isParserAsync() {
+		return parserAsync;
+	}
+
+	/**
+	 * Set the flag for parsing uploads in the background.
+	 *
+	 * @param parserAsync
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserAsync(boolean parserAsync) {
+		this.parserAsync = parserAsync;
+		return this;
+	}
 }
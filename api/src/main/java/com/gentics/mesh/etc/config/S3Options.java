@@ -22,6 +22,12 @@ public class S3Options implements Option {
 	public static final boolean DISABLED = false;
 
 	public static final boolean DEFAULT_S3_MODE = DISABLED;
+	public static final boolean DEFAULT_STREAM_DOWNLOADS = false;
+	public static final long DEFAULT_MULTIPART_THRESHOLD = 16 * 1024 * 1024;
+	public static final long DEFAULT_MULTIPART_PART_SIZE = 8 * 1024 * 1024;
+	public static final long MIN_MULTIPART_PART_SIZE = 5 * 1024 * 1024;
+	public static final int DEFAULT_MULTIPART_CONCURRENCY = 4;
+	public static final int DEFAULT_MULTIPART_RETRIES = 3;
 	public static final int DEFAULT_EXPIRATION_TIME_UPLOAD = 60_000;
 	public static final int DEFAULT_EXPIRATION_TIME_DOWNLOAD = 360_000;
 	public static final int DEFAULT_PARSER_LIMIT = 40_000;
@@ -40,6 +46,11 @@ public class S3Options implements Option {
 	public static final String MESH_S3_BINARY_METADATA_WHITELIST_ENV = "MESH_S3_BINARY_METADATA_WHITELIST";
 	public static final String MESH_S3_BINARY_PARSER_LIMIT_ENV = "MESH_S3_BINARY_PARSER_LIMIT";
 	public static final String MESH_S3_BINARY_REGION_ENV = "MESH_S3_BINARY_REGION";
+	public static final String MESH_S3_BINARY_STREAM_DOWNLOADS_ENV = "MESH_S3_BINARY_STREAM_DOWNLOADS";
+	public static final String MESH_S3_BINARY_MULTIPART_THRESHOLD_ENV = "MESH_S3_BINARY_MULTIPART_THRESHOLD";
+	public static final String MESH_S3_BINARY_MULTIPART_PART_SIZE_ENV = "MESH_S3_BINARY_MULTIPART_PART_SIZE";
+	public static final String MESH_S3_BINARY_MULTIPART_CONCURRENCY_ENV = "MESH_S3_BINARY_MULTIPART_CONCURRENCY";
+	public static final String MESH_S3_BINARY_MULTIPART_RETRIES_ENV = "MESH_S3_BINARY_MULTIPART_RETRIES";
 	public static final String MESH_S3_CORS_ALLOWED_ORIGINS_ENV = "MESH_S3_CORS_ALLOWED_ORIGINS";
 	public static final String MESH_S3_CORS_ALLOWED_HEADERS_ENV = "MESH_S3_CORS_ALLOWED_HEADERS";
 	public static final String MESH_S3_CORS_ALLOWED_METHODS_ENV = "MESH_S3_CORS_ALLOWED_METHODS";
@@ -89,6 +100,33 @@ public class S3Options implements Option {
 	@EnvironmentVariable(name = MESH_S3_BINARY_SECRET_ACCESS_KEY_ENV, description = "Override the configured AWS S3 secret access key.")
 	private String secretAccessKey;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag to serve S3 binaries by streaming them through Mesh instead of redirecting to a pre-signed URL. HTTP range requests are forwarded to S3 as ranged reads. Default: "
+		+ DEFAULT_STREAM_DOWNLOADS)
+	@EnvironmentVariable(name = MESH_S3_BINARY_STREAM_DOWNLOADS_ENV, description = "Override the configured AWS S3 stream downloads flag.")
+	private boolean streamDownloads = DEFAULT_STREAM_DOWNLOADS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Files which are larger than this size in bytes are uploaded to S3 in multiple parts. A value of 0 disables multipart uploads. Default: "
+		+ DEFAULT_MULTIPART_THRESHOLD)
+	@EnvironmentVariable(name = MESH_S3_BINARY_MULTIPART_THRESHOLD_ENV, description = "Override the configured AWS S3 multipart upload threshold.")
+	private long multipartThreshold = DEFAULT_MULTIPART_THRESHOLD;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Size in bytes of the parts of multipart uploads. The minimum is 5 MB. The part size is increased for files which would need more than 10000 parts. Default: " + DEFAULT_MULTIPART_PART_SIZE)
+	@EnvironmentVariable(name = MESH_S3_BINARY_MULTIPART_PART_SIZE_ENV, description = "Override the configured AWS S3 multipart upload part size.")
+	private long multipartPartSize = DEFAULT_MULTIPART_PART_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of parts of a multipart upload which are uploaded in parallel. Default: " + DEFAULT_MULTIPART_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_S3_BINARY_MULTIPART_CONCURRENCY_ENV, description = "Override the configured AWS S3 multipart upload concurrency.")
+	private int multipartConcurrency = DEFAULT_MULTIPART_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of retries for a failed part of a multipart upload, before the whole upload is aborted. Default: " + DEFAULT_MULTIPART_RETRIES)
+	@EnvironmentVariable(name = MESH_S3_BINARY_MULTIPART_RETRIES_ENV, description = "Override the configured AWS S3 multipart upload retries.")
+	private int multipartRetries = DEFAULT_MULTIPART_RETRIES;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("AWS S3 access key id")
 	@EnvironmentVariable(name = MESH_S3_BINARY_ACCESS_KEY_ID_ENV, description = "Override the configured AWS S3 access key id.")
@@ -239,6 +277,56 @@ public class S3Options implements Option {
 		this.parserLimit = parserLimit;
 	}
 
+	public boolean isStreamDownloads() {
+		return streamDownloads;
+	}
+
+	@Setter
+	public S3Options setStreamDownloads(boolean streamDownloads) {
+		this.streamDownloads = streamDownloads;
+		return this;
+	}
+
+	public long getMultipartThreshold() {
+		return multipartThreshold;
+	}
+
+	@Setter
+	public S3Options setMultipartThreshold(long multipartThreshold) {
+		this.multipartThreshold = multipartThreshold;
+		return this;
+	}
+
+	public long getMultipartPartSize() {
+		return multipartPartSize;
+	}
+
+	@Setter
+	public S3Options setMultipartPartSize(long multipartPartSize) {
+		this.multipartPartSize = multipartPartSize;
+		return this;
+	}
+
+	public int getMultipartConcurrency() {
+		return multipartConcurrency;
+	}
+
+	@Setter
+	public S3Options setMultipartConcurrency(int multipartConcurrency) {
+		this.multipartConcurrency = multipartConcurrency;
+		return this;
+	}
+
+	public int getMultipartRetries() {
+		return multipartRetries;
+	}
+
+	@Setter
+	public S3Options setMultipartRetries(int multipartRetries) {
+		this.multipartRetries = multipartRetries;
+		return this;
+	}
+
 	/**
 	 * Validate the settings.
 	 */
@@ -249,6 +337,12 @@ public class S3Options implements Option {
 				throw new NullPointerException(
 						"You have not specified the required S3 parameters: accessKeyId, secretAccessKey, bucket, region. Please either fill in the required parameters or disable S3 support.");
 			}
+			if (getMultipartPartSize() < MIN_MULTIPART_PART_SIZE) {
+				throw new IllegalArgumentException("The multipart part size {" + getMultipartPartSize() + "} must not be smaller than " + MIN_MULTIPART_PART_SIZE + " bytes.");
+			}
+			if (getMultipartConcurrency() < 1) {
+				throw new IllegalArgumentException("The multipart concurrency {" + getMultipartConcurrency() + "} must be at least 1.");
+			}
 		}
 	}
 
@@ -31,5 +31,6 @@ public class CachingMetric implements Metric {
 		MISS,
 		CLEAR_SINGLE,
 		CLEAR_ALL,
+		HIT_RATIO,
 	}
 }
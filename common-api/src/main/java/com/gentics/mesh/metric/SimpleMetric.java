@@ -21,6 +21,12 @@ public enum SimpleMetric implements Metric {
 
 	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration."),
 
+	MICRONODE_MIGRATION_PENDING("micronode_migration_pending", "Pending contents which need to be processed by the micronode migration."),
+
+	MICRONODE_MIGRATION_IN_PLACE("micronode_migration_in_place", "Amount of contents whose micronodes were updated in place by the micronode migration."),
+
+	MICRONODE_MIGRATION_SKIPPED("micronode_migration_skipped", "Amount of contents which were skipped by the micronode migration since they contained no affected micronodes."),
+
 	WRITE_LOCK_WAITING_TIME("write_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
 	WRITE_LOCK_TIMEOUT_COUNT("write_lock_timeout", "Amount of timeouts of acquiring the write lock."),
@@ -29,7 +35,17 @@ public enum SimpleMetric implements Metric {
 
 	TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
 
-	GRAPHQL_TIME("graphql_time", "Timer which tracks duration of graphql requests.");
+	GRAPHQL_TIME("graphql_time", "Timer which tracks duration of graphql requests."),
+
+	IMAGE_RENDITION_PENDING("image_rendition_pending", "Pending image renditions which need to be generated."),
+
+	EVENTBUS_FILTERED_DROPPED("eventbus_filtered_dropped", "Amount of events which were not relayed to websockets because they did not match the subscription filter."),
+
+	S3_UPLOAD_BYTES("s3_upload_bytes", "Amount of bytes which were uploaded to S3."),
+
+	S3_UPLOAD_TIME("s3_upload_time", "Timer which tracks the duration of uploads to S3."),
+
+	S3_UPLOAD_PART_FAILURES("s3_upload_part_failures", "Amount of failed part uploads of multipart uploads to S3.");
 
 	private String key;
 
@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import javax.annotation.Nonnull;
@@ -24,6 +25,14 @@ public interface EventAwareCache<K, V> {
 	 */
 	void invalidate(K key);
 
+	/**
+	 * Invalidate all cache entries which match the predicate.
+	 * 
+	 * @param predicate
+	 *            Predicate which is tested with the key and value of the entries
+	 */
+	void invalidate(BiPredicate<K, V> predicate);
+
 	/**
 	 * Add the given entry to the cache.
 	 * 
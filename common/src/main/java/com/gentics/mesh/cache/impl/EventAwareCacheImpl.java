@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -85,6 +86,18 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		invalidateAllCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_ALL, name));
 		missCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.MISS, name));
 		hitCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.HIT, name));
+		if (metricsService.isEnabled()) {
+			metricsService.getMetricRegistry().gauge(new CachingMetric(CachingMetric.Event.HIT_RATIO, name).key(), this, EventAwareCacheImpl::hitRatio);
+		}
+	}
+
+	/**
+	 * Return the ratio of the hits to all lookups, which were counted since the start.
+	 */
+	private double hitRatio() {
+		double hits = hitCounter.count();
+		double total = hits + missCounter.count();
+		return total == 0 ? 0 : hits / total;
 	}
 
 	private void registerEventHandlers(EventBusStore eventBusStore, MeshEvent... events) {
@@ -167,6 +180,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		cache.invalidate(key);
 	}
 
+	@Override
+	public void invalidate(BiPredicate<K, V> predicate) {
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating matching entries");
+		}
+		if (options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment();
+		}
+		cache.asMap().entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().orElse(null)));
+	}
+
 	@Override
 	public void put(K key, V value) {
 		if (disabled) {
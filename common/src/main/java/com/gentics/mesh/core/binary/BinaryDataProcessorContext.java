@@ -14,6 +14,7 @@ public class BinaryDataProcessorContext {
 	private final String fieldName;
 	private final FileUpload upload;
 	private final String hash;
+	private boolean deferred = false;
 
 	public BinaryDataProcessorContext(InternalActionContext actionContext, String nodeUuid, String fieldName, FileUpload upload, String hash) {
 		this.ac = actionContext;
@@ -42,4 +43,20 @@ public class BinaryDataProcessorContext {
 	public String getHash() {
 		return hash;
 	}
+
+	/**
+	 * Mark that the processing of the upload has been deferred until the binary data has been stored.
+	 */
+	public void setDeferred() {
+		this.deferred = true;
+	}
+
+	/**
+	 * Check whether a processor has deferred the processing of the upload.
+	 *
+	 * @return
+	 */
+	public boolean isDeferred() {
+		return deferred;
+	}
 }
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -25,6 +26,9 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.CachedLink;
+import com.gentics.mesh.cache.LinkCache;
+import com.gentics.mesh.cache.LinkContentCache;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.HibNodeFieldContainer;
 import com.gentics.mesh.core.data.branch.HibBranch;
@@ -58,16 +62,24 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 	private static final String START_TAG = "{{mesh.link(";
 	private static final String END_TAG = ")}}";
 
+	private static final String LINK_CACHE_CONTEXT_KEY = "linkCacheContext";
+
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacerImpl.class);
 
 	private final MeshOptions options;
 
 	private S3BinaryStorage s3BinaryStorage;
 
+	private final LinkCache linkCache;
+
+	private final LinkContentCache contentCache;
+
 	@Inject
-	public WebRootLinkReplacerImpl(MeshOptions options, S3BinaryStorage s3BinaryStorage) {
+	public WebRootLinkReplacerImpl(MeshOptions options, S3BinaryStorage s3BinaryStorage, LinkCache linkCache, LinkContentCache contentCache) {
 		this.options = options;
 		this.s3BinaryStorage = s3BinaryStorage;
+		this.linkCache = linkCache;
+		this.contentCache = contentCache;
 	}
 
 	@Override
@@ -168,39 +180,64 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 
 		languageTags = appendDefaultLanguageIfNotContained(languageTags);
 
-		HibProject theirProject = node.getProject();
-
-		HibBranch branch = tx.branchDao().findBranchOrLatest(theirProject, branchNameOrUuid);
-
 		// edge type defaults to DRAFT
 		if (edgeType == null) {
 			edgeType = ContainerType.DRAFT;
 		}
+
+		String cacheKey = null;
+		if (!linkCache.isDisabled()) {
+			cacheKey = createCacheKey("single", ac, node.getUuid(), branchNameOrUuid, edgeType, type, forceAbsolute, languageTags);
+			CachedLink cachedLink = linkCache.get(cacheKey);
+			if (cachedLink != null) {
+				return cachedLink.getLink();
+			}
+		}
+
+		HibProject theirProject = node.getProject();
+
+		HibBranch branch = tx.branchDao().findBranchOrLatest(theirProject, branchNameOrUuid);
+
 		if (log.isDebugEnabled()) {
 			log.debug("Resolving link to " + node.getUuid() + " in language " + Arrays.toString(languageTags) + " with type " + type.name());
 		}
 
 		String path = nodeDao.getPath(node, ac, branch.getUuid(), edgeType, languageTags);
+		boolean resolved = path != null;
 		if (path == null) {
 			path = "/error/404";
 		}
+		String link;
 		switch (type) {
 		case SHORT:
 			// We also try to append the scheme and authority part of the uri for foreign nodes.
 			// Otherwise that part will be empty and thus the link relative.
 			if (!forceAbsolute && tx.getProject(ac) != null && tx.getBranch(ac).equals(branch)) {
-				return path;
+				link = path;
 			} else {
-				return generateSchemeAuthorityForNode(node, branch) + path;
+				link = generateSchemeAuthorityForNode(node, branch) + path;
 			}
+			break;
 		case MEDIUM:
-			return "/" + node.getProject().getName() + path;
+			link = "/" + node.getProject().getName() + path;
+			break;
 		case FULL:
-			return VersionUtils.baseRoute(ac.getApiVersion()) + "/" + node.getProject().getName() + "/webroot" + path
+			link = VersionUtils.baseRoute(ac.getApiVersion()) + "/" + node.getProject().getName() + "/webroot" + path
 				+ branchQueryParameter(branch);
+			break;
 		default:
 			throw error(BAD_REQUEST, "Cannot render link with type " + type);
 		}
+
+		// Unresolved links are not cached since they would not be invalidated when the target becomes available
+		if (cacheKey != null && resolved) {
+			Set<String> nodeUuids = new HashSet<>();
+			for (HibNode current = node; current != null; current = nodeDao.getParentNode(current, branch.getUuid())) {
+				nodeUuids.add(current.getUuid());
+			}
+			linkCache.store(cacheKey, new CachedLink(link, nodeUuids));
+		}
+		return link;
 	}
 
 	@Override
@@ -219,11 +256,28 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 		Map<String, List<ContentSegment>> segmentListsByContent = contents.stream()
 				.collect(Collectors.toMap(Function.identity(), c -> tokenize(c, branch, finLanguageTags)));
 
-		// 2. collect the list of target nodeUuids and map to the target branches
+		// 2. lookup the cached links
+		Map<ContentSegment, String> cacheKeys = new IdentityHashMap<>();
+		Map<ContentSegment, String> cachedLinks = new IdentityHashMap<>();
+		if (!linkCache.isDisabled()) {
+			final ContainerType finEdgeType = edgeType;
+			segmentListsByContent.values().stream().flatMap(list -> list.stream()).forEach(segment -> {
+				segment.getTargetUuid().ifPresent(targetUuid -> {
+					String cacheKey = cacheKeys.computeIfAbsent(segment, seg -> createCacheKey("many", ac, targetUuid, seg.getBranch().orElse(branch),
+						finEdgeType, linkType, false, seg.getLanguageTags().orElse(finLanguageTags)));
+					CachedLink cachedLink = linkCache.get(cacheKey);
+					if (cachedLink != null) {
+						cachedLinks.put(segment, cachedLink.getLink());
+					}
+				});
+			});
+		}
+
+		// 3. collect the list of target nodeUuids of the links which are not cached and map to the target branches
 		Map<String, Set<String>> branchesPerNodeUuid = new HashMap<>();
 		// also collect the language tags per nodeUuid
 		Map<String, Set<String[]>> languageTagsPerNodeUuid = new HashMap<>();
-		segmentListsByContent.values().stream().flatMap(list -> list.stream()).forEach(segment -> {
+		segmentListsByContent.values().stream().flatMap(list -> list.stream()).filter(segment -> !cachedLinks.containsKey(segment)).forEach(segment -> {
 			segment.getTargetUuid().ifPresent(targetUuid -> {
 				String targetBranch = segment.getBranch().orElse(branch);
 				branchesPerNodeUuid.computeIfAbsent(targetUuid, key -> new HashSet<>()).add(targetBranch);
@@ -233,10 +287,10 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			});
 		});
 
-		// 3. load the nodes by their UUIDs
+		// 4. load the nodes by their UUIDs
 		Map<String, ? extends HibNode> nodeMap = nodeDao.findByUuidGlobal(branchesPerNodeUuid.keySet()).stream().collect(Collectors.toMap(HibNode::getUuid, Function.identity()));
 
-		// 4. load paths of the nodes per requested languages
+		// 5. load paths of the nodes per requested languages
 		Map<HibBranch, Map<String[], Map<HibNode, String>>> pathsPerBranchAndNode = new HashMap<>();
 		Map<String, HibBranch> branchPerUUids = new HashMap<>();
 		for (Entry<String, Set<String>> entry : branchesPerNodeUuid.entrySet()) {
@@ -265,7 +319,7 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			}
 		}
 
-		// 5. adapt paths to link type
+		// 6. adapt paths to link type
 		switch (linkType) {
 		case SHORT:
 			HibProject txProject = tx.getProject(ac);
@@ -315,13 +369,22 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			throw error(BAD_REQUEST, "Cannot render link with type " + linkType);
 		}
 
-		// 6. reconstruct content with replaced links
+		// The ancestors are needed to invalidate the cached links
+		Map<HibNode, List<HibNode>> breadcrumbs = linkCache.isDisabled() || nodeMap.isEmpty() ? Collections.emptyMap()
+			: nodeDao.getBreadcrumbNodesMap(new ArrayList<>(nodeMap.values()), ac);
+
+		// 7. reconstruct content with replaced links
 		Map<String, String> result = new HashMap<>();
 		for (String content : contents) {
 			StringBuilder renderedContent = new StringBuilder(content.length());
 			List<ContentSegment> segments = segmentListsByContent.get(content);
 			segments.stream().forEachOrdered(seg -> {
 				seg.getTargetUuid().ifPresentOrElse(nodeUuid -> {
+					String cachedLink = cachedLinks.get(seg);
+					if (cachedLink != null) {
+						renderedContent.append(cachedLink);
+						return;
+					}
 					String currentBranch = seg.getBranch().orElse(branch);
 					String[] nodeLanguageTags = seg.getLanguageTags().orElse(finLanguageTags);
 					HibNode node = nodeMap.get(nodeUuid);
@@ -330,6 +393,14 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 						String key = node.getProject().getUuid() + "-" + currentBranch;
 						HibBranch theirBranch = branchPerUUids.computeIfAbsent(key, unused -> branchDao.findBranchOrLatest(node.getProject(), currentBranch));
 						renderedSegment = pathsPerBranchAndNode.getOrDefault(theirBranch, Collections.emptyMap()).getOrDefault(nodeLanguageTags, Collections.emptyMap()).getOrDefault(node, null);
+						String cacheKey = cacheKeys.get(seg);
+						if (cacheKey != null && !StringUtils.isBlank(renderedSegment)) {
+							Set<String> nodeUuids = breadcrumbs.getOrDefault(node, Collections.emptyList()).stream().map(HibNode::getUuid)
+								.collect(Collectors.toCollection(HashSet::new));
+							nodeUuids.add(nodeUuid);
+							linkCache.store(cacheKey, new CachedLink(renderedSegment, nodeUuids));
+							cachedLinks.put(seg, renderedSegment);
+						}
 					}
 					if (StringUtils.isBlank(renderedSegment)) {
 						switch (linkType) {
@@ -362,7 +433,23 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 		if (isEmpty(content)) {
 			return Collections.emptyList();
 		}
+		// Contents without links are cheap to tokenize and are not cached
+		if (contentCache.isDisabled() || !content.contains(START_TAG)) {
+			return parse(content, branch, languageTags);
+		}
+		return contentCache.get(new LinkContentCache.Key(content, branch, languageTags),
+			key -> Collections.unmodifiableList(parse(content, branch, languageTags)));
+	}
 
+	/**
+	 * Parse the content into segments.
+	 * 
+	 * @param content
+	 * @param branch
+	 * @param languageTags
+	 * @return
+	 */
+	private List<ContentSegment> parse(String content, String branch, String... languageTags) {
 		List<ContentSegment> segments = new ArrayList<>();
 		int pos = 0;
 		int lastPos = 0;
@@ -393,12 +480,7 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			}
 
 			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
+			String link = stripQuotes(content, pos + START_TAG.length(), endPos);
 			String[] linkArguments = link.split(",");
 			if (linkArguments.length == 3) {
 				// Branch in link argument always comes last (third argument)
@@ -417,6 +499,63 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 		return segments;
 	}
 
+	/**
+	 * Return the link arguments between the given positions without quotes. We only care about the argument values. Double quotes may be escaped.
+	 * 
+	 * @param content
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	private String stripQuotes(String content, int start, int end) {
+		StringBuilder builder = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char c = content.charAt(i);
+			if (c == '\\' && i + 1 < end && content.charAt(i + 1) == '"') {
+				i++;
+			} else if (c != '"' && c != '\'') {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Create the key for the link cache. The key contains all arguments which affect the rendered link. Links of the SHORT type additionally depend on the
+	 * project and branch of the request and links of the FULL type on the API version.
+	 * 
+	 * @param prefix
+	 *            Prefix which separates the links which are resolved individually from the links which are resolved in batches
+	 * @param ac
+	 * @param nodeUuid
+	 * @param branchNameOrUuid
+	 * @param edgeType
+	 * @param type
+	 * @param forceAbsolute
+	 * @param languageTags
+	 * @return
+	 */
+	private String createCacheKey(String prefix, InternalActionContext ac, String nodeUuid, String branchNameOrUuid, ContainerType edgeType, LinkType type,
+		boolean forceAbsolute, String[] languageTags) {
+		StringBuilder key = new StringBuilder(prefix).append('-').append(nodeUuid).append('-').append(branchNameOrUuid).append('-')
+			.append(edgeType.getCode()).append('-').append(type.name()).append('-').append(forceAbsolute).append('-')
+			.append(String.join(",", languageTags));
+		switch (type) {
+		case SHORT:
+			key.append('-').append(ac.data().computeIfAbsent(LINK_CACHE_CONTEXT_KEY, k -> {
+				Tx tx = Tx.get();
+				return tx.getProject(ac) == null ? "" : tx.getBranch(ac).getUuid();
+			}));
+			break;
+		case FULL:
+			key.append('-').append(ac.getApiVersion());
+			break;
+		default:
+			break;
+		}
+		return key.toString();
+	}
+
 	/**
 	 * Return the URL prefix for the given node. The latest branch of the node's project will be used to fetch the needed information.
 	 *
@@ -1,5 +1,8 @@
 package com.gentics.mesh.router;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -20,6 +23,16 @@ public class APIRouterImpl implements APIRouter {
 
 	private static final Logger log = LoggerFactory.getLogger(APIRouterImpl.class);
 
+	/**
+	 * Path of the streaming node import endpoint, relative to the api mount point.
+	 */
+	private static final String NODE_IMPORT_PATH_REGEX = "/[^/]+/nodes/import/?";
+
+	/**
+	 * Context key which marks requests that are streamed by the handler and must not be buffered by the body handler.
+	 */
+	private static final String STREAMED_REQUEST_KEY = "streamedRequest";
+
 	private final ProjectsRouterImpl projectsRouter;
 	private final PluginRouterImpl pluginRouter;
 
@@ -71,11 +84,23 @@ public class APIRouterImpl implements APIRouter {
 			router.route().handler(storage.getCorsHandler());
 		}
 
+		// The NDJSON node import is streamed by the handler and must not be buffered.
+		// The request is paused until the handler registers the stream handlers.
+		router.postWithRegex(NODE_IMPORT_PATH_REGEX).handler(rh -> {
+			if (isNdjson(rh.request().getHeader(CONTENT_TYPE))) {
+				rh.request().pause();
+				rh.put(STREAMED_REQUEST_KEY, true);
+			}
+			rh.next();
+		});
+
 		router.route().handler(rh -> {
 			// Connection upgrade requests never end and therefore the body
 			// handler will never pass through to the subsequent route handlers.
 			if ("websocket".equalsIgnoreCase(rh.request().getHeader("Upgrade"))) {
 				rh.next();
+			} else if (Boolean.TRUE.equals(rh.get(STREAMED_REQUEST_KEY))) {
+				rh.next();
 			} else {
 				storage.getBodyHandler().handle(rh);
 			}
@@ -123,4 +148,8 @@ public class APIRouterImpl implements APIRouter {
 		return root;
 	}
 
+	private static boolean isNdjson(String contentType) {
+		return contentType != null && contentType.toLowerCase().startsWith(APPLICATION_NDJSON);
+	}
+
 }
@@ -1,53 +1,117 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.HibNamedElement;
 import com.gentics.mesh.core.rest.MeshEvent;
 
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
 /**
  * General implementation for the named elements cache.
- * 
+ *
+ * The keys of the cache are either the name or uuid of the element, or the name or uuid prefixed with the id of the root element (see
+ * {@link com.gentics.mesh.core.data.dao.RootDao#getCacheKey}). Lookups which did not find an element are cached as well. Element events only invalidate
+ * the entries of the element itself (by uuid) and the entries for the name in the event, since an element with that name may have been cached as missing.
+ * Cluster events and the additionally given events invalidate the whole cache.
+ *
  * @author plyhun
  *
  * @param <V>
  */
 public abstract class AbstractNameCache<V extends HibNamedElement> extends AbstractMeshCache<String, V> implements NameCache<V> {
 
-	public static final long CACHE_SIZE = 100;
+	/**
+	 * Events which invalidate the whole cache for every name cache
+	 */
+	private static final Set<MeshEvent> CLEAR_ALL_EVENTS = EnumSet.of(CLUSTER_NODE_JOINED, CLUSTER_DATABASE_CHANGE_STATUS);
 
 	/**
 	 * Ctor
-	 * 
+	 *
 	 * @param name cache name, must be unique
 	 * @param factory
 	 * @param registry
+	 * @param maxSize max cache size
 	 * @param events events for the cache to invalidate upon
 	 */
-	protected AbstractNameCache(String name, EventAwareCacheFactory factory, CacheRegistry registry, MeshEvent[] events) {
-		this(name, factory, registry, CACHE_SIZE, events);
+	protected AbstractNameCache(String name, EventAwareCacheFactory factory, CacheRegistry registry, long maxSize, MeshEvent[] events) {
+		this(name, factory, registry, maxSize, events, Collections.emptySet());
 	}
 
 	/**
 	 * Ctor
-	 * 
+	 *
 	 * @param name cache name, must be unique
-	 * @param factory 
+	 * @param factory
 	 * @param registry
 	 * @param maxSize max cache size
 	 * @param events events for the cache to invalidate upon
+	 * @param clearAllEvents events which invalidate the whole cache, in addition to the cluster events
 	 */
-	protected AbstractNameCache(String name, EventAwareCacheFactory factory, CacheRegistry registry, long maxSize, MeshEvent[] events) {
-		super(createCache(name, events, factory, maxSize), registry, maxSize);
+	protected AbstractNameCache(String name, EventAwareCacheFactory factory, CacheRegistry registry, long maxSize, MeshEvent[] events,
+		Set<MeshEvent> clearAllEvents) {
+		super(createCache(name, events, clearAllEvents, factory, maxSize), registry, maxSize);
+	}
+
+	@Override
+	public V get(String key, Function<String, V> mappingFunction) {
+		return super.get(key, k -> {
+			V element = mappingFunction.apply(k);
+			if (element != null) {
+				// Load the uuid while the transaction is still active. The uuid is needed when the entry is checked for invalidation.
+				element.getUuid();
+			}
+			return element;
+		});
 	}
 
-	protected static <V extends HibNamedElement> EventAwareCache<String, V> createCache(String name, MeshEvent[] events, EventAwareCacheFactory factory, long maxSize) {
+	protected static <V extends HibNamedElement> EventAwareCache<String, V> createCache(String name, MeshEvent[] events, Set<MeshEvent> clearAllEvents,
+		EventAwareCacheFactory factory, long maxSize) {
+		Set<MeshEvent> clearAll = EnumSet.copyOf(CLEAR_ALL_EVENTS);
+		clearAll.addAll(clearAllEvents);
 		return factory.<String, V>builder()
 			.events(events)
 			.action((event, cache) -> {
-				cache.invalidate();
+				Optional<MeshEvent> meshEvent = MeshEvent.fromAddress(event.address());
+				String uuid = getProperty(event, "uuid");
+				if (!meshEvent.isPresent() || clearAll.contains(meshEvent.get()) || uuid == null) {
+					cache.invalidate();
+					return;
+				}
+				String elementName = getProperty(event, "name");
+				cache.invalidate((key, element) -> {
+					return matches(key, uuid) || (elementName != null && matches(key, elementName))
+						|| (element != null && uuid.equals(element.getUuid()));
+				});
 			})
 			.name(name)
 			.maxSize(maxSize)
 			.build();
 	}
+
+	/**
+	 * Check whether the cache key is the given name or uuid, optionally prefixed with the id of the root element.
+	 */
+	private static boolean matches(String key, String nameOrUuid) {
+		return key.equals(nameOrUuid) || key.endsWith("-" + nameOrUuid);
+	}
+
+	private static String getProperty(Message<JsonObject> event, String key) {
+		JsonObject body = event.body();
+		if (body == null) {
+			return null;
+		}
+		Object value = body.getValue(key);
+		return value instanceof String ? (String) value : null;
+	}
 }
@@ -12,6 +12,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.group.HibGroup;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * @see GroupNameCache
@@ -23,8 +24,8 @@ import com.gentics.mesh.core.rest.MeshEvent;
 public class GroupNameCacheImpl extends AbstractNameCache<HibGroup> implements GroupNameCache {
 
 	@Inject
-	public GroupNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("groupname", factory, registry, new MeshEvent[] {
+	public GroupNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super("groupname", factory, registry, options.getCacheConfig().getGroupNameCacheSize(), new MeshEvent[] {
 				CLUSTER_NODE_JOINED, 
 				CLUSTER_DATABASE_CHANGE_STATUS, 
 				GROUP_DELETED,
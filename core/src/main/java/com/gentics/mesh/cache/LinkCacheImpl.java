@@ -0,0 +1,108 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for resolved mesh links.
+ *
+ * Each entry keeps the uuids of the target node and of its ancestors. Events for a single node (move, update, publish, take offline, deletion) will only
+ * invalidate the entries which depend on that node. Other events which may affect any link (e.g. branch or project changes) will clear the whole cache.
+ */
+@Singleton
+public class LinkCacheImpl extends AbstractMeshCache<String, CachedLink> implements LinkCache {
+
+	private static final Logger log = LoggerFactory.getLogger(LinkCacheImpl.class);
+
+	private static final MeshEvent NODE_EVENTS[] = {
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED };
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PROJECT_UPDATED,
+		PROJECT_LATEST_BRANCH_UPDATED };
+
+	private static final Set<String> NODE_EVENT_ADDRESSES = Arrays.stream(NODE_EVENTS).map(MeshEvent::getAddress).collect(Collectors.toSet());
+
+	@Inject
+	public LinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getLinkCacheSize());
+	}
+
+	private static EventAwareCache<String, CachedLink> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, CachedLink>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String uuid = event.body() == null ? null : event.body().getString("uuid");
+				if (uuid != null && NODE_EVENT_ADDRESSES.contains(event.address())) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing links which depend on node {" + uuid + "} due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate((key, link) -> link == null || link.dependsOn(uuid));
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing link cache due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+				}
+			})
+			.name("link")
+			.maxSize(config.getLinkCacheSize())
+			.build();
+	}
+
+	@Override
+	public void store(String key, CachedLink link) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(key, link);
+	}
+
+}
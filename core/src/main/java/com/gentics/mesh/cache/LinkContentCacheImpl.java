@@ -0,0 +1,39 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.link.ContentSegment;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+/**
+ * Central LRU cache for the parsed segments of contents which contain mesh links. The size of the cache is limited by the total length of the cached contents.
+ */
+@Singleton
+public class LinkContentCacheImpl extends AbstractMeshCache<LinkContentCache.Key, List<ContentSegment>> implements LinkContentCache {
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE };
+
+	@Inject
+	public LinkContentCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getLinkContentCacheSize());
+	}
+
+	private static EventAwareCache<LinkContentCache.Key, List<ContentSegment>> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<LinkContentCache.Key, List<ContentSegment>>builder()
+			.events(EVENTS)
+			.name("linkcontent")
+			.maxSize(config.getLinkContentCacheSize())
+			.setWeigher((key, segments) -> key.getContent().length())
+			.build();
+	}
+
+}
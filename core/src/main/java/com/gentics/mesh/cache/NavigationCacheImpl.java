@@ -0,0 +1,78 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.navigation.NavigationElement;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for rendered navigation subtrees.
+ *
+ * The cache keys contain the etag of the subtree, thus changes of the nodes within the subtree will never return outdated entries. The rendered nodes may
+ * however contain resolved links to other nodes. The cache is therefore cleared whenever nodes are moved, published, taken offline, updated or deleted.
+ */
+@Singleton
+public class NavigationCacheImpl extends AbstractMeshCache<String, NavigationElement> implements NavigationCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_DELETED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED };
+
+	@Inject
+	public NavigationCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getNavigationCacheSize());
+	}
+
+	private static EventAwareCache<String, NavigationElement> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, NavigationElement>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing navigation cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("navigation")
+			.maxSize(config.getNavigationCacheSize())
+			.build();
+	}
+
+	@Override
+	public void store(String key, NavigationElement element) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(key, element);
+	}
+
+}
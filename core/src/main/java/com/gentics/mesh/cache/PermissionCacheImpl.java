@@ -5,10 +5,14 @@ import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATU
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -19,6 +23,9 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventBusStore;
 
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -60,10 +67,15 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<Inter
 		return factory.<String, EnumSet<InternalPermission>>builder()
 			.events(EVENTS)
 			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+				Set<String> elementIds = getElementIds(event);
+				if (elementIds == null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+				} else {
+					cache.invalidate((key, permissions) -> isElementKey(key, elementIds));
 				}
-				cache.invalidate();
 			})
 			.expireAfter(30, ChronoUnit.MINUTES)
 			.maxSize(CACHE_SIZE)
@@ -148,4 +160,44 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<Inter
 	public void invalidate(Object userId, Object elementId) {
 		cache.invalidate(createCacheKey(userId, elementId));
 	}
+
+	@Override
+	public void invalidate(Collection<?> elementIds, boolean notify) {
+		if (elementIds.isEmpty()) {
+			return;
+		}
+		Set<String> ids = elementIds.stream().map(String::valueOf).collect(Collectors.toSet());
+		cache.invalidate((key, permissions) -> isElementKey(key, ids));
+		if (notify && options.getClusterOptions().isEnabled() && eventBusStore.current() != null) {
+			JsonObject body = new JsonObject().put(ELEMENT_IDS, new JsonArray(new ArrayList<>(ids)));
+			eventBusStore.current().publish(CLEAR_PERMISSION_STORE.address, body);
+		}
+	}
+
+	/**
+	 * Check whether the cache key (see {@link #createCacheKey(Object, Object)}) belongs to one of the elements. The user id may contain the separator as
+	 * well, thus every suffix after a separator is checked.
+	 */
+	private static boolean isElementKey(String key, Set<String> elementIds) {
+		for (int i = key.indexOf('-'); i >= 0; i = key.indexOf('-', i + 1)) {
+			if (elementIds.contains(key.substring(i + 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the ids of the elements contained in the event or null, if the whole cache should be cleared.
+	 */
+	private static Set<String> getElementIds(Message<JsonObject> event) {
+		if (!CLEAR_PERMISSION_STORE.address.equals(event.address()) || event.body() == null) {
+			return null;
+		}
+		JsonArray ids = event.body().getJsonArray(ELEMENT_IDS);
+		if (ids == null) {
+			return null;
+		}
+		return ids.stream().map(String::valueOf).collect(Collectors.toSet());
+	}
 }
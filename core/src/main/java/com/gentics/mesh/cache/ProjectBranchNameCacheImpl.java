@@ -12,6 +12,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * @see ProjectBranchNameCache
@@ -19,11 +20,9 @@ import com.gentics.mesh.core.rest.MeshEvent;
 @Singleton
 public class ProjectBranchNameCacheImpl extends AbstractNameCache<HibBranch> implements ProjectBranchNameCache {
 
-	private static final long CACHE_SIZE = 500;
-
 	@Inject
-	public ProjectBranchNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("projectbranchname", factory, registry, CACHE_SIZE, new MeshEvent[] {
+	public ProjectBranchNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super("projectbranchname", factory, registry, options.getCacheConfig().getBranchNameCacheSize(), new MeshEvent[] {
 				BRANCH_UPDATED,
 				BRANCH_CREATED,
 				BRANCH_DELETED,
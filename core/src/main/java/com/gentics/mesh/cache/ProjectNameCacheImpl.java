@@ -12,6 +12,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * @see ProjectNameCache
@@ -20,8 +21,8 @@ import com.gentics.mesh.core.rest.MeshEvent;
 public class ProjectNameCacheImpl extends AbstractNameCache<HibProject> implements ProjectNameCache {
 
 	@Inject
-	public ProjectNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("projectname", factory, registry, new MeshEvent[] {
+	public ProjectNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super("projectname", factory, registry, options.getCacheConfig().getProjectNameCacheSize(), new MeshEvent[] {
 			CLUSTER_NODE_JOINED,
 			CLUSTER_DATABASE_CHANGE_STATUS,
 			PROJECT_DELETED, 
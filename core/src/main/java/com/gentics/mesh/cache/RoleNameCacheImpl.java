@@ -9,6 +9,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * Role named cache
@@ -20,8 +21,8 @@ import com.gentics.mesh.core.rest.MeshEvent;
 public class RoleNameCacheImpl extends AbstractNameCache<HibRole> implements RoleNameCache {
 
 	@Inject
-	public RoleNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("rolename", factory, registry, new MeshEvent[] {
+	public RoleNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super("rolename", factory, registry, options.getCacheConfig().getRoleNameCacheSize(), new MeshEvent[] {
 				CLUSTER_NODE_JOINED, CLUSTER_DATABASE_CHANGE_STATUS, MeshEvent.ROLE_UPDATED, MeshEvent.ROLE_DELETED, MeshEvent.ROLE_CREATED
 		});
 	}
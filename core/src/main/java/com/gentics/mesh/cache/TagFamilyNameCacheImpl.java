@@ -12,6 +12,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.tagfamily.HibTagFamily;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * Tag family name cache
@@ -23,8 +24,8 @@ import com.gentics.mesh.core.rest.MeshEvent;
 public class TagFamilyNameCacheImpl extends AbstractNameCache<HibTagFamily> implements TagFamilyNameCache {
 
 	@Inject
-	public TagFamilyNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("tagfamilyname", factory, registry, new MeshEvent[] {
+	public TagFamilyNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super("tagfamilyname", factory, registry, options.getCacheConfig().getTagFamilyNameCacheSize(), new MeshEvent[] {
 				CLUSTER_NODE_JOINED, CLUSTER_DATABASE_CHANGE_STATUS, TAG_FAMILY_DELETED, TAG_FAMILY_UPDATED, TAG_FAMILY_CREATED
 		});
 	}
@@ -4,17 +4,18 @@ import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATU
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
-import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
-import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
 
+import java.util.EnumSet;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * Tag named cache.
@@ -26,9 +27,10 @@ import com.gentics.mesh.core.rest.MeshEvent;
 public class TagNameCacheImpl extends AbstractNameCache<HibTag> implements TagNameCache {
 
 	@Inject
-	public TagNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("tagname", factory, registry, new MeshEvent[] {
-				CLUSTER_NODE_JOINED, CLUSTER_DATABASE_CHANGE_STATUS, TAG_DELETED, TAG_UPDATED, TAG_FAMILY_DELETED, TAG_FAMILY_UPDATED, TAG_FAMILY_CREATED, TAG_CREATED
-		});
+	public TagNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		// Deleting a tag family deletes its tags
+		super("tagname", factory, registry, options.getCacheConfig().getTagNameCacheSize(), new MeshEvent[] {
+				CLUSTER_NODE_JOINED, CLUSTER_DATABASE_CHANGE_STATUS, TAG_DELETED, TAG_UPDATED, TAG_FAMILY_DELETED, TAG_CREATED
+		}, EnumSet.of(TAG_FAMILY_DELETED));
 	}
 }
@@ -0,0 +1,58 @@
+package com.gentics.mesh.cache;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.binary.impl.TikaResult;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+/**
+ * Cache for the results of the document parser. The results are keyed by the hash of the parsed binary and the parser settings. Since the content of a binary
+ * never changes for a given hash, the cache does not need to be invalidated by events. The size of the cache is limited by the length of the extracted
+ * contents.
+ */
+@Singleton
+public class TikaResultCache extends AbstractMeshCache<String, TikaResult> {
+
+	private static final MeshEvent EVENTS[] = {};
+
+	/**
+	 * Create the instance
+	 * @param factory cache factory
+	 * @param registry cache registry
+	 * @param options mesh options
+	 */
+	@Inject
+	public TikaResultCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getUploadOptions().getParserCacheSize()), registry, options.getUploadOptions().getParserCacheSize());
+	}
+
+	/**
+	 * Create the cache instance
+	 * @param factory cache factory
+	 * @return cache instance
+	 */
+	private static EventAwareCache<String, TikaResult> createCache(EventAwareCacheFactory factory, long cacheSize) {
+		return factory.<String, TikaResult>builder()
+			.events(EVENTS)
+			.name("tika_result")
+			.maxSize(cacheSize)
+			.setWeigher((key, result) -> 1 + result.flatMap(TikaResult::getPlainText).map(String::length).orElse(0))
+			.build();
+	}
+
+	/**
+	 * Store the parser result.
+	 * 
+	 * @param key
+	 * @param result
+	 */
+	public void store(String key, TikaResult result) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(key, result);
+	}
+}
@@ -12,6 +12,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 /**
  * User name cache
@@ -23,8 +24,8 @@ import com.gentics.mesh.core.rest.MeshEvent;
 public class UserNameCacheImpl extends AbstractNameCache<HibUser> implements UserNameCache {
 
 	@Inject
-	public UserNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
-		super("username", factory, registry, 1000, new MeshEvent[] {
+	public UserNameCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super("username", factory, registry, options.getCacheConfig().getUserNameCacheSize(), new MeshEvent[] {
 				CLUSTER_NODE_JOINED, CLUSTER_DATABASE_CHANGE_STATUS, USER_DELETED, USER_UPDATED, USER_CREATED
 		});
 	}
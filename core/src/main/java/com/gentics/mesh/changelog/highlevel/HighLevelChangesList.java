@@ -7,6 +7,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
+import com.gentics.mesh.changelog.highlevel.change.InitNodeRevisions;
 import com.gentics.mesh.changelog.highlevel.change.SetAdminUserFlag;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
 
@@ -20,16 +21,20 @@ public class HighLevelChangesList {
 
 	protected final SetAdminUserFlag setAdminUserFlag;
 
+	protected final InitNodeRevisions initNodeRevisions;
+
 	@Inject
-	public HighLevelChangesList(ExtractPlainText plainText, SetAdminUserFlag setAdminUserFlag) {
+	public HighLevelChangesList(ExtractPlainText plainText, SetAdminUserFlag setAdminUserFlag, InitNodeRevisions initNodeRevisions) {
 		this.plainText = plainText;
 		this.setAdminUserFlag = setAdminUserFlag;
+		this.initNodeRevisions = initNodeRevisions;
 	}
 
 	public List<HighLevelChange> getList() {
 		return Arrays.asList(
 				plainText,
-				setAdminUserFlag
+				setAdminUserFlag,
+				initNodeRevisions
 				// ADD NEW CHANGES HERE!
 				// WARNING!
 				// Only add changes when absolutely needed. Try to avoid changelog entries since those would require a offline update.
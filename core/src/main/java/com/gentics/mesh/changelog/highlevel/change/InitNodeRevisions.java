@@ -0,0 +1,68 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Changelog entry which assigns a content revision to all nodes which don't have one yet. Nodes without a revision use the full etag computation.
+ */
+@Singleton
+public class InitNodeRevisions extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(InitNodeRevisions.class);
+
+	@Inject
+	public InitNodeRevisions() {
+	}
+
+	@Override
+	public String getUuid() {
+		return "9B56D229D51A47C5A9230448C109D334";
+	}
+
+	@Override
+	public String getName() {
+		return "InitNodeRevisions";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Assigns a content revision to all nodes, which is used for the etag computation";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		Tx tx = Tx.get();
+		AtomicLong total = new AtomicLong(0);
+		for (HibProject project : tx.projectDao().findAll()) {
+			tx.nodeDao().findAll(project).forEach(node -> {
+				if (node.getRevision() != null) {
+					return;
+				}
+				node.bumpRevision();
+				if (total.incrementAndGet() % 1000 == 0) {
+					tx.commit();
+					log.info("Assigned revisions to {" + total + "} nodes.");
+				}
+			});
+		}
+		log.info("Done assigning revisions to {" + total + "} nodes.");
+	}
+
+	@Override
+	public boolean isAllowedInCluster(MeshOptions options) {
+		// Older Mesh versions do not change the revision when they update a node, which would lead to outdated etags
+		return false;
+	}
+}
@@ -48,6 +48,7 @@ import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
+import com.gentics.mesh.core.rest.event.MeshEventMessageCodec;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.HtmlFieldSchema;
 import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
@@ -580,6 +581,9 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
 			log.warn("Current environment does not support native transports");
 		}
 
+		// Internal events are passed by reference to local consumers
+		vertx.eventBus().registerCodec(new MeshEventMessageCodec());
+
 		this.vertx = vertx;
 		this.eventBusStore.setEventBus(vertx.eventBus());
 	}
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.binary;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
@@ -15,9 +16,15 @@ import org.apache.tika.exception.TikaException;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.mime.MediaType;
 import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
 import org.apache.tika.parser.Parser;
 import org.apache.tika.parser.ParserDecorator;
 import org.apache.tika.parser.microsoft.ooxml.OOXMLParser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.apache.tika.sax.WriteOutContentHandler;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
 
 /**
  * Central tika parser class configures the Tika Parser. All parsing operations should use {@link #TIKA_INSTANCE}
@@ -111,4 +118,117 @@ public class DocumentTikaParser {
 		}
 	}
 
+	/**
+	 * Parse the input and set the metadata. The parsing will fail once the given deadline has been reached. The deadline is checked by the parser itself
+	 * whenever it reads from the input or emits content, so the parsing is stopped even if the parser ignores the interruption of its thread.
+	 * 
+	 * @param input
+	 * @param metadata
+	 * @param limit
+	 * @param deadline
+	 *            Time in milliseconds at which the parsing will be aborted. A value of 0 or less disables the deadline
+	 * @return Optional with the extracted content
+	 * @throws TikaException
+	 * @throws IOException
+	 */
+	public static Optional<String> parse(final InputStream input, final Metadata metadata, final int limit, final long deadline)
+		throws TikaException, IOException {
+		if (deadline <= 0) {
+			return parse(input, metadata, limit);
+		}
+		WriteOutContentHandler handler = new WriteOutContentHandler(limit);
+		ParseContext context = new ParseContext();
+		context.set(Parser.class, PARSER_INSTANCE);
+		try (InputStream stream = new DeadlineInputStream(input, deadline)) {
+			PARSER_INSTANCE.parse(stream, new DeadlineContentHandler(new BodyContentHandler(handler), deadline), metadata, context);
+		} catch (SAXException e) {
+			if (!handler.isWriteLimitReached(e)) {
+				throw new TikaException("Unexpected SAX processing failure", e);
+			}
+		}
+		String content = handler.toString();
+		if (isEmpty(content)) {
+			return Optional.empty();
+		}
+		return Optional.of(StringUtils.trim(content));
+	}
+
+	private static boolean isExceeded(long deadline) {
+		return System.currentTimeMillis() > deadline;
+	}
+
+	/**
+	 * Stream which fails on read once the deadline has been reached.
+	 */
+	private static class DeadlineInputStream extends FilterInputStream {
+
+		private final long deadline;
+
+		DeadlineInputStream(InputStream in, long deadline) {
+			super(in);
+			this.deadline = deadline;
+		}
+
+		private void check() throws IOException {
+			if (isExceeded(deadline)) {
+				throw new IOException("Parsing did not finish before the deadline");
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			check();
+			return super.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			check();
+			return super.read(b, off, len);
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			check();
+			return super.skip(n);
+		}
+	}
+
+	/**
+	 * Content handler which fails once the deadline has been reached.
+	 */
+	private static class DeadlineContentHandler extends ContentHandlerDecorator {
+
+		private final long deadline;
+
+		DeadlineContentHandler(BodyContentHandler handler, long deadline) {
+			super(handler);
+			this.deadline = deadline;
+		}
+
+		private void check() throws SAXException {
+			if (isExceeded(deadline)) {
+				throw new SAXException("Parsing did not finish before the deadline");
+			}
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String name, Attributes atts) throws SAXException {
+			check();
+			super.startElement(uri, localName, name, atts);
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			check();
+			super.characters(ch, start, length);
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+			check();
+			super.ignorableWhitespace(ch, start, length);
+		}
+	}
+
 }
\ No newline at end of file
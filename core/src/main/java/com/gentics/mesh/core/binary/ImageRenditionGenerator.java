@@ -0,0 +1,192 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RENDITION_PENDING;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gentics.mesh.core.data.binary.Binaries;
+import com.gentics.mesh.core.data.binary.HibBinary;
+import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.image.ImageManipulator;
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.S3Options;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.util.HttpQueryUtils;
+
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Generator which eagerly creates the configured image rendition presets in the background. The renditions are written to the regular image cache (or the S3
+ * cache bucket) so that the first request for a preset does not have to pay the resize latency.
+ */
+@Singleton
+public class ImageRenditionGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageRenditionGenerator.class);
+
+	/**
+	 * Key of the binary field metadata property which lists the rendition presets that were scheduled for the binary.
+	 */
+	public static final String RENDITIONS_METADATA_KEY = "renditions";
+
+	private final ImageManipulator imageManipulator;
+
+	private final Database db;
+
+	private final Binaries binaries;
+
+	private final ImageManipulatorOptions imageOptions;
+
+	private final S3Options s3Options;
+
+	private final AtomicLong pending;
+
+	/**
+	 * Renditions which are currently being generated. Used to avoid duplicate work when the same binary is uploaded concurrently.
+	 */
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+	@Inject
+	public ImageRenditionGenerator(ImageManipulator imageManipulator, Database db, Binaries binaries, MeshOptions options, MetricsService metrics) {
+		this.imageManipulator = imageManipulator;
+		this.db = db;
+		this.binaries = binaries;
+		this.imageOptions = options.getImageOptions();
+		this.s3Options = options.getS3Options();
+		this.pending = metrics.longGauge(IMAGE_RENDITION_PENDING);
+	}
+
+	/**
+	 * Return the rendition presets which apply to the given field. This includes the globally configured presets and the presets of the binary field schema.
+	 *
+	 * @param fieldSchema
+	 * @return Distinct list of presets in the image manipulation query parameter format
+	 */
+	public List<String> getPresets(FieldSchema fieldSchema) {
+		Set<String> presets = new LinkedHashSet<>();
+		if (imageOptions.getRenditionPresets() != null) {
+			presets.addAll(imageOptions.getRenditionPresets());
+		}
+		if (fieldSchema instanceof BinaryFieldSchema) {
+			String[] fieldPresets = ((BinaryFieldSchema) fieldSchema).getRenditionPresets();
+			if (fieldPresets != null) {
+				for (String preset : fieldPresets) {
+					presets.add(preset);
+				}
+			}
+		}
+		presets.removeIf(StringUtils::isBlank);
+		return new ArrayList<>(presets);
+	}
+
+	/**
+	 * Generate the renditions for the binary with the given hash in the background.
+	 *
+	 * @param sha512sum
+	 *            Hash of the binary
+	 * @param focalPoint
+	 *            Focal point of the binary field which will also be applied to requests that don't specify a focal point
+	 * @param presets
+	 */
+	public void generate(String sha512sum, FocalPoint focalPoint, List<String> presets) {
+		pending.addAndGet(presets.size());
+		Observable.fromIterable(presets)
+			.concatMapCompletable(preset -> {
+				ImageManipulationParameters parameters = toParameters(preset, focalPoint);
+				return track(sha512sum + parameters.getCacheKey(), Single.defer(() -> db.singleTx(tx -> {
+					HibBinary binary = binaries.findByHash(sha512sum).runInExistingTx(tx);
+					return imageManipulator.handleResize(binary, parameters);
+				})).flatMap(resize -> resize).ignoreElement(), preset);
+			})
+			.subscribe(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Generated {" + presets.size() + "} renditions for binary {" + sha512sum + "}");
+				}
+			}, e -> log.error("Error while generating renditions for binary {" + sha512sum + "}", e));
+	}
+
+	/**
+	 * Generate the renditions for the given S3 object in the background and store them in the S3 cache bucket.
+	 *
+	 * @param s3ObjectKey
+	 * @param fileName
+	 * @param focalPoint
+	 * @param presets
+	 */
+	public void generateS3(String s3ObjectKey, String fileName, FocalPoint focalPoint, List<String> presets) {
+		pending.addAndGet(presets.size());
+		Observable.fromIterable(presets)
+			.concatMapCompletable(preset -> {
+				ImageManipulationParameters parameters = toParameters(preset, focalPoint);
+				String cacheS3ObjectKey = s3ObjectKey + "/image-" + parameters.getCacheKey();
+				return track(cacheS3ObjectKey, Completable.defer(() -> imageManipulator.handleS3CacheResize(s3Options.getBucket(),
+					s3Options.getS3CacheOptions().getBucket(), s3ObjectKey, cacheS3ObjectKey, fileName, parameters)), preset);
+			})
+			.subscribe(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Generated {" + presets.size() + "} renditions for s3 object {" + s3ObjectKey + "}");
+				}
+			}, e -> log.error("Error while generating renditions for s3 object {" + s3ObjectKey + "}", e));
+	}
+
+	/**
+	 * Return the amount of renditions which are currently waiting to be generated.
+	 *
+	 * @return
+	 */
+	public long getPendingCount() {
+		return pending.get();
+	}
+
+	private Completable track(String key, Completable generation, String preset) {
+		return Completable.defer(() -> {
+			if (!inFlight.add(key)) {
+				return Completable.complete();
+			}
+			return generation
+				.doOnError(e -> log.warn("Could not generate rendition {" + preset + "}", e))
+				.onErrorComplete()
+				.doFinally(() -> inFlight.remove(key));
+		}).doFinally(pending::decrementAndGet);
+	}
+
+	/**
+	 * Convert the preset to image manipulation parameters. The focal point of the field will be used if the preset does not specify one. This matches the
+	 * behaviour of the binary response handlers and thus results in the same cache key.
+	 *
+	 * @param preset
+	 * @param focalPoint
+	 * @return
+	 */
+	private ImageManipulationParameters toParameters(String preset, FocalPoint focalPoint) {
+		ImageManipulationParameters parameters = new ImageManipulationParametersImpl();
+		for (Map.Entry<String, String> entry : HttpQueryUtils.splitQuery(preset).entrySet()) {
+			parameters.setParameter(entry.getKey(), entry.getValue());
+		}
+		if (!parameters.hasFocalPoint() && focalPoint != null) {
+			parameters.setFocalPoint(focalPoint);
+		}
+		return parameters;
+	}
+}
@@ -2,16 +2,29 @@ package com.gentics.mesh.core.binary.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -20,11 +33,14 @@ import javax.inject.Singleton;
 import org.apache.tika.exception.TikaException;
 import org.apache.tika.metadata.Metadata;
 
+import com.gentics.mesh.cache.TikaResultCache;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.binary.AbstractBinaryProcessor;
 import com.gentics.mesh.core.binary.BinaryDataProcessorContext;
 import com.gentics.mesh.core.binary.DocumentTikaParser;
 import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.binary.Binaries;
+import com.gentics.mesh.core.data.binary.HibBinary;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.ContentDao;
 import com.gentics.mesh.core.data.dao.NodeDao;
@@ -32,20 +48,22 @@ import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.field.HibBinaryField;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.storage.BinaryStorage;
 import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.field.binary.Location;
 import com.gentics.mesh.core.rest.schema.BinaryExtractOptions;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.MeshUploadOptions;
+import com.gentics.mesh.util.Tuple;
 
-import dagger.Lazy;
 import io.reactivex.Maybe;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
-import io.vertx.reactivex.core.Vertx;
 
 /**
  * This class can be used to parse binary data from {@link HibBinaryField} fields. Once parsed the processor will populate the field with additional meta data
@@ -62,22 +80,59 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 	private final Set<String> skipSet = new HashSet<>();
 
-	private final Lazy<Vertx> vertx;
-
 	private final MeshOptions options;
 
 	private final Database db;
 
+	private final TikaResultCache resultCache;
+
+	private final Binaries binaries;
+
+	private final BinaryStorage binaryStorage;
+
+	/**
+	 * Dedicated executor for the parser. The amount of threads and waiting uploads is limited, so that large uploads can't exhaust the worker pool.
+	 */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Configured amount of parser threads.
+	 */
+	private final int parserThreads;
+
+	/**
+	 * Amount of threads which were added to the executor to replace the threads of abandoned parse operations.
+	 */
+	private int replacedWorkers = 0;
+
+	/**
+	 * Parse operations which are currently running, keyed by the result key.
+	 */
+	private final Map<String, Maybe<TikaResult>> inFlight = new ConcurrentHashMap<>();
+
 	/**
 	 * Default limit for non-document binaries
 	 */
 	private static final int DEFAULT_NON_DOC_TIKA_PARSE_LIMIT = 0;
 
 	@Inject
-	public TikaBinaryProcessor(Lazy<Vertx> vertx, MeshOptions options, Database db) {
-		this.vertx = vertx;
+	public TikaBinaryProcessor(MeshOptions options, Database db, TikaResultCache resultCache, Binaries binaries, BinaryStorage binaryStorage) {
 		this.options = options;
 		this.db = db;
+		this.resultCache = resultCache;
+		this.binaries = binaries;
+		this.binaryStorage = binaryStorage;
+
+		MeshUploadOptions uploadOptions = options.getUploadOptions();
+		this.parserThreads = Math.max(1, uploadOptions.getParserThreads());
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(parserThreads, parserThreads, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, uploadOptions.getParserQueueSize())), r -> {
+				Thread thread = new Thread(r, "mesh-document-parser-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		this.executor.allowCoreThreadTimeOut(true);
 
 		// document
 		acceptedDocumentTypes.add("text/plain");
@@ -132,12 +187,11 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 	@Override
 	public Maybe<Consumer<HibBinaryField>> process(BinaryDataProcessorContext ctx) {
-		FileUpload upload = ctx.getUpload();
 		return getExtractOptions(ctx.getActionContext(), ctx.getNodeUuid(), ctx.getFieldName())
 			.flatMap(
-				extractOptions -> process(extractOptions, upload),
+				extractOptions -> process(extractOptions, ctx),
 				Maybe::error,
-				() -> process(null, upload));
+				() -> process(null, ctx));
 	}
 
 	/**
@@ -158,70 +212,310 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 			// Load the current latest draft
 			HibNodeFieldContainer latestDraftVersion = contentDao.getFieldContainers(node, branch, ContainerType.DRAFT).next();
+			return getExtractOptions(latestDraftVersion, fieldName);
+		});
+	}
+
+	/**
+	 * Return the extract options of the binary field of the container.
+	 * 
+	 * @param container
+	 * @param fieldName
+	 * @return
+	 */
+	private BinaryExtractOptions getExtractOptions(HibNodeFieldContainer container, String fieldName) {
+		FieldSchema fieldSchema = container.getSchemaContainerVersion()
+			.getSchema()
+			.getField(fieldName);
+
+		if (fieldSchema == null) {
+			throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
+		}
 
-			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion()
-				.getSchema()
-				.getField(fieldName);
+		if (fieldSchema instanceof BinaryFieldSchema) {
+			return ((BinaryFieldSchema) fieldSchema).getBinaryExtractOptions();
+		} else {
+			throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
+		}
+	}
 
-			if (fieldSchema == null) {
-				throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
+	private Maybe<Consumer<HibBinaryField>> process(BinaryExtractOptions extractOptions, BinaryDataProcessorContext ctx) {
+		FileUpload upload = ctx.getUpload();
+		if (!isParsed(extractOptions, upload.fileName(), upload.size())) {
+			return Maybe.empty();
+		}
+
+		int len = getParserLimit(extractOptions, upload.contentType());
+		if (log.isDebugEnabled()) {
+			log.debug("Using parser limit of {" + len + "}");
+		}
+		boolean parseMetadata = extractOptions == null || extractOptions.getMetadata();
+
+		// Reuse the result of a previous upload with the same content
+		String key = getResultKey(ctx.getHash(), len, parseMetadata);
+		TikaResult cachedResult = key == null ? null : resultCache.get(key);
+		if (cachedResult != null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Reusing parser result for upload {" + upload.fileName() + "}");
 			}
+			return Maybe.just(toModifier(cachedResult));
+		}
+
+		// The upload will be parsed once it has been stored
+		if (options.getUploadOptions().isParserAsync() && key != null) {
+			ctx.setDeferred();
+			return Maybe.empty();
+		}
+
+		File uploadFile = new File(upload.uploadedFileName());
+		if (log.isDebugEnabled()) {
+			log.debug("Parsing file {" + uploadFile + "}");
+		}
+		return extract(key, () -> new FileInputStream(uploadFile), len, parseMetadata).map(this::toModifier);
+	}
 
-			if (fieldSchema instanceof BinaryFieldSchema) {
-				return ((BinaryFieldSchema) fieldSchema).getBinaryExtractOptions();
-			} else {
-				throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
+	/**
+	 * Parse the stored binary with the given hash in the background. The extracted metadata and contents will be added to the draft and published binary
+	 * fields of the given node and language which still reference the binary. This is used for uploads which have been answered before they were parsed.
+	 * 
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param nodeUuid
+	 * @param languageTag
+	 * @param fieldName
+	 * @param hash
+	 *            Hash of the uploaded binary
+	 * @param contentType
+	 *            Content type of the upload
+	 */
+	public void processInBackground(String projectUuid, String branchUuid, String nodeUuid, String languageTag, String fieldName, String hash,
+		String contentType) {
+		db.singleTx(tx -> {
+			HibNodeFieldContainer draft = getFieldContainer(tx, projectUuid, branchUuid, nodeUuid, languageTag, ContainerType.DRAFT);
+			if (draft == null) {
+				throw error(NOT_FOUND, "object_not_found_for_uuid", nodeUuid);
 			}
+			HibBinary binary = binaries.findByHash(hash).runInExistingTx(tx);
+			return Tuple.tuple(binary.getUuid(), Optional.ofNullable(getExtractOptions(draft, fieldName)));
+		}).flatMapMaybe(binaryAndOptions -> {
+			String binaryUuid = binaryAndOptions.v1();
+			BinaryExtractOptions extractOptions = binaryAndOptions.v2().orElse(null);
+			int len = getParserLimit(extractOptions, contentType);
+			boolean parseMetadata = extractOptions == null || extractOptions.getMetadata();
+			return extract(getResultKey(hash, len, parseMetadata), () -> binaryStorage.openBlockingStream(binaryUuid), len, parseMetadata);
+		}).flatMapSingleElement(result -> db.singleTxWriteLock((batch, tx) -> {
+			Consumer<HibBinaryField> modifier = toModifier(result);
+			ContentDao contentDao = tx.contentDao();
+			int updated = 0;
+			for (ContainerType type : Arrays.asList(ContainerType.DRAFT, ContainerType.PUBLISHED)) {
+				HibNodeFieldContainer container = getFieldContainer(tx, projectUuid, branchUuid, nodeUuid, languageTag, type);
+				HibBinaryField field = container == null ? null : container.getBinary(fieldName);
+				// The field may have been changed in the meantime
+				if (field != null && hash.equals(field.getBinary().getSHA512Sum())) {
+					modifier.accept(field);
+					batch.add(contentDao.onUpdated(container, branchUuid, type));
+					updated++;
+				}
+			}
+			return updated;
+		})).subscribe(updated -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Added parser result to {" + updated + "} versions of node {" + nodeUuid + "}");
+			}
+		}, e -> log.error("Error while parsing binary {" + hash + "} of node {" + nodeUuid + "} in the background", e));
+	}
 
-		});
+	private HibNodeFieldContainer getFieldContainer(Tx tx, String projectUuid, String branchUuid, String nodeUuid, String languageTag, ContainerType type) {
+		HibProject project = tx.projectDao().findByUuid(projectUuid);
+		HibBranch branch = project == null ? null : tx.branchDao().findByUuid(project, branchUuid);
+		HibNode node = branch == null ? null : tx.nodeDao().findByUuid(project, nodeUuid);
+		return node == null ? null : tx.contentDao().getFieldContainer(node, languageTag, branch, type);
 	}
 
-	private Maybe<Consumer<HibBinaryField>> process(BinaryExtractOptions extractOptions, FileUpload upload) {
+	/**
+	 * Check whether the upload will be parsed.
+	 * 
+	 * @param extractOptions
+	 * @param fileName
+	 * @param size
+	 * @return
+	 */
+	private boolean isParsed(BinaryExtractOptions extractOptions, String fileName, long size) {
 		// Shortcut if no field specific options are specified and parsing is globally disabled
 		if (!options.getUploadOptions().isParser() && extractOptions == null) {
-			log.debug("Not parsing " + upload.fileName()
+			log.debug("Not parsing " + fileName
 				+ " because it is globally disabled and no extract options are defined in the binary field schema.");
-			return Maybe.empty();
+			return false;
 		}
 
 		// Shortcut if parsing is explicitly disabled for this binary field
 		if (extractOptions != null && !extractOptions.getContent() && !extractOptions.getMetadata()) {
-			log.debug("Not parsing " + upload.fileName() + " because it is explicitly disabled in the binary field schema.");
-			return Maybe.empty();
+			log.debug("Not parsing " + fileName + " because it is explicitly disabled in the binary field schema.");
+			return false;
 		}
 
-		return vertx.get().rxExecuteBlocking(promise -> {
-			File uploadFile = new File(upload.uploadedFileName());
-			if (log.isDebugEnabled()) {
-				log.debug("Parsing file {" + uploadFile + "}");
-			}
-
-			int len = getParserLimit(extractOptions, upload.contentType());
-			if (log.isDebugEnabled()) {
-				log.debug("Using parser limit of {" + len + "}");
-			}
+		// Large documents may exhaust the memory of the parser
+		long fileSizeLimit = options.getUploadOptions().getParserFileSizeLimit();
+		if (fileSizeLimit > 0 && size > fileSizeLimit) {
+			log.info("Not parsing " + fileName + " because its size of {" + size + "} bytes exceeds the parser file size limit of {" + fileSizeLimit
+				+ "} bytes.");
+			return false;
+		}
+		return true;
+	}
 
-			try (FileInputStream ins = new FileInputStream(uploadFile)) {
-				boolean parseMetadata = extractOptions == null || extractOptions.getMetadata();
-				TikaResult pr = parseFile(ins, len, parseMetadata);
+	/**
+	 * Parse the data in the parser executor. Concurrent requests for the same result key will share a single parse operation and the result will be
+	 * cached. Parse operations which exceed the parser timeout will be cancelled and complete without a result.
+	 * 
+	 * @param key
+	 *            Key of the result or null if the result should not be shared
+	 * @param source
+	 *            Supplier for the stream of the data
+	 * @param len
+	 * @param parseMetadata
+	 * @return
+	 */
+	private Maybe<TikaResult> extract(String key, Callable<InputStream> source, int len, boolean parseMetadata) {
+		if (key == null) {
+			return parse(source, len, parseMetadata);
+		}
+		return Maybe.defer(() -> inFlight.computeIfAbsent(key, k -> parse(source, len, parseMetadata)
+			.doOnSuccess(result -> resultCache.store(k, result))
+			.doFinally(() -> inFlight.remove(k))
+			.cache()));
+	}
 
-				Consumer<HibBinaryField> consumer = field -> {
-					pr.getMetadata().forEach((e, k) -> {
-						field.setMetadata(e, k);
-					});
-					if (pr.getPlainText().isPresent()) {
-						field.setPlainText(pr.getPlainText().get());
+	/**
+	 * Parse the data in the parser executor. Parse operations which exceed the parser timeout will complete without a result.
+	 * 
+	 * @param source
+	 *            Supplier for the stream of the data
+	 * @param len
+	 * @param parseMetadata
+	 * @return
+	 */
+	Maybe<TikaResult> parse(Callable<InputStream> source, int len, boolean parseMetadata) {
+		long timeout = options.getUploadOptions().getParserTimeout();
+		Maybe<TikaResult> parse = Maybe.create(emitter -> {
+			ParserTask task = new ParserTask();
+			Future<?> future;
+			try {
+				future = executor.submit(() -> {
+					if (!start(task)) {
+						return;
 					}
-					if (pr.getLoc().isPresent()) {
-						field.setLocation(pr.getLoc());
+					// The deadline is checked by the parser itself, since the parsers don't react on interruption
+					long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+					TikaResult result = null;
+					Throwable failure = null;
+					try (InputStream ins = source.call()) {
+						result = parseFile(ins, len, parseMetadata, deadline);
+					} catch (Throwable e) {
+						failure = e;
+					} finally {
+						finish(task);
 					}
-				};
-				promise.complete(consumer);
-			} catch (Exception e) {
-				log.warn("Tika processing of upload failed", e);
-				promise.fail(e);
+					if (failure != null) {
+						log.warn("Tika processing of upload failed", failure);
+						emitter.tryOnError(failure);
+					} else {
+						emitter.onSuccess(result);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				throw error(SERVICE_UNAVAILABLE, "upload_error_parser_busy");
+			}
+			emitter.setCancellable(() -> {
+				future.cancel(true);
+				abandon(task);
+			});
+		});
+
+		if (timeout > 0) {
+			parse = parse.timeout(timeout, TimeUnit.MILLISECONDS).onErrorResumeNext(e -> {
+				if (e instanceof TimeoutException) {
+					log.warn("Parsing did not finish within {" + timeout + "} ms. The upload will be stored without extracted metadata and contents.");
+					return Maybe.empty();
+				}
+				return Maybe.error(e);
+			});
+		}
+		return parse;
+	}
+
+	/**
+	 * Mark the task as started.
+	 * 
+	 * @param task
+	 * @return false if the task was cancelled before it was started
+	 */
+	private synchronized boolean start(ParserTask task) {
+		if (task.cancelled) {
+			return false;
+		}
+		task.running = true;
+		return true;
+	}
+
+	/**
+	 * Cancel the task. A running task may still occupy its thread until the parser reaches the deadline. The executor gets an additional thread for the
+	 * time being, so that the remaining uploads can still be parsed. The number of additional threads is limited by the number of parser threads.
+	 * 
+	 * @param task
+	 */
+	private synchronized void abandon(ParserTask task) {
+		task.cancelled = true;
+		if (task.running && !task.replaced && replacedWorkers < parserThreads) {
+			executor.setMaximumPoolSize(executor.getMaximumPoolSize() + 1);
+			executor.setCorePoolSize(executor.getCorePoolSize() + 1);
+			replacedWorkers++;
+			task.replaced = true;
+		}
+	}
+
+	/**
+	 * Mark the task as finished and remove the additional thread which was added when the task was abandoned.
+	 * 
+	 * @param task
+	 */
+	private synchronized void finish(ParserTask task) {
+		task.running = false;
+		if (task.replaced) {
+			executor.setCorePoolSize(executor.getCorePoolSize() - 1);
+			executor.setMaximumPoolSize(executor.getMaximumPoolSize() - 1);
+			replacedWorkers--;
+			task.replaced = false;
+		}
+	}
+
+	private Consumer<HibBinaryField> toModifier(TikaResult pr) {
+		return field -> {
+			pr.getMetadata().forEach((e, k) -> {
+				field.setMetadata(e, k);
+			});
+			if (pr.getPlainText().isPresent()) {
+				field.setPlainText(pr.getPlainText().get());
 			}
-		}, true);
+			if (pr.getLoc().isPresent()) {
+				field.setLocation(pr.getLoc());
+			}
+		};
+	}
+
+	/**
+	 * Return the key for the parser result. The key contains the hash of the binary and all settings which affect the result.
+	 * 
+	 * @param hash
+	 * @param len
+	 * @param parseMetadata
+	 * @return Key or null if no hash is known
+	 */
+	private String getResultKey(String hash, int len, boolean parseMetadata) {
+		if (hash == null) {
+			return null;
+		}
+		return hash + "-" + len + "-" + parseMetadata + "-" + Objects.hashCode(options.getUploadOptions().getMetadataWhitelist());
 	}
 
 	/**
@@ -251,13 +545,32 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	 * @throws IOException
 	 */
 	public TikaResult parseFile(InputStream ins, int len, boolean parseMetadata) throws TikaException, IOException {
+		return parseFile(ins, len, parseMetadata, 0);
+	}
+
+	/**
+	 * Parse the given file with the provided inputstream.
+	 * 
+	 * @param ins
+	 *            Data stream
+	 * @param len
+	 *            Expected length of the stream
+	 * @param parseMetadata
+	 *            Whether to also parse metadata
+	 * @param deadline
+	 *            Time in milliseconds at which the parser will abort. A value of 0 or less disables the deadline
+	 * @return Result of the parse operation
+	 * @throws TikaException
+	 * @throws IOException
+	 */
+	public TikaResult parseFile(InputStream ins, int len, boolean parseMetadata, long deadline) throws TikaException, IOException {
 
 		Location loc = new Location();
 		Map<String, String> fields = new HashMap<>();
 
 		Metadata metadata = new Metadata();
 
-		Optional<String> content = DocumentTikaParser.parse(ins, metadata, len);
+		Optional<String> content = DocumentTikaParser.parse(ins, metadata, len, deadline);
 		if (content.isPresent()) {
 			log.debug("Got content {" + content.get() + "}");
 		}
@@ -353,4 +666,13 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 		return key;
 	}
 
+	/**
+	 * State of a single parse operation in the executor.
+	 */
+	private static class ParserTask {
+		private boolean running = false;
+		private boolean cancelled = false;
+		private boolean replaced = false;
+	}
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.endpoint.admin;
 
+import static com.gentics.mesh.core.rest.MeshEvent.CONSISTENCY_CHECK_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_FINISHED;
@@ -37,6 +38,7 @@ import com.gentics.mesh.core.endpoint.admin.plugin.PluginHandler;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.parameter.impl.BackupParametersImpl;
+import com.gentics.mesh.parameter.impl.ConsistencyCheckParametersImpl;
 import com.gentics.mesh.parameter.impl.JobParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
@@ -222,6 +224,8 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 			"Invokes a consistency check of the graph database without attempting to repairing the found issues. A list of found issues will be returned.");
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, adminExamples.createConsistencyCheckResponse(false), "Consistency check report");
+		endpoint.addQueryParameters(ConsistencyCheckParametersImpl.class);
+		endpoint.events(CONSISTENCY_CHECK_PROGRESS);
 		endpoint.blockingHandler(rc -> {
 			consistencyHandler.invokeCheck(wrap(rc));
 		}, false);
@@ -233,7 +237,8 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 			.description("Invokes a consistency check and repair of the graph database and returns a list of found issues and their state.");
 		repairEndpoint.produces(APPLICATION_JSON);
 		repairEndpoint.exampleResponse(OK, adminExamples.createConsistencyCheckResponse(true), "Consistency check and repair report");
-		repairEndpoint.events(REPAIR_START, REPAIR_FINISHED);
+		repairEndpoint.addQueryParameters(ConsistencyCheckParametersImpl.class);
+		repairEndpoint.events(REPAIR_START, CONSISTENCY_CHECK_PROGRESS, REPAIR_FINISHED);
 		repairEndpoint.blockingHandler(rc -> {
 			consistencyHandler.invokeRepair(wrap(rc));
 		}, isOrderedBlockingHandlers());
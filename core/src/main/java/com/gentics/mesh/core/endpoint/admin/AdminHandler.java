@@ -121,6 +121,11 @@ public abstract class AdminHandler extends AbstractHandler {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
 			BackupParameters params = ac.getBackupParameters();
+			if (params.isIncremental()) {
+				// The consistency of incremental backups is verified on a restored copy instead of the live instance
+				incrementalBackup(params.isConsistencyCheck());
+				return message(ac, "backup_finished");
+			}
 			if (params.isConsistencyCheck()) {
 				log.info("Starting consistency check as requested.");
 				ConsistencyCheckResponse result = consistencyCheckHandler.checkConsistency(false).runInExistingTx(tx);
@@ -144,6 +149,17 @@ public abstract class AdminHandler extends AbstractHandler {
 		throw error(SERVICE_UNAVAILABLE, "function_not_supported");
 	}
 
+	/**
+	 * Invoke the incremental graph database backup.
+	 * 
+	 * @param verify
+	 *            Whether the backup should be verified on a restored copy once it has been written
+	 * @return
+	 */
+	public String incrementalBackup(boolean verify) {
+		throw error(SERVICE_UNAVAILABLE, "function_not_supported");
+	}
+
 	/**
 	 * Handle graph restore action.
 	 * 
@@ -0,0 +1,41 @@
+package com.gentics.mesh.core.endpoint.admin.debuginfo.providers;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoBufferEntry;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoEntry;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoProvider;
+
+import io.reactivex.Flowable;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Provider for the statistics of the transaction conflicts.
+ */
+@Singleton
+public class TxConflictsProvider implements DebugInfoProvider {
+
+	private final Database db;
+
+	@Inject
+	public TxConflictsProvider(Database db) {
+		this.db = db;
+	}
+
+	@Override
+	public String name() {
+		return "txConflicts";
+	}
+
+	@Override
+	public Flowable<DebugInfoEntry> debugInfoEntries(InternalActionContext ac) {
+		JsonObject statistics = db.getTxConflictStatistics();
+		if (statistics == null) {
+			return Flowable.empty();
+		}
+		return Flowable.just(DebugInfoBufferEntry.fromString("txConflicts.json", statistics.encodePrettily()));
+	}
+}
@@ -6,17 +6,20 @@ import com.gentics.mesh.auth.MeshAuthChainImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.bridge.BridgeEventType;
 import io.vertx.ext.bridge.PermittedOptions;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.sockjs.BridgeEvent;
 import io.vertx.ext.web.handler.sockjs.SockJSBridgeOptions;
 import io.vertx.ext.web.handler.sockjs.SockJSHandler;
 import io.vertx.ext.web.handler.sockjs.SockJSHandlerOptions;
@@ -28,17 +31,27 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 
 	private static final Logger log = LoggerFactory.getLogger(EventbusEndpoint.class);
 
+	/**
+	 * Regex of the addresses which clients may use for custom events.
+	 */
+	private static final String CUSTOM_ADDRESS_REGEX = "custom.*";
+
 	private final Vertx vertx;
 
+	private final EventbusSubscriptionRegistry subscriptions;
+
 	public EventbusEndpoint() {
 		super("eventbus", null, null, null, null);
 		this.vertx = null;
+		this.subscriptions = null;
 	}
 
 	@Inject
-	public EventbusEndpoint(Vertx vertx, MeshAuthChainImpl chain, LocalConfigApi localConfigApi, Database db, MeshOptions options) {
+	public EventbusEndpoint(Vertx vertx, MeshAuthChainImpl chain, LocalConfigApi localConfigApi, Database db, MeshOptions options,
+		EventbusSubscriptionRegistry subscriptions) {
 		super("eventbus", chain, localConfigApi, db, options);
 		this.vertx = vertx;
+		this.subscriptions = subscriptions;
 	}
 
 	public String getDescription() {
@@ -54,7 +67,8 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 		secureAll();
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.setRAMLPath("/");
-		endpoint.description("This endpoint provides a sockjs compliant websocket which can be used to interface with the vert.x eventbus.");
+		endpoint.description("This endpoint provides a sockjs compliant websocket which can be used to interface with the vert.x eventbus. "
+			+ "Registrations may contain the headers project, branch, schema, node and language. In that case only events which match these values will be relayed.");
 
 		if (!isRamlGeneratorContext()) {
 			SockJSHandlerOptions sockJSoptions = new SockJSHandlerOptions().setHeartbeatInterval(2000);
@@ -66,8 +80,11 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 				bridgeOptions.addOutboundPermitted(new PermittedOptions().setAddress(event.address));
 			}
 
-			bridgeOptions.addInboundPermitted(new PermittedOptions().setAddressRegex("custom.*"));
-			bridgeOptions.addOutboundPermitted(new PermittedOptions().setAddressRegex("custom.*"));
+			bridgeOptions.addInboundPermitted(new PermittedOptions().setAddressRegex(CUSTOM_ADDRESS_REGEX));
+			bridgeOptions.addOutboundPermitted(new PermittedOptions().setAddressRegex(CUSTOM_ADDRESS_REGEX));
+
+			// Filtered registrations are redirected to the group addresses of the subscription registry
+			bridgeOptions.addOutboundPermitted(new PermittedOptions().setAddressRegex(EventbusSubscriptionRegistry.FILTERED_ADDRESS_PREFIX.replace(".", "\\.") + ".+"));
 
 			Router brigdeRoute = handler.bridge(bridgeOptions, event -> {
 				if (log.isDebugEnabled()) {
@@ -82,13 +99,79 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 				User user = event.socket().webUser();
 				boolean isAuthenticated = user != null;
 				log.debug("Eventbridge creation. User was authenticated: " + isAuthenticated);
-				event.complete(isAuthenticated);
+				boolean isPermitted = true;
+				if (isAuthenticated || event.type() == BridgeEventType.SOCKET_CLOSED) {
+					isPermitted = handleFilteredSubscriptions(event);
+				}
+				event.complete(isAuthenticated && isPermitted);
 			});
 
 			endpoint.path("/*").subRouter(brigdeRoute);
 		}
 	}
 
+	/**
+	 * Redirect registrations which contain filter headers to the group address of the matching filter group and restore the original address for the
+	 * relayed events.
+	 *
+	 * The bridge only checks the rewritten group address, so the original address of filtered registrations is checked here against the addresses which are
+	 * permitted by the bridge.
+	 *
+	 * @param event
+	 * @return false if the event must be rejected
+	 */
+	private boolean handleFilteredSubscriptions(BridgeEvent event) {
+		JsonObject rawMessage = event.getRawMessage();
+		String socketId = event.socket().writeHandlerID();
+		switch (event.type()) {
+		case REGISTER:
+		case UNREGISTER:
+			EventSubscriptionFilter filter = EventSubscriptionFilter.fromHeaders(rawMessage.getJsonObject("headers"));
+			String address = rawMessage.getString("address");
+			if (filter != null && address != null && !address.startsWith(EventbusSubscriptionRegistry.FILTERED_ADDRESS_PREFIX)) {
+				if (!isPermittedAddress(address)) {
+					log.warn("Rejecting filtered registration for address {" + address + "} which is not permitted by the bridge");
+					return false;
+				}
+				String groupAddress = event.type() == BridgeEventType.REGISTER
+					? subscriptions.subscribe(socketId, address, filter)
+					: subscriptions.unsubscribe(socketId, address, filter);
+				if (groupAddress != null) {
+					rawMessage.put("address", groupAddress);
+				}
+			}
+			break;
+		case RECEIVE:
+			String receivedAddress = rawMessage.getString("address");
+			if (receivedAddress != null && receivedAddress.startsWith(EventbusSubscriptionRegistry.FILTERED_ADDRESS_PREFIX)) {
+				String originalAddress = subscriptions.getOriginalAddress(receivedAddress);
+				if (originalAddress != null) {
+					rawMessage.put("address", originalAddress);
+				}
+			}
+			break;
+		case SOCKET_CLOSED:
+			subscriptions.release(socketId);
+			break;
+		default:
+			break;
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the address is permitted by the bridge.
+	 *
+	 * @param address
+	 * @return
+	 */
+	private boolean isPermittedAddress(String address) {
+		if (address.matches(CUSTOM_ADDRESS_REGEX)) {
+			return true;
+		}
+		return MeshEvent.publicEvents().stream().anyMatch(event -> event.address.equals(address));
+	}
+
 	/**
 	 * Returns whether the method is called from during the documentation generation context.
 	 * @return
@@ -0,0 +1,228 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static com.gentics.mesh.metric.SimpleMetric.EVENTBUS_FILTERED_DROPPED;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
+import com.gentics.mesh.core.rest.event.MeshEventJsonObject;
+import com.gentics.mesh.core.rest.event.MeshEventMessageCodec;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Registry for filtered eventbus bridge subscriptions.
+ *
+ * Websockets which register with filter headers are grouped by address and filter. Each group is represented by a dedicated local group address. The registry
+ * consumes the original address once, evaluates the filter once per group and only relays matching events to the group address. This way an event is matched
+ * once per distinct filter instead of once per connected websocket.
+ */
+@Singleton
+public class EventbusSubscriptionRegistry {
+
+	private static final Logger log = LoggerFactory.getLogger(EventbusSubscriptionRegistry.class);
+
+	/**
+	 * Prefix of the group addresses. The bridge permits outbound messages on these addresses.
+	 */
+	public static final String FILTERED_ADDRESS_PREFIX = "mesh.filtered.";
+
+	private static final DeliveryOptions LOCAL_ONLY = new DeliveryOptions().setLocalOnly(true);
+
+	private static final DeliveryOptions LOCAL_EVENT = new DeliveryOptions().setLocalOnly(true).setCodecName(MeshEventMessageCodec.NAME);
+
+	private final Vertx vertx;
+
+	private final Counter dropped;
+
+	private final Map<GroupKey, FilterGroup> groups = new HashMap<>();
+
+	private final Map<String, FilterGroup> groupsByAddress = new HashMap<>();
+
+	private final Map<String, MessageConsumer<Object>> consumers = new HashMap<>();
+
+	private final Map<String, Set<FilterGroup>> groupsBySocket = new HashMap<>();
+
+	@Inject
+	public EventbusSubscriptionRegistry(Vertx vertx, MetricsService metrics) {
+		this.vertx = vertx;
+		this.dropped = metrics.counter(EVENTBUS_FILTERED_DROPPED);
+	}
+
+	/**
+	 * Add the socket to the group for the given address and filter.
+	 *
+	 * @param socketId
+	 * @param address
+	 *            Address the socket wants to register to
+	 * @param filter
+	 * @return Group address which needs to be used for the registration of the socket
+	 */
+	public synchronized String subscribe(String socketId, String address, EventSubscriptionFilter filter) {
+		GroupKey key = new GroupKey(address, filter);
+		FilterGroup group = groups.get(key);
+		if (group == null) {
+			group = new FilterGroup(address, filter, FILTERED_ADDRESS_PREFIX + UUIDUtil.randomUUID());
+			groups.put(key, group);
+			groupsByAddress.put(group.groupAddress, group);
+			if (!consumers.containsKey(address)) {
+				consumers.put(address, vertx.eventBus().consumer(address, msg -> dispatch(address, msg)));
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Created filter group {" + group.groupAddress + "} for address {" + address + "} and filter " + filter);
+			}
+		}
+		group.sockets.add(socketId);
+		groupsBySocket.computeIfAbsent(socketId, k -> new HashSet<>()).add(group);
+		return group.groupAddress;
+	}
+
+	/**
+	 * Remove the socket from the group for the given address and filter.
+	 *
+	 * @param socketId
+	 * @param address
+	 * @param filter
+	 * @return Group address or null if no such group exists
+	 */
+	public synchronized String unsubscribe(String socketId, String address, EventSubscriptionFilter filter) {
+		FilterGroup group = groups.get(new GroupKey(address, filter));
+		if (group == null) {
+			return null;
+		}
+		Set<FilterGroup> socketGroups = groupsBySocket.get(socketId);
+		if (socketGroups != null) {
+			socketGroups.remove(group);
+			if (socketGroups.isEmpty()) {
+				groupsBySocket.remove(socketId);
+			}
+		}
+		removeSocket(group, socketId);
+		return group.groupAddress;
+	}
+
+	/**
+	 * Remove the socket from all groups. This is invoked when the socket has been closed.
+	 *
+	 * @param socketId
+	 */
+	public synchronized void release(String socketId) {
+		Set<FilterGroup> socketGroups = groupsBySocket.remove(socketId);
+		if (socketGroups != null) {
+			for (FilterGroup group : socketGroups) {
+				removeSocket(group, socketId);
+			}
+		}
+	}
+
+	/**
+	 * Return the original address for the given group address.
+	 *
+	 * @param groupAddress
+	 * @return Original address or null if the address is not a known group address
+	 */
+	public synchronized String getOriginalAddress(String groupAddress) {
+		FilterGroup group = groupsByAddress.get(groupAddress);
+		return group == null ? null : group.address;
+	}
+
+	private void removeSocket(FilterGroup group, String socketId) {
+		group.sockets.remove(socketId);
+		if (!group.sockets.isEmpty()) {
+			return;
+		}
+		groups.remove(new GroupKey(group.address, group.filter));
+		groupsByAddress.remove(group.groupAddress);
+		boolean addressInUse = groups.keySet().stream().anyMatch(key -> key.address.equals(group.address));
+		if (!addressInUse) {
+			MessageConsumer<Object> consumer = consumers.remove(group.address);
+			if (consumer != null) {
+				consumer.unregister();
+			}
+		}
+	}
+
+	private void dispatch(String address, Message<Object> msg) {
+		Object body = msg.body();
+		JsonObject json = body instanceof JsonObject ? (JsonObject) body : null;
+		DeliveryOptions deliveryOptions = body instanceof MeshEventJsonObject ? LOCAL_EVENT : LOCAL_ONLY;
+		List<FilterGroup> targets = new ArrayList<>();
+		List<Integer> receivers = new ArrayList<>();
+		synchronized (this) {
+			for (FilterGroup group : groups.values()) {
+				if (group.address.equals(address)) {
+					targets.add(group);
+					receivers.add(group.sockets.size());
+				}
+			}
+		}
+		for (int i = 0; i < targets.size(); i++) {
+			FilterGroup group = targets.get(i);
+			if (group.filter.matches(json)) {
+				vertx.eventBus().publish(group.groupAddress, body, deliveryOptions);
+			} else {
+				dropped.increment(receivers.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Key of a filter group.
+	 */
+	private static class GroupKey {
+		private final String address;
+		private final EventSubscriptionFilter filter;
+
+		GroupKey(String address, EventSubscriptionFilter filter) {
+			this.address = address;
+			this.filter = filter;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof GroupKey)) {
+				return false;
+			}
+			GroupKey other = (GroupKey) obj;
+			return address.equals(other.address) && filter.equals(other.filter);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * address.hashCode() + filter.hashCode();
+		}
+	}
+
+	/**
+	 * Group of sockets which share the same address and filter.
+	 */
+	private static class FilterGroup {
+		private final String address;
+		private final EventSubscriptionFilter filter;
+		private final String groupAddress;
+		private final Set<String> sockets = new HashSet<>();
+
+		FilterGroup(String address, EventSubscriptionFilter filter, String groupAddress) {
+			this.address = address;
+			this.filter = filter;
+			this.groupAddress = groupAddress;
+		}
+	}
+}
@@ -13,6 +13,8 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.binary.BinaryDataProcessor;
 import com.gentics.mesh.core.binary.BinaryDataProcessorContext;
 import com.gentics.mesh.core.binary.BinaryProcessorRegistryImpl;
+import com.gentics.mesh.core.binary.ImageRenditionGenerator;
+import com.gentics.mesh.core.binary.impl.TikaBinaryProcessor;
 import com.gentics.mesh.core.data.HibLanguage;
 import com.gentics.mesh.core.data.HibNodeFieldContainer;
 import com.gentics.mesh.core.data.binary.Binaries;
@@ -81,6 +83,10 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 
 	private final WriteLock writeLock;
 
+	private final ImageRenditionGenerator renditionGenerator;
+
+	private final TikaBinaryProcessor tikaProcessor;
+
 	@Inject
 	public BinaryUploadHandlerImpl(
 			ImageManipulator imageManipulator,
@@ -93,7 +99,9 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 			Vertx rxVertx,
 			MeshOptions options,
 			Binaries binaries,
-			WriteLock writeLock) {
+			WriteLock writeLock,
+			ImageRenditionGenerator renditionGenerator,
+			TikaBinaryProcessor tikaProcessor) {
 		super(db, binaries, binaryStorage, options);
 
 		this.boot = boot;
@@ -101,6 +109,8 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 		this.utils = utils;
 		this.fs = rxVertx.fileSystem();
 		this.writeLock = writeLock;
+		this.renditionGenerator = renditionGenerator;
+		this.tikaProcessor = tikaProcessor;
 	}
 
 	private void validateFileUpload(FileUpload ul, String fieldName) {
@@ -173,7 +183,9 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 
 		// First process the upload data
 		hashUpload(ul).flatMap(hash -> {
-			return postProcessUpload(new BinaryDataProcessorContext(ac, nodeUuid, fieldName, ul, hash))
+			BinaryDataProcessorContext processorContext = new BinaryDataProcessorContext(ac, nodeUuid, fieldName, ul, hash);
+			ctx.setProcessorContext(processorContext);
+			return postProcessUpload(processorContext)
 				.toList()
 				.map(list -> Tuple.tuple(hash, list));
 		}).flatMap(modifierListAndHash -> {
@@ -220,6 +232,16 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 			} else {
 				return Single.just(n);
 			}
+		}).doOnSuccess(n -> {
+			// Generate the renditions in the background now that the binary data is in place
+			if (!ctx.getRenditionPresets().isEmpty()) {
+				renditionGenerator.generate(ctx.getHash(), ctx.getFocalPoint(), ctx.getRenditionPresets());
+			}
+			// Parse the upload in the background if the parsing was deferred
+			if (ctx.getProcessorContext().isDeferred()) {
+				tikaProcessor.processInBackground(ctx.getProjectUuid(), ctx.getBranchUuid(), nodeUuid, languageTag, fieldName, ctx.getHash(),
+					ul.contentType());
+			}
 		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
 
 	}
@@ -269,6 +291,8 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 				PersistingContentDao contentDao = tx.<CommonTx>unwrap().contentDao();
 				HibProject project = tx.getProject(ac);
 				HibBranch branch = tx.getBranch(ac);
+				context.setProjectUuid(project.getUuid());
+				context.setBranchUuid(branch.getUuid());
 				NodeDao nodeDao = tx.nodeDao();
 				HibNode node = nodeDao.loadObjectByUuid(project, ac, nodeUuid, UPDATE_PERM);
 				// Load the current latest draft
@@ -372,6 +396,16 @@ public class BinaryUploadHandlerImpl extends AbstractBinaryUploadHandler impleme
 				// Now get rid of the old field
 				newDraftVersion.removeField(oldField);
 
+				// Schedule the rendition presets and keep track of them in the field metadata
+				if (field.hasProcessableImage()) {
+					List<String> presets = renditionGenerator.getPresets(fieldSchema);
+					if (!presets.isEmpty()) {
+						field.setMetadata(ImageRenditionGenerator.RENDITIONS_METADATA_KEY, String.join(",", presets));
+						context.setRenditionPresets(presets);
+						context.setFocalPoint(field.getImageFocalPoint());
+					}
+				}
+
 				// If the binary field is the segment field, we need to update the webroot info in the node
 				// TODO FIXME This is already called in `PersistingContentDao.connectFieldContainer()`. Normally one should not update a container without reconnecting versions,
 				// but currently MeshLocalClient does this, which may be illegal. The check and call below should be removed, once MeshLocalClientImpl is improved.
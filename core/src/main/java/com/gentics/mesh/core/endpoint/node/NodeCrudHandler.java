@@ -9,6 +9,8 @@ import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
@@ -22,6 +24,7 @@ import com.gentics.mesh.core.data.HibLanguage;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.NodeDao;
 import com.gentics.mesh.core.data.dao.TagDao;
+import com.gentics.mesh.core.data.job.HibJob;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.PageTransformer;
@@ -30,16 +33,20 @@ import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.PublishParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
 
+import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -52,14 +59,17 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 
 	private final PageTransformer pageTransformer;
 
+	private final Vertx vertx;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
 	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, WriteLock writeLock,
-		NodeDAOActions nodeActions, PageTransformer pageTransformer) {
+		NodeDAOActions nodeActions, PageTransformer pageTransformer, Vertx vertx) {
 		super(db, utils, writeLock, nodeActions);
 		this.options = options;
 		this.pageTransformer = pageTransformer;
+		this.vertx = vertx;
 	}
 
 	@Override
@@ -348,6 +358,12 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handlePublish(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
+		PublishParameters parameters = ac.getPublishParameters();
+		if (parameters.isRecursive() && parameters.isBackground()) {
+			handleEnqueuePublishJob(ac, uuid, JobType.publish);
+			return;
+		}
+
 		try (WriteLock lock = writeLock.lock(ac)) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
@@ -373,6 +389,12 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleTakeOffline(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
+		PublishParameters parameters = ac.getPublishParameters();
+		if (parameters.isRecursive() && parameters.isBackground()) {
+			handleEnqueuePublishJob(ac, uuid, JobType.unpublish);
+			return;
+		}
+
 		try (WriteLock lock = writeLock.lock(ac)) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
@@ -385,6 +407,29 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 		}
 	}
 
+	/**
+	 * Enqueue a job which recursively publishes or takes offline the subtree of the node.
+	 * 
+	 * @param ac
+	 *            Action context
+	 * @param uuid
+	 *            Uuid of the root node of the subtree
+	 * @param type
+	 *            Type of the job
+	 */
+	private void handleEnqueuePublishJob(InternalActionContext ac, String uuid, JobType type) {
+		try (WriteLock lock = writeLock.lock(ac)) {
+			utils.syncTx(ac, tx -> {
+				HibNode node = tx.nodeDao().loadObjectByUuid(tx.getProject(ac), ac, uuid, PUBLISH_PERM);
+				HibJob job = tx.jobDao().enqueueNodePublish(ac.getUser(), tx.getBranch(ac), node, type);
+				return message(ac, "node_publish_job_enqueued", job.getUuid());
+			}, model -> {
+				MeshEvent.triggerJobWorker(vertx.eventBus(), options);
+				ac.send(model, ACCEPTED);
+			});
+		}
+	}
+
 	/**
 	 * Handle getting the publish status for the requested language of the node.
 	 * 
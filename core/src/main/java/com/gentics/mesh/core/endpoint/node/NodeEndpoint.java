@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
@@ -16,6 +17,8 @@ import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.TAG_RED_UUID;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
@@ -37,6 +40,7 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
 import com.gentics.mesh.core.endpoint.RolePermissionHandlingProjectEndpoint;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeImportResult;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
@@ -50,6 +54,7 @@ import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
 
 /**
  * The content verticle adds rest endpoints for manipulating nodes.
@@ -70,6 +75,8 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 
 	private S3BinaryMetadataExtractionHandlerImpl s3BinaryMetadataExtractionHandler;
 
+	private NodeImportHandler importHandler;
+
 	public NodeEndpoint() {
 		super("nodes", null, null, null, null, null);
 	}
@@ -77,7 +84,8 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 	@Inject
 	public NodeEndpoint(MeshAuthChainImpl chain, BootstrapInitializer boot, NodeCrudHandler crudHandler, BinaryUploadHandlerImpl binaryUploadHandler,
 		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler, S3BinaryUploadHandlerImpl s3binaryUploadHandler,
-						S3BinaryMetadataExtractionHandlerImpl s3BinaryMetadataExtractionHandler, LocalConfigApi localConfigApi, Database db, MeshOptions options) {
+						S3BinaryMetadataExtractionHandlerImpl s3BinaryMetadataExtractionHandler, NodeImportHandler importHandler, LocalConfigApi localConfigApi,
+						Database db, MeshOptions options) {
 		super("nodes", chain, boot, localConfigApi, db, options);
 		this.crudHandler = crudHandler;
 		this.binaryUploadHandler = binaryUploadHandler;
@@ -85,6 +93,7 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 		this.binaryDownloadHandler = binaryDownloadHandler;
 		this.s3binaryUploadHandler = s3binaryUploadHandler;
 		this.s3BinaryMetadataExtractionHandler = s3BinaryMetadataExtractionHandler;
+		this.importHandler = importHandler;
 	}
 
 	@Override
@@ -95,6 +104,8 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 	@Override
 	public void registerEndPoints() {
 		secureAll();
+		// The import must be registered before the uuid handler, which would otherwise treat the path segment as node uuid
+		addImportHandler();
 		if (getCrudHandler() != null) {
 			route("/:nodeUuid").handler(getCrudHandler().getUuidHandler("node_not_found_for_uuid"));
 		}
@@ -339,7 +350,7 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, nodeExamples.getNodeListResponse(), "List of loaded node children.");
 		endpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
-		endpoint.description("Load all child nodes and return a paged list response.");
+		endpoint.description("Load all child nodes and return a paged list response. Unless the requested page is the last one, the total count of the response is determined by an additional query, which checks the languages and the permissions of all children of the node. The cost of this query grows with the number of children.");
 		endpoint.addQueryParameters(PagingParametersImpl.class);
 		endpoint.addQueryParameters(NodeParametersImpl.class);
 		endpoint.addQueryParameters(VersioningParametersImpl.class);
@@ -422,6 +433,25 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 
 	}
 
+	private void addImportHandler() {
+		NodeImportResult exampleResult = new NodeImportResult().setLine(1).setUuid(NODE_DELOREAN_UUID).setStatus(CREATED.code());
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/import");
+		endpoint.method(POST);
+		endpoint.description("Import nodes from an NDJSON document. Each line must contain a node create or update request. "
+			+ "Nodes which already exist will be updated when the optional uuid property is set. "
+			+ "The records are committed in large batches and the results of the records are streamed back as NDJSON. "
+			+ "Events for the individual nodes are not sent. Reference updates and the search index synchronization are handled once all records have been imported.");
+		endpoint.consumes(APPLICATION_NDJSON);
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.exampleRequest(new JsonObject(nodeExamples.getNodeCreateRequest().toJson()).encode());
+		endpoint.exampleResponse(OK, exampleResult, "Result of each imported record.");
+		endpoint.events(NODE_REFERENCE_UPDATED);
+		endpoint.handler(rc -> {
+			importHandler.handleImport(rc);
+		});
+	}
+
 	// TODO handle schema by name / by uuid - move that code in a separate
 	// handler
 	private void addCreateHandler() {
@@ -548,6 +578,7 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 		putEndpoint.method(POST);
 		putEndpoint.produces(APPLICATION_JSON);
 		putEndpoint.exampleResponse(OK, versioningExamples.createPublishStatusResponse(), "Publish status of the node.");
+		putEndpoint.exampleResponse(ACCEPTED, miscExamples.createMessageResponse(), "A job for the recursive action was queued.");
 		putEndpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
 		putEndpoint.addQueryParameters(PublishParametersImpl.class);
 		putEndpoint.events(NODE_PUBLISHED);
@@ -564,6 +595,7 @@ public class NodeEndpoint extends RolePermissionHandlingProjectEndpoint {
 		deleteEndpoint.method(DELETE);
 		deleteEndpoint.produces(APPLICATION_JSON);
 		deleteEndpoint.exampleResponse(NO_CONTENT, "Node was unpublished.");
+		deleteEndpoint.exampleResponse(ACCEPTED, miscExamples.createMessageResponse(), "A job for the recursive action was queued.");
 		deleteEndpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
 		deleteEndpoint.addQueryParameters(PublishParametersImpl.class);
 		deleteEndpoint.events(NODE_UNPUBLISHED);
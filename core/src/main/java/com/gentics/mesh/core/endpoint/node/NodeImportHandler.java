@@ -0,0 +1,408 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.action.DAOActionContext.context;
+import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.INDEX_SYNC_REQUEST;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON_UTF8;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.action.NodeDAOActions;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.i18n.I18NUtil;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.event.search.SearchIndexSyncEventModel;
+import com.gentics.mesh.core.rest.node.NodeImportResult;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler for the streaming node import.
+ *
+ * The request body is an NDJSON document which contains one node create or update request per line. The records are read from the request stream and are
+ * imported in large batches. Each batch is committed in a single transaction which uses the mass insert mode of the database. Events are not dispatched per
+ * record. Instead the reference updates and the search index synchronization are triggered once, after all records have been imported. The result of each
+ * record is streamed back as an NDJSON line as soon as the batch of the record has been committed.
+ */
+@Singleton
+public class NodeImportHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeImportHandler.class);
+
+	/**
+	 * Amount of records which are committed in one transaction.
+	 */
+	public static final int BATCH_SIZE = 1000;
+
+	/**
+	 * Name of the optional record property which contains the uuid of the node.
+	 */
+	public static final String UUID_PROPERTY = "uuid";
+
+	private final Vertx vertx;
+
+	private final Database db;
+
+	private final WriteLock writeLock;
+
+	private final NodeDAOActions nodeActions;
+
+	private final Provider<EventQueueBatch> queueProvider;
+
+	private final Provider<BulkActionContext> bulkProvider;
+
+	@Inject
+	public NodeImportHandler(Vertx vertx, Database db, WriteLock writeLock, NodeDAOActions nodeActions, Provider<EventQueueBatch> queueProvider,
+		Provider<BulkActionContext> bulkProvider) {
+		this.vertx = vertx;
+		this.db = db;
+		this.writeLock = writeLock;
+		this.nodeActions = nodeActions;
+		this.queueProvider = queueProvider;
+		this.bulkProvider = bulkProvider;
+	}
+
+	/**
+	 * Handle the import request. The request must not have been consumed by the body handler.
+	 *
+	 * @param rc
+	 */
+	public void handleImport(RoutingContext rc) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		ImportState state = new ImportState();
+		HttpServerResponse response = rc.response();
+		response.setChunked(true);
+		response.putHeader(CONTENT_TYPE, APPLICATION_NDJSON_UTF8);
+		response.setStatusCode(OK.code());
+
+		RecordParser parser = RecordParser.newDelimited("\n", rc.request());
+		parser.handler(line -> {
+			state.line++;
+			String json = line.toString().trim();
+			if (json.isEmpty()) {
+				return;
+			}
+			state.pending.add(new ImportRecord(state.line, json));
+			if (state.pending.size() >= BATCH_SIZE) {
+				parser.pause();
+				flush(rc, state).onComplete(rh -> {
+					if (response.writeQueueFull()) {
+						response.drainHandler(v -> parser.resume());
+					} else {
+						parser.resume();
+					}
+				});
+			}
+		});
+		parser.exceptionHandler(error -> {
+			log.error("Error while reading the import stream", error);
+			response.end();
+		});
+		parser.endHandler(v -> {
+			flush(rc, state)
+				.compose(rh -> finish(ac, state))
+				.onComplete(rh -> {
+					if (rh.failed()) {
+						log.error("Error while finishing the node import", rh.cause());
+					}
+					response.end();
+				});
+		});
+		rc.request().resume();
+	}
+
+	/**
+	 * Import the pending records and write the results to the response.
+	 */
+	private Future<Void> flush(RoutingContext rc, ImportState state) {
+		if (state.pending.isEmpty()) {
+			return Future.succeededFuture();
+		}
+		List<ImportRecord> records = state.pending;
+		state.pending = new ArrayList<>();
+		Promise<List<NodeImportResult>> promise = Promise.promise();
+		vertx.<List<NodeImportResult>>executeBlocking(bh -> {
+			bh.complete(importBatch(rc, records, state));
+		}, false, promise);
+		return promise.future().map(results -> {
+			Buffer buffer = Buffer.buffer();
+			for (NodeImportResult result : results) {
+				buffer.appendString(encode(result)).appendString("\n");
+			}
+			rc.response().write(buffer);
+			return null;
+		});
+	}
+
+	/**
+	 * Import the records of the batch. Records which can't be parsed are rejected before the first transaction. The remaining records are imported in a single
+	 * transaction. When a record fails, the transaction is rolled back and only the records in front of the failed record are repeated in a new transaction,
+	 * since those are known to succeed. The import is then continued after the failed record. This way each record is imported at most twice, regardless of the
+	 * number of failed records in the batch.
+	 */
+	private List<NodeImportResult> importBatch(RoutingContext rc, List<ImportRecord> records, ImportState state) {
+		List<NodeImportResult> results = new ArrayList<>();
+		List<ImportRecord> valid = validate(new InternalRoutingActionContextImpl(rc), records, results);
+		int from = 0;
+		int to = valid.size();
+		RecordFailedException pendingFailure = null;
+		while (from < valid.size()) {
+			List<ImportRecord> segment = valid.subList(from, to);
+			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+			EventQueueBatch batch = queueProvider.get();
+			try (WriteLock lock = writeLock.lock(ac)) {
+				int offset = from;
+				List<NodeImportResult> batchResults = db.tx(tx -> {
+					db.enableMassInsert();
+					List<NodeImportResult> txResults = new ArrayList<>();
+					for (int i = 0; i < segment.size(); i++) {
+						ImportRecord record = segment.get(i);
+						try {
+							txResults.add(importRecord(tx, rc, record, batch));
+						} catch (AbstractRestException e) {
+							throw new RecordFailedException(offset + i, record, e);
+						}
+					}
+					return txResults;
+				});
+				for (NodeImportResult result : batchResults) {
+					if (result.getStatus() == OK.code()) {
+						state.updatedUuids.add(result.getUuid());
+					}
+					state.imported++;
+				}
+				results.addAll(batchResults);
+				from = to;
+			} catch (RecordFailedException e) {
+				if (e.index > from) {
+					// Commit the records in front of the failed record first
+					pendingFailure = e;
+					to = e.index;
+				} else {
+					results.add(failure(ac, e.record, e.error));
+					from = e.index + 1;
+				}
+			} catch (RuntimeException e) {
+				log.error("Error while importing the batch of records starting at line {" + segment.get(0).line + "}", e);
+				for (ImportRecord record : segment) {
+					results.add(failure(ac, record, error(INTERNAL_SERVER_ERROR, "error_internal")));
+				}
+				from = to;
+			}
+			if (pendingFailure != null && from == pendingFailure.index) {
+				results.add(failure(ac, pendingFailure.record, pendingFailure.error));
+				from = pendingFailure.index + 1;
+				pendingFailure = null;
+			}
+			if (pendingFailure == null) {
+				to = valid.size();
+			}
+			// Events are not dispatched per record. Search index and reference updates are handled once the import has been finished.
+			batch.getEntries().clear();
+			batch.dispatch();
+		}
+		results.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+		return results;
+	}
+
+	/**
+	 * Parse the records of the batch. A failure result is added for each record which is not valid JSON or contains an illegal uuid.
+	 *
+	 * @return Records which can be imported
+	 */
+	private List<ImportRecord> validate(InternalActionContext ac, List<ImportRecord> records, List<NodeImportResult> results) {
+		List<ImportRecord> valid = new ArrayList<>(records.size());
+		for (ImportRecord record : records) {
+			try {
+				JsonObject json = new JsonObject(record.json);
+				Object uuidValue = json.remove(UUID_PROPERTY);
+				String uuid = uuidValue == null ? null : uuidValue.toString();
+				if (uuid != null && !UUIDUtil.isUUID(uuid)) {
+					results.add(failure(ac, record, error(BAD_REQUEST, "error_illegal_uuid", uuid)));
+					continue;
+				}
+				record.uuid = uuid;
+				record.body = json.encode();
+				valid.add(record);
+			} catch (DecodeException e) {
+				results.add(failure(ac, record, error(BAD_REQUEST, "error_parse_request_json_error")));
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Create or update the node for the given validated record. The same semantics as for the node upsert request apply.
+	 */
+	private NodeImportResult importRecord(Tx tx, RoutingContext rc, ImportRecord record, EventQueueBatch batch) {
+		String uuid = record.uuid;
+		RecordActionContext ac = new RecordActionContext(rc, record.body);
+		ac.getVersioningParameters().setVersion("draft");
+
+		HibNode node = null;
+		if (uuid != null) {
+			node = nodeActions.loadByUuid(context(tx, ac), uuid, UPDATE_PERM, false);
+		}
+		if (node != null) {
+			nodeActions.update(tx, node, ac, batch);
+			return new NodeImportResult().setLine(record.line).setUuid(node.getUuid()).setStatus(OK.code());
+		}
+		HibNode created = nodeActions.create(tx, ac, batch, uuid);
+		return new NodeImportResult().setLine(record.line).setUuid(created.getUuid()).setStatus(CREATED.code());
+	}
+
+	/**
+	 * Finish the import by adding the reference updates for the updated nodes and by triggering the search index synchronization for the branch.
+	 */
+	private Future<Void> finish(InternalActionContext ac, ImportState state) {
+		if (state.imported == 0) {
+			return Future.succeededFuture();
+		}
+		Promise<Void> promise = Promise.promise();
+		vertx.<Void>executeBlocking(bh -> {
+			String indexPattern = db.tx(tx -> {
+				NodeDao nodeDao = tx.nodeDao();
+				HibProject project = tx.getProject(ac);
+				Iterator<String> it = state.updatedUuids.iterator();
+				while (it.hasNext()) {
+					BulkActionContext bac = bulkProvider.get();
+					for (int i = 0; i < BATCH_SIZE && it.hasNext(); i++) {
+						HibNode node = nodeDao.findByUuid(project, it.next());
+						if (node != null) {
+							nodeDao.addReferenceUpdates(node, bac);
+						}
+					}
+					bac.process(true);
+				}
+				return "node-" + project.getUuid() + "-" + tx.getBranch(ac, project).getUuid() + "-.*";
+			});
+			if (log.isDebugEnabled()) {
+				log.debug("Imported {" + state.imported + "} records. Invoking the sync of the indices {" + indexPattern + "}");
+			}
+			vertx.eventBus().publish(CLEAR_PATH_STORE.address, null);
+			SearchIndexSyncEventModel syncEvent = new SearchIndexSyncEventModel().setIndexPattern(indexPattern);
+			vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, new JsonObject(JsonUtil.toJson(syncEvent)));
+			bh.complete();
+		}, false, promise);
+		return promise.future();
+	}
+
+	private NodeImportResult failure(InternalActionContext ac, ImportRecord record, AbstractRestException error) {
+		GenericMessageResponse message = new GenericMessageResponse();
+		message.setInternalMessage(error.getI18nKey());
+		message.setMessage(I18NUtil.get(ac, error.getI18nKey(), error.getI18nParameters()));
+		return new NodeImportResult()
+			.setLine(record.line)
+			.setStatus(error.getStatus().code())
+			.setMessage(message);
+	}
+
+	private String encode(NodeImportResult result) {
+		try {
+			return JsonUtil.getMapper().writeValueAsString(result);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Could not encode import result", e);
+		}
+	}
+
+	/**
+	 * State of a running import.
+	 */
+	private static class ImportState {
+		private long line = 0;
+		private long imported = 0;
+		private List<ImportRecord> pending = new ArrayList<>();
+		private final Set<String> updatedUuids = new LinkedHashSet<>();
+	}
+
+	/**
+	 * A single line of the imported document.
+	 */
+	private static class ImportRecord {
+		private final long line;
+		private final String json;
+		private String uuid;
+		private String body;
+
+		ImportRecord(long line, String json) {
+			this.line = line;
+			this.json = json;
+		}
+	}
+
+	/**
+	 * Action context which uses the record as request body.
+	 */
+	private static class RecordActionContext extends InternalRoutingActionContextImpl {
+		private final String body;
+
+		RecordActionContext(RoutingContext rc, String body) {
+			super(rc);
+			this.body = body;
+		}
+
+		@Override
+		public String getBodyAsString() {
+			return body;
+		}
+	}
+
+	/**
+	 * Exception which is used to roll back the transaction of a batch when a record failed.
+	 */
+	private static class RecordFailedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int index;
+
+		private final ImportRecord record;
+
+		private final AbstractRestException error;
+
+		RecordFailedException(int index, ImportRecord record, AbstractRestException error) {
+			super(null, null, false, false);
+			this.index = index;
+			this.record = record;
+			this.error = error;
+		}
+	}
+}
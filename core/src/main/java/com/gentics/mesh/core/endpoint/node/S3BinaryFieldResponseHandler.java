@@ -9,6 +9,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.s3binary.S3HibBinary;
 import com.gentics.mesh.core.data.s3binary.S3HibBinaryField;
 import com.gentics.mesh.core.data.storage.S3BinaryStorage;
 import com.gentics.mesh.core.image.ImageManipulator;
@@ -21,6 +22,9 @@ import com.gentics.mesh.http.MeshHeaders;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
 import io.reactivex.Single;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.reactivex.core.Vertx;
 
@@ -72,6 +76,10 @@ public class S3BinaryFieldResponseHandler {
 	 * @param s3binaryField
 	 */
 	private void respond(RoutingContext rc, S3HibBinaryField s3binaryField) {
+		if (s3Options.isStreamDownloads()) {
+			stream(rc, s3binaryField);
+			return;
+		}
 		String s3ObjectKey = s3binaryField.getBinary().getS3ObjectKey();
 		s3Binarystorage.exists(s3Options.getBucket(), s3ObjectKey).flatMap(
 				(res) -> {
@@ -89,6 +97,39 @@ public class S3BinaryFieldResponseHandler {
 		}).subscribe(ignore -> {
 		}, rc::fail);
 	}
+
+	/**
+	 * Stream the S3 binary data through Mesh. Range requests are passed to S3, so that only the requested part of the data is fetched.
+	 *
+	 * @param rc
+	 * @param s3binaryField
+	 */
+	private void stream(RoutingContext rc, S3HibBinaryField s3binaryField) {
+		S3HibBinary binary = s3binaryField.getBinary();
+		String s3ObjectKey = binary.getS3ObjectKey();
+		Long fileSize = s3binaryField.getFileSize();
+		long size = fileSize != null ? fileSize : binary.getSize();
+		String contentType = s3binaryField.getMimeType();
+		// Try to guess the contenttype via the filename
+		if (contentType == null) {
+			contentType = MimeMapping.getMimeTypeForFilename(s3binaryField.getFileName());
+		}
+		String finalContentType = contentType;
+		String bucket = s3Options.getBucket();
+		s3Binarystorage.exists(bucket, s3ObjectKey).subscribe(res -> {
+			if (!res) {
+				rc.fail(error(NOT_FOUND, "error_aws_s3binaryfield_not_found_with_name", s3ObjectKey));
+				return;
+			}
+			HttpServerResponse response = rc.response();
+			response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "s3binary");
+			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
+			// Set to IDENTITY to avoid gzip compression
+			response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+			rangeRequestHandler.handle(rc, size, finalContentType, (start, end) -> s3Binarystorage.read(bucket, s3ObjectKey, start, end));
+		}, rc::fail);
+	}
+
 	/**
 	 * Handle the S3 binary field response when the S3 file does not exist or should be resized/manipulated first.
 	 *
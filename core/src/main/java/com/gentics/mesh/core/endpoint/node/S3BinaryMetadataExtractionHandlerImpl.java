@@ -7,10 +7,12 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
-import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
@@ -19,6 +21,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.binary.ImageRenditionGenerator;
 import com.gentics.mesh.core.data.HibLanguage;
 import com.gentics.mesh.core.data.HibNodeFieldContainer;
 import com.gentics.mesh.core.data.branch.HibBranch;
@@ -70,11 +73,12 @@ public class S3BinaryMetadataExtractionHandlerImpl extends AbstractHandler {
 	private final S3Binaries s3binaries;
 	private final S3BinaryProcessorRegistryImpl s3binaryProcessorRegistry;
 	private final Vertx vertx;
+	private final ImageRenditionGenerator renditionGenerator;
 
 	@Inject
 	public S3BinaryMetadataExtractionHandlerImpl(Database db, S3BinaryStorage s3BinaryStorage, HandlerUtilities utils,
 			Vertx rxVertx, MeshOptions options, S3Binaries s3binaries,
-			S3BinaryProcessorRegistryImpl s3binaryProcessorRegistry) {
+			S3BinaryProcessorRegistryImpl s3binaryProcessorRegistry, ImageRenditionGenerator renditionGenerator) {
 		this.db = db;
 		this.vertx = rxVertx;
 		this.s3BinaryStorage = s3BinaryStorage;
@@ -82,6 +86,7 @@ public class S3BinaryMetadataExtractionHandlerImpl extends AbstractHandler {
 		this.options = options;
 		this.s3binaries = s3binaries;
 		this.s3binaryProcessorRegistry = s3binaryProcessorRegistry;
+		this.renditionGenerator = renditionGenerator;
 	}
 
 	/**
@@ -110,81 +115,94 @@ public class S3BinaryMetadataExtractionHandlerImpl extends AbstractHandler {
 		String bucket = options.getS3Options().getBucket();
 		String objectKey = nodeUuid + "/" + fieldName;
 		s3BinaryStorage.exists(bucket, objectKey)
-				// read from aws and return buffer with data
 				.flatMap(res -> {
 					if (res) {
-						return s3BinaryStorage.read(bucket, objectKey).singleOrError();
+						return db.singleTx(tx -> s3binaries.findByS3ObjectKey(nodeUuid + "/" + fieldName)
+								.runInExistingTx(tx).getFileName());
 					} else {
 						return Single.error(error(BAD_REQUEST, "image_error_reading_failed"));
 					}
 				}).onErrorResumeNext(e -> Single.error(e))
-				.flatMap(fileBuffer -> {
-					if (nonNull(fileBuffer) && fileBuffer.getBytes().length > 0) {
-						return db.singleTx(tx -> s3binaries.findByS3ObjectKey(nodeUuid + "/" + fieldName)
-								.runInExistingTx(tx).getFileName()).flatMap(fileName -> {
-									String mimeTypeForFilename = MimeMapping.getMimeTypeForFilename(fileName);
-									File tmpFile = new File(System.getProperty("java.io.tmpdir"), fileName);
-									vertx.fileSystem().writeFileBlocking(tmpFile.getAbsolutePath(), fileBuffer);
-									byte[] fileData = fileBuffer.getBytes();
-									FileUpload fileUpload = new FileUpload() {
-
-										@Override
-										public String uploadedFileName() {
-											return tmpFile.getAbsolutePath();
-										}
-
-										@Override
-										public long size() {
-											return fileData.length;
-										}
-
-										@Override
-										public String name() {
-											return fileName;
-										}
-
-										@Override
-										public String fileName() {
-											return fileName;
-										}
-
-										@Override
-										public String contentType() {
-											return mimeTypeForFilename;
-										}
-
-										@Override
-										public String contentTransferEncoding() {
-											// TODO Auto-generated method stub
-											return null;
-										}
-
-										@Override
-										public String charSet() {
-											// TODO Auto-generated method stub
-											return "UTF-8";
-										}
-
-										@Override
-										public boolean cancel() {
-											return false;
-										}
-									};
-									ctx.setFileUpload(fileUpload);
-									ctx.setS3ObjectKey(nodeUuid + "/" + fieldName);
-									ctx.setFileName(fileName);
-									ctx.setFileSize(fileData.length);
-									return Single.just(fileUpload);
-								})
-								.flatMap(fileUpload -> postProcessUpload(
-										new S3BinaryDataProcessorContext(ac, nodeUuid, fieldName, fileUpload)).toList())
-								.flatMap(postProcess -> storeUploadInGraph(ac, postProcess, ctx, nodeUuid, languageTag,
-										nodeVersion, fieldName));
-					} else {
-						log.error("Could not read input image");
-						return Single.error(error(INTERNAL_SERVER_ERROR, "image_error_reading_failed"));
+				// stream the data from aws into a temporary file
+				.flatMap(fileName -> {
+					// The file name is not used for the temporary file, since concurrent extractions of files with the same name would overwrite each other
+					File tmpFile = Files.createTempFile("mesh-s3binary-", ".tmp").toFile();
+					return s3BinaryStorage.readToFile(bucket, objectKey, tmpFile).andThen(Single.fromCallable(() -> tmpFile.length()))
+						.flatMap(fileSize -> {
+							if (fileSize > 0) {
+								String mimeTypeForFilename = MimeMapping.getMimeTypeForFilename(fileName);
+								FileUpload fileUpload = new FileUpload() {
+
+									@Override
+									public String uploadedFileName() {
+										return tmpFile.getAbsolutePath();
+									}
+
+									@Override
+									public long size() {
+										return fileSize;
+									}
+
+									@Override
+									public String name() {
+										return fileName;
+									}
+
+									@Override
+									public String fileName() {
+										return fileName;
+									}
+
+									@Override
+									public String contentType() {
+										return mimeTypeForFilename;
+									}
+
+									@Override
+									public String contentTransferEncoding() {
+										// The file contains the raw data of the S3 object
+										return "binary";
+									}
+
+									@Override
+									public String charSet() {
+										return StandardCharsets.UTF_8.name();
+									}
+
+									@Override
+									public boolean cancel() {
+										return false;
+									}
+								};
+								ctx.setFileUpload(fileUpload);
+								ctx.setS3ObjectKey(nodeUuid + "/" + fieldName);
+								ctx.setFileName(fileName);
+								ctx.setFileSize(fileSize);
+								return Single.just(fileUpload);
+							} else {
+								log.error("Could not read input image");
+								return Single.<FileUpload>error(error(INTERNAL_SERVER_ERROR, "image_error_reading_failed"));
+							}
+						})
+						.flatMap(fileUpload -> postProcessUpload(
+								new S3BinaryDataProcessorContext(ac, nodeUuid, fieldName, fileUpload)).toList())
+						.doFinally(() -> {
+							// The processors are done with the file
+							try {
+								Files.deleteIfExists(tmpFile.toPath());
+							} catch (IOException e) {
+								log.warn("Could not delete temporary file {" + tmpFile + "}", e);
+							}
+						});
+				})
+				.flatMap(postProcess -> storeUploadInGraph(ac, postProcess, ctx, nodeUuid, languageTag,
+						nodeVersion, fieldName))
+				.onErrorResumeNext(e -> Single.error(e)).doOnSuccess(model -> {
+					// Generate the renditions in the background and store them in the cache bucket
+					if (!ctx.getRenditionPresets().isEmpty()) {
+						renditionGenerator.generateS3(ctx.getS3ObjectKey(), ctx.getFileName(), ctx.getFocalPoint(), ctx.getRenditionPresets());
 					}
-				}).onErrorResumeNext(e -> Single.error(e)).subscribe(model -> ac.send(model, OK), ac::fail);
+				}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
 	private Single<NodeResponse> storeUploadInGraph(InternalActionContext ac,
@@ -301,6 +319,16 @@ public class S3BinaryMetadataExtractionHandlerImpl extends AbstractHandler {
 			// Now get rid of the old field
 			newDraftVersion.removeField(oldField);
 
+			// Schedule the rendition presets and keep track of them in the field metadata
+			if (field.hasProcessableImage()) {
+				List<String> presets = renditionGenerator.getPresets(fieldSchema);
+				if (!presets.isEmpty()) {
+					field.setMetadata(ImageRenditionGenerator.RENDITIONS_METADATA_KEY, String.join(",", presets));
+					context.setRenditionPresets(presets);
+					context.setFocalPoint(field.getImageFocalPoint());
+				}
+			}
+
 			// If the binary field is the segment field, we need to update the webroot info
 			// in the node
 			if (field.getFieldKey()
@@ -1,6 +1,11 @@
 package com.gentics.mesh.core.endpoint.node;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.gentics.mesh.annotation.Setter;
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+
 import io.vertx.ext.web.FileUpload;
 
 /**
@@ -13,6 +18,8 @@ public class S3UploadContext {
 	private String fileName;
 	private long fileSize;
 	private FileUpload fileUpload;
+	private List<String> renditionPresets = Collections.emptyList();
+	private FocalPoint focalPoint;
 
 	public S3UploadContext() {
 	}
@@ -59,4 +66,20 @@ public class S3UploadContext {
 	public void setFileSize(long fileSize) {
 		this.fileSize = fileSize;
 	}
+
+	public List<String> getRenditionPresets() {
+		return renditionPresets;
+	}
+
+	public void setRenditionPresets(List<String> renditionPresets) {
+		this.renditionPresets = renditionPresets;
+	}
+
+	public FocalPoint getFocalPoint() {
+		return focalPoint;
+	}
+
+	public void setFocalPoint(FocalPoint focalPoint) {
+		this.focalPoint = focalPoint;
+	}
 }
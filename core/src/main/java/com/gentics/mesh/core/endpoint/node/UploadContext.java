@@ -1,6 +1,11 @@
 package com.gentics.mesh.core.endpoint.node;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.gentics.mesh.annotation.Setter;
+import com.gentics.mesh.core.binary.BinaryDataProcessorContext;
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.vertx.ext.web.FileUpload;
@@ -20,6 +25,16 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private List<String> renditionPresets = Collections.emptyList();
+
+	private FocalPoint focalPoint;
+
+	private BinaryDataProcessorContext processorContext;
+
+	private String projectUuid;
+
+	private String branchUuid;
+
 	public UploadContext() {
 		this.temporaryId = UUIDUtil.randomUUID();
 	}
@@ -61,4 +76,44 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	public List<String> getRenditionPresets() {
+		return renditionPresets;
+	}
+
+	public void setRenditionPresets(List<String> renditionPresets) {
+		this.renditionPresets = renditionPresets;
+	}
+
+	public FocalPoint getFocalPoint() {
+		return focalPoint;
+	}
+
+	public void setFocalPoint(FocalPoint focalPoint) {
+		this.focalPoint = focalPoint;
+	}
+
+	public BinaryDataProcessorContext getProcessorContext() {
+		return processorContext;
+	}
+
+	public void setProcessorContext(BinaryDataProcessorContext processorContext) {
+		this.processorContext = processorContext;
+	}
+
+	public String getProjectUuid() {
+		return projectUuid;
+	}
+
+	public void setProjectUuid(String projectUuid) {
+		this.projectUuid = projectUuid;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public void setBranchUuid(String branchUuid) {
+		this.branchUuid = branchUuid;
+	}
+
 }
@@ -14,22 +14,30 @@ import javax.inject.Inject;
 
 import com.gentics.mesh.error.MissingPermissionException;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.action.RoleDAOActions;
 import com.gentics.mesh.core.data.HibBaseElement;
+import com.gentics.mesh.core.data.dao.PermissionRoots;
 import com.gentics.mesh.core.data.dao.RoleDao;
+import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.role.RolePermissionRequest;
 import com.gentics.mesh.core.rest.role.RolePermissionResponse;
 import com.gentics.mesh.core.rest.role.RoleResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.MeshOptions;
 
+import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -42,10 +50,17 @@ public class RoleCrudHandlerImpl extends AbstractCrudHandler<HibRole, RoleRespon
 
 	private BootstrapInitializer boot;
 
+	private final MeshOptions options;
+
+	private final Vertx vertx;
+
 	@Inject
-	public RoleCrudHandlerImpl(Database db, BootstrapInitializer boot, HandlerUtilities utils, WriteLock writeLock, RoleDAOActions roleActions) {
+	public RoleCrudHandlerImpl(Database db, BootstrapInitializer boot, HandlerUtilities utils, WriteLock writeLock, RoleDAOActions roleActions,
+		MeshOptions options, Vertx vertx) {
 		super(db, utils, writeLock, roleActions);
 		this.boot = boot;
+		this.options = options;
+		this.vertx = vertx;
 	}
 
 	/**
@@ -108,6 +123,35 @@ public class RoleCrudHandlerImpl extends AbstractCrudHandler<HibRole, RoleRespon
 			throw error(BAD_REQUEST, "role_permission_path_missing");
 		}
 
+		RolePermissionRequest requestModel = ac.fromJson(RolePermissionRequest.class);
+		// Prepare the sets for revoke and grant actions
+		Set<InternalPermission> permissionsToGrant = new HashSet<>();
+		Set<InternalPermission> permissionsToRevoke = new HashSet<>();
+		for (InternalPermission permission : InternalPermission.values()) {
+			Boolean permValue = requestModel.getPermissions().getNullable(permission.getRestPerm());
+			if (permValue != null) {
+				if (permValue) {
+					permissionsToGrant.add(permission);
+				} else {
+					permissionsToRevoke.add(permission);
+				}
+			}
+		}
+		if (log.isDebugEnabled()) {
+			for (InternalPermission p : permissionsToGrant) {
+				log.debug("Granting permission: " + p);
+			}
+			for (InternalPermission p : permissionsToRevoke) {
+				log.debug("Revoking permission: " + p);
+			}
+		}
+
+		boolean recursive = BooleanUtils.isTrue(requestModel.getRecursive());
+		if (recursive && BooleanUtils.isTrue(requestModel.getBackground()) && isNodePath(pathToElement)) {
+			handleEnqueuePermissionJob(ac, roleUuid, pathToElement, requestModel, permissionsToGrant, permissionsToRevoke);
+			return;
+		}
+
 		try (WriteLock lock = writeLock.lock(ac)) {
 			utils.syncTx(ac, (batch, tx) -> {
 
@@ -125,34 +169,10 @@ public class RoleCrudHandlerImpl extends AbstractCrudHandler<HibRole, RoleRespon
 				if (element == null) {
 					throw error(NOT_FOUND, "error_element_for_path_not_found", pathToElement);
 				}
-				RolePermissionRequest requestModel = ac.fromJson(RolePermissionRequest.class);
-
-				// Prepare the sets for revoke and grant actions
-				Set<InternalPermission> permissionsToGrant = new HashSet<>();
-				Set<InternalPermission> permissionsToRevoke = new HashSet<>();
-
-				for (InternalPermission permission : InternalPermission.values()) {
-					Boolean permValue = requestModel.getPermissions().getNullable(permission.getRestPerm());
-					if (permValue != null) {
-						if (permValue) {
-							permissionsToGrant.add(permission);
-						} else {
-							permissionsToRevoke.add(permission);
-						}
-					}
-				}
-				if (log.isDebugEnabled()) {
-					for (InternalPermission p : permissionsToGrant) {
-						log.debug("Granting permission: " + p);
-					}
-					for (InternalPermission p : permissionsToRevoke) {
-						log.debug("Revoking permission: " + p);
-					}
-				}
+
 				// 3. Apply the permission actions
 				try {
-					roleDao.applyPermissions(ac.getMeshAuthUser(), element, batch, role, BooleanUtils.isTrue(requestModel.getRecursive()), permissionsToGrant,
-							permissionsToRevoke);
+					roleDao.applyPermissions(ac.getMeshAuthUser(), element, batch, role, recursive, permissionsToGrant, permissionsToRevoke);
 					String name = role.getName();
 					if (ac.getSecurityLogger().isInfoEnabled()) {
 						ac.getSecurityLogger().info(String.format("Permission for role {%s} (%s) to {%s} set to %s",
@@ -166,4 +186,84 @@ public class RoleCrudHandlerImpl extends AbstractCrudHandler<HibRole, RoleRespon
 		}
 	}
 
+	/**
+	 * Enqueue a job which recursively applies the permissions to a node and its subtree, or to all nodes of a project. The permissions of the node root of a
+	 * project are applied directly.
+	 *
+	 * @param ac
+	 * @param roleUuid
+	 *            Uuid of the role
+	 * @param pathToElement
+	 *            Path to a node or to the node root of a project
+	 * @param requestModel
+	 * @param permissionsToGrant
+	 * @param permissionsToRevoke
+	 */
+	private void handleEnqueuePermissionJob(InternalActionContext ac, String roleUuid, String pathToElement, RolePermissionRequest requestModel,
+		Set<InternalPermission> permissionsToGrant, Set<InternalPermission> permissionsToRevoke) {
+		try (WriteLock lock = writeLock.lock(ac)) {
+			utils.syncTx(ac, (batch, tx) -> {
+				RoleDao roleDao = tx.roleDao();
+				HibRole role = roleDao.loadObjectByUuid(ac, roleUuid, UPDATE_PERM);
+				HibBaseElement element = boot.rootResolver().resolvePathToElement(pathToElement);
+				if (element == null) {
+					throw error(NOT_FOUND, "error_element_for_path_not_found", pathToElement);
+				}
+
+				HibJob job;
+				if (element instanceof HibNode) {
+					HibNode node = (HibNode) element;
+					if (!tx.userDao().hasPermission(ac.getUser(), node, READ_PERM)) {
+						throw error(FORBIDDEN, "error_missing_perm", node.getUuid(), READ_PERM.getRestPerm().getName());
+					}
+					job = tx.jobDao().enqueuePermissionChange(ac.getUser(), role, node.getProject(), node, permissionsToGrant, permissionsToRevoke);
+				} else {
+					HibProject project = resolveProject(pathToElement);
+					try {
+						roleDao.applyPermissions(ac.getMeshAuthUser(), element, batch, role, false, permissionsToGrant, permissionsToRevoke);
+					} catch (MissingPermissionException e) {
+						throw error(FORBIDDEN, "error_missing_perm", e.getElementUuid(), e.getPermission().toString());
+					}
+					job = tx.jobDao().enqueuePermissionChange(ac.getUser(), role, project, null, permissionsToGrant, permissionsToRevoke);
+				}
+				if (ac.getSecurityLogger().isInfoEnabled()) {
+					ac.getSecurityLogger().info(String.format("Permission for role {%s} (%s) to {%s} set to %s by job {%s}",
+							role.getName(), roleUuid, pathToElement, requestModel.toJson(), job.getUuid()));
+				}
+				return message(ac, "role_permission_job_enqueued", job.getUuid());
+			}, model -> {
+				MeshEvent.triggerJobWorker(vertx.eventBus(), options);
+				ac.send(model, ACCEPTED);
+			});
+		}
+	}
+
+	/**
+	 * Check whether the path points to a node (projects/:project/nodes/:uuid) or to the node root of a project (projects/:project/nodes). Permissions on
+	 * those elements can be changed recursively by a job.
+	 *
+	 * @param pathToElement
+	 * @return
+	 */
+	private boolean isNodePath(String pathToElement) {
+		String[] segments = StringUtils.split(pathToElement, "/");
+		return (segments.length == 3 || segments.length == 4) && PermissionRoots.PROJECTS.equals(segments[0])
+			&& PermissionRoots.NODES.equals(segments[2]);
+	}
+
+	/**
+	 * Resolve the project of a path which was accepted by {@link #isNodePath(String)}.
+	 *
+	 * @param pathToElement
+	 * @return
+	 */
+	private HibProject resolveProject(String pathToElement) {
+		String[] segments = StringUtils.split(pathToElement, "/");
+		HibBaseElement project = boot.rootResolver().resolvePathToElement(segments[0] + "/" + segments[1]);
+		if (!(project instanceof HibProject)) {
+			throw error(NOT_FOUND, "error_element_for_path_not_found", pathToElement);
+		}
+		return (HibProject) project;
+	}
+
 }
@@ -2,12 +2,14 @@ package com.gentics.mesh.core.endpoint.role;
 
 import static com.gentics.mesh.core.rest.MeshEvent.ROLE_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_BATCH_CHANGED;
 import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
 import static com.gentics.mesh.core.rest.MeshEvent.ROLE_UPDATED;
 import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.PROJECT_DEMO_UUID;
 import static com.gentics.mesh.example.ExampleUuids.ROLE_CLIENT_UUID;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
@@ -72,9 +74,10 @@ public class RoleEndpoint extends RolePermissionHandlingEndpoint {
 		permissionSetEndpoint.method(POST);
 		permissionSetEndpoint.description("Set the permissions between role and the targeted element.");
 		permissionSetEndpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Permissions were set.");
+		permissionSetEndpoint.exampleResponse(ACCEPTED, miscExamples.createMessageResponse(), "A job for the recursive permission update was queued.");
 		permissionSetEndpoint.exampleRequest(roleExamples.getRolePermissionRequest());
 		permissionSetEndpoint.consumes(APPLICATION_JSON);
-		permissionSetEndpoint.events(ROLE_PERMISSIONS_CHANGED);
+		permissionSetEndpoint.events(ROLE_PERMISSIONS_CHANGED, ROLE_PERMISSIONS_BATCH_CHANGED);
 		permissionSetEndpoint.produces(APPLICATION_JSON);
 		permissionSetEndpoint.blockingHandler(rc -> {
 			InternalActionContext ac = wrap(rc);
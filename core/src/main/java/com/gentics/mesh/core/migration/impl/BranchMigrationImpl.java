@@ -16,7 +16,7 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.context.BranchMigrationContext;
-import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.HibNodeFieldContainerEdge;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.ContentDao;
 import com.gentics.mesh.core.data.dao.NodeDao;
@@ -87,18 +87,21 @@ public class BranchMigrationImpl extends AbstractMigrationHandler implements Bra
 				// prepare nodes for the migration
 				List<? extends HibNode> preparedNodes = beforeBatchMigration(nodeList);
 
-				// skip already migrated nodes
+				// skip nodes which do not exist in the old branch and already migrated nodes. Only the index of the content edges is used for the checks.
 				List<? extends HibNode> nodesToMigrate = preparedNodes.stream()
+						// Nodes which only exist in other branches have no contents, parents or tags which could be migrated
+						.filter(node -> contentDao.getFieldEdges(node, oldBranch.getUuid(), INITIAL).hasNext())
 						// Check whether the node already has an initial container and thus was already migrated
-						.filter(node -> !contentDao.getFieldContainers(node, newBranch, INITIAL).hasNext())
+						.filter(node -> !contentDao.getFieldEdges(node, newBranch.getUuid(), INITIAL).hasNext())
 						.collect(Collectors.toList());
 
 				// migrate parents in batches
 				nodeDao.migrateParentNodes(nodesToMigrate, oldBranch, newBranch);
 
 				// perform rest of the migration
+				HibBranch branchToMigrateTo = Tx.get().branchDao().findByUuid(newBranch.getProject(), newBranch.getUuid());
 				for (HibNode node : nodesToMigrate) {
-					migrateNode(node, batch, oldBranch, newBranch, errorsDetected);
+					migrateNode(node, batch, oldBranch, branchToMigrateTo, errorsDetected);
 				}
 			});
 
@@ -132,31 +135,32 @@ public class BranchMigrationImpl extends AbstractMigrationHandler implements Bra
 	 * @param node
 	 * @param batch
 	 * @param oldBranch
-	 * @param newBranch
+	 * @param branchToMigrateTo
+	 *            New branch which was loaded in the transaction of the batch
 	 * @param errorsDetected
 	 */
-	private void migrateNode(HibNode node, EventQueueBatch batch, HibBranch oldBranch, HibBranch newBranch, List<Exception> errorsDetected) {
+	private void migrateNode(HibNode node, EventQueueBatch batch, HibBranch oldBranch, HibBranch branchToMigrateTo, List<Exception> errorsDetected) {
 		try {
 			Tx tx = Tx.get();
 			TagDao tagDao = tx.tagDao();
 			PersistingContentDao contentDao = tx.<CommonTx>unwrap().contentDao();
-			HibBranch branchToMigrateTo = tx.branchDao().findByUuid(newBranch.getProject(), newBranch.getUuid());
 
-			Result<HibNodeFieldContainer> drafts = contentDao.getFieldContainers(node, oldBranch, DRAFT);
-			Result<HibNodeFieldContainer> published = contentDao.getFieldContainers(node, oldBranch, PUBLISHED);
+			Result<? extends HibNodeFieldContainerEdge> drafts = contentDao.getFieldEdges(node, oldBranch.getUuid(), DRAFT);
+			Result<? extends HibNodeFieldContainerEdge> published = contentDao.getFieldEdges(node, oldBranch.getUuid(), PUBLISHED);
 
+			// The edges are copied including their webroot and url field info, so that the fields of the containers do not need to be loaded.
 			// 1. Migrate draft containers first
-			drafts.forEach(container -> {
+			drafts.forEach(edge -> {
 				// We only need to set the initial edge if there are no published containers.
 				// Otherwise the initial edge will be set using the published container.
-				contentDao.migrateContainerOntoBranch(container, branchToMigrateTo, node, batch, DRAFT, !published.hasNext());
+				contentDao.migrateContainerEdgeOntoBranch(edge, branchToMigrateTo, batch, !published.hasNext());
 			});
 
 			// 2. Migrate published containers
-			published.forEach(container -> {
+			published.forEach(edge -> {
 				// Set the initial edge for published containers since the published container may be an older version and created before the draft container was created.
 				// The initial edge should always point to the oldest container of either draft or published.
-				contentDao.migrateContainerOntoBranch(container, branchToMigrateTo, node, batch, PUBLISHED, true);
+				contentDao.migrateContainerEdgeOntoBranch(edge, branchToMigrateTo, batch, true);
 			});
 
 			// Migrate tags
@@ -4,12 +4,18 @@ import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+import static com.gentics.mesh.metric.SimpleMetric.MICRONODE_MIGRATION_IN_PLACE;
+import static com.gentics.mesh.metric.SimpleMetric.MICRONODE_MIGRATION_PENDING;
+import static com.gentics.mesh.metric.SimpleMetric.MICRONODE_MIGRATION_SKIPPED;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -28,31 +34,43 @@ import com.gentics.mesh.core.data.node.HibMicronode;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.field.list.HibMicronodeFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.HibMicronodeField;
+import com.gentics.mesh.core.data.schema.HibAddFieldChange;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
+import com.gentics.mesh.core.data.schema.HibSchemaChange;
+import com.gentics.mesh.core.data.schema.HibUpdateFieldChange;
+import com.gentics.mesh.core.data.schema.HibUpdateMicroschemaChange;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandlerImpl;
 import com.gentics.mesh.core.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.migration.MicronodeMigration;
+import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.FieldTypes;
 import com.gentics.mesh.core.rest.event.node.MicroschemaMigrationCause;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.VersionNumber;
+import io.micrometer.core.instrument.Counter;
 import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
+ * The migration only handles the contents which use micronodes of the old microschema version. Contents which contain no such micronodes are skipped. If the
+ * change between the versions is compatible (no field is removed, renamed or changes its type) and {@link MeshOptions#isMicronodeMigrationInPlace()} is
+ * set, the schema version of the affected micronodes is updated in place, unless they are also used by contents of other branches. Otherwise new versions
+ * of the contents are created, which only contain new micronodes for the affected micronodes and share all other fields with the old versions.
+ *
  * @see MicronodeMigration
  */
 @Singleton
@@ -60,14 +78,29 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 
 	private static final Logger log = LoggerFactory.getLogger(MicronodeMigrationImpl.class);
 
+	/**
+	 * Properties of a field update, which do not affect the validity of the existing micronodes.
+	 */
+	private static final Set<String> COMPATIBLE_FIELD_PROPERTIES = new HashSet<>(
+		Arrays.asList(SchemaChangeModel.FIELD_NAME_KEY, SchemaChangeModel.LABEL_KEY, SchemaChangeModel.ELASTICSEARCH_KEY));
+
 	private final WriteLock writeLock;
 
+	private final AtomicLong migrationGauge;
+
+	private final Counter inPlaceCounter;
+
+	private final Counter skippedCounter;
+
 	@Inject
 	public MicronodeMigrationImpl(Database db, BinaryUploadHandlerImpl binaryFieldHandler, MetricsService metrics,
 			Provider<EventQueueBatch> batchProvider, WriteLock writeLock, MeshOptions options,
 			RequestDelegator delegator) {
 		super(db, binaryFieldHandler, metrics, batchProvider, options, delegator);
 		this.writeLock = writeLock;
+		this.migrationGauge = metrics.longGauge(MICRONODE_MIGRATION_PENDING);
+		this.inPlaceCounter = metrics.counter(MICRONODE_MIGRATION_IN_PLACE);
+		this.skippedCounter = metrics.counter(MICRONODE_MIGRATION_SKIPPED);
 	}
 
 	@Override
@@ -97,6 +130,10 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 			} catch (Exception e) {
 				return Completable.error(e);
 			}
+			boolean inPlace = options.isMicronodeMigrationInPlace() && db.tx(() -> isCompatible(reloadVersion(fromVersion)));
+			if (inPlace) {
+				log.info("The changes of microschema version {" + db.tx(fromVersion::getVersion) + "} are compatible, micronodes will be updated in place.");
+			}
 
 			// Get the containers, that need to be transformed
 			Queue<? extends HibNodeFieldContainer> fieldContainersResult = db.tx(tx -> {
@@ -116,14 +153,24 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 				return Completable.complete();
 			}
 
+			if (metrics.isEnabled()) {
+				migrationGauge.set(fieldContainersResult.size());
+			}
 			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status,
 					(batch, containers, errors) -> {
 						try (WriteLock lock = writeLock.lock(ac)) {
 							beforeBatchMigration(containers, ac);
 							for (HibNodeFieldContainer container : containers) {
-								migrateMicronodeContainer(ac, context, batch, container, touchedFields, errors);
+								if (inPlace) {
+									updateMicronodeContainer(ac, context, batch, container, touchedFields, errors);
+								} else {
+									migrateMicronodeContainer(ac, context, batch, container, touchedFields, errors);
+								}
 							}
 						}
+						if (metrics.isEnabled()) {
+							migrationGauge.addAndGet(-containers.size());
+						}
 					});
 
 			Completable result = Completable.complete();
@@ -224,6 +271,12 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 			ac.getVersioningParameters().setVersion("draft");
 			HibNodeFieldContainer oldPublished = contentDao.getFieldContainer(node, languageTag, branchUuid, PUBLISHED);
 
+			// The container may have been found through a micronode which is not used by the current draft or published version
+			if (getMicronodes(container, fromVersion).isEmpty() && (oldPublished == null || getMicronodes(oldPublished, fromVersion).isEmpty())) {
+				skippedCounter.increment();
+				return;
+			}
+
 			VersionNumber nextDraftVersion = null;
 			// 1. Check whether there is any other published container which we need to handle separately
 			if (oldPublished != null && !oldPublished.equals(container)) {
@@ -327,13 +380,21 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 
 				cloneUntouchedFieldsAndMigrate(ac, oldField, oldMicronode, newMicronode, touchedFields, fromVersion);
 			} else {
-				// we can clone it safely, since it wasn't affected by the migration
-				newContainer.createMicronode(oldField.getFieldKey(), fromVersion);
+				// the new version can share the micronode, since it wasn't affected by the migration
+				oldField.cloneTo(newContainer);
 			}
 		}
 
 		// iterate over all micronode list fields to migrate
 		for (HibMicronodeFieldList oldListField : contentDao.getMicronodeListFields(oldContainer)) {
+			boolean affected = oldListField.getList().stream()
+				.anyMatch(field -> field.getMicronode().getSchemaContainerVersion().equals(fromVersion));
+			if (!affected) {
+				// the new version can share the list, since none of its micronodes is affected by the migration
+				oldListField.cloneTo(newContainer);
+				continue;
+			}
+
 			// clone the field (this will not clone the micronodes)
 			HibMicronodeFieldList micronodeList = newContainer.createMicronodeList(oldListField.getFieldKey());
 
@@ -352,6 +413,151 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 		}
 	}
 
+	/**
+	 * Update the schema version of the affected micronodes of the draft and published container in place. This is only done for compatible changes, thus
+	 * the fields of the micronodes do not need to be changed. If an affected micronode is also used by a draft or published container of another branch,
+	 * the container is migrated by creating a new version instead, since the other branch must keep using the old microschema version.
+	 *
+	 * @param ac
+	 * @param context
+	 * @param batch
+	 * @param container
+	 * @param touchedFields
+	 * @param errorsDetected
+	 */
+	private void updateMicronodeContainer(NodeMigrationActionContextImpl ac, MicronodeMigrationContext context, EventQueueBatch batch,
+										  HibNodeFieldContainer container, Set<String> touchedFields, List<Exception> errorsDetected) {
+		String containerUuid = container.getUuid();
+		try {
+			ContentDao contentDao = Tx.get().contentDao();
+			HibMicroschemaVersion fromVersion = reloadVersion(context.getFromVersion());
+			HibMicroschemaVersion toVersion = reloadVersion(context.getToVersion());
+			String branchUuid = context.getBranch().getUuid();
+
+			HibNode node = contentDao.getNode(container);
+			HibNodeFieldContainer published = contentDao.getFieldContainer(node, container.getLanguageTag(), branchUuid, PUBLISHED);
+			boolean draftIsPublished = published != null && published.equals(container);
+
+			// Collect the micronodes of both containers first, since they may share micronodes
+			List<HibMicronode> draftMicronodes = getMicronodes(container, fromVersion);
+			List<HibMicronode> publishedMicronodes = published == null || draftIsPublished ? new ArrayList<>() : getMicronodes(published, fromVersion);
+			if (draftMicronodes.isEmpty() && publishedMicronodes.isEmpty()) {
+				skippedCounter.increment();
+				return;
+			}
+
+			if (isUsedInOtherBranch(draftMicronodes, branchUuid) || isUsedInOtherBranch(publishedMicronodes, branchUuid)) {
+				if (log.isDebugEnabled()) {
+					log.debug("Micronodes of container {" + containerUuid + "} are used in other branches, creating a new version");
+				}
+				migrateMicronodeContainer(ac, context, batch, container, touchedFields, errorsDetected);
+				return;
+			}
+
+			if (log.isDebugEnabled()) {
+				log.debug("Updating micronodes of container {" + containerUuid + "} in place");
+			}
+			for (HibMicronode micronode : draftMicronodes) {
+				micronode.setSchemaContainerVersion(toVersion);
+			}
+			for (HibMicronode micronode : publishedMicronodes) {
+				micronode.setSchemaContainerVersion(toVersion);
+			}
+
+			// Ensure the search index is updated accordingly
+			if (!draftMicronodes.isEmpty()) {
+				batch.add(contentDao.onUpdated(container, branchUuid, DRAFT));
+				if (draftIsPublished) {
+					batch.add(contentDao.onUpdated(container, branchUuid, PUBLISHED));
+				}
+			}
+			if (!publishedMicronodes.isEmpty()) {
+				batch.add(contentDao.onUpdated(published, branchUuid, PUBLISHED));
+			}
+			inPlaceCounter.increment();
+		} catch (Exception e) {
+			log.error("Error while updating container {" + containerUuid + "} during micronode migration.", e);
+			errorsDetected.add(e);
+		}
+	}
+
+	/**
+	 * Check whether any of the micronodes is used by a draft or published container of another branch.
+	 *
+	 * @param micronodes
+	 * @param branchUuid
+	 * @return
+	 */
+	private boolean isUsedInOtherBranch(List<HibMicronode> micronodes, String branchUuid) {
+		ContentDao contentDao = Tx.get().contentDao();
+		for (HibMicronode micronode : micronodes) {
+			for (HibNodeFieldContainer container : micronode.getContainers()) {
+				for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+					for (String uuid : contentDao.getBranches(container, type)) {
+						if (!uuid.equals(branchUuid)) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the micronodes of the container (in micronode fields and micronode list fields) which use the given microschema version.
+	 *
+	 * @param container
+	 * @param version
+	 * @return
+	 */
+	private List<HibMicronode> getMicronodes(HibNodeFieldContainer container, HibMicroschemaVersion version) {
+		ContentDao contentDao = Tx.get().contentDao();
+		List<HibMicronode> micronodes = new ArrayList<>();
+		for (HibMicronodeField field : contentDao.getMicronodeFields(container)) {
+			HibMicronode micronode = field.getMicronode();
+			if (micronode.getSchemaContainerVersion().equals(version)) {
+				micronodes.add(micronode);
+			}
+		}
+		for (HibMicronodeFieldList listField : contentDao.getMicronodeListFields(container)) {
+			for (HibMicronodeField field : listField.getList()) {
+				HibMicronode micronode = field.getMicronode();
+				if (micronode.getSchemaContainerVersion().equals(version)) {
+					micronodes.add(micronode);
+				}
+			}
+		}
+		return micronodes;
+	}
+
+	/**
+	 * Check whether the changes of the given version to the next version are compatible with the existing micronodes. This is the case, if fields are only
+	 * added without being required, or if only the label or the index settings of a field change. Other changes, like removing, renaming, changing the type
+	 * or changing the constraints of a field, could make the existing micronodes invalid and need the full migration.
+	 *
+	 * @param fromVersion
+	 * @return
+	 */
+	private boolean isCompatible(HibMicroschemaVersion fromVersion) {
+		HibSchemaChange<?> change = fromVersion.getNextChange();
+		while (change != null) {
+			if (change instanceof HibAddFieldChange) {
+				if (Boolean.TRUE.equals(((HibAddFieldChange) change).getRequired())) {
+					return false;
+				}
+			} else if (change instanceof HibUpdateFieldChange) {
+				if (!COMPATIBLE_FIELD_PROPERTIES.containsAll(change.getRestProperties().keySet())) {
+					return false;
+				}
+			} else if (!(change instanceof HibUpdateMicroschemaChange)) {
+				return false;
+			}
+			change = change.getNextChange();
+		}
+		return true;
+	}
+
 	private void cloneUntouchedFieldsAndMigrate(NodeMigrationActionContextImpl ac, HibMicronodeField oldField, HibMicronode oldMicronode, HibMicronode newMicronode, Set<String> touchedFields, HibMicroschemaVersion fromVersion) throws Exception {
 		// clone untouched fields
 		for (HibField micronodeField : oldMicronode.getFields()) {
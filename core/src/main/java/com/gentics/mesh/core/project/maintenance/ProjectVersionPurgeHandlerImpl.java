@@ -1,6 +1,10 @@
 package com.gentics.mesh.core.project.maintenance;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -20,10 +24,17 @@ import com.gentics.mesh.util.DateUtils;
 import com.google.common.collect.Lists;
 
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
+ * The uuids of the nodes are collected and sorted first, the nodes are then processed in partitions of {@link MeshOptions#getVersionPurgePartitionSize()}
+ * nodes. Each partition is purged in its own transaction, up to {@link MeshOptions#getVersionPurgeWorkers()} partitions are purged in parallel. The version
+ * chains are traversed iteratively, so that deep version histories do not exhaust the stack. Purging a node twice is harmless, thus a purge which was
+ * interrupted before its progress was stored can just be continued.
+ *
  * @see ProjectVersionPurgeHandler
  */
 @Singleton
@@ -45,45 +56,98 @@ public class ProjectVersionPurgeHandlerImpl implements ProjectVersionPurgeHandle
 	}
 
 	@Override
-	public Completable purgeVersions(HibProject project, ZonedDateTime maxAge) {
-		return Completable.fromAction(() -> {
-			db.tx(tx -> {
-				BulkActionContext bac = bulkProvider.get();
-				for (HibNode node : tx.nodeDao().findAll(project)) {
-					purgeNode(tx, node, maxAge, bac);
+	public Completable purgeVersions(HibProject project, ZonedDateTime maxAge, String afterNodeUuid, ProgressListener listener) {
+		return Completable.defer(() -> {
+			String projectUuid = db.tx(project::getUuid);
+			List<String> uuids = collectNodeUuids(projectUuid);
+			int start = 0;
+			if (afterNodeUuid != null) {
+				int index = Collections.binarySearch(uuids, afterNodeUuid);
+				start = index >= 0 ? index + 1 : -index - 1;
+				log.info("Resuming version purge of project {" + projectUuid + "} after node {" + afterNodeUuid + "}, " + start + " of " + uuids.size()
+					+ " nodes have already been processed.");
+			}
+			int partitionSize = meshOptions.getVersionPurgePartitionSize();
+			int partitionCount = (uuids.size() - start + partitionSize - 1) / partitionSize;
+			Progress progress = new Progress(uuids, start, partitionSize, partitionCount, listener);
+			int offset = start;
+			return Flowable.range(0, partitionCount)
+				.flatMapCompletable(partition -> Completable.fromAction(() -> {
+					int from = offset + partition * partitionSize;
+					List<String> partitionUuids = uuids.subList(from, Math.min(from + partitionSize, uuids.size()));
+					long purged = purgePartition(projectUuid, partitionUuids, maxAge);
+					progress.partitionCompleted(partition, purged);
+				}).subscribeOn(Schedulers.io()), false, meshOptions.getVersionPurgeWorkers());
+		});
+	}
+
+	/**
+	 * Collect the sorted uuids of all nodes of the project.
+	 */
+	private List<String> collectNodeUuids(String projectUuid) {
+		return db.tx(tx -> {
+			HibProject project = tx.projectDao().findByUuid(projectUuid);
+			List<String> uuids = new ArrayList<>();
+			for (HibNode node : tx.nodeDao().findAll(project)) {
+				uuids.add(node.getUuid());
+			}
+			Collections.sort(uuids);
+			return uuids;
+		});
+	}
+
+	/**
+	 * Purge the versions of the nodes of the partition in a single transaction.
+	 * 
+	 * @return Amount of purged versions
+	 */
+	private long purgePartition(String projectUuid, List<String> partitionUuids, ZonedDateTime maxAge) {
+		return db.tx(tx -> {
+			HibProject project = tx.projectDao().findByUuid(projectUuid);
+			BulkActionContext bac = bulkProvider.get();
+			PurgeCounter counter = new PurgeCounter();
+			for (String uuid : partitionUuids) {
+				HibNode node = tx.nodeDao().findByUuid(project, uuid);
+				// The node may have been deleted since the uuids were collected
+				if (node != null) {
+					purgeNode(tx, node, maxAge, bac, counter);
 				}
-				bac.process(true);
-			});
+			}
+			bac.process(true);
+			return counter.purged;
 		});
 	}
 
-	private void purgeNode(Tx tx, HibNode node, ZonedDateTime maxAge, BulkActionContext bac) {
-		Iterable<? extends HibNodeFieldContainer> initials = tx.contentDao().getFieldContainers(node, ContainerType.INITIAL);
+	private void purgeNode(Tx tx, HibNode node, ZonedDateTime maxAge, BulkActionContext bac, PurgeCounter counter) {
+		List<HibNodeFieldContainer> initials = Lists.newArrayList(tx.contentDao().getFieldContainers(node, ContainerType.INITIAL));
 		for (HibNodeFieldContainer initial : initials) {
-			Long counter = 0L;
-			purgeVersion(tx, counter, bac, initial, initial, false, maxAge);
+			Deque<PurgeStep> steps = new ArrayDeque<>();
+			steps.push(new PurgeStep(initial, initial, false));
+			while (!steps.isEmpty()) {
+				purgeVersion(tx, counter, bac, steps.pop(), maxAge, steps);
+			}
 		}
 	}
 
 	/**
-	 * Invoke the purge action on the given container.
+	 * Invoke the purge action on the container of the given step and add the steps for the next versions.
 	 * 
 	 * @param tx
-	 * @param txCounter
+	 * @param counter
 	 * @param bac
 	 *            Action context for the removal operation
-	 * @param lastRemaining
-	 *            Previous version which remained
-	 * @param version
-	 *            Current version to be checked for removal
-	 * @param previousRemoved
-	 *            Flag which indicated whether the previous version has been removed
+	 * @param step
+	 *            Step which contains the version to be checked for removal
 	 * @param maxAge
+	 * @param steps
+	 *            Steps which still need to be processed
 	 */
-	private void purgeVersion(Tx tx, Long txCounter, BulkActionContext bac, HibNodeFieldContainer lastRemaining, HibNodeFieldContainer version,
-		boolean previousRemoved, ZonedDateTime maxAge) {
-
+	private void purgeVersion(Tx tx, PurgeCounter counter, BulkActionContext bac, PurgeStep step, ZonedDateTime maxAge, Deque<PurgeStep> steps) {
 		ContentDao contentDao = tx.contentDao();
+		HibNodeFieldContainer version = step.version;
+		HibNodeFieldContainer lastRemaining = step.lastRemaining;
+		boolean previousRemoved = step.previousRemoved;
+
 		// We need to load some information first since we may remove the version in this step
 		List<HibNodeFieldContainer> nextVersions = Lists.newArrayList(contentDao.getNextVersions(version));
 		boolean isNewerThanMaxAge = maxAge != null && !isOlderThanMaxAge(version, maxAge);
@@ -94,7 +158,8 @@ public class ProjectVersionPurgeHandlerImpl implements ProjectVersionPurgeHandle
 			// Delete this version - This will also take care of removing the version references
 			contentDao.delete(version, bac, false);
 			previousRemoved = true;
-			txCounter++;
+			counter.changes++;
+			counter.purged++;
 		} else {
 			// We found a version which is not removable. So link it to the last remaining.
 			if (previousRemoved) {
@@ -102,11 +167,13 @@ public class ProjectVersionPurgeHandlerImpl implements ProjectVersionPurgeHandle
 					+ version.getVersion());
 				// We only need to link to the previous version if it has been removed in an earlier step
 				contentDao.setNextVersion(lastRemaining, version);
-				txCounter++;
+				counter.changes++;
 			}
-			if (txCounter % meshOptions.getVersionPurgeMaxBatchSize() == 0 && txCounter != 0) {
-				log.info("Committing batch - Elements handled {" + txCounter + "}");
+			// Only commit when the chain is consistent, which is the case after a version was kept
+			if (counter.changes - counter.committed >= meshOptions.getVersionPurgeMaxBatchSize()) {
+				log.info("Committing batch - Elements handled {" + counter.changes + "}");
 				tx.commit();
+				counter.committed = counter.changes;
 			}
 			// Update the reference since this version is now the last remaining because it was not removed
 			lastRemaining = version;
@@ -117,11 +184,10 @@ public class ProjectVersionPurgeHandlerImpl implements ProjectVersionPurgeHandle
 		if (isNewerThanMaxAge) {
 			// We can stop traversing the tree at this point.
 			return;
-		} else {
-			// Continue with next versions
-			for (HibNodeFieldContainer next : nextVersions) {
-				purgeVersion(tx, txCounter, bac, lastRemaining, next, previousRemoved, maxAge);
-			}
+		}
+		// Continue with next versions, in reverse order so that they are processed in their original order
+		for (HibNodeFieldContainer next : Lists.reverse(nextVersions)) {
+			steps.push(new PurgeStep(lastRemaining, next, previousRemoved));
 		}
 	}
 
@@ -137,4 +203,74 @@ public class ProjectVersionPurgeHandlerImpl implements ProjectVersionPurgeHandle
 		return true;
 	}
 
+	/**
+	 * Version which needs to be checked, together with the state of the traversal of its version chain.
+	 */
+	private static class PurgeStep {
+
+		private final HibNodeFieldContainer lastRemaining;
+
+		private final HibNodeFieldContainer version;
+
+		private final boolean previousRemoved;
+
+		PurgeStep(HibNodeFieldContainer lastRemaining, HibNodeFieldContainer version, boolean previousRemoved) {
+			this.lastRemaining = lastRemaining;
+			this.version = version;
+			this.previousRemoved = previousRemoved;
+		}
+	}
+
+	/**
+	 * Counter for the changes of the transaction of a partition.
+	 */
+	private static class PurgeCounter {
+
+		private long changes;
+
+		private long committed;
+
+		private long purged;
+	}
+
+	/**
+	 * Progress of a purge operation. Partitions may be completed out of order when they are purged in parallel, so the reported last node is the last node of
+	 * the partition up to which all partitions have been completed.
+	 */
+	private static class Progress {
+
+		private final List<String> uuids;
+
+		private final int start;
+
+		private final int partitionSize;
+
+		private final boolean[] completed;
+
+		private final ProgressListener listener;
+
+		private int completedPartitions;
+
+		private long purged;
+
+		Progress(List<String> uuids, int start, int partitionSize, int partitionCount, ProgressListener listener) {
+			this.uuids = uuids;
+			this.start = start;
+			this.partitionSize = partitionSize;
+			this.completed = new boolean[partitionCount];
+			this.listener = listener;
+		}
+
+		synchronized void partitionCompleted(int partition, long purgedVersions) {
+			completed[partition] = true;
+			purged += purgedVersions;
+			while (completedPartitions < completed.length && completed[completedPartitions]) {
+				completedPartitions++;
+			}
+			int completedNodes = Math.min(start + completedPartitions * partitionSize, uuids.size());
+			String lastNodeUuid = completedNodes == 0 ? null : uuids.get(completedNodes - 1);
+			log.info("Purged versions of " + completedNodes + " of " + uuids.size() + " nodes, " + purged + " versions have been purged.");
+			listener.onProgress(uuids.size(), completedNodes, purged, lastNodeUuid);
+		}
+	}
 }
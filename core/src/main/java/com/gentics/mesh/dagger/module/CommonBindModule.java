@@ -7,6 +7,12 @@ import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.auth.oauth2.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.cache.CacheCollection;
 import com.gentics.mesh.cache.CacheCollectionImpl;
+import com.gentics.mesh.cache.LinkCache;
+import com.gentics.mesh.cache.LinkCacheImpl;
+import com.gentics.mesh.cache.LinkContentCache;
+import com.gentics.mesh.cache.LinkContentCacheImpl;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NavigationCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
@@ -147,6 +153,15 @@ public abstract class CommonBindModule {
 	@Binds
 	abstract WebrootPathCache bindWebrootPathCache(WebrootPathCacheImpl e);
 
+	@Binds
+	abstract NavigationCache bindNavigationCache(NavigationCacheImpl e);
+
+	@Binds
+	abstract LinkCache bindLinkCache(LinkCacheImpl e);
+
+	@Binds
+	abstract LinkContentCache bindLinkContentCache(LinkContentCacheImpl e);
+
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
@@ -14,6 +14,7 @@ import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.PluginsProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.StatusProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.SystemInfoProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.ThreadDumpProvider;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.TxConflictsProvider;
 
 import dagger.Binds;
 import dagger.Module;
@@ -76,4 +77,8 @@ public abstract class DebugInfoProviderModule {
 	@Binds
 	@IntoSet
 	public abstract DebugInfoProvider localConfigProvider(LocalConfigProvider provider);
+
+	@Binds
+	@IntoSet
+	public abstract DebugInfoProvider txConflictsProvider(TxConflictsProvider provider);
 }
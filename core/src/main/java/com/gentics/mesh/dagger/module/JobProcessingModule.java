@@ -5,6 +5,8 @@ import com.gentics.mesh.core.jobs.JobProcessor;
 import com.gentics.mesh.core.jobs.JobProcessorImpl;
 import com.gentics.mesh.core.jobs.MicronodeJobProcessor;
 import com.gentics.mesh.core.jobs.NodeJobProcessor;
+import com.gentics.mesh.core.jobs.NodePublishJobProcessor;
+import com.gentics.mesh.core.jobs.PermissionJobProcessor;
 import com.gentics.mesh.core.jobs.SingleJobProcessor;
 import com.gentics.mesh.core.jobs.VersionPurgeJobProcessor;
 import com.gentics.mesh.core.rest.job.JobType;
@@ -37,4 +39,19 @@ public abstract class JobProcessingModule {
 	@IntoMap
 	@JobTypeKey(JobType.versionpurge)
 	abstract SingleJobProcessor versionPurgeJobProcessor(VersionPurgeJobProcessor e);
+
+	@Binds
+	@IntoMap
+	@JobTypeKey(JobType.publish)
+	abstract SingleJobProcessor publishJobProcessor(NodePublishJobProcessor e);
+
+	@Binds
+	@IntoMap
+	@JobTypeKey(JobType.unpublish)
+	abstract SingleJobProcessor unpublishJobProcessor(NodePublishJobProcessor e);
+
+	@Binds
+	@IntoMap
+	@JobTypeKey(JobType.permission)
+	abstract SingleJobProcessor permissionJobProcessor(PermissionJobProcessor e);
 }
@@ -10,15 +10,15 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
+import com.gentics.mesh.core.rest.event.MeshEventJsonObject;
+import com.gentics.mesh.core.rest.event.MeshEventMessageCodec;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
-import com.gentics.mesh.json.JsonUtil;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBus;
-import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -80,6 +80,9 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 	@Override
 	public void dispatch() {
 		EventBus eventbus = vertx.eventBus();
+		DeliveryOptions deliveryOptions = new DeliveryOptions()
+			.setCodecName(MeshEventMessageCodec.NAME)
+			.addHeader(SENDER_HEADER, options.getNodeName());
 		// TODO buffer event dispatching?
 		getEntries().forEach(entry -> {
 			entry.setCause(getCause());
@@ -87,12 +90,11 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
+			MeshEventJsonObject body = new MeshEventJsonObject(entry);
 			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				log.trace("Dispatching event '{}' with payload:\n{}", event, body.encodePrettily());
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json),
-					new DeliveryOptions().addHeader(SENDER_HEADER, options.getNodeName()));
+			eventbus.publish(event.getAddress(), body, deliveryOptions);
 		});
 		getEntries().clear();
 
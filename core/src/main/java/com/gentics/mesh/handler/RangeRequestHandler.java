@@ -1,6 +1,10 @@
 package com.gentics.mesh.handler;
 
+import java.util.function.BiFunction;
+
+import io.reactivex.Flowable;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.reactivex.core.buffer.Buffer;
 
 /**
  * Handler which will take care of a byte range request and return the 
@@ -37,4 +41,17 @@ public interface RangeRequestHandler {
 	 */
 	void handle(RoutingContext rc, String localPath, String contentType);
 
+	/**
+	 * Process the request for binary data which is not available as a local file. The reader will be invoked with the offset and the inclusive end of the
+	 * requested range and the returned data is streamed to the response.
+	 *
+	 * @param rc
+	 * @param size
+	 *            Size of the binary data
+	 * @param contentType
+	 * @param reader
+	 *            Function which reads the given range of the binary data
+	 */
+	void handle(RoutingContext rc, long size, String contentType, BiFunction<Long, Long, Flowable<Buffer>> reader);
+
 }
@@ -8,6 +8,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.REQUESTED_RANGE_NOT
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,15 +17,19 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.handler.RangeRequestHandler;
 
+import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.impl.LRUCache;
+import io.vertx.reactivex.FlowableHelper;
 import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.core.file.FileProps;
 
 /**
@@ -64,6 +69,53 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		}, context::fail);
 	}
 
+	@Override
+	public void handle(RoutingContext context, long size, String contentType, BiFunction<Long, Long, Flowable<Buffer>> reader) {
+		HttpServerRequest request = context.request();
+		HttpServerResponse response = context.response();
+
+		long[] requested;
+		try {
+			requested = parseRange(request.getHeader("Range"), size);
+		} catch (IndexOutOfBoundsException e) {
+			response.putHeader("Content-Range", "bytes */" + size);
+			context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
+			return;
+		}
+		long offset = requested == null ? 0 : requested[0];
+		// end byte is length - 1
+		long end = requested == null ? size - 1 : requested[1];
+
+		// notify client we support range requests
+		response.putHeader("Accept-Ranges", "bytes");
+		response.putHeader("Content-Length", Long.toString(end + 1 - offset));
+		setContentType(request, contentType);
+		if (requested != null) {
+			// must return content range
+			response.putHeader("Content-Range", "bytes " + offset + "-" + end + "/" + size);
+			// return a partial response
+			response.setStatusCode(PARTIAL_CONTENT.code());
+		}
+
+		if (request.method() == HttpMethod.HEAD || end < offset) {
+			response.end();
+			return;
+		}
+
+		// The pipe pauses the reading whenever the write queue of the response is full
+		Flowable<io.vertx.core.buffer.Buffer> data = reader.apply(offset, end).map(Buffer::getDelegate);
+		FlowableHelper.toReadStream(data).pipeTo(response, rh -> {
+			if (rh.failed()) {
+				if (response.headWritten()) {
+					log.error("Streaming of the range {" + offset + "-" + end + "} failed", rh.cause());
+					response.reset();
+				} else {
+					context.fail(rh.cause());
+				}
+			}
+		});
+	}
+
 	private void sendFile(RoutingContext context, String file, String contentType, FileProps fileProps) {
 		HttpServerRequest request = context.request();
 
@@ -77,31 +129,16 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		end = fileProps.size() - 1;
 
 		if (range != null) {
-			Matcher m = RANGE.matcher(range);
-			if (m.matches()) {
-				try {
-					String part = m.group(1);
-					// offset cannot be empty
-					offset = Long.parseLong(part);
-					// offset must fall inside the limits of the file
-					if (offset < 0 || offset >= fileProps.size()) {
-						throw new IndexOutOfBoundsException();
-					}
-					// length can be empty
-					part = m.group(2);
-					if (part != null && part.length() > 0) {
-						// ranges are inclusive
-						end = Math.min(end, Long.parseLong(part));
-						// end offset must not be smaller than start offset
-						if (end < offset) {
-							throw new IndexOutOfBoundsException();
-						}
-					}
-				} catch (NumberFormatException | IndexOutOfBoundsException e) {
-					context.response().putHeader("Content-Range", "bytes */" + fileProps.size());
-					context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
-					return;
+			try {
+				long[] requested = parseRange(range, fileProps.size());
+				if (requested != null) {
+					offset = requested[0];
+					end = requested[1];
 				}
+			} catch (IndexOutOfBoundsException e) {
+				context.response().putHeader("Content-Range", "bytes */" + fileProps.size());
+				context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
+				return;
 			}
 
 			// notify client we support range requests
@@ -116,13 +153,7 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 			return;
 		}
 
-		if (contentType != null) {
-			if (contentType.startsWith("text")) {
-				request.response().putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
-			} else {
-				request.response().putHeader("Content-Type", contentType);
-			}
-		}
+		setContentType(request, contentType);
 		if (offset != null) {
 			// must return content range
 			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + fileProps.size());
@@ -144,6 +175,60 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 
 	}
 
+	/**
+	 * Parse the given range header.
+	 *
+	 * @param range
+	 *            Value of the range header or null
+	 * @param size
+	 *            Size of the requested data
+	 * @return Offset and inclusive end of the requested range or null, if no valid range was requested
+	 * @throws IndexOutOfBoundsException
+	 *             if the range cannot be satisfied
+	 */
+	private long[] parseRange(String range, long size) {
+		if (range == null) {
+			return null;
+		}
+		Matcher m = RANGE.matcher(range);
+		if (!m.matches()) {
+			return null;
+		}
+		try {
+			String part = m.group(1);
+			// offset cannot be empty
+			long offset = Long.parseLong(part);
+			// offset must fall inside the limits of the file
+			if (offset < 0 || offset >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			long end = size - 1;
+			// length can be empty
+			part = m.group(2);
+			if (part != null && part.length() > 0) {
+				// ranges are inclusive
+				end = Math.min(end, Long.parseLong(part));
+				// end offset must not be smaller than start offset
+				if (end < offset) {
+					throw new IndexOutOfBoundsException();
+				}
+			}
+			return new long[] { offset, end };
+		} catch (NumberFormatException e) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	private void setContentType(HttpServerRequest request, String contentType) {
+		if (contentType != null) {
+			if (contentType.startsWith("text")) {
+				request.response().putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
+			} else {
+				request.response().putHeader("Content-Type", contentType);
+			}
+		}
+	}
+
 	private Single<FileProps> getFileProps(String file) {
 		// Check whether we can find the props in the cache
 		FileProps entry = propsCache().get(file);
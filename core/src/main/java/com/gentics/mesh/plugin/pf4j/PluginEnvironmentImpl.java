@@ -6,17 +6,24 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import com.gentics.mesh.RestAPIVersion;
+import com.gentics.mesh.auth.AuthenticationResult;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.data.user.MeshAuthUser;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.plugin.env.PluginEnvironment;
+import com.gentics.mesh.rest.MeshLocalClient;
+import com.gentics.mesh.rest.MeshLoopbackClient;
 import com.gentics.mesh.rest.client.MeshRestClient;
 import com.gentics.mesh.rest.client.MeshRestClientConfig;
 
 import dagger.Lazy;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import okhttp3.OkHttpClient;
 
 /**
@@ -36,19 +43,22 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 
 	private final OkHttpClient pluginOkHttpClient;
 
+	private final Lazy<MeshLocalClient> localClient;
+
 	private static final String WILDCARD_IP = "0.0.0.0";
 
 	private static final String LOOPBACK_IP = "127.0.0.1";
 
 	@Inject
 	public PluginEnvironmentImpl(Lazy<BootstrapInitializer> boot, Database db, Lazy<MeshJWTAuthProvider> authProvider, Lazy<Vertx> vertx,
-		MeshOptions options, @Named("pluginClient") OkHttpClient pluginOkHttpClient) {
+		MeshOptions options, @Named("pluginClient") OkHttpClient pluginOkHttpClient, Lazy<MeshLocalClient> localClient) {
 		this.boot = boot;
 		this.db = db;
 		this.authProvider = authProvider;
 		this.vertx = vertx;
 		this.options = options;
 		this.pluginOkHttpClient = pluginOkHttpClient;
+		this.localClient = localClient;
 	}
 
 	@Override
@@ -82,7 +92,7 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 			.build(), pluginOkHttpClient);
 
 		client.setAPIKey(adminToken());
-		return client;
+		return wrapClient(client);
 	}
 
 	@Override
@@ -99,7 +109,39 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 		if (token != null) {
 			client.setAPIKey(token);
 		}
-		return client;
+		return wrapClient(client);
+	}
+
+	/**
+	 * Wrap the HTTP client with the loopback client if the local transport is enabled.
+	 *
+	 * @param client
+	 * @return
+	 */
+	private MeshRestClient wrapClient(MeshRestClient client) {
+		if (!options.isPluginUseLocalTransport()) {
+			return client;
+		}
+		return MeshLoopbackClient.create(vertx.get(), localClient.get(), client, this::loadUser);
+	}
+
+	/**
+	 * Load the user for the given token. The token is validated in the same way as tokens of HTTP requests.
+	 *
+	 * @param token
+	 * @return User or null if the token is not valid or the user has been deactivated
+	 */
+	private MeshAuthUser loadUser(String token) {
+		Promise<AuthenticationResult> promise = Promise.promise();
+		authProvider.get().authenticateJWT(new JsonObject().put("token", token), promise);
+		Future<AuthenticationResult> future = promise.future();
+		if (future.succeeded() && future.result().getUser() instanceof MeshAuthUser) {
+			MeshAuthUser user = (MeshAuthUser) future.result().getUser();
+			if (db.tx(() -> user.getDelegate().isEnabled())) {
+				return user;
+			}
+		}
+		return null;
 	}
 
 	@Override
@@ -121,6 +121,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
 import com.gentics.mesh.core.rest.validation.SchemaValidationResponse;
 import com.gentics.mesh.parameter.BackupParameters;
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.ParameterProvider;
@@ -237,6 +238,16 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 		this.user = user;
 	}
 
+	@Override
+	public MeshLocalClient forUser(MeshAuthUser user) {
+		MeshLocalClientImpl client = new MeshLocalClientImpl(userCrudHandler, roleCrudHandler, groupCrudHandler, schemaCrudHandler, microschemaCrudHandler,
+			tagCrudHandler, tagFamilyCrudHandler, projectCrudHandler, nodeCrudHandler, fieldAPIHandler, s3fieldAPIHandler, s3BinaryMetadataExtractionHandler,
+			webrootHandler, webrootFieldHandler, adminHandler, adminIndexHandler, authRestHandler, utilityHandler, branchCrudHandler, pluginHandler, vertx,
+			boot);
+		client.setUser(user);
+		return client;
+	}
+
 	@Override
 	public MeshRequest<NodeResponse> findNodeByUuid(String projectName, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
@@ -256,6 +267,11 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<String> importNodes(String projectName, InputStream ndjson, ParameterProvider... parameters) {
+		return null;
+	}
+
 	@Override
 	public MeshRequest<NodeResponse> createNode(String projectName, NodeCreateRequest nodeCreateRequest, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
@@ -1671,11 +1687,21 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 		return null;
 	}
 
+	@Override
+	public MeshRequest<ConsistencyCheckResponse> checkConsistency(ConsistencyCheckParameters parameters) {
+		return null;
+	}
+
 	@Override
 	public MeshRequest<ConsistencyCheckResponse> repairConsistency() {
 		return null;
 	}
 
+	@Override
+	public MeshRequest<ConsistencyCheckResponse> repairConsistency(ConsistencyCheckParameters parameters) {
+		return null;
+	}
+
 	@Override
 	public MeshRequest<JobListResponse> findJobs(ParameterProvider... parameters) {
 		return null;
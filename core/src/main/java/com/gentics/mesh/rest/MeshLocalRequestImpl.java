@@ -27,6 +27,15 @@ public class MeshLocalRequestImpl<T> implements MeshRequest<T> {
 		this.future = future;
 	}
 
+	/**
+	 * Return the future which will be completed by the handler.
+	 *
+	 * @return
+	 */
+	public Future<T> getFuture() {
+		return future;
+	}
+
 	@Override
 	public Single<T> toSingle() {
 		return SingleHelper.toSingle(future::onComplete);
@@ -0,0 +1,155 @@
+package com.gentics.mesh.rest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.user.MeshAuthUser;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.rest.client.MeshRequest;
+import com.gentics.mesh.rest.client.MeshRestClient;
+import com.gentics.mesh.rest.client.impl.EmptyResponse;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * {@link MeshRestClient} which dispatches requests directly to the endpoint handlers of the same Mesh instance via the {@link MeshLocalClient}. The request
+ * and response models are passed without JSON serialization and without using a socket. The handlers are invoked with the user which is identified by the
+ * API key of the client, thus the same permissions apply. The API key is validated for every request, so that revoked keys and deactivated users are
+ * rejected in the same way as for HTTP requests.
+ *
+ * Requests which are not supported by the local client (e.g. GraphQL, binary downloads or requests with custom headers) are sent via the given HTTP client.
+ * Once the authentication is changed via login methods, all requests are sent via the HTTP client.
+ */
+public class MeshLoopbackClient implements InvocationHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(MeshLoopbackClient.class);
+
+	/**
+	 * Methods which change the authentication of the HTTP client in a way which can't be mirrored by the local client.
+	 */
+	private static final Set<String> AUTH_METHODS = Set.of("setLogin", "login", "logout", "setAuthenticationProvider");
+
+	private final Vertx vertx;
+
+	private final MeshLocalClient localClient;
+
+	private final MeshRestClient httpClient;
+
+	private final Function<String, MeshAuthUser> userLoader;
+
+	/**
+	 * API key which is used to determine the user of local requests or null if all requests are sent via HTTP.
+	 */
+	private volatile String apiKey;
+
+	private MeshLoopbackClient(Vertx vertx, MeshLocalClient localClient, MeshRestClient httpClient, Function<String, MeshAuthUser> userLoader) {
+		this.vertx = vertx;
+		this.localClient = localClient;
+		this.httpClient = httpClient;
+		this.userLoader = userLoader;
+	}
+
+	/**
+	 * Create a new loopback client.
+	 *
+	 * @param vertx
+	 * @param localClient
+	 *            Local client which is used as template for the user specific local client
+	 * @param httpClient
+	 *            HTTP client which is used for requests which can't be handled locally
+	 * @param userLoader
+	 *            Function which returns the user for the given API key or null if the key is not valid
+	 * @return
+	 */
+	public static MeshRestClient create(Vertx vertx, MeshLocalClient localClient, MeshRestClient httpClient, Function<String, MeshAuthUser> userLoader) {
+		MeshLoopbackClient handler = new MeshLoopbackClient(vertx, localClient, httpClient, userLoader);
+		handler.apiKey = httpClient.getAPIKey();
+		return (MeshRestClient) Proxy.newProxyInstance(MeshLoopbackClient.class.getClassLoader(), new Class<?>[] { MeshRestClient.class }, handler);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		if (method.getDeclaringClass() == Object.class) {
+			return invokeMethod(this, method, args);
+		}
+		if (AUTH_METHODS.contains(name)) {
+			apiKey = null;
+		}
+		String key = apiKey;
+		if (MeshRequest.class.equals(method.getReturnType()) && key != null && isLocalResponseType(method)) {
+			return new MeshLoopbackRequestImpl(vertx, name, EmptyResponse.class.equals(responseType(method)),
+				() -> {
+					MeshLocalClient client = clientForUser(key);
+					return client == null ? null : invokeMethod(client, method, args);
+				},
+				() -> invokeMethod(httpClient, method, args));
+		}
+		Object result = invokeMethod(httpClient, method, args);
+		if ("setAPIKey".equals(name)) {
+			apiKey = (String) args[0];
+		}
+		// Keep the proxy for fluent calls
+		return result == httpClient ? proxy : result;
+	}
+
+	/**
+	 * Return the local client for the user of the given API key. The key is validated on each call.
+	 *
+	 * @param apiKey
+	 * @return Local client or null if the key is not valid. The request is sent via HTTP in this case, which will return the error response.
+	 */
+	private MeshLocalClient clientForUser(String apiKey) {
+		MeshAuthUser user = userLoader.apply(apiKey);
+		if (user == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("No user could be determined for the API key of the client. The request will be sent via HTTP.");
+			}
+			return null;
+		}
+		return localClient.forUser(user);
+	}
+
+	/**
+	 * Check whether the response of the method can be passed locally. Binary and webroot responses wrap HTTP responses and are only supported via HTTP.
+	 */
+	private boolean isLocalResponseType(Method method) {
+		Type type = responseType(method);
+		return type instanceof Class && (RestModel.class.isAssignableFrom((Class<?>) type) || EmptyResponse.class.equals(type));
+	}
+
+	private Type responseType(Method method) {
+		Type returnType = method.getGenericReturnType();
+		if (returnType instanceof ParameterizedType) {
+			return ((ParameterizedType) returnType).getActualTypeArguments()[0];
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T invokeMethod(Object target, Method method, Object[] args) {
+		try {
+			return (T) method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
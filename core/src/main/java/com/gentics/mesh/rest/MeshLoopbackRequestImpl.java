@@ -0,0 +1,168 @@
+package com.gentics.mesh.rest;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.core.data.i18n.I18NUtil;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.rest.client.MeshRequest;
+import com.gentics.mesh.rest.client.MeshResponse;
+import com.gentics.mesh.rest.client.MeshRestClientMessageException;
+import com.gentics.mesh.rest.client.impl.EmptyResponse;
+import com.gentics.mesh.rest.client.impl.HttpMethod;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.reactivex.RxHelper;
+
+/**
+ * Request of the {@link MeshLoopbackClient}. The request is dispatched to the local client when it is executed. Requests which are not supported by the
+ * local client, requests with custom headers and requests for the full response are executed via HTTP instead.
+ *
+ * @param <T>
+ */
+public class MeshLoopbackRequestImpl<T> implements MeshRequest<T> {
+
+	private static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+	private final Vertx vertx;
+
+	private final String operation;
+
+	private final boolean emptyResponse;
+
+	private final Supplier<MeshRequest<T>> local;
+
+	private final Supplier<MeshRequest<T>> remote;
+
+	private final Map<String, String> headers = new HashMap<>();
+
+	/**
+	 * Create a new request.
+	 *
+	 * @param vertx
+	 * @param operation
+	 *            Name of the client method which is used in error messages
+	 * @param emptyResponse
+	 *            Whether the request returns an {@link EmptyResponse}
+	 * @param local
+	 *            Supplier for the local request. The supplier returns null when the local client does not support the request.
+	 * @param remote
+	 *            Supplier for the HTTP request
+	 */
+	public MeshLoopbackRequestImpl(Vertx vertx, String operation, boolean emptyResponse, Supplier<MeshRequest<T>> local,
+		Supplier<MeshRequest<T>> remote) {
+		this.vertx = vertx;
+		this.operation = operation;
+		this.emptyResponse = emptyResponse;
+		this.local = local;
+		this.remote = remote;
+	}
+
+	@Override
+	public Single<T> toSingle() {
+		return toMaybe().toSingle();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Maybe<T> toMaybe() {
+		if (!headers.isEmpty()) {
+			return remoteRequest().toMaybe();
+		}
+		Maybe<T> maybe = Maybe.defer(() -> {
+			MeshRequest<T> request = local.get();
+			if (!(request instanceof MeshLocalRequestImpl)) {
+				return remoteRequest().toMaybe();
+			}
+			return Maybe.<T>create(emitter -> {
+				((MeshLocalRequestImpl<T>) request).getFuture().onComplete(rh -> {
+					if (rh.failed()) {
+						emitter.onError(toClientException(rh.cause()));
+					} else if (rh.result() != null) {
+						emitter.onSuccess(rh.result());
+					} else if (emptyResponse) {
+						emitter.onSuccess((T) EmptyResponse.getInstance());
+					} else {
+						emitter.onComplete();
+					}
+				});
+			});
+		});
+		// The handlers access the graph synchronously and must not block the event loop
+		if (Context.isOnEventLoopThread()) {
+			maybe = maybe.subscribeOn(RxHelper.blockingScheduler(vertx, false));
+		}
+		return maybe;
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		headers.put(name, value);
+	}
+
+	@Override
+	public Single<MeshResponse<T>> getResponse() {
+		// Headers, status codes and cookies are only available for HTTP responses
+		return remoteRequest().getResponse();
+	}
+
+	private MeshRequest<T> remoteRequest() {
+		MeshRequest<T> request = remote.get();
+		request.setHeaders(headers);
+		return request;
+	}
+
+	/**
+	 * Convert the failure of the local request to the exception which the HTTP client would have thrown for the error response.
+	 *
+	 * @param failure
+	 * @return
+	 */
+	private Throwable toClientException(Throwable failure) {
+		Throwable error = failure;
+		while (error.getCause() != null && !(error instanceof AbstractRestException)) {
+			error = error.getCause();
+		}
+		HttpMethod method = guessMethod(operation);
+		String uri = "loopback:" + operation;
+		if (error instanceof AbstractRestException) {
+			AbstractRestException restError = (AbstractRestException) error;
+			try {
+				restError.setTranslatedMessage(I18NUtil.get(DEFAULT_LOCALE, restError.getI18nKey(), restError.getI18nParameters()));
+			} catch (MissingResourceException e) {
+				// Keep the untranslated message
+			}
+			HttpResponseStatus status = restError.getStatus();
+			GenericMessageResponse message = JsonUtil.readValue(JsonUtil.toJson(restError), GenericMessageResponse.class);
+			return new MeshRestClientMessageException(status.code(), status.reasonPhrase(), message, method, uri);
+		}
+		HttpResponseStatus status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
+		GenericMessageResponse message = new GenericMessageResponse(I18NUtil.get(DEFAULT_LOCALE, "error_internal"));
+		MeshRestClientMessageException clientError = new MeshRestClientMessageException(status.code(), status.reasonPhrase(), message, method, uri);
+		clientError.initCause(failure);
+		return clientError;
+	}
+
+	/**
+	 * Determine the HTTP method which corresponds to the client method. The method is only used for the error information.
+	 */
+	private static HttpMethod guessMethod(String operation) {
+		if (operation.startsWith("delete") || operation.startsWith("remove")) {
+			return HttpMethod.DELETE;
+		}
+		if (operation.startsWith("find") || operation.startsWith("get") || operation.startsWith("load") || operation.startsWith("list")
+			|| operation.startsWith("me") || operation.startsWith("webroot") || operation.startsWith("navroot")) {
+			return HttpMethod.GET;
+		}
+		return HttpMethod.POST;
+	}
+}
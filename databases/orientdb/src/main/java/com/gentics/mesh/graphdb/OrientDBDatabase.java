@@ -8,9 +8,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -41,6 +45,7 @@ import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterServerConfig;
 import com.gentics.mesh.core.rest.admin.cluster.ServerRole;
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.result.Result;
@@ -57,9 +62,11 @@ import com.gentics.mesh.graphdb.dagger.TransactionComponent;
 import com.gentics.mesh.graphdb.index.OrientDBIndexHandler;
 import com.gentics.mesh.graphdb.index.OrientDBTypeHandler;
 import com.gentics.mesh.graphdb.model.MeshElement;
+import com.gentics.mesh.graphdb.model.RecordRange;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
 import com.gentics.mesh.graphdb.spi.GraphStorage;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.graphdb.tx.TxConflictProfiler;
 import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
 import com.gentics.mesh.graphdb.tx.impl.OrientServerStorageImpl;
 import com.gentics.mesh.madl.frame.VertexFrame;
@@ -71,10 +78,16 @@ import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration.ROLES;
@@ -100,6 +113,7 @@ import com.tinkerpop.pipes.util.FastNoSuchElementException;
 import dagger.Lazy;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -133,6 +147,13 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private final TransactionComponent.Factory txFactory;
 
+	private final TxConflictProfiler conflictProfiler;
+
+	/**
+	 * Cache of the class names per cluster id which is used to resolve the class of conflicting records
+	 */
+	private final Map<Integer, String> clusterClassNames = new ConcurrentHashMap<>();
+
 	/**
 	 * Executor service for running the disk quota check
 	 */
@@ -170,7 +191,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 			OrientDBTypeHandler typeHandler, OrientDBIndexHandler indexHandler,
 			OrientDBClusterManagerImpl clusterManager, TxCleanupTask txCleanupTask,
 			Lazy<PermissionRoots> permissionRoots, WriteLock writeLock,
-			TransactionComponent.Factory txFactory, Mesh mesh
+			TransactionComponent.Factory txFactory, Mesh mesh, TxConflictProfiler conflictProfiler
 	) {
 		super(vertx, mesh, metrics);
 		this.options = options;
@@ -184,6 +205,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 		this.txCleanUpTask = txCleanupTask;
 		this.writeLock = writeLock;
 		this.txFactory = txFactory;
+		this.conflictProfiler = conflictProfiler;
 	}
 
 	@Override
@@ -352,6 +374,14 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return ret;
 	}
 
+	@Override
+	public long countVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues, Optional<String> maybeFilter) {
+		MeshOrientGraphVertexQuery query = new MeshOrientGraphVertexQuery(unwrapCurrentGraph(), classOfVertex);
+		query.hasAll(fieldNames, fieldValues);
+		query.filter(maybeFilter);
+		return query.count();
+	}
+
 	@Override
 	public Iterable<Vertex> getVerticesForRange(Class<?> classOfVertex, String indexPostfix, String[] fieldNames, Object[] fieldValues, String rangeKey, long start, long end) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -385,6 +415,43 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return fermaGraph.frameExplicit(rawIt, classOfVertex);
 	}
 
+	@Override
+	public List<RecordRange> getRecordRanges(Class<?> classOfVertex, long rangeSize) {
+		ODatabaseDocumentInternal rawDb = (ODatabaseDocumentInternal) unwrapCurrentGraph().getRawGraph();
+		OClass clazz = rawDb.getMetadata().getImmutableSchemaSnapshot().getClass(classOfVertex.getSimpleName());
+		List<RecordRange> ranges = new ArrayList<>();
+		if (clazz == null) {
+			return ranges;
+		}
+		int[] clusterIds = clazz.getPolymorphicClusterIds().clone();
+		Arrays.sort(clusterIds);
+		for (int clusterId : clusterIds) {
+			long[] dataRange = rawDb.getStorage().getClusterDataRange(clusterId);
+			long first = dataRange[0];
+			long last = dataRange[1];
+			// Empty clusters report negative positions
+			if (first < 0 || last < 0) {
+				continue;
+			}
+			for (long from = first; from <= last; from += rangeSize) {
+				ranges.add(new RecordRange(clusterId, from, Math.min(from + rangeSize - 1, last)));
+			}
+		}
+		return ranges;
+	}
+
+	@Override
+	public <T extends HibElement> Iterator<? extends T> getElementsForRange(Class<T> classOfVertex, RecordRange range) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		FramedGraph fermaGraph = GraphDBTx.getGraphTx().getGraph();
+		ODatabaseDocumentInternal rawDb = (ODatabaseDocumentInternal) orientBaseGraph.getRawGraph();
+		ORecordIteratorCluster<ODocument> records = new ORecordIteratorCluster<>(rawDb, range.getClusterId(), range.getFrom(), range.getTo());
+		Iterator<Vertex> rawIt = toStream((Iterator<ODocument>) records)
+			.map(doc -> (Vertex) new OrientVertex(orientBaseGraph, doc))
+			.iterator();
+		return fermaGraph.frameExplicit(rawIt, classOfVertex);
+	}
+
 	/**
 	 * Unwrap the current thread local graph.
 	 *
@@ -499,6 +566,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 		int maxRetry = options.getStorageOptions().getTxRetryLimit();
 		Throwable cause = null;
 		Optional<EventQueueBatch> maybeBatch = Optional.empty();
+		// Nested transactions are committed by the outer transaction, which also records the conflicts
+		boolean wrapped = GraphDBTx.getGraphTx() != null;
 		for (int retry = 0; retry < maxRetry; retry++) {
 			Timer.Sample sample = Timer.start();
 			// Check the status to prevent transactions during shutdown
@@ -519,8 +588,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int delay = options.getStorageOptions().getTxRetryDelay();
-				if (retry > 0 && delay > 0) {
+				if (e instanceof ONeedRetryException && !wrapped) {
+					recordConflict((ONeedRetryException) e);
+				}
+				long delay = conflictProfiler.backoffDelay(retry);
+				if (delay > 0) {
 					try {
 						Thread.sleep(delay);
 					} catch (InterruptedException e1) {
@@ -556,6 +628,10 @@ public class OrientDBDatabase extends AbstractDatabase {
 				}
 			}
 			if (handlerFinished) {
+				// The transaction has been committed when the resource block was closed without an exception
+				if (!wrapped) {
+					conflictProfiler.recordSuccess();
+				}
 				maybeBatch.ifPresent(EventQueueBatch::dispatch);
 				return handlerResult;
 			}
@@ -563,6 +639,40 @@ public class OrientDBDatabase extends AbstractDatabase {
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded", cause);
 	}
 
+	/**
+	 * Record the conflict in the profiler. The class of the conflicting record is resolved via the cluster of the record.
+	 *
+	 * @param e
+	 */
+	private void recordConflict(ONeedRetryException e) {
+		ORID rid = e instanceof OConcurrentModificationException ? ((OConcurrentModificationException) e).getRid() : null;
+		if (rid == null) {
+			conflictProfiler.recordConflict(null, null);
+			return;
+		}
+		String className = null;
+		try {
+			className = clusterClassNames.computeIfAbsent(rid.getClusterId(), clusterId -> {
+				OrientGraphNoTx noTx = txProvider.rawNoTx();
+				try {
+					OClass clazz = ((ODatabaseDocumentInternal) noTx.getRawGraph()).getMetadata().getImmutableSchemaSnapshot()
+						.getClassByClusterId(clusterId);
+					return clazz == null ? null : clazz.getName();
+				} finally {
+					noTx.shutdown();
+				}
+			});
+		} catch (Exception e1) {
+			log.debug("Could not resolve the class of record {" + rid + "}", e1);
+		}
+		conflictProfiler.recordConflict(className, rid.toString());
+	}
+
+	@Override
+	public JsonObject getTxConflictStatistics() {
+		return conflictProfiler.getStatistics();
+	}
+
 	@Override
 	public String backupDatabase(String backupDirectory) throws IOException {
 		return txProvider.backup(backupDirectory);
@@ -573,6 +683,21 @@ public class OrientDBDatabase extends AbstractDatabase {
 		txProvider.restore(backupFile);
 	}
 
+	@Override
+	public String incrementalBackupDatabase(String backupDirectory) throws IOException {
+		return txProvider.incrementalBackup(backupDirectory);
+	}
+
+	@Override
+	public void restoreIncrementalDatabase(String chainDirectory) throws IOException {
+		txProvider.restoreIncremental(chainDirectory);
+	}
+
+	@Override
+	public ConsistencyCheckResponse verifyBackup(String chainDirectory) throws IOException {
+		return txProvider.verifyBackup(chainDirectory);
+	}
+
 	@Override
 	public void exportDatabase(String outputDirectory) throws IOException {
 		txProvider.exportGraph(outputDirectory);
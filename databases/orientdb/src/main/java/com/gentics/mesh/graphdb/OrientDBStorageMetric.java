@@ -14,7 +14,17 @@ public enum OrientDBStorageMetric implements Metric {
 	/**
 	 * Usable disk space
 	 */
-	DISK_USABLE("storage_disk_usable", "Usable disk space for OrientDB storage.");
+	DISK_USABLE("storage_disk_usable", "Usable disk space for OrientDB storage."),
+
+	/**
+	 * Transaction conflicts per element class
+	 */
+	TX_CONFLICT("tx_conflict", "Amount of transaction conflicts per element class. The class is given by the tag `class`."),
+
+	/**
+	 * Transaction retry backoff
+	 */
+	TX_RETRY_BACKOFF("tx_retry_backoff", "Delay in milliseconds before a conflicting transaction is retried.");
 
 	private String key;
 
@@ -2,43 +2,103 @@ package com.gentics.mesh.graphdb;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementRegistry;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Cache for classes which were annotated with {@link GraphElement}.
  */
 public class SimpleReflectionCache extends Reflections {
 
+	private static final Logger log = LoggerFactory.getLogger(SimpleReflectionCache.class);
+
 	private final Map<String, Set<String>> hierarchy;
 	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
 
 	/**
 	 * Mapping for class FQN to actual class reference.
 	 */
-	private final Map<String, Class> classStringCache = new HashMap<>();
+	private final Map<String, Class> classStringCache = new ConcurrentHashMap<>();
+
+	private final String[] basePaths;
+
+	/**
+	 * Flag which indicates whether the packages have been scanned, because a class was not contained in the registry.
+	 */
+	private volatile boolean scanned = false;
 
 	public SimpleReflectionCache() {
 		super();
 		this.hierarchy = new HashMap<>();
+		this.basePaths = new String[0];
 	}
 
+	/**
+	 * Create the cache for the graph element classes of the given packages. The classes are loaded from the {@link GraphElementRegistry}. Packages which are
+	 * not covered by the registry (e.g. because the module was compiled without the annotation processor) will be scanned. The registry may also be
+	 * incomplete (e.g. after an incremental build), thus all packages will be scanned once a class is requested which is not contained in the registry.
+	 *
+	 * @param basePaths
+	 */
 	public SimpleReflectionCache(String... basePaths) {
-		this();
+		super();
+		this.hierarchy = new HashMap<>();
+		this.basePaths = basePaths;
+		GraphElementRegistry registry = GraphElementRegistry.getInstance();
 		for (String basePath : basePaths) {
-			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
+			Collection<Class<?>> graphTypeClasses;
+			if (registry.covers(basePath)) {
+				try {
+					graphTypeClasses = registry.loadClasses(basePath, SimpleReflectionCache.class.getClassLoader());
+				} catch (IllegalStateException e) {
+					log.warn("The graph element registry is outdated for package {" + basePath + "}. Falling back to classpath scanning.", e);
+					graphTypeClasses = scan(basePath);
+				}
+			} else {
+				log.warn("The graph element registry does not contain classes for package {" + basePath + "}. Falling back to classpath scanning.");
+				graphTypeClasses = scan(basePath);
+			}
 			for (Class<?> clazz : graphTypeClasses) {
 				classStringCache.put(clazz.getSimpleName(), clazz);
 			}
 		}
 	}
 
+	private static Collection<Class<?>> scan(String basePath) {
+		return new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
+	}
+
+	/**
+	 * Scan all packages for graph element classes which are missing in the registry. The packages are only scanned once.
+	 *
+	 * @param className
+	 *            Name of the class which was not found
+	 */
+	private synchronized void scanMissing(String className) {
+		if (scanned) {
+			return;
+		}
+		log.warn("The class {" + className + "} is not contained in the graph element registry. Falling back to classpath scanning.");
+		for (String basePath : basePaths) {
+			for (Class<?> clazz : scan(basePath)) {
+				classStringCache.putIfAbsent(clazz.getSimpleName(), clazz);
+			}
+		}
+		scanned = true;
+	}
+
 	/**
 	 * Return the set of sub types for the given class.
 	 * 
@@ -98,7 +158,12 @@ public class SimpleReflectionCache extends Reflections {
 	 * @return
 	 */
 	public Class<?> forName(final String className) {
-		return this.classStringCache.get(className);
+		Class<?> clazz = this.classStringCache.get(className);
+		if (clazz == null && !scanned && basePaths.length > 0) {
+			scanMissing(className);
+			clazz = this.classStringCache.get(className);
+		}
+		return clazz;
 	}
 
 }
@@ -0,0 +1,311 @@
+package com.gentics.mesh.graphdb.backup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Chain of incremental backups. Each chain is stored in a dedicated directory which contains the incremental backup files of the graph database and a
+ * manifest. The first backup of a chain contains the full database, every following backup only contains the changes since the previous backup of the chain.
+ * Restoring a chain will replay all backups of the chain in order.
+ */
+public class BackupChain {
+
+	/**
+	 * Name of the directory within the backup directory which contains the chains.
+	 */
+	public static final String CHAINS_DIRECTORY = "incremental";
+
+	public static final String MANIFEST_FILE = "manifest.json";
+
+	public static final String TYPE_FULL = "full";
+
+	public static final String TYPE_INCREMENTAL = "incremental";
+
+	private static final String CHAIN_PREFIX = "chain_";
+
+	private final File directory;
+
+	private final JsonObject manifest;
+
+	private BackupChain(File directory, JsonObject manifest) {
+		this.directory = directory;
+		this.manifest = manifest;
+	}
+
+	/**
+	 * Return the chain which should be used for the next backup. A new chain will be created when no chain exists or when the latest chain already contains
+	 * the maximum amount of incremental backups.
+	 *
+	 * @param backupDirectory
+	 * @param maxLength
+	 *            Maximum amount of incremental backups which follow the full backup of a chain
+	 * @return
+	 * @throws IOException
+	 */
+	public static BackupChain current(File backupDirectory, int maxLength) throws IOException {
+		BackupChain latest = latest(backupDirectory);
+		if (latest == null || latest.size() > maxLength) {
+			return create(backupDirectory);
+		}
+		return latest;
+	}
+
+	/**
+	 * Return the latest chain.
+	 *
+	 * @param backupDirectory
+	 * @return Chain or null if no chain exists
+	 * @throws IOException
+	 */
+	public static BackupChain latest(File backupDirectory) throws IOException {
+		List<BackupChain> chains = list(backupDirectory);
+		return chains.isEmpty() ? null : chains.get(chains.size() - 1);
+	}
+
+	/**
+	 * Load the chain from the given directory.
+	 *
+	 * @param chainDirectory
+	 * @return
+	 * @throws IOException
+	 */
+	public static BackupChain load(File chainDirectory) throws IOException {
+		File manifestFile = new File(chainDirectory, MANIFEST_FILE);
+		if (!manifestFile.exists()) {
+			throw new IOException("The directory {" + chainDirectory.getAbsolutePath() + "} does not contain a backup chain manifest.");
+		}
+		JsonObject manifest = new JsonObject(FileUtils.readFileToString(manifestFile, StandardCharsets.UTF_8));
+		return new BackupChain(chainDirectory, manifest);
+	}
+
+	/**
+	 * List all chains which contain at least one backup, ordered by creation.
+	 *
+	 * @param backupDirectory
+	 * @return
+	 * @throws IOException
+	 */
+	public static List<BackupChain> list(File backupDirectory) throws IOException {
+		File[] dirs = new File(backupDirectory, CHAINS_DIRECTORY).listFiles(file -> file.isDirectory() && file.getName().startsWith(CHAIN_PREFIX)
+			&& new File(file, MANIFEST_FILE).exists());
+		List<BackupChain> chains = new ArrayList<>();
+		if (dirs == null) {
+			return chains;
+		}
+		for (File dir : dirs) {
+			BackupChain chain = load(dir);
+			if (chain.size() > 0) {
+				chains.add(chain);
+			}
+		}
+		chains.sort(Comparator.comparingLong(BackupChain::getCreated));
+		return chains;
+	}
+
+	/**
+	 * Create a new empty chain.
+	 *
+	 * @param backupDirectory
+	 * @return
+	 * @throws IOException
+	 */
+	public static BackupChain create(File backupDirectory) throws IOException {
+		SimpleDateFormat formatter = new SimpleDateFormat("dd-MM-yyyy_HH-mm-ss-SSS");
+		long now = System.currentTimeMillis();
+		File dir = new File(new File(backupDirectory, CHAINS_DIRECTORY), CHAIN_PREFIX + formatter.format(new Date(now)));
+		// Chain directories must be unique since the creation timestamp determines the order of the chains
+		while (dir.exists()) {
+			now++;
+			dir = new File(dir.getParentFile(), CHAIN_PREFIX + formatter.format(new Date(now)));
+		}
+		FileUtils.forceMkdir(dir);
+		BackupChain chain = new BackupChain(dir, new JsonObject().put("created", now).put("backups", new JsonArray()));
+		chain.save();
+		return chain;
+	}
+
+	/**
+	 * Return the directory of the chain.
+	 *
+	 * @return
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Return the creation timestamp of the chain.
+	 *
+	 * @return
+	 */
+	public long getCreated() {
+		return manifest.getLong("created", 0L);
+	}
+
+	/**
+	 * Return the amount of backups in the chain.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return backups().size();
+	}
+
+	/**
+	 * Return the timestamp of the latest backup of the chain.
+	 *
+	 * @return Timestamp or 0 if the chain is empty
+	 */
+	public long getLastModified() {
+		JsonObject last = getLast();
+		return last == null ? 0L : last.getLong("timestamp", 0L);
+	}
+
+	/**
+	 * Return the manifest entry of the latest backup.
+	 *
+	 * @return Entry or null if the chain is empty
+	 */
+	public JsonObject getLast() {
+		JsonArray backups = backups();
+		return backups.isEmpty() ? null : backups.getJsonObject(backups.size() - 1);
+	}
+
+	/**
+	 * Return the backup files of the chain in the order in which they need to be applied.
+	 *
+	 * @return
+	 */
+	public List<File> getFiles() {
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < backups().size(); i++) {
+			files.add(new File(directory, backups().getJsonObject(i).getString("file")));
+		}
+		return files;
+	}
+
+	/**
+	 * Add the backup file to the manifest. The first backup of a chain is the full backup.
+	 *
+	 * @param file
+	 *            Name of the backup file within the chain directory
+	 * @param timestamp
+	 * @return Fluent API
+	 */
+	public BackupChain add(String file, long timestamp) {
+		return add(file, timestamp, null);
+	}
+
+	/**
+	 * Add the backup file together with the element counts of the database at the time of the backup to the manifest. The counts are compared with the
+	 * restored copy when the backup is verified.
+	 *
+	 * @param file
+	 *            Name of the backup file within the chain directory
+	 * @param timestamp
+	 * @param counts
+	 *            Element counts per class name or null
+	 * @return Fluent API
+	 */
+	public BackupChain add(String file, long timestamp, Map<String, Long> counts) {
+		JsonObject entry = new JsonObject()
+			.put("file", file)
+			.put("type", backups().isEmpty() ? TYPE_FULL : TYPE_INCREMENTAL)
+			.put("timestamp", timestamp)
+			.put("size", new File(directory, file).length());
+		if (counts != null) {
+			entry.put("counts", new JsonObject(new LinkedHashMap<>(counts)));
+		}
+		backups().add(entry);
+		return this;
+	}
+
+	/**
+	 * Return the element counts which were recorded for the latest backup.
+	 *
+	 * @return Counts per class name or null if no counts were recorded
+	 */
+	public Map<String, Long> getLastCounts() {
+		JsonObject last = getLast();
+		JsonObject counts = last == null ? null : last.getJsonObject("counts");
+		if (counts == null) {
+			return null;
+		}
+		Map<String, Long> result = new TreeMap<>();
+		for (String clazz : counts.fieldNames()) {
+			result.put(clazz, counts.getLong(clazz));
+		}
+		return result;
+	}
+
+	/**
+	 * Record the result of the verification of the chain up to and including the given file.
+	 *
+	 * @param file
+	 * @param result
+	 * @return Fluent API
+	 */
+	public BackupChain setVerification(String file, ConsistencyCheckResponse result) {
+		for (int i = 0; i < backups().size(); i++) {
+			JsonObject entry = backups().getJsonObject(i);
+			if (entry.getString("file").equals(file)) {
+				entry.put("verification", new JsonObject()
+					.put("result", result.getResult().name())
+					.put("inconsistencies", result.getInconsistencies().size())
+					.put("timestamp", System.currentTimeMillis()));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Write the manifest to the chain directory.
+	 *
+	 * @throws IOException
+	 */
+	public void save() throws IOException {
+		File tmp = new File(directory, MANIFEST_FILE + ".tmp");
+		FileUtils.writeStringToFile(tmp, manifest.encodePrettily(), StandardCharsets.UTF_8);
+		File target = new File(directory, MANIFEST_FILE);
+		FileUtils.deleteQuietly(target);
+		FileUtils.moveFile(tmp, target);
+	}
+
+	/**
+	 * Copy the backup files of the chain to the given directory. The copy will not be affected by backups which are written to the chain concurrently.
+	 *
+	 * @param target
+	 * @throws IOException
+	 */
+	public void copyTo(File target) throws IOException {
+		FileUtils.forceMkdir(target);
+		for (File file : getFiles()) {
+			FileUtils.copyFileToDirectory(file, target);
+		}
+	}
+
+	private JsonArray backups() {
+		return manifest.getJsonArray("backups");
+	}
+
+	@Override
+	public String toString() {
+		return directory.getName();
+	}
+}
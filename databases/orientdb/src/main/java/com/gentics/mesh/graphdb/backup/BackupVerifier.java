@@ -0,0 +1,116 @@
+package com.gentics.mesh.graphdb.backup;
+
+import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.HIGH;
+import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Verifier which checks the structural consistency of a restored backup and compares its element counts with the counts of the source database. The check
+ * is run on a restored copy of the backup and thus does not affect the live database.
+ */
+public class BackupVerifier {
+
+	private static final Logger log = LoggerFactory.getLogger(BackupVerifier.class);
+
+	private static final String UUID_PROPERTY = "uuid";
+
+	private final ODatabaseDocument db;
+
+	public BackupVerifier(ODatabaseDocument db) {
+		this.db = db;
+	}
+
+	/**
+	 * Count the elements of all vertex and edge classes of the database. Subclasses are counted separately.
+	 *
+	 * @param db
+	 * @return Counts per class name
+	 */
+	public static Map<String, Long> countElements(ODatabaseDocument db) {
+		Map<String, Long> counts = new TreeMap<>();
+		for (OClass clazz : db.getMetadata().getSchema().getClasses()) {
+			if (clazz.isSubClassOf("V") || clazz.isSubClassOf("E")) {
+				counts.put(clazz.getName(), db.countClass(clazz.getName(), false));
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Check that the element counts match the given counts of the source database, that all vertices have a uuid and that all edges reference existing
+	 * vertices.
+	 *
+	 * @param expectedCounts
+	 *            Counts per class name, which were taken from the source database when the backup was written. The counts are not compared, if null.
+	 * @return
+	 */
+	public ConsistencyCheckResponse verify(Map<String, Long> expectedCounts) {
+		ConsistencyCheckResponse response = new ConsistencyCheckResponse();
+		if (expectedCounts != null) {
+			checkCounts(response, expectedCounts);
+			if (response.reachedLimit()) {
+				return response;
+			}
+		}
+		long vertices = 0;
+		for (ODocument vertex : db.browseClass("V")) {
+			vertices++;
+			if (vertex.field(UUID_PROPERTY) == null) {
+				response.addInconsistency("Vertex {" + vertex.getIdentity() + "} of type {" + vertex.getClassName() + "} has no uuid", vertex.getIdentity()
+					.toString(), MEDIUM);
+			}
+			if (response.reachedLimit()) {
+				return response;
+			}
+		}
+		long edges = 0;
+		for (ODocument edge : db.browseClass("E")) {
+			edges++;
+			checkLink(response, edge, "out");
+			checkLink(response, edge, "in");
+			if (response.reachedLimit()) {
+				return response;
+			}
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Verified {" + vertices + "} vertices and {" + edges + "} edges");
+		}
+		return response;
+	}
+
+	private void checkCounts(ConsistencyCheckResponse response, Map<String, Long> expectedCounts) {
+		Map<String, Long> counts = countElements(db);
+		Set<String> classes = new TreeSet<>(expectedCounts.keySet());
+		classes.addAll(counts.keySet());
+		for (String clazz : classes) {
+			long expected = expectedCounts.getOrDefault(clazz, 0L);
+			long actual = counts.getOrDefault(clazz, 0L);
+			if (expected != actual) {
+				response.addInconsistency("Class {" + clazz + "} contains {" + actual + "} elements in the restored backup, but contained {" + expected
+					+ "} elements in the source database", clazz, HIGH);
+			}
+		}
+	}
+
+	private void checkLink(ConsistencyCheckResponse response, ODocument edge, String direction) {
+		OIdentifiable link = edge.field(direction);
+		if (link == null || link.getRecord() == null) {
+			String uuid = edge.field(UUID_PROPERTY);
+			response.addInconsistency("Edge {" + edge.getIdentity() + "} of type {" + edge.getClassName() + "} references missing " + direction + " vertex {"
+				+ link + "}", uuid != null ? uuid : edge.getIdentity().toString(), HIGH);
+		}
+	}
+}
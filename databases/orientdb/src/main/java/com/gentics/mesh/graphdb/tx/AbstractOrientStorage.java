@@ -15,11 +15,18 @@ import java.io.OutputStream;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
+
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.etc.config.OrientDBMeshOptions;
+import com.gentics.mesh.graphdb.backup.BackupChain;
+import com.gentics.mesh.graphdb.backup.BackupVerifier;
 import com.gentics.mesh.metric.MetricsService;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 
@@ -44,6 +51,8 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 
 	protected final Counter noTxCounter;
 
+	private final Object backupLock = new Object();
+
 	public AbstractOrientStorage(OrientDBMeshOptions options, MetricsService metrics) {
 		this.options = options;
 		this.metrics = metrics;
@@ -126,6 +135,76 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		}
 	}
 
+	@Override
+	public String incrementalBackup(String backupDirectory) throws IOException {
+		if (log.isDebugEnabled()) {
+			log.debug("Running incremental backup to backup directory {" + backupDirectory + "}.");
+		}
+		boolean isMemoryMode = options.getStorageOptions().getDirectory() == null;
+		if (isMemoryMode) {
+			throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
+		}
+		synchronized (backupLock) {
+			BackupChain chain = BackupChain.current(new File(backupDirectory), options.getStorageOptions().getBackupChainLength());
+			ODatabaseSession db = createSession();
+			try {
+				// Writes are paused, so that the recorded element counts match the state of the backup
+				db.freeze();
+				String backupFile;
+				Map<String, Long> counts;
+				try {
+					counts = BackupVerifier.countElements(db);
+					// Only the changes since the last backup of the chain will be written
+					backupFile = db.incrementalBackup(chain.getDirectory().getAbsolutePath());
+				} finally {
+					db.release();
+				}
+				chain.add(backupFile, System.currentTimeMillis(), counts).save();
+				return new File(chain.getDirectory(), backupFile).getAbsolutePath();
+			} finally {
+				db.close();
+			}
+		}
+	}
+
+	@Override
+	public ConsistencyCheckResponse verifyBackup(String chainDirectory) throws IOException {
+		File chainDir = new File(chainDirectory);
+		File scratchDir = new File(chainDir.getParentFile(), ".verify_" + chainDir.getName());
+		FileUtils.deleteDirectory(scratchDir);
+		try {
+			// Copy the backup files so that the verification is not affected by backups which are written concurrently
+			File copyDir = new File(scratchDir, "backup");
+			String lastFile;
+			Map<String, Long> counts;
+			synchronized (backupLock) {
+				BackupChain chain = BackupChain.load(chainDir);
+				lastFile = chain.getLast().getString("file");
+				counts = chain.getLastCounts();
+				chain.copyTo(copyDir);
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Restoring copy of backup chain {" + chainDirectory + "} for the verification.");
+			}
+			ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + new File(scratchDir, DB_NAME).getAbsolutePath());
+			ConsistencyCheckResponse result;
+			try {
+				db.create(copyDir.getAbsolutePath());
+				result = new BackupVerifier(db).verify(counts);
+			} finally {
+				if (!db.isClosed()) {
+					db.drop();
+				}
+			}
+			synchronized (backupLock) {
+				BackupChain.load(chainDir).setVerification(lastFile, result).save();
+			}
+			return result;
+		} finally {
+			FileUtils.deleteQuietly(scratchDir);
+		}
+	}
+
 	/**
 	 * Create a new session to access the database. Remember to close the session after usage.
 	 * 
@@ -3,6 +3,7 @@ package com.gentics.mesh.graphdb.tx;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.graphdb.spi.GraphStorage;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
@@ -53,6 +54,32 @@ public interface OrientStorage extends GraphStorage {
 	 */
 	void restore(String backupFile) throws IOException;
 
+	/**
+	 * Invoke the incremental backup process. The backup will be added to the current backup chain in the backup directory.
+	 * 
+	 * @param backupDirectory
+	 * @return Path of the created backup file
+	 * @throws IOException
+	 */
+	String incrementalBackup(String backupDirectory) throws IOException;
+
+	/**
+	 * Invoke the restore process for the given backup chain.
+	 * 
+	 * @param chainDirectory
+	 * @throws IOException
+	 */
+	void restoreIncremental(String chainDirectory) throws IOException;
+
+	/**
+	 * Restore a copy of the given backup chain in a temporary location and verify the consistency of the copy.
+	 * 
+	 * @param chainDirectory
+	 * @return Result of the verification
+	 * @throws IOException
+	 */
+	ConsistencyCheckResponse verifyBackup(String chainDirectory) throws IOException;
+
 	/**
 	 * Export the graph database to the given location.
 	 * 
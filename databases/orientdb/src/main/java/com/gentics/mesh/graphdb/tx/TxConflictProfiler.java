@@ -0,0 +1,197 @@
+package com.gentics.mesh.graphdb.tx;
+
+import static com.gentics.mesh.graphdb.OrientDBStorageMetric.TX_CONFLICT;
+import static com.gentics.mesh.graphdb.OrientDBStorageMetric.TX_RETRY_BACKOFF;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.etc.config.OrientDBMeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Profiler for transaction conflicts. The profiler records which element classes and records caused transactions to be retried and tracks the observed
+ * contention as an exponentially weighted moving average of the conflict rate. The contention is used to compute the backoff delay for the retries.
+ */
+@Singleton
+public class TxConflictProfiler {
+
+	/**
+	 * Maximum amount of records for which conflicts are tracked. Records with the lowest conflict count will be evicted once the limit has been reached.
+	 */
+	public static final int MAX_TRACKED_RECORDS = 1000;
+
+	/**
+	 * Amount of records which are listed in the statistics.
+	 */
+	public static final int TOP_RECORDS = 50;
+
+	/**
+	 * Class name which is used when the class of the conflicting record could not be determined.
+	 */
+	public static final String UNKNOWN_CLASS = "unknown";
+
+	/**
+	 * Weight of a single transaction attempt in the contention average.
+	 */
+	private static final double CONTENTION_WEIGHT = 0.05;
+
+	/**
+	 * Factor by which the backoff delay is stretched under full contention.
+	 */
+	private static final int CONTENTION_FACTOR = 4;
+
+	private final GraphStorageOptions storageOptions;
+
+	private final MetricsService metrics;
+
+	private final DistributionSummary backoffSummary;
+
+	private final Map<String, LongAdder> conflictsByClass = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> classCounters = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> conflictsByRecord = new ConcurrentHashMap<>();
+
+	private final LongAdder totalConflicts = new LongAdder();
+
+	private final AtomicLong contention = new AtomicLong(Double.doubleToLongBits(0));
+
+	@Inject
+	public TxConflictProfiler(OrientDBMeshOptions options, MetricsService metrics) {
+		this.storageOptions = options.getStorageOptions();
+		this.metrics = metrics;
+		this.backoffSummary = metrics != null && metrics.isEnabled() ? metrics.meter(TX_RETRY_BACKOFF) : null;
+	}
+
+	/**
+	 * Record a conflict which was caused by the given record.
+	 *
+	 * @param className
+	 *            Class of the conflicting record or null if the class is not known
+	 * @param recordId
+	 *            Id of the conflicting record or null if the record is not known
+	 */
+	public void recordConflict(String className, String recordId) {
+		String name = className == null ? UNKNOWN_CLASS : className;
+		totalConflicts.increment();
+		conflictsByClass.computeIfAbsent(name, k -> new LongAdder()).increment();
+		if (metrics != null && metrics.isEnabled()) {
+			classCounters.computeIfAbsent(name, k -> metrics.getMetricRegistry().counter(TX_CONFLICT.key(), "class", k)).increment();
+		}
+		if (recordId != null) {
+			LongAdder counter = conflictsByRecord.get(recordId);
+			if (counter == null) {
+				if (conflictsByRecord.size() >= MAX_TRACKED_RECORDS) {
+					evictRecord();
+				}
+				counter = conflictsByRecord.computeIfAbsent(recordId, k -> new LongAdder());
+			}
+			counter.increment();
+		}
+		updateContention(1);
+	}
+
+	/**
+	 * Record a transaction attempt which did not conflict.
+	 */
+	public void recordSuccess() {
+		updateContention(0);
+	}
+
+	/**
+	 * Return the observed contention. The value is the moving average of the share of transaction attempts which conflicted.
+	 *
+	 * @return Value between 0 and 1
+	 */
+	public double getContention() {
+		return Double.longBitsToDouble(contention.get());
+	}
+
+	/**
+	 * Compute the delay before the given retry. The first retry is executed without delay. The following retries are delayed exponentially based on the
+	 * configured retry delay. The delay is stretched by the observed contention, capped by the configured maximum delay and randomized to prevent that
+	 * conflicting transactions are retried at the same time.
+	 *
+	 * @param retry
+	 *            Number of the retry
+	 * @return Delay in milliseconds
+	 */
+	public long backoffDelay(int retry) {
+		int baseDelay = storageOptions.getTxRetryDelay();
+		if (retry <= 0 || baseDelay <= 0) {
+			return 0;
+		}
+		long maxDelay = Math.max(storageOptions.getTxRetryMaxDelay(), baseDelay);
+		long exponential = (long) baseDelay << Math.min(retry - 1, 20);
+		long cap = Math.min(maxDelay, (long) (exponential * (1 + getContention() * CONTENTION_FACTOR)));
+		// Equal jitter: keep half of the delay and randomize the other half
+		long delay = cap / 2 + ThreadLocalRandom.current().nextLong(cap - cap / 2 + 1);
+		if (backoffSummary != null) {
+			backoffSummary.record(delay);
+		}
+		return delay;
+	}
+
+	/**
+	 * Return the conflict statistics.
+	 *
+	 * @return
+	 */
+	public JsonObject getStatistics() {
+		JsonObject classes = new JsonObject();
+		conflictsByClass.entrySet().stream()
+			.sorted(Map.Entry.<String, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum)).reversed())
+			.forEach(e -> classes.put(e.getKey(), e.getValue().sum()));
+
+		JsonArray records = new JsonArray();
+		conflictsByRecord.entrySet().stream()
+			.sorted(Map.Entry.<String, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum)).reversed())
+			.limit(TOP_RECORDS)
+			.forEach(e -> records.add(new JsonObject().put("record", e.getKey()).put("conflicts", e.getValue().sum())));
+
+		return new JsonObject()
+			.put("conflicts", totalConflicts.sum())
+			.put("contention", getContention())
+			.put("classes", classes)
+			.put("records", records);
+	}
+
+	/**
+	 * Reset the recorded conflicts.
+	 */
+	public void reset() {
+		totalConflicts.reset();
+		conflictsByClass.clear();
+		conflictsByRecord.clear();
+		contention.set(Double.doubleToLongBits(0));
+	}
+
+	private void updateContention(int sample) {
+		long prev, next;
+		do {
+			prev = contention.get();
+			double value = Double.longBitsToDouble(prev);
+			next = Double.doubleToLongBits(value + CONTENTION_WEIGHT * (sample - value));
+		} while (!contention.compareAndSet(prev, next));
+	}
+
+	private void evictRecord() {
+		conflictsByRecord.entrySet().stream()
+			.min(Map.Entry.comparingByValue(Comparator.comparingLong(LongAdder::sum)))
+			.ifPresent(e -> conflictsByRecord.remove(e.getKey()));
+	}
+}
@@ -128,6 +128,23 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 
 	}
 
+	@Override
+	public void restoreIncremental(String chainDirectory) throws IOException {
+		if (log.isDebugEnabled()) {
+			log.debug("Running restore using {" + chainDirectory + "} backup chain.");
+		}
+		String url = "plocal:" + new File(options.getStorageOptions().getDirectory(), DB_NAME).getAbsolutePath();
+		ODatabaseDocumentTx db = new ODatabaseDocumentTx(url);
+		if (db.exists()) {
+			db.open("admin", "admin");
+			db.drop();
+		}
+		// Creating the database from the chain will apply the full backup and all incremental backups in order
+		db = new ODatabaseDocumentTx(url);
+		db.create(chainDirectory);
+		db.close();
+	}
+
 	@Override
 	public ODatabaseSession createSession() {
 		return factory.getDatabase();
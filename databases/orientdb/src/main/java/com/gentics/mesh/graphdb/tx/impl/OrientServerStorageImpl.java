@@ -81,6 +81,11 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 		throw new NotImplementedException("Not supported in server mode");
 	}
 
+	@Override
+	public void restoreIncremental(String chainDirectory) throws IOException {
+		throw new NotImplementedException("Not supported in server mode");
+	}
+
 	/**
 	 * Create a new session by opening the mesh database.
 	 */
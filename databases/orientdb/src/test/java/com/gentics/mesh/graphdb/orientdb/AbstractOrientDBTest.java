@@ -13,6 +13,7 @@ import com.gentics.mesh.etc.config.OrientDBMeshOptions;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.cluster.OrientDBClusterManagerImpl;
 import com.gentics.mesh.graphdb.orientdb.graph.Person;
+import com.gentics.mesh.graphdb.tx.TxConflictProfiler;
 import com.gentics.mesh.metric.MetricsService;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ext.orientdb3.PermissionRootsImpl;
@@ -39,7 +40,7 @@ public class AbstractOrientDBTest {
 
 		Database db = new OrientDBDatabase(options, null, lazyBoot, lazyDaos, metrics, null, null,
 			new OrientDBClusterManagerImpl(null, null, null, options, null),
-			null, lazyPermRoots, null, null, null);
+			null, lazyPermRoots, null, null, null, new TxConflictProfiler(options, metrics));
 		return db;
 	}
 
@@ -0,0 +1,72 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.graphdb.backup.BackupChain;
+
+/**
+ * Test cases for the manifest handling of incremental backup chains.
+ */
+public class BackupChainTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testNoChain() throws IOException {
+		assertNull(BackupChain.latest(folder.getRoot()));
+	}
+
+	@Test
+	public void testChainRotation() throws IOException {
+		File backupDir = folder.getRoot();
+		BackupChain first = BackupChain.current(backupDir, 1);
+		addBackup(first, "1.ibu");
+		assertEquals(BackupChain.TYPE_FULL, first.getLast().getString("type"));
+
+		BackupChain current = BackupChain.current(backupDir, 1);
+		assertEquals("The chain should be reused until it reached the maximum length", first.getDirectory(), current.getDirectory());
+		addBackup(current, "2.ibu");
+		assertEquals(BackupChain.TYPE_INCREMENTAL, current.getLast().getString("type"));
+
+		BackupChain second = BackupChain.current(backupDir, 1);
+		assertNotEquals("A new chain should be started", first.getDirectory(), second.getDirectory());
+		addBackup(second, "3.ibu");
+		assertEquals(BackupChain.TYPE_FULL, second.getLast().getString("type"));
+
+		assertEquals(2, BackupChain.list(backupDir).size());
+		assertEquals(second.getDirectory(), BackupChain.latest(backupDir).getDirectory());
+		assertEquals(2, BackupChain.load(first.getDirectory()).getFiles().size());
+	}
+
+	@Test
+	public void testCounts() throws IOException {
+		BackupChain chain = BackupChain.current(folder.getRoot(), 1);
+		addBackup(chain, "1.ibu");
+		assertNull("No counts should have been recorded", chain.getLastCounts());
+
+		Map<String, Long> counts = new HashMap<>();
+		counts.put("NodeImpl", 42L);
+		counts.put("HAS_FIELD", 7L);
+		FileUtils.writeStringToFile(new File(chain.getDirectory(), "2.ibu"), "2.ibu", "UTF-8");
+		chain.add("2.ibu", System.currentTimeMillis(), counts).save();
+		assertEquals("The counts should have been stored in the manifest", counts, BackupChain.load(chain.getDirectory()).getLastCounts());
+	}
+
+	private void addBackup(BackupChain chain, String file) throws IOException {
+		FileUtils.writeStringToFile(new File(chain.getDirectory(), file), file, "UTF-8");
+		chain.add(file, System.currentTimeMillis()).save();
+	}
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.etc.config.OrientDBMeshOptions;
+import com.gentics.mesh.graphdb.tx.TxConflictProfiler;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Test cases for the conflict profiling and the retry backoff of transactions.
+ */
+public class TxConflictProfilerTest {
+
+	private OrientDBMeshOptions options;
+
+	private TxConflictProfiler profiler;
+
+	@Before
+	public void setup() {
+		options = new OrientDBMeshOptions();
+		options.getStorageOptions().setTxRetryDelay(10).setTxRetryMaxDelay(200);
+		profiler = new TxConflictProfiler(options, Mockito.mock(MetricsService.class));
+	}
+
+	@Test
+	public void testBackoffBounds() {
+		assertEquals("The first retry should not be delayed", 0, profiler.backoffDelay(0));
+		for (int i = 0; i < 100; i++) {
+			long delay = profiler.backoffDelay(1);
+			assertTrue("Delay {" + delay + "} out of bounds", delay >= 5 && delay <= 10);
+			delay = profiler.backoffDelay(3);
+			assertTrue("Delay {" + delay + "} out of bounds", delay >= 20 && delay <= 40);
+			delay = profiler.backoffDelay(30);
+			assertTrue("Delay {" + delay + "} exceeds the maximum", delay >= 100 && delay <= 200);
+		}
+	}
+
+	@Test
+	public void testBackoffAdaptsToContention() {
+		for (int i = 0; i < 200; i++) {
+			profiler.recordConflict("NodeImpl", "#10:1");
+		}
+		assertTrue(profiler.getContention() > 0.9);
+		for (int i = 0; i < 100; i++) {
+			long delay = profiler.backoffDelay(1);
+			assertTrue("The delay {" + delay + "} should be stretched by the contention", delay >= 20 && delay <= 50);
+		}
+		for (int i = 0; i < 200; i++) {
+			profiler.recordSuccess();
+		}
+		assertTrue(profiler.getContention() < 0.1);
+	}
+
+	@Test
+	public void testNoDelay() {
+		options.getStorageOptions().setTxRetryDelay(0);
+		assertEquals(0, profiler.backoffDelay(5));
+	}
+
+	@Test
+	public void testStatistics() {
+		profiler.recordConflict("NodeImpl", "#10:1");
+		profiler.recordConflict("NodeImpl", "#10:1");
+		profiler.recordConflict("TagImpl", "#20:5");
+		profiler.recordConflict(null, null);
+
+		JsonObject statistics = profiler.getStatistics();
+		assertEquals(4L, statistics.getLong("conflicts").longValue());
+		assertEquals(2L, statistics.getJsonObject("classes").getLong("NodeImpl").longValue());
+		assertEquals(1L, statistics.getJsonObject("classes").getLong(TxConflictProfiler.UNKNOWN_CLASS).longValue());
+		assertEquals(2, statistics.getJsonArray("records").size());
+		assertEquals("#10:1", statistics.getJsonArray("records").getJsonObject(0).getString("record"));
+	}
+
+	@Test
+	public void testTrackedRecordsAreBounded() {
+		for (int i = 0; i < TxConflictProfiler.MAX_TRACKED_RECORDS * 2; i++) {
+			profiler.recordConflict("NodeImpl", "#10:" + i);
+		}
+		profiler.recordConflict("NodeImpl", "#10:0");
+		JsonObject statistics = profiler.getStatistics();
+		assertEquals(TxConflictProfiler.TOP_RECORDS, statistics.getJsonArray("records").size());
+		assertEquals((long) TxConflictProfiler.MAX_TRACKED_RECORDS * 2 + 1, statistics.getLong("conflicts").longValue());
+	}
+}
@@ -0,0 +1,157 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.MeshStatus;
+import com.gentics.mesh.core.db.CommonTxData;
+import com.gentics.mesh.core.db.GraphDBTx;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.etc.config.OrientDBMeshOptions;
+import com.gentics.mesh.graphdb.OrientDBDatabase;
+import com.gentics.mesh.graphdb.tx.TxConflictProfiler;
+import com.gentics.mesh.metric.MetricsService;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Test cases for the conflict profiling within the retry loop of {@link OrientDBDatabase#tx(com.gentics.mesh.core.db.TxAction)}. The transactions are
+ * mocked, so that conflicts can be raised when the transaction is committed.
+ */
+public class TxRetryTest {
+
+	private OrientDBMeshOptions options;
+
+	private TxConflictProfiler profiler;
+
+	private OrientDBDatabase db;
+
+	private final Deque<GraphDBTx> txs = new ArrayDeque<>();
+
+	@Before
+	public void setup() {
+		options = new OrientDBMeshOptions();
+		options.getStorageOptions().setTxRetryDelay(0).setTxRetryLimit(100);
+		MetricsService metrics = Mockito.mock(MetricsService.class);
+		when(metrics.timer(Mockito.any())).thenReturn(Mockito.mock(Timer.class));
+		when(metrics.counter(Mockito.any())).thenReturn(Mockito.mock(Counter.class));
+		Mesh mesh = mock(Mesh.class);
+		when(mesh.getStatus()).thenReturn(MeshStatus.READY);
+		profiler = new TxConflictProfiler(options, metrics);
+		db = new OrientDBDatabase(options, null, null, null, metrics, null, null, null, null, null, null, null, mesh, profiler) {
+			@Override
+			public GraphDBTx tx() {
+				return txs.poll();
+			}
+		};
+	}
+
+	@After
+	public void cleanup() {
+		Tx.setActive(null);
+	}
+
+	@Test
+	public void testCommitConflictIsNoSuccess() {
+		for (int i = 0; i < 99; i++) {
+			txs.add(conflictingTx());
+		}
+		txs.add(mockTx());
+
+		assertEquals("done", db.tx(tx -> {
+			return "done";
+		}));
+		assertEquals(99L, profiler.getStatistics().getLong("conflicts").longValue());
+		// Conflicts which occur during the commit must not be recorded as successful attempts
+		assertTrue("The contention {" + profiler.getContention() + "} should reflect the conflicts", profiler.getContention() > 0.9);
+	}
+
+	@Test
+	public void testRetryLimit() {
+		for (int i = 0; i < 100; i++) {
+			txs.add(conflictingTx());
+		}
+		try {
+			db.tx(tx -> {
+				return "done";
+			});
+			fail("The retry limit should have been exceeded");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof OConcurrentModificationException);
+		}
+		assertEquals(100L, profiler.getStatistics().getLong("conflicts").longValue());
+		assertTrue(profiler.getContention() > 0.9);
+	}
+
+	@Test
+	public void testSuccessAfterCommit() {
+		txs.add(conflictingTx());
+		txs.add(mockTx());
+		db.tx(tx -> {
+			return "done";
+		});
+		double contention = profiler.getContention();
+		assertTrue(contention > 0);
+
+		txs.add(mockTx());
+		db.tx(tx -> {
+			return "done";
+		});
+		assertTrue("The successful commit should lower the contention", profiler.getContention() < contention);
+	}
+
+	@Test
+	public void testWrappedTxIsNotRecorded() {
+		Tx.setActive(mockTx());
+		txs.add(mockTx());
+		db.tx(tx -> {
+			return "done";
+		});
+		assertEquals(0.0, profiler.getContention(), 0);
+		assertEquals(0L, profiler.getStatistics().getLong("conflicts").longValue());
+
+		// Conflicts of wrapped transactions are recorded by the outer transaction
+		txs.add(conflictingTx());
+		txs.add(mockTx());
+		db.tx(tx -> {
+			return "done";
+		});
+		assertEquals(0.0, profiler.getContention(), 0);
+		assertEquals(0L, profiler.getStatistics().getLong("conflicts").longValue());
+	}
+
+	private GraphDBTx mockTx() {
+		GraphDBTx tx = mock(GraphDBTx.class);
+		CommonTxData data = mock(CommonTxData.class);
+		when(data.maybeGetEventQueueBatch()).thenReturn(Optional.empty());
+		when(tx.data()).thenReturn(data);
+		return tx;
+	}
+
+	/**
+	 * Create a transaction which fails with a conflict when it is committed.
+	 */
+	private GraphDBTx conflictingTx() {
+		GraphDBTx tx = mockTx();
+		doThrow(new OConcurrentModificationException(new ORecordId(10, 1), 2, 1, ORecordOperation.UPDATED)).when(tx).close();
+		return tx;
+	}
+}
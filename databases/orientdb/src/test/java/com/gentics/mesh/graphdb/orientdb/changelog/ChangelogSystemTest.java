@@ -30,6 +30,7 @@ import com.gentics.mesh.changelog.ChangelogSystemImpl;
 import com.gentics.mesh.etc.config.OrientDBMeshOptions;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.cluster.OrientDBClusterManagerImpl;
+import com.gentics.mesh.graphdb.tx.TxConflictProfiler;
 import com.gentics.mesh.maven.MavenMetadata;
 import com.gentics.mesh.maven.MavenUtilities;
 import com.gentics.mesh.maven.VersionNumber;
@@ -132,7 +133,7 @@ public class ChangelogSystemTest {
 		MetricsService metrics = Mockito.mock(MetricsService.class);
 		Mockito.when(metrics.timer(Mockito.any())).thenReturn(Mockito.mock(Timer.class));
 		Mockito.when(metrics.counter(Mockito.any())).thenReturn(Mockito.mock(Counter.class));
-		OrientDBDatabase database = new OrientDBDatabase(options, null, null, null, metrics, null, null, new OrientDBClusterManagerImpl(null, null, null, options, null), null, null, null, null, null);
+		OrientDBDatabase database = new OrientDBDatabase(options, null, null, null, metrics, null, null, new OrientDBClusterManagerImpl(null, null, null, options, null), null, null, null, null, null, new TxConflictProfiler(options, metrics));
 		try {
 			database.init(null);
 			return database;
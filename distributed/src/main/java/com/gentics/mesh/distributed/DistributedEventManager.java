@@ -23,6 +23,7 @@ import dagger.Lazy;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -73,9 +74,16 @@ public class DistributedEventManager {
 		});
 
 		// Register for events which are send whenever the permission store must be invalidated.
-		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
-			log.debug("Received permissionstore clear event");
-			permCache.get().clear(false);
+		eb.consumer(CLEAR_PERMISSION_STORE.address, (Message<JsonObject> handler) -> {
+			JsonObject body = handler.body();
+			JsonArray elementIds = body == null ? null : body.getJsonArray(PermissionCache.ELEMENT_IDS);
+			if (elementIds == null) {
+				log.debug("Received permissionstore clear event");
+				permCache.get().clear(false);
+			} else {
+				log.debug("Received permissionstore invalidation event for {" + elementIds.size() + "} elements");
+				permCache.get().invalidate(elementIds.getList(), false);
+			}
 		});
 
 		// Register for event to clear the caches
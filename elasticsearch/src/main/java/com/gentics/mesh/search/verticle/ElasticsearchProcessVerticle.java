@@ -125,7 +125,9 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 						.firstOrError()
 						.subscribe(ignore -> {
 							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
+							if (log.isTraceEnabled()) {
+								log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
+							}
 							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
 						});
 				}
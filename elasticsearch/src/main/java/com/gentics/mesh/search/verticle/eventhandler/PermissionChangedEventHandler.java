@@ -5,8 +5,10 @@ import static com.gentics.mesh.search.verticle.eventhandler.Util.toFlowable;
 import static com.gentics.mesh.util.StreamUtil.ofNullable;
 
 import java.security.InvalidParameterException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -26,6 +28,7 @@ import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.data.tagfamily.HibTagFamily;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.role.PermissionChangedBatchEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModelImpl;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedProjectElementEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -56,11 +59,15 @@ public class PermissionChangedEventHandler implements EventHandler {
 
 	@Override
 	public Collection<MeshEvent> handledEvents() {
-		return Collections.singletonList(MeshEvent.ROLE_PERMISSIONS_CHANGED);
+		return Arrays.asList(MeshEvent.ROLE_PERMISSIONS_CHANGED, MeshEvent.ROLE_PERMISSIONS_BATCH_CHANGED);
 	}
 
 	@Override
 	public Flowable<UpdateDocumentRequest> handle(MessageEvent messageEvent) {
+		if (messageEvent.event == MeshEvent.ROLE_PERMISSIONS_BATCH_CHANGED) {
+			PermissionChangedBatchEventModel batchModel = requireType(PermissionChangedBatchEventModel.class, messageEvent.message);
+			return handleNodePermissionsChange(batchModel.getProject().getUuid(), batchModel.getUuids());
+		}
 		PermissionChangedEventModelImpl model = requireType(PermissionChangedEventModelImpl.class, messageEvent.message);
 
 		// Check whether the action affects read permissions. We only need to update the document in the index if the action affects those perms
@@ -79,26 +86,34 @@ public class PermissionChangedEventHandler implements EventHandler {
 	}
 
 	private Flowable<UpdateDocumentRequest> handleNodePermissionsChange(PermissionChangedProjectElementEventModel model) {
+		return handleNodePermissionsChange(model.getProject().getUuid(), Collections.singletonList(model.getUuid()));
+	}
+
+	/**
+	 * Create the update requests for the permission partials of all contents of the given nodes.
+	 */
+	private Flowable<UpdateDocumentRequest> handleNodePermissionsChange(String projectUuid, List<String> nodeUuids) {
 		NodeContainerTransformer tf = (NodeContainerTransformer) meshEntities.nodeContent.getTransformer();
 		return meshHelper.getDb().tx(tx -> {
 			ProjectDao projectDao = tx.projectDao();
 			BranchDao branchDao = tx.branchDao();
 			NodeDao nodeDao = tx.nodeDao();
 
-			return ofNullable(projectDao.findByUuid(model.getProject().getUuid()))
-				.flatMap(project -> ofNullable(nodeDao.findByUuid(project, model.getUuid()))
+			return ofNullable(projectDao.findByUuid(projectUuid))
+				.flatMap(project -> nodeUuids.stream()
+					.flatMap(nodeUuid -> ofNullable(nodeDao.findByUuid(project, nodeUuid)))
 					.flatMap(node -> branchDao.findAll(project).stream()
 						.flatMap(branch -> Util.latestVersionTypes()
 							.flatMap(type -> tx.contentDao().getFieldContainers(node, branch.getUuid(), type).stream()
 								.map(container -> meshHelper.updateDocumentRequest(
 									ContentDao.composeIndexName(
-										model.getProject().getUuid(),
+										projectUuid,
 										branch.getUuid(),
 										container.getSchemaContainerVersion().getUuid(),
 										type,
 										null,
 										container.getSchemaContainerVersion().getMicroschemaVersionHash(branch)),
-									ContentDao.composeDocumentId(model.getUuid(), container.getLanguageTag()),
+									ContentDao.composeDocumentId(node.getUuid(), container.getLanguageTag()),
 									tf.toPermissionPartial(node, type), complianceMode))))))
 				.collect(toFlowable());
 		});
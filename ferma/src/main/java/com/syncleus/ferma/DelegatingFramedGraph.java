@@ -46,11 +46,22 @@ import com.tinkerpop.blueprints.util.wrappers.wrapped.WrappedGraph;
 
 public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> implements WrapperFramedGraph<G> {
 
+	/**
+	 * Default amount of frames which will be kept by the identity map.
+	 */
+	public static final int DEFAULT_FRAME_CACHE_SIZE = 10_000;
+
 	private final TypeResolver defaultResolver;
 	private final TypeResolver untypedResolver;
 	private final FrameFactory builder;
 	private final Map<String, Object> attributes = new HashMap<>();
 
+	/**
+	 * Identity map of the frames which were created by this graph. Repeated reads of the same element return the already created frame, which saves the
+	 * type resolution and the frame instantiation. The graph is used for a single transaction, thus the map is bound to the transaction.
+	 */
+	private final FrameCache frameCache = new FrameCache(DEFAULT_FRAME_CACHE_SIZE);
+
 	/**
 	 * Construct a framed graph.
 	 *
@@ -94,16 +105,39 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 		this.getBaseGraph().shutdown();
 	}
 
+	/**
+	 * Set the maximum amount of frames which will be kept by the identity map of the graph. A size of 0 disables the identity map.
+	 *
+	 * @param size
+	 */
+	public void setFrameCacheSize(int size) {
+		frameCache.setMaxSize(size);
+	}
+
+	/**
+	 * Clear the identity map of the graph. This is needed when element ids may change, e.g. when the transaction was committed.
+	 */
+	public void clearFrameCache() {
+		frameCache.clear();
+	}
+
 	@Override
 	public <T> T frameElement(final Element e, final Class<T> kind) {
 		if (e == null) {
 			return null;
 		}
 
+		final Object id = e.getId();
+		final T cached = frameCache.get(id, kind, false);
+		if (cached != null) {
+			return cached;
+		}
+
 		final Class<? extends T> frameType = (kind == TVertex.class || kind == TEdge.class) ? kind : defaultResolver.resolve(e, kind);
 
 		final T frame = builder.create(e, frameType);
-		((AbstractElementFrame) frame).init(this, e, e.getId());
+		((AbstractElementFrame) frame).init(this, e, id);
+		frameCache.put(id, kind, false, frame);
 		return frame;
 	}
 
@@ -139,10 +173,17 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 			return null;
 		}
 
+		final Object id = e.getId();
+		final T cached = frameCache.get(id, kind, true);
+		if (cached != null) {
+			return cached;
+		}
+
 		final Class<? extends T> frameType = this.untypedResolver.resolve(e, kind);
 
 		final T frame = builder.create(e, frameType);
-		((AbstractElementFrame) frame).init(this, e, e.getId());
+		((AbstractElementFrame) frame).init(this, e, id);
+		frameCache.put(id, kind, true, frame);
 		return frame;
 	}
 
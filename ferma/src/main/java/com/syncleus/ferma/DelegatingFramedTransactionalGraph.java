@@ -28,15 +28,18 @@ public class DelegatingFramedTransactionalGraph<G extends TransactionalGraph> ex
 	@Override
 	public void stopTransaction(final TransactionalGraph.Conclusion conclusion) {
 		((TransactionalGraph) this.getBaseGraph()).stopTransaction(conclusion);
+		clearFrameCache();
 	}
 
 	@Override
 	public void commit() {
 		((TransactionalGraph) this.getBaseGraph()).commit();
+		clearFrameCache();
 	}
 
 	@Override
 	public void rollback() {
 		((TransactionalGraph) this.getBaseGraph()).rollback();
+		clearFrameCache();
 	}
 }
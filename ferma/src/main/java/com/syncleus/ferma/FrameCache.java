@@ -0,0 +1,79 @@
+package com.syncleus.ferma;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded identity map for frames. The frames are identified by the element id, the requested frame kind and whether the frame was created explicitly
+ * (without type resolution). The oldest entries will be removed once the maximum size has been reached.
+ */
+class FrameCache {
+
+	private int maxSize;
+
+	private final Map<Key, Object> frames = new LinkedHashMap<Key, Object>() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	FrameCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		if (maxSize <= 0) {
+			frames.clear();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> T get(Object id, Class<T> kind, boolean explicit) {
+		if (maxSize <= 0 || id == null) {
+			return null;
+		}
+		return (T) frames.get(new Key(id, kind, explicit));
+	}
+
+	void put(Object id, Class<?> kind, boolean explicit, Object frame) {
+		if (maxSize <= 0 || id == null) {
+			return;
+		}
+		frames.put(new Key(id, kind, explicit), frame);
+	}
+
+	void clear() {
+		frames.clear();
+	}
+
+	private static final class Key {
+		private final Object id;
+		private final Class<?> kind;
+		private final boolean explicit;
+
+		Key(Object id, Class<?> kind, boolean explicit) {
+			this.id = id;
+			this.kind = kind;
+			this.explicit = explicit;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return explicit == other.explicit && kind == other.kind && id.equals(other.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(id, kind, explicit);
+		}
+	}
+}
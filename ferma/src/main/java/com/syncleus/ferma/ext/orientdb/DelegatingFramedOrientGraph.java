@@ -63,16 +63,19 @@ public class DelegatingFramedOrientGraph extends DelegatingFramedTransactionalGr
 	@Override
 	public void stopTransaction(Conclusion conclusion) {
 		getBaseGraph().stopTransaction(conclusion);
+		clearFrameCache();
 	}
 
 	@Override
 	public void commit() {
 		getBaseGraph().commit();
+		clearFrameCache();
 	}
 
 	@Override
 	public void rollback() {
 		getBaseGraph().rollback();
+		clearFrameCache();
 	}
 
 }
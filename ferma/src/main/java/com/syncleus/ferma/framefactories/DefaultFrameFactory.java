@@ -15,20 +15,72 @@
  */
 package com.syncleus.ferma.framefactories;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
 import com.tinkerpop.blueprints.Element;
 
 /**
- * Creates the frame using reflection.
+ * Creates the frame using a constructor reference which is generated once per frame class. Classes for which no constructor reference can be generated
+ * are instantiated using reflection.
  */
 public class DefaultFrameFactory implements FrameFactory {
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Supplier<?>> CONSTRUCTORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(final Class<?> type) {
+            return createConstructor(type);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T create(final Element e, final Class<T> kind) {
+        return (T) CONSTRUCTORS.get(kind).get();
+    }
+
+    /**
+     * Create the constructor reference for the given frame class.
+     *
+     * @param type
+     * @return
+     */
+    private static Supplier<?> createConstructor(final Class<?> type) {
+        final MethodHandle constructor;
         try {
-            return kind.newInstance();
+            constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException caught) {
+            return reflectiveConstructor(type);
         }
-        catch (final InstantiationException | IllegalAccessException caught) {
-            throw new IllegalStateException("Could not instantiate kind: " + kind.getName(), caught);
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class), constructor, MethodType.methodType(type));
+            return (Supplier<?>) site.getTarget().invoke();
+        } catch (final Throwable caught) {
+            // The lambda can't be generated when the class is not visible to the classloader of the factory
+            return () -> {
+                try {
+                    return constructor.invoke();
+                } catch (final Throwable t) {
+                    throw new IllegalStateException("Could not instantiate kind: " + type.getName(), t);
+                }
+            };
         }
     }
+
+    private static Supplier<?> reflectiveConstructor(final Class<?> type) {
+        return () -> {
+            try {
+                return type.newInstance();
+            } catch (final InstantiationException | IllegalAccessException caught) {
+                throw new IllegalStateException("Could not instantiate kind: " + type.getName(), caught);
+            }
+        };
+    }
 }
@@ -0,0 +1,190 @@
+package com.gentics.madl.annotations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the classes which represent graph elements. The registry is generated at build time by the
+ * {@link com.gentics.madl.annotations.processor.GraphElementProcessor} and contains all classes which are annotated with {@link GraphElement} or which
+ * extend an annotated class. Each module which contains graph elements ships its own registry file. The registry files of all modules on the classpath are
+ * merged when the registry is loaded.
+ *
+ * Each line of a registry file contains the binary class name of a graph element followed by a colon and the comma separated names of the graph element
+ * super classes.
+ */
+public final class GraphElementRegistry {
+
+	/**
+	 * Location of the registry files.
+	 */
+	public static final String REGISTRY_RESOURCE = "META-INF/madl/graph-elements";
+
+	private static volatile GraphElementRegistry instance;
+
+	/**
+	 * Mapping of the class names to the names of their graph element super classes.
+	 */
+	private final Map<String, List<String>> superTypes;
+
+	/**
+	 * Mapping of the class names to the names of their graph element sub classes.
+	 */
+	private final Map<String, Set<String>> subTypes = new HashMap<>();
+
+	private GraphElementRegistry(Map<String, List<String>> superTypes) {
+		this.superTypes = superTypes;
+		for (Map.Entry<String, List<String>> entry : superTypes.entrySet()) {
+			for (String superType : entry.getValue()) {
+				subTypes.computeIfAbsent(superType, k -> new HashSet<>()).add(entry.getKey());
+			}
+		}
+	}
+
+	/**
+	 * Return the registry which was loaded from the classloader of the madl classes.
+	 *
+	 * @return
+	 */
+	public static GraphElementRegistry getInstance() {
+		if (instance == null) {
+			synchronized (GraphElementRegistry.class) {
+				if (instance == null) {
+					instance = load(GraphElementRegistry.class.getClassLoader());
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Load and merge all registry files which can be found by the given classloader.
+	 *
+	 * @param classLoader
+	 * @return
+	 */
+	public static GraphElementRegistry load(ClassLoader classLoader) {
+		Map<String, List<String>> superTypes = new HashMap<>();
+		try {
+			Enumeration<URL> resources = classLoader.getResources(REGISTRY_RESOURCE);
+			while (resources.hasMoreElements()) {
+				URL url = resources.nextElement();
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					parse(reader, superTypes);
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not load the graph element registry", e);
+		}
+		return new GraphElementRegistry(superTypes);
+	}
+
+	/**
+	 * Parse the lines of a registry file.
+	 *
+	 * @param reader
+	 * @param superTypes
+	 *            Map to which the parsed entries will be added
+	 * @throws IOException
+	 */
+	static void parse(BufferedReader reader, Map<String, List<String>> superTypes) throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			int idx = line.indexOf(':');
+			if (idx < 0) {
+				superTypes.put(line, Collections.emptyList());
+			} else {
+				String supers = line.substring(idx + 1).trim();
+				superTypes.put(line.substring(0, idx).trim(), supers.isEmpty() ? Collections.emptyList() : Arrays.asList(supers.split(",")));
+			}
+		}
+	}
+
+	/**
+	 * Check whether the registry contains classes within the given package. A registry which covers the package may still be incomplete, e.g. when the
+	 * module was compiled incrementally. Callers need to fall back to scanning the package when a class can't be found in the registry.
+	 *
+	 * @param basePath
+	 *            Package name
+	 * @return
+	 */
+	public boolean covers(String basePath) {
+		return superTypes.keySet().stream().anyMatch(name -> isInPackage(name, basePath));
+	}
+
+	/**
+	 * Return the names of the graph element classes which are located within the given package or its sub packages.
+	 *
+	 * @param basePath
+	 *            Package name
+	 * @return
+	 */
+	public List<String> getClassNames(String basePath) {
+		List<String> names = new ArrayList<>();
+		for (String name : superTypes.keySet()) {
+			if (isInPackage(name, basePath)) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Return the names of the graph element super classes of the given class.
+	 *
+	 * @param className
+	 * @return
+	 */
+	public List<String> getSuperTypes(String className) {
+		return superTypes.getOrDefault(className, Collections.emptyList());
+	}
+
+	/**
+	 * Return the names of the graph element classes which extend the given class.
+	 *
+	 * @param className
+	 * @return
+	 */
+	public Set<String> getSubTypes(String className) {
+		return Collections.unmodifiableSet(subTypes.getOrDefault(className, Collections.emptySet()));
+	}
+
+	/**
+	 * Load the classes of the given package from the registry.
+	 *
+	 * @param basePath
+	 *            Package name
+	 * @param classLoader
+	 * @return Loaded classes. The classes are not initialized.
+	 */
+	public List<Class<?>> loadClasses(String basePath, ClassLoader classLoader) {
+		List<Class<?>> classes = new ArrayList<>();
+		for (String name : getClassNames(basePath)) {
+			try {
+				classes.add(Class.forName(name, false, classLoader));
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException("The graph element registry references the class {" + name + "} which could not be loaded", e);
+			}
+		}
+		return classes;
+	}
+
+	private static boolean isInPackage(String className, String basePath) {
+		return className.startsWith(basePath + ".");
+	}
+}
@@ -0,0 +1,122 @@
+package com.gentics.madl.annotations.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementRegistry;
+
+/**
+ * Annotation processor which generates the {@link GraphElementRegistry} file for the compiled module. The processor inspects all compiled classes since
+ * classes which extend a {@link GraphElement} class are graph elements as well, even when they are not annotated themselves.
+ */
+@SupportedAnnotationTypes("*")
+public class GraphElementProcessor extends AbstractProcessor {
+
+	/**
+	 * Mapping of the found graph element classes to the names of their graph element super classes.
+	 */
+	private final Map<String, List<String>> elements = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeRegistry();
+			return false;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			collect(element);
+		}
+		return false;
+	}
+
+	/**
+	 * Add the element and its nested classes to the registry if they are graph elements.
+	 *
+	 * @param element
+	 */
+	private void collect(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		List<TypeElement> superClasses = new ArrayList<>();
+		for (TypeElement current = superClass(type); current != null; current = superClass(current)) {
+			superClasses.add(current);
+		}
+
+		// A super class is a graph element when it or one of its own super classes is annotated
+		List<String> graphSuperTypes = new ArrayList<>();
+		boolean annotated = false;
+		for (int i = superClasses.size() - 1; i >= 0; i--) {
+			TypeElement superClass = superClasses.get(i);
+			annotated |= superClass.getAnnotation(GraphElement.class) != null;
+			if (annotated) {
+				graphSuperTypes.add(0, binaryName(superClass));
+			}
+		}
+		if (annotated || type.getAnnotation(GraphElement.class) != null) {
+			elements.put(binaryName(type), graphSuperTypes);
+		}
+		for (Element enclosed : type.getEnclosedElements()) {
+			collect(enclosed);
+		}
+	}
+
+	private String binaryName(TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private TypeElement superClass(TypeElement type) {
+		TypeMirror superClass = type.getSuperclass();
+		if (superClass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superClass).asElement();
+	}
+
+	private void writeRegistry() {
+		if (elements.isEmpty()) {
+			return;
+		}
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", GraphElementRegistry.REGISTRY_RESOURCE);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, List<String>> entry : elements.entrySet()) {
+					writer.write(entry.getKey());
+					writer.write(":");
+					writer.write(String.join(",", entry.getValue()));
+					writer.write("\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the graph element registry: " + e.getMessage());
+		}
+	}
+}
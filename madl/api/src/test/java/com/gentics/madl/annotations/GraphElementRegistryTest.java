@@ -0,0 +1,48 @@
+package com.gentics.madl.annotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GraphElementRegistryTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testMergeRegistries() throws IOException {
+		File first = writeRegistry("first", "# comment\ncom.example.data.BaseImpl:\ncom.example.data.NodeImpl:com.example.data.BaseImpl\n");
+		File second = writeRegistry("second", "com.example.data.impl.TagImpl:com.example.data.BaseImpl\ncom.example.other.OtherImpl\n");
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { first.toURI().toURL(), second.toURI().toURL() }, null)) {
+			GraphElementRegistry registry = GraphElementRegistry.load(loader);
+			assertThat(registry.covers("com.example.data")).isTrue();
+			assertThat(registry.covers("com.example.missing")).isFalse();
+			assertThat(registry.covers("com.example.dat")).isFalse();
+			assertThat(registry.getClassNames("com.example.data")).containsExactlyInAnyOrder("com.example.data.BaseImpl", "com.example.data.NodeImpl",
+				"com.example.data.impl.TagImpl");
+			assertThat(registry.getClassNames("com.example.other")).containsExactly("com.example.other.OtherImpl");
+			assertThat(registry.getSuperTypes("com.example.data.NodeImpl")).containsExactly("com.example.data.BaseImpl");
+			assertThat(registry.getSuperTypes("com.example.other.OtherImpl")).isEmpty();
+			assertThat(registry.getSubTypes("com.example.data.BaseImpl")).containsExactlyInAnyOrder("com.example.data.NodeImpl",
+				"com.example.data.impl.TagImpl");
+		}
+	}
+
+	private File writeRegistry(String name, String content) throws IOException {
+		File root = folder.newFolder(name);
+		File file = new File(root, GraphElementRegistry.REGISTRY_RESOURCE);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return root;
+	}
+}
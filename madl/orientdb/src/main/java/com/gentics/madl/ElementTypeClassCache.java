@@ -8,9 +8,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementRegistry;
 
 /**
  * Type cache which also provides resolving methods which cache the result.
+ *
+ * The classes are loaded from the {@link GraphElementRegistry}. The registry may be incomplete (e.g. after an incremental build), thus the packages are
+ * scanned when a class can't be found otherwise.
  */
 public class ElementTypeClassCache {
 
@@ -19,6 +23,16 @@ public class ElementTypeClassCache {
 
 	public ElementTypeClassCache(String... packagePaths) {
 		this.basePaths = packagePaths;
+		GraphElementRegistry registry = GraphElementRegistry.getInstance();
+		for (String basePath : basePaths) {
+			try {
+				for (Class<?> clazz : registry.loadClasses(basePath, ElementTypeClassCache.class.getClassLoader())) {
+					classStringCache.putIfAbsent(clazz.getSimpleName(), clazz);
+				}
+			} catch (IllegalStateException e) {
+				// The registry is outdated. The classes will be found by scanning the package.
+			}
+		}
 	}
 
 	public Class<?> forName(final String className) {
@@ -0,0 +1,46 @@
+package com.gentics.mesh.cache;
+
+import java.util.Set;
+
+/**
+ * Resolved mesh link which is stored in the {@link LinkCache}. The link keeps the uuids of the nodes which were used to build the path, so that the entry can
+ * be invalidated when one of these nodes is changed.
+ */
+public class CachedLink {
+
+	private final String link;
+
+	private final Set<String> nodeUuids;
+
+	/**
+	 * Create a new cached link.
+	 * 
+	 * @param link
+	 *            Rendered link
+	 * @param nodeUuids
+	 *            Uuids of the target node and its ancestors
+	 */
+	public CachedLink(String link, Set<String> nodeUuids) {
+		this.link = link;
+		this.nodeUuids = nodeUuids;
+	}
+
+	/**
+	 * Return the rendered link.
+	 * 
+	 * @return
+	 */
+	public String getLink() {
+		return link;
+	}
+
+	/**
+	 * Check whether the link depends on the node with the given uuid.
+	 * 
+	 * @param nodeUuid
+	 * @return
+	 */
+	public boolean dependsOn(String nodeUuid) {
+		return nodeUuids.contains(nodeUuid);
+	}
+}
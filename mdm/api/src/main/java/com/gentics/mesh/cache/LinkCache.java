@@ -0,0 +1,18 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for resolved mesh links.
+ */
+public interface LinkCache extends MeshCache<String, CachedLink> {
+
+	/**
+	 * Store the resolved link in the cache.
+	 *
+	 * @param key
+	 *            Key which identifies the target node, the branch, the languages, the container type and the link type
+	 * @param link
+	 *            Resolved link
+	 */
+	void store(String key, CachedLink link);
+
+}
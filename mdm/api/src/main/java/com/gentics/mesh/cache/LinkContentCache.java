@@ -0,0 +1,72 @@
+package com.gentics.mesh.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.gentics.mesh.core.link.ContentSegment;
+
+/**
+ * Cache for the parsed segments of contents which contain mesh links. The segments only depend on the content and the tokenizer arguments, thus the entries
+ * never get outdated.
+ */
+public interface LinkContentCache extends MeshCache<LinkContentCache.Key, List<ContentSegment>> {
+
+	/**
+	 * Key of the cached segments.
+	 */
+	public static final class Key {
+
+		private final String content;
+
+		private final String branch;
+
+		private final String[] languageTags;
+
+		private final int hash;
+
+		/**
+		 * Create a new key.
+		 * 
+		 * @param content
+		 *            Tokenized content
+		 * @param branch
+		 *            Default branch of the links
+		 * @param languageTags
+		 *            Default language tags of the links
+		 */
+		public Key(String content, String branch, String[] languageTags) {
+			this.content = content;
+			this.branch = branch;
+			this.languageTags = languageTags;
+			this.hash = Objects.hash(content, branch, Arrays.hashCode(languageTags));
+		}
+
+		/**
+		 * Return the tokenized content.
+		 * 
+		 * @return
+		 */
+		public String getContent() {
+			return content;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && Objects.equals(branch, other.branch) && Arrays.equals(languageTags, other.languageTags)
+				&& content.equals(other.content);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.rest.navigation.NavigationElement;
+
+/**
+ * Cache for rendered navigation subtrees.
+ */
+public interface NavigationCache extends MeshCache<String, NavigationElement> {
+
+	/**
+	 * Store the rendered navigation subtree in the cache.
+	 *
+	 * @param key
+	 *            Key which identifies the subtree, the request parameters and the roles of the user
+	 * @param element
+	 *            Rendered subtree
+	 */
+	void store(String key, NavigationElement element);
+
+}
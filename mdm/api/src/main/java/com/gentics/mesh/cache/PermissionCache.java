@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import java.util.Collection;
 import java.util.EnumSet;
 
 import com.gentics.mesh.core.data.perm.InternalPermission;
@@ -9,6 +10,12 @@ import com.gentics.mesh.core.data.perm.InternalPermission;
  */
 public interface PermissionCache extends MeshCache<String, EnumSet<InternalPermission>> {
 
+	/**
+	 * Key of the {@link com.gentics.mesh.core.rest.MeshEvent#CLEAR_PERMISSION_STORE} event property which contains the ids of the elements whose permissions
+	 * should be invalidated. Events without the property clear the whole cache.
+	 */
+	String ELEMENT_IDS = "elementIds";
+
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
 	 * 
@@ -53,4 +60,13 @@ public interface PermissionCache extends MeshCache<String, EnumSet<InternalPermi
 	 * @param elementId
 	 */
 	void invalidate(Object userId, Object elementId);
+
+	/**
+	 * Invalidate the cached permissions of all users on the given elements and optionally notify other instances to do the same.
+	 *
+	 * @param elementIds
+	 * @param notify
+	 *            Whether to publish an event to inform other nodes in the cluster
+	 */
+	void invalidate(Collection<?> elementIds, boolean notify);
 }
@@ -35,6 +35,13 @@ public interface HibNodeFieldContainerEdge {
 	 */
 	void setUrlFieldInfo(Set<String> urlFieldInfo);
 
+	/**
+	 * Return the url field info.
+	 *
+	 * @return
+	 */
+	Set<String> getUrlFieldInfo();
+
 	/**
 	 * Return the referenced content.
 	 *
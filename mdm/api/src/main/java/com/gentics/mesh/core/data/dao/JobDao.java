@@ -1,18 +1,23 @@
 package com.gentics.mesh.core.data.dao;
 
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -135,6 +140,37 @@ public interface JobDao extends DaoGlobal<HibJob>, DaoTransformable<HibJob, JobR
 	 */
 	HibJob enqueueVersionPurge(HibUser user, HibProject project);
 
+	/**
+	 * Enqueue a job which recursively publishes or takes offline the subtree of the given node.
+	 *
+	 * @param user
+	 *            User who requested the action
+	 * @param branch
+	 * @param node
+	 *            Root node of the subtree
+	 * @param type
+	 *            Either {@link JobType#publish} or {@link JobType#unpublish}
+	 * @return
+	 */
+	HibJob enqueueNodePublish(HibUser user, HibBranch branch, HibNode node, JobType type);
+
+	/**
+	 * Enqueue a job which recursively grants and revokes the permissions of the role on the subtree of the given node or on all nodes of the project.
+	 *
+	 * @param user
+	 *            User who requested the action
+	 * @param role
+	 *            Role whose permissions are changed
+	 * @param project
+	 * @param node
+	 *            Root node of the subtree or null to change the permissions of all nodes of the project
+	 * @param permissionsToGrant
+	 * @param permissionsToRevoke
+	 * @return
+	 */
+	HibJob enqueuePermissionChange(HibUser user, HibRole role, HibProject project, HibNode node, Set<InternalPermission> permissionsToGrant,
+		Set<InternalPermission> permissionsToRevoke);
+
 	/**
 	 * Purge all failed jobs from the job root.
 	 */
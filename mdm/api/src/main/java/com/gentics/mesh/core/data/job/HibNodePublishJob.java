@@ -0,0 +1,79 @@
+package com.gentics.mesh.core.data.job;
+
+import com.gentics.mesh.core.data.project.HibProject;
+
+/**
+ * Extension of {@link HibJob} for jobs which recursively publish or take offline a subtree of nodes.
+ */
+public interface HibNodePublishJob extends HibJob {
+
+	/**
+	 * Get the project reference of the job.
+	 *
+	 * @return
+	 */
+	HibProject getProject();
+
+	/**
+	 * Set the project reference for the job.
+	 *
+	 * @param project
+	 */
+	void setProject(HibProject project);
+
+	/**
+	 * Return the uuid of the root node of the subtree.
+	 *
+	 * @return
+	 */
+	String getNodeUuid();
+
+	/**
+	 * Set the uuid of the root node of the subtree.
+	 *
+	 * @param uuid
+	 */
+	void setNodeUuid(String uuid);
+
+	/**
+	 * Return the uuid of the user who requested the action. The user will be set as publisher of the published versions.
+	 *
+	 * @return
+	 */
+	String getUserUuid();
+
+	/**
+	 * Set the uuid of the user who requested the action.
+	 *
+	 * @param uuid
+	 */
+	void setUserUuid(String uuid);
+
+	/**
+	 * Return the amount of nodes in the subtree which was determined when the job was started.
+	 *
+	 * @return
+	 */
+	long getTotalCount();
+
+	/**
+	 * Set the amount of nodes in the subtree.
+	 *
+	 * @param count
+	 */
+	void setTotalCount(long count);
+
+	/**
+	 * Return the ordering key of the last processed node. An interrupted job continues with the nodes after this key.
+	 *
+	 * @return Key or null, if no node has been processed yet
+	 */
+	String getLastProcessedKey();
+
+	/**
+	 * Set the ordering key of the last processed node.
+	 *
+	 * @param key
+	 */
+	void setLastProcessedKey(String key);
+}
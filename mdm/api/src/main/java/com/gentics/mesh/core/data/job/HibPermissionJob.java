@@ -0,0 +1,110 @@
+package com.gentics.mesh.core.data.job;
+
+import java.util.Set;
+
+import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
+
+/**
+ * Extension of {@link HibJob} for jobs which recursively grant and revoke the permissions of a role on a subtree of nodes or on all nodes of a project.
+ */
+public interface HibPermissionJob extends HibJob {
+
+	/**
+	 * Get the project reference of the job.
+	 *
+	 * @return
+	 */
+	HibProject getProject();
+
+	/**
+	 * Set the project reference for the job.
+	 *
+	 * @param project
+	 */
+	void setProject(HibProject project);
+
+	/**
+	 * Return the uuid of the root node of the subtree. When no node uuid is set, the job changes the permissions of all nodes of the project.
+	 *
+	 * @return
+	 */
+	String getNodeUuid();
+
+	/**
+	 * Set the uuid of the root node of the subtree.
+	 *
+	 * @param uuid
+	 */
+	void setNodeUuid(String uuid);
+
+	/**
+	 * Return the uuid of the role whose permissions are changed.
+	 *
+	 * @return
+	 */
+	String getRoleUuid();
+
+	/**
+	 * Set the uuid of the role whose permissions are changed.
+	 *
+	 * @param uuid
+	 */
+	void setRoleUuid(String uuid);
+
+	/**
+	 * Return the uuid of the user who requested the action. The user needs read permission on every node of the subtree.
+	 *
+	 * @return
+	 */
+	String getUserUuid();
+
+	/**
+	 * Set the uuid of the user who requested the action.
+	 *
+	 * @param uuid
+	 */
+	void setUserUuid(String uuid);
+
+	/**
+	 * Return the permissions which are granted to the role.
+	 *
+	 * @return
+	 */
+	Set<InternalPermission> getPermissionsToGrant();
+
+	/**
+	 * Set the permissions which are granted to the role.
+	 *
+	 * @param permissions
+	 */
+	void setPermissionsToGrant(Set<InternalPermission> permissions);
+
+	/**
+	 * Return the permissions which are revoked from the role.
+	 *
+	 * @return
+	 */
+	Set<InternalPermission> getPermissionsToRevoke();
+
+	/**
+	 * Set the permissions which are revoked from the role.
+	 *
+	 * @param permissions
+	 */
+	void setPermissionsToRevoke(Set<InternalPermission> permissions);
+
+	/**
+	 * Return the amount of nodes which was determined when the job was started.
+	 *
+	 * @return
+	 */
+	long getTotalCount();
+
+	/**
+	 * Set the amount of nodes.
+	 *
+	 * @param count
+	 */
+	void setTotalCount(long count);
+}
@@ -36,4 +36,47 @@ public interface HibVersionPurgeJob extends HibJob {
 	 * @param time
 	 */
 	void setMaxAge(ZonedDateTime time);
+
+	/**
+	 * Return the amount of nodes in the project which was determined when the job was started. The completion count of the job is the amount of those nodes
+	 * which have already been processed.
+	 *
+	 * @return
+	 */
+	long getTotalCount();
+
+	/**
+	 * Set the amount of nodes in the project.
+	 *
+	 * @param count
+	 */
+	void setTotalCount(long count);
+
+	/**
+	 * Return the amount of versions which have been purged so far.
+	 *
+	 * @return
+	 */
+	long getPurgedCount();
+
+	/**
+	 * Set the amount of versions which have been purged so far.
+	 *
+	 * @param count
+	 */
+	void setPurgedCount(long count);
+
+	/**
+	 * Return the uuid of the last node up to which all nodes have been processed. An interrupted job continues after this node.
+	 *
+	 * @return
+	 */
+	String getLastNodeUuid();
+
+	/**
+	 * Set the uuid of the last node up to which all nodes have been processed.
+	 *
+	 * @param uuid
+	 */
+	void setLastNodeUuid(String uuid);
 }
@@ -121,6 +121,19 @@ public interface HibNode extends HibCoreElement<NodeResponse>, HibCreatorTrackin
 	 */
 	boolean isBaseNode();
 	
+	/**
+	 * Return the content revision of the node. The revision is changed whenever the rendered representation of the node changes (contents, publish state,
+	 * tags or location) and is used to compute the etag of the node. The children info is not covered by the revision.
+	 *
+	 * @return Revision or null for nodes which have not been changed since revisions are maintained
+	 */
+	String getRevision();
+
+	/**
+	 * Assign a new content revision to the node.
+	 */
+	void bumpRevision();
+
 	/**
 	 * Transform the node information to a minimal reference which does not include language or type information.
 	 *
@@ -14,7 +14,8 @@ import io.vertx.reactivex.core.buffer.Buffer;
 public interface S3BinaryStorage {
 
 	/**
-	 * Read the S3 binary data which is identified by the given bucketname and objectkey.
+	 * Read the S3 binary data which is identified by the given bucketname and objectkey. The data is streamed in chunks, which are fetched from S3 when they
+	 * are requested by the subscriber.
 	 *
 	 * @param bucketName
 	 * @param objectKey
@@ -22,6 +23,29 @@ public interface S3BinaryStorage {
 	 */
 	Flowable<Buffer> read(String bucketName, String objectKey);
 
+	/**
+	 * Read the given range of the S3 binary data which is identified by the given bucketname and objectkey. The data is streamed in chunks.
+	 *
+	 * @param bucketName
+	 * @param objectKey
+	 * @param start
+	 *            Index of the first byte to read
+	 * @param end
+	 *            Index of the last byte to read (inclusive)
+	 * @return
+	 */
+	Flowable<Buffer> read(String bucketName, String objectKey, long start, long end);
+
+	/**
+	 * Download the S3 binary data which is identified by the given bucketname and objectkey into the given file. An existing file will be replaced.
+	 *
+	 * @param bucketName
+	 * @param objectKey
+	 * @param target
+	 * @return
+	 */
+	Completable readToFile(String bucketName, String objectKey, File target);
+
 
 	/**
 	 * Create a presigned URL that can be used for a given time period.
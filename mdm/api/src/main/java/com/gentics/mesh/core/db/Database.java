@@ -12,6 +12,7 @@ import com.gentics.mesh.core.data.HibElement;
 import com.gentics.mesh.core.db.cluster.ClusterManager;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigResponse;
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.util.ETag;
@@ -23,6 +24,7 @@ import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Function;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -199,6 +201,33 @@ public interface Database extends TxFactory {
 	 */
 	void restoreDatabase(String backupFile) throws IOException;
 
+	/**
+	 * Create an incremental database backup. Only the changes since the last incremental backup will be written. A new backup chain which starts with a
+	 * full backup will be created when no chain exists or the current chain reached the configured length.
+	 * 
+	 * @param backupDirectory
+	 * @throws IOException
+	 * @return The path of the created backup file.
+	 */
+	String incrementalBackupDatabase(String backupDirectory) throws IOException;
+
+	/**
+	 * Restore the database from a chain of incremental backups.
+	 * 
+	 * @param chainDirectory
+	 * @throws IOException
+	 */
+	void restoreIncrementalDatabase(String chainDirectory) throws IOException;
+
+	/**
+	 * Restore a copy of the given backup chain and verify its consistency. The live database will not be affected.
+	 * 
+	 * @param chainDirectory
+	 * @throws IOException
+	 * @return Result of the verification
+	 */
+	ConsistencyCheckResponse verifyBackup(String chainDirectory) throws IOException;
+
 	/**
 	 * Generate the database revision change by generating a hash over all database changes and the database vendor version.
 	 * 
@@ -240,6 +269,15 @@ public interface Database extends TxFactory {
 	 */
 	<T extends HibElement> Iterator<? extends T> getElementsForType(Class<T> classOfVertex);
 
+	/**
+	 * Return the statistics of the transaction conflicts which caused transactions to be retried.
+	 *
+	 * @return Statistics or null if the database does not track conflicts
+	 */
+	default JsonObject getTxConflictStatistics() {
+		return null;
+	}
+
 	/**
 	 * Check if DB is ready for serve.
 	 * 
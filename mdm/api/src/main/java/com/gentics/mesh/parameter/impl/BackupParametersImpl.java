@@ -44,6 +44,16 @@ public class BackupParametersImpl extends AbstractParameters implements BackupPa
 		consistencyCheck.setType(ParamType.BOOLEAN);
 		parameters.put(CONSISTENCY_CHECK_PARAMETER_KEY, consistencyCheck);
 
+		// incremental
+		QueryParameter incremental = new QueryParameter();
+		incremental.setDefaultValue("false");
+		incremental.setDescription("Specify whether only the changes since the last incremental backup should be written. "
+			+ "The consistency check of an incremental backup is run on a restored copy after the backup has been written.");
+		incremental.setExample("true");
+		incremental.setRequired(false);
+		incremental.setType(ParamType.BOOLEAN);
+		parameters.put(INCREMENTAL_PARAMETER_KEY, incremental);
+
 		return parameters;
 	}
 
@@ -0,0 +1,51 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
+
+/**
+ * @see ConsistencyCheckParameters
+ */
+public class ConsistencyCheckParametersImpl extends AbstractParameters implements ConsistencyCheckParameters {
+
+	public ConsistencyCheckParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public ConsistencyCheckParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+	}
+
+	@Override
+	public String getName() {
+		return "Consistency check parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// resume
+		QueryParameter resume = new QueryParameter();
+		resume.setDefaultValue("false");
+		resume.setDescription("Specify whether the check should continue from the checkpoint of a previously interrupted check. "
+			+ "Partitions which have already been processed will be skipped and their stored results will be included in the response.");
+		resume.setExample("true");
+		resume.setRequired(false);
+		resume.setType(ParamType.BOOLEAN);
+		parameters.put(RESUME_PARAMETER_KEY, resume);
+
+		return parameters;
+	}
+
+}
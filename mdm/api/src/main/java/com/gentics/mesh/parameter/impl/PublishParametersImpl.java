@@ -45,6 +45,16 @@ public class PublishParametersImpl extends AbstractParameters implements Publish
 		recursiveParameter.setType(ParamType.BOOLEAN);
 		parameters.put(RECURSIVE_PARAMETER_KEY, recursiveParameter);
 
+		// background
+		QueryParameter backgroundParameter = new QueryParameter();
+		backgroundParameter.setDefaultValue("false");
+		backgroundParameter.setDescription("Specify whether a recursive action should be processed by a job in the background. "
+			+ "The job processes the subtree in batches and reports its progress in the completion count.");
+		backgroundParameter.setExample("true");
+		backgroundParameter.setRequired(false);
+		backgroundParameter.setType(ParamType.BOOLEAN);
+		parameters.put(BACKGROUND_PARAMETER_KEY, backgroundParameter);
+
 		return parameters;
 	}
 
@@ -140,6 +140,18 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 		this.parameters.add(name, value);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public void send(RestModel restModel, HttpResponseStatus status) {
+		// Pass the model directly instead of serializing and parsing it
+		if (classOfResponse.isInstance(restModel)) {
+			this.responseStatus = status;
+			promise.complete((T) restModel);
+		} else {
+			super.send(restModel, status);
+		}
+	}
+
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
 		this.responseBody = body;
@@ -0,0 +1,36 @@
+package com.gentics.mesh.context.impl;
+
+import com.gentics.mesh.core.data.user.HibUser;
+
+/**
+ * Action context implementation which will be used by the jobs which recursively publish or take offline a subtree of nodes.
+ */
+public class NodePublishActionContextImpl extends NodeMigrationActionContextImpl {
+
+	private HibUser user;
+
+	/**
+	 * Set the user who requested the action.
+	 *
+	 * @param user
+	 */
+	public void setUser(HibUser user) {
+		this.user = user;
+	}
+
+	@Override
+	public HibUser getUser() {
+		return user != null ? user : super.getUser();
+	}
+
+	@Override
+	public boolean isMigrationContext() {
+		return false;
+	}
+
+	@Override
+	public boolean isPurgeAllowed() {
+		// Publishing within the job should purge versions in the same way as a publish request does
+		return true;
+	}
+}
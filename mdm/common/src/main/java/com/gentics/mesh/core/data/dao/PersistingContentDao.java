@@ -145,6 +145,30 @@ public interface PersistingContentDao extends ContentDao {
 		batch.add(onUpdated(container, newBranch.getUuid(), containerType));
 	}
 
+	/**
+	 * Migrate the field container edge of a node onto the new branch. Unlike {@link #migrateContainerOntoBranch(HibNodeFieldContainer, HibBranch, HibNode, EventQueueBatch, ContainerType, boolean)}
+	 * the webroot segment info and the url field info are copied from the edge of the old branch instead of being computed from the fields of the container.
+	 * This requires the parent of the node to be the same in both branches, which is the case right after the parent edges were migrated.
+	 *
+	 * @param edge edge of the old branch
+	 * @param newBranch branch to migrate to
+	 * @param batch event queue for the notifications
+	 * @param setInitial whether the initial edge should also be created
+	 */
+	default void migrateContainerEdgeOntoBranch(HibNodeFieldContainerEdge edge, HibBranch newBranch, EventQueueBatch batch, boolean setInitial) {
+		HibNode node = edge.getNode();
+		HibNodeFieldContainer container = edge.getNodeContainer();
+		String languageTag = edge.getLanguageTag();
+		ContainerType containerType = edge.getType();
+		if (setInitial) {
+			createContainerEdge(node, container, newBranch, languageTag, INITIAL);
+		}
+		HibNodeFieldContainerEdge newEdge = createContainerEdge(node, container, newBranch, languageTag, containerType);
+		newEdge.setSegmentInfo(edge.getSegmentInfo());
+		newEdge.setUrlFieldInfo(edge.getUrlFieldInfo());
+		batch.add(onUpdated(container, newBranch.getUuid(), containerType));
+	}
+
 	/**
 	 * 
 	 * @param branchUuid
@@ -519,6 +543,8 @@ public interface PersistingContentDao extends ContentDao {
 		NodeMeshEventModel model = new NodeMeshEventModel();
 		model.setEvent(event);
 		HibNode node = getParentNode(container, branchUuid);
+		// Every change of a content is accompanied by an event. The change of the node response is tracked via the revision.
+		node.bumpRevision();
 		String nodeUuid = node.getUuid();
 		model.setUuid(nodeUuid);
 		model.setBranchUuid(branchUuid);
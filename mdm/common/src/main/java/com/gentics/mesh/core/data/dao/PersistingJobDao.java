@@ -7,6 +7,10 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.job.HibNodePublishJob;
+import com.gentics.mesh.core.data.job.HibPermissionJob;
+import com.gentics.mesh.core.data.job.HibVersionPurgeJob;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.HibMicroschema;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchema;
@@ -82,6 +86,32 @@ public interface PersistingJobDao extends JobDao, PersistingDaoGlobal<HibJob> {
 			props.put("fromVersion", job.getFromMicroschemaVersion().getVersion());
 			props.put("toVersion", toMicroschema.getVersion());
 		}
+
+		if (job instanceof HibNodePublishJob) {
+			HibNodePublishJob publishJob = (HibNodePublishJob) job;
+			props.put("nodeUuid", publishJob.getNodeUuid());
+			props.put("totalCount", String.valueOf(publishJob.getTotalCount()));
+		}
+
+		if (job instanceof HibVersionPurgeJob) {
+			HibVersionPurgeJob purgeJob = (HibVersionPurgeJob) job;
+			props.put("totalCount", String.valueOf(purgeJob.getTotalCount()));
+			props.put("purgedCount", String.valueOf(purgeJob.getPurgedCount()));
+		}
+
+		if (job instanceof HibPermissionJob) {
+			HibPermissionJob permissionJob = (HibPermissionJob) job;
+			HibProject project = permissionJob.getProject();
+			if (project != null) {
+				props.put("projectName", project.getName());
+				props.put("projectUuid", project.getUuid());
+			}
+			if (permissionJob.getNodeUuid() != null) {
+				props.put("nodeUuid", permissionJob.getNodeUuid());
+			}
+			props.put("roleUuid", permissionJob.getRoleUuid());
+			props.put("totalCount", String.valueOf(permissionJob.getTotalCount()));
+		}
 		return response;
 	}
 
@@ -36,6 +36,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -49,6 +50,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import com.gentics.graphqlfilter.filter.operation.FilterOperation;
+import com.gentics.mesh.cache.NavigationCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.HibLanguage;
@@ -57,6 +59,7 @@ import com.gentics.mesh.core.data.HibNodeFieldContainerEdge;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.diff.FieldContainerChange;
 import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.node.NavigationTreeNode;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.node.field.nesting.HibNodeField;
 import com.gentics.mesh.core.data.page.Page;
@@ -103,7 +106,6 @@ import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.DeleteParameters;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.LinkType;
-import com.gentics.mesh.parameter.NavigationParameters;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.PublishParameters;
@@ -513,6 +515,19 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 	 *            Rest model which will be updated
 	 */
 	private void setChildrenInfo(HibNode node, InternalActionContext ac, HibBranch branch, NodeResponse restNode) {
+		restNode.setChildrenInfo(getChildrenInfo(node, ac, branch));
+	}
+
+	/**
+	 * Count the children which are visible to the user per schema.
+	 *
+	 * @param node
+	 * @param ac
+	 * @param branch
+	 *            Branch which will be used to identify the branch specific child nodes
+	 * @return Children info per schema name
+	 */
+	private Map<String, NodeChildrenInfo> getChildrenInfo(HibNode node, InternalActionContext ac, HibBranch branch) {
 		Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
 		UserDao userDao = Tx.get().userDao();
 
@@ -531,7 +546,7 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 				}
 			}
 		}
-		restNode.setChildrenInfo(childrenInfo);
+		return childrenInfo;
 	}
 
 	/**
@@ -635,6 +650,7 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		}
 
 		setParentNode(sourceNode, branchUuid, targetNode);
+		sourceNode.bumpRevision();
 
 		// Update published graph field containers
 		contentDao.getFieldContainers(sourceNode, branchUuid, PUBLISHED).stream().forEach(container -> {
@@ -665,61 +681,107 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		if (parameters.getMaxDepth() < 0) {
 			throw error(BAD_REQUEST, "navigation_error_invalid_max_depth");
 		}
-		Tx tx = Tx.get();
+		CommonTx tx = CommonTx.get();
 		// TODO assure that the schema version is correct
 		if (!node.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 			throw error(BAD_REQUEST, "navigation_error_no_container");
 		}
 		List<String> languageList = ac.getNodeParameters().getLanguageList(tx.data().options());
+		String branchUuid = tx.getBranch(ac, node.getProject()).getUuid();
+		ContainerType type = forVersion(ac.getVersioningParameters().getVersion());
 
-		String etagKey = buildNavigationEtagKey(ac, node, parameters.getMaxDepth(), 0, tx.getBranch(ac, node.getProject()).getUuid(), forVersion(ac
-				.getVersioningParameters().getVersion()), languageList);
-		String etag = ETag.hash(etagKey);
+		// Load the visible tree once. It is used for the etag and for the response.
+		NavigationTreeNode root = loadNavigationTree(ac, node, parameters.getMaxDepth(), parameters.isIncludeAll(), branchUuid, type, languageList);
+		String etag = root.getETag();
 		ac.setEtag(etag, true);
 		if (ac.matches(etag, true)) {
 			throw new NotModifiedException();
 		} else {
+			NavigationCache cache = tx.data().mesh().navigationCache();
+			String cacheKeyPrefix = tx.userDao().getRolesHash(ac.getUser()) + "-" + ac.isAdmin() + "-" + branchUuid + "-" + ac.query() + "-";
+			NavigationElement element = buildNavigationElement(ac, root, cache, cacheKeyPrefix);
 			NavigationResponse response = new NavigationResponse();
-			return buildNavigationResponse(ac, node, parameters.getMaxDepth(), 0, response, response, tx.getBranch(ac, node.getProject()).getUuid(),
-					forVersion(ac.getVersioningParameters().getVersion()), languageList);
+			response.setUuid(element.getUuid());
+			response.setNode(element.getNode());
+			response.setChildren(element.getChildren());
+			return response;
 		}
 	}
 
 	/**
-	 * Generate the etag key for the requested navigation.
+	 * Load the tree of visible nodes for the navigation. The tree is loaded level by level so that the children of all nodes of a level can be loaded with a
+	 * single batch call. The etag of each subtree is computed from the etag of the node and the etags of its child subtrees.
 	 *
 	 * @param ac
-	 * @param node       Current node to start building the navigation
+	 * @param node       Root node of the navigation
 	 * @param maxDepth   Maximum depth of navigation
-	 * @param level      Current level of recursion
+	 * @param includeAll Whether non container nodes should be included
 	 * @param branchUuid Branch uuid used to extract selected tree structure
-	 * @param type
-	 * @param languages list of languages
-	 * @return
+	 * @param type       Container type to be used for the language and permission check
+	 * @param languages  List of languages
+	 * @return Root of the loaded tree
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, HibNode node, int maxDepth, int level, String branchUuid, ContainerType type, List<String> languages) {
-		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
-		StringBuilder builder = new StringBuilder();
-		builder.append(node.getETag(ac));
-
-		List<HibNode> nodes = getChildren(node, ac.getUser(), branchUuid, languages, type).collect(Collectors.toList());
-
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return builder.toString();
+	private NavigationTreeNode loadNavigationTree(InternalActionContext ac, HibNode node, int maxDepth, boolean includeAll, String branchUuid,
+			ContainerType type, List<String> languages) {
+		NavigationTreeNode root = new NavigationTreeNode(node, 0);
+		List<NavigationTreeNode> allElements = new ArrayList<>();
+		List<NavigationTreeNode> currentLevel = Collections.singletonList(root);
+		while (!currentLevel.isEmpty()) {
+			allElements.addAll(currentLevel);
+			// Elements which reached the max level don't need their children
+			List<NavigationTreeNode> expandable = currentLevel.stream()
+				.filter(element -> element.getLevel() < maxDepth)
+				.collect(Collectors.toList());
+			if (expandable.isEmpty()) {
+				break;
+			}
+			Map<HibNode, List<HibNode>> childrenMap = getVisibleChildren(expandable.stream().map(NavigationTreeNode::getNode).collect(Collectors.toList()),
+				ac.getUser(), branchUuid, languages, type);
+			List<NavigationTreeNode> nextLevel = new ArrayList<>();
+			for (NavigationTreeNode element : expandable) {
+				for (HibNode child : childrenMap.getOrDefault(element.getNode(), Collections.emptyList())) {
+					// TODO assure that the schema version is correct?
+					// TODO also allow navigations over containers
+					NavigationTreeNode childElement;
+					if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+						childElement = new NavigationTreeNode(child, element.getLevel() + 1);
+					} else if (includeAll) {
+						childElement = new NavigationTreeNode(child, element.getLevel());
+					} else {
+						continue;
+					}
+					element.getChildren().add(childElement);
+					nextLevel.add(childElement);
+				}
+			}
+			currentLevel = nextLevel;
 		}
-		for (HibNode child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type, languages));
-			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type, languages));
+
+		// Compute the subtree etags bottom up
+		for (int i = allElements.size() - 1; i >= 0; i--) {
+			NavigationTreeNode element = allElements.get(i);
+			StringBuilder builder = new StringBuilder();
+			builder.append(element.getNode().getETag(ac));
+			for (NavigationTreeNode child : element.getChildren()) {
+				builder.append(child.getETag());
 			}
+			element.setETag(ETag.hash(builder.toString()));
 		}
-		return builder.toString();
+		return root;
 	}
 
-	private Stream<? extends HibNode> getChildren(HibNode node, HibUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+	/**
+	 * Load the children of the given nodes which are visible to the user and which contain at least one of the requested languages.
+	 *
+	 * @param nodes
+	 * @param requestUser
+	 * @param branchUuid
+	 * @param languageTags
+	 * @param type
+	 * @return Map of the nodes to their visible children
+	 */
+	private Map<HibNode, List<HibNode>> getVisibleChildren(Collection<HibNode> nodes, HibUser requestUser, String branchUuid, List<String> languageTags,
+			ContainerType type) {
 		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
 		UserDao userRoot = Tx.get().userDao();
 		ContentDao contentDao = Tx.get().contentDao();
@@ -727,65 +789,44 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		Predicate<HibNode> languageFilter = languageTags == null || languageTags.isEmpty()
 				? item -> true
 				: item -> languageTags.stream().anyMatch(languageTag -> contentDao.getFieldContainer(item, languageTag, branchUuid, type) != null);
+		Predicate<HibNode> filter = languageFilter.and(item -> userRoot.hasPermission(requestUser, item, perm));
 
-		return getChildren(node, branchUuid)
-				.stream()
-				.filter(languageFilter.and(item -> userRoot.hasPermission(requestUser, item, perm)));
+		Map<HibNode, List<HibNode>> visible = new HashMap<>();
+		getChildren(nodes, branchUuid).forEach((parent, children) -> {
+			visible.put(parent, children.stream().filter(filter).collect(Collectors.toList()));
+		});
+		return visible;
 	}
 
 	/**
-	 * Recursively build the navigation response.
+	 * Build the navigation element for the given tree. Subtrees which were already rendered with the same etag for the same roles and request parameters are
+	 * taken from the navigation cache.
 	 *
 	 * @param ac             Action context
-	 * @param node           Current node that should be handled in combination with the given navigation element
-	 * @param maxDepth       Maximum depth for the navigation
-	 * @param level          Zero based level of the current navigation element
-	 * @param navigation     Current navigation response
-	 * @param currentElement Current navigation element for the given level
-	 * @param branchUuid     Branch uuid to be used for loading children of nodes
-	 * @param type           container type to be used for transformation
-	 * @param languages      languages
+	 * @param treeNode       Loaded tree
+	 * @param cache          Navigation cache
+	 * @param cacheKeyPrefix Prefix of the cache key which identifies the roles of the user and the request parameters
 	 * @return
 	 */
-	private NavigationResponse buildNavigationResponse(InternalActionContext ac, HibNode node, int maxDepth, int level,
-													   NavigationResponse navigation, NavigationElement currentElement, String branchUuid, ContainerType type, List<String> languages) {
-		List<HibNode> nodes = getChildren(node, ac.getUser(), branchUuid, languages, type).collect(Collectors.toList());
-		List<NavigationResponse> responses = new ArrayList<>();
-
-		NodeResponse response = transformToRestSync(node, ac, 0);
-		currentElement.setUuid(response.getUuid());
-		currentElement.setNode(response);
-		responses.add(navigation);
-
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return responses.get(responses.size() - 1);
-		}
-		NavigationParameters parameters = new NavigationParametersImpl(ac);
-		// Add children
-		for (HibNode child : nodes) {
-			// TODO assure that the schema version is correct?
-			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				NavigationElement childElement = new NavigationElement();
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				currentElement.getChildren().add(childElement);
-				responses.add(buildNavigationResponse(ac, child, maxDepth, level + 1, navigation, childElement, branchUuid, type, languages));
-			} else if (parameters.isIncludeAll()) {
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				NavigationElement childElement = new NavigationElement();
-				currentElement.getChildren().add(childElement);
-				responses.add(buildNavigationResponse(ac, child, maxDepth, level, navigation, childElement, branchUuid, type, languages));
+	private NavigationElement buildNavigationElement(InternalActionContext ac, NavigationTreeNode treeNode, NavigationCache cache, String cacheKeyPrefix) {
+		String cacheKey = cacheKeyPrefix + treeNode.getETag();
+		NavigationElement cached = cache.get(cacheKey);
+		if (cached != null) {
+			return cached;
+		}
+		NavigationElement element = new NavigationElement();
+		NodeResponse response = transformToRestSync(treeNode.getNode(), ac, 0);
+		element.setUuid(response.getUuid());
+		element.setNode(response);
+		if (!treeNode.getChildren().isEmpty()) {
+			List<NavigationElement> children = new ArrayList<>();
+			for (NavigationTreeNode child : treeNode.getChildren()) {
+				children.add(buildNavigationElement(ac, child, cache, cacheKeyPrefix));
 			}
+			element.setChildren(children);
 		}
-		return responses.get(responses.size() - 1);
+		cache.store(cacheKey, element);
+		return element;
 	}
 
 	@Override
@@ -1572,6 +1613,96 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 
 	@Override
 	default String getSubETag(HibNode node, InternalActionContext ac) {
+		CommonTx tx = CommonTx.get();
+		ContentDao contentDao = tx.contentDao();
+
+		// Nodes which have not been changed since revisions are maintained need the full key
+		String revision = node.getRevision();
+		if (revision == null) {
+			return buildFullSubETag(node, ac);
+		}
+
+		StringBuilder keyBuilder = new StringBuilder();
+		HibBranch branch = tx.getBranch(ac, node.getProject());
+		String branchUuid = branch.getUuid();
+		NodeParameters nodeParameters = ac.getNodeParameters();
+
+		keyBuilder.append(branchUuid);
+		keyBuilder.append("-");
+		keyBuilder.append(ac.getVersioningParameters().getVersion());
+		keyBuilder.append("-");
+
+		HibNodeFieldContainer container = contentDao.findVersion(node, nodeParameters.getLanguageList(tx.data().options()), branchUuid,
+			ac.getVersioningParameters().getVersion());
+		if (container == null) {
+			keyBuilder.append("404-no-container");
+			return keyBuilder.toString();
+		}
+		keyBuilder.append(contentDao.getETag(container, ac));
+
+		/**
+		 * Revision
+		 *
+		 * The revision changes whenever the contents, the publish state, the tags or the location of the node change.
+		 */
+		keyBuilder.append("-rev:");
+		keyBuilder.append(revision);
+
+		/**
+		 * Breadcrumb
+		 *
+		 * The display names and segments of the parent nodes are part of the breadcrumb and the paths. Changes to those will change the revision of the
+		 * parent.
+		 */
+		HibNode parent = getParentNode(node, branchUuid);
+		while (parent != null) {
+			String parentRevision = parent.getRevision();
+			if (parentRevision == null) {
+				return buildFullSubETag(node, ac);
+			}
+			keyBuilder.append(parent.getUuid());
+			keyBuilder.append(":");
+			keyBuilder.append(parentRevision);
+			parent = getParentNode(parent, branchUuid);
+		}
+
+		/**
+		 * Children info
+		 *
+		 * The children info depends on the children in the branch and on the permissions of the user on them. It is derived when the etag is computed, so that
+		 * creating, deleting or changing the permissions of a child does not need to write to the parent.
+		 */
+		keyBuilder.append("-children:");
+		new TreeMap<>(getChildrenInfo(node, ac, branch)).forEach((schemaName, info) -> {
+			keyBuilder.append(schemaName);
+			keyBuilder.append(":");
+			keyBuilder.append(info.getSchemaUuid());
+			keyBuilder.append(":");
+			keyBuilder.append(info.getCount());
+			keyBuilder.append(",");
+		});
+
+		// Request parameters which change the response
+		keyBuilder.append("-expand:");
+		keyBuilder.append(nodeParameters.getExpandAll());
+		keyBuilder.append(Arrays.toString(nodeParameters.getExpandedFieldNames()));
+		keyBuilder.append("-links:");
+		keyBuilder.append(nodeParameters.getResolveLinks());
+
+		if (log.isDebugEnabled()) {
+			log.debug("Creating etag from key {" + keyBuilder.toString() + "}");
+		}
+		return keyBuilder.toString();
+	}
+
+	/**
+	 * Build the etag key by inspecting all elements which are part of the node response. This is used for nodes which don't have a revision yet.
+	 *
+	 * @param node
+	 * @param ac
+	 * @return
+	 */
+	private String buildFullSubETag(HibNode node, InternalActionContext ac) {
 		CommonTx tx = CommonTx.get();
 		UserDao userDao = tx.userDao();
 		TagDao tagDao = tx.tagDao();
@@ -1847,6 +1978,8 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 
 	@Override
 	default NodeTaggedEventModel onTagged(HibNode node, HibTag tag, HibBranch branch, Assignment assignment) {
+		// Tags are part of the node response
+		node.bumpRevision();
 		NodeTaggedEventModel model = new NodeTaggedEventModel();
 		model.setTag(tag.transformToReference());
 
@@ -1895,6 +2028,7 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		HibNode node = create(creator, schemaVersion, project, uuid);
 		setParentNode(node, branch.getUuid(), parentNode);
 		node.setSchemaContainer(schemaVersion.getSchemaContainer());
+		node.bumpRevision();
 		// setCreated(creator);
 		return node;
 	}
@@ -184,6 +184,10 @@ public interface PersistingTagDao extends TagDao, PersistingDaoGlobal<HibTag>, P
 				tag.setEditor(ac.getUser());
 				tag.setLastEditedTimestamp();
 				tag.setName(newTagName);
+				// The tag name is part of the responses of the tagged nodes
+				for (HibBranch branch : Tx.get().branchDao().findAll(tag.getProject())) {
+					getNodes(tag, branch).forEach(HibNode::bumpRevision);
+				}
 				batch.add(tag.onUpdated());
 				return true;
 			}
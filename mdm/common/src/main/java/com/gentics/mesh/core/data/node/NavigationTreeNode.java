@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.data.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Node of the tree which is loaded in order to build a navigation response. The tree contains the visible nodes of the navigation and is used to compute the
+ * navigation etag and to build the response without loading the children again.
+ */
+public class NavigationTreeNode {
+
+	private final HibNode node;
+
+	private final int level;
+
+	private final List<NavigationTreeNode> children = new ArrayList<>();
+
+	private String etag;
+
+	public NavigationTreeNode(HibNode node, int level) {
+		this.node = node;
+		this.level = level;
+	}
+
+	/**
+	 * Return the node of this navigation element.
+	 *
+	 * @return
+	 */
+	public HibNode getNode() {
+		return node;
+	}
+
+	/**
+	 * Return the zero based level of the element. Non container nodes share the level with their parent.
+	 *
+	 * @return
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Return the visible children of the element.
+	 *
+	 * @return
+	 */
+	public List<NavigationTreeNode> getChildren() {
+		return children;
+	}
+
+	/**
+	 * Return the etag of the subtree which starts at this element.
+	 *
+	 * @return
+	 */
+	public String getETag() {
+		return etag;
+	}
+
+	/**
+	 * Set the etag of the subtree which starts at this element.
+	 *
+	 * @param etag
+	 * @return Fluent API
+	 */
+	public NavigationTreeNode setETag(String etag) {
+		this.etag = etag;
+		return this;
+	}
+}
@@ -18,7 +18,22 @@ public interface ConsistencyCheck {
 	 * @param attemptRepair
 	 * @return Result of the consistency check
 	 */
-	ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair);
+	default ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+		return invoke(db, tx, ConsistencyCheckContext.sequential(attemptRepair));
+	}
+
+	/**
+	 * Invoke the consistency check using the given context and return the result.
+	 * 
+	 * @param db
+	 *            database
+	 * @param tx
+	 *            current transaction
+	 * @param context
+	 *            context which defines whether and how the elements are partitioned
+	 * @return Result of the consistency check
+	 */
+	ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context);
 
 	/**
 	 * Return the public name of the check.
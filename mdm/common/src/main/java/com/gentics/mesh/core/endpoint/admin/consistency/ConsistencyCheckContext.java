@@ -0,0 +1,176 @@
+package com.gentics.mesh.core.endpoint.admin.consistency;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Context of a consistency check run. The context defines whether the elements are processed sequentially within the current transaction or in partitions
+ * which are processed by a worker pool. For partitioned runs the context also provides the rate limiter, the checkpoint and the listener for completed
+ * partitions.
+ */
+public class ConsistencyCheckContext {
+
+	private static final Logger log = LoggerFactory.getLogger(ConsistencyCheckContext.class);
+
+	private final boolean attemptRepair;
+
+	private ExecutorService executor;
+
+	private int partitionSize;
+
+	private RateLimiter rateLimiter;
+
+	private ConsistencyCheckpoint checkpoint;
+
+	private PartitionListener listener;
+
+	public ConsistencyCheckContext(boolean attemptRepair) {
+		this.attemptRepair = attemptRepair;
+	}
+
+	/**
+	 * Create a context which processes all elements sequentially within the current transaction.
+	 * 
+	 * @param attemptRepair
+	 * @return
+	 */
+	public static ConsistencyCheckContext sequential(boolean attemptRepair) {
+		return new ConsistencyCheckContext(attemptRepair);
+	}
+
+	public boolean isAttemptRepair() {
+		return attemptRepair;
+	}
+
+	/**
+	 * Check whether the elements should be processed in partitions by the worker pool.
+	 * 
+	 * @return
+	 */
+	public boolean isPartitioned() {
+		return executor != null;
+	}
+
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Set the worker pool which processes the partitions.
+	 * 
+	 * @param executor
+	 * @param partitionSize
+	 *            Maximum amount of elements per partition
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setExecutor(ExecutorService executor, int partitionSize) {
+		this.executor = executor;
+		this.partitionSize = partitionSize;
+		return this;
+	}
+
+	public int getPartitionSize() {
+		return partitionSize;
+	}
+
+	/**
+	 * Set the rate limiter which limits the amount of processed elements per second.
+	 * 
+	 * @param rateLimiter
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setRateLimiter(RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+		return this;
+	}
+
+	public ConsistencyCheckpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+	/**
+	 * Set the checkpoint which stores the results of the processed partitions.
+	 * 
+	 * @param checkpoint
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setCheckpoint(ConsistencyCheckpoint checkpoint) {
+		this.checkpoint = checkpoint;
+		return this;
+	}
+
+	/**
+	 * Set the listener which will be informed about processed partitions.
+	 * 
+	 * @param listener
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setListener(PartitionListener listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * Acquire the permit to process the next element. This will block when the configured rate limit has been reached.
+	 */
+	public void acquire() {
+		if (rateLimiter != null) {
+			rateLimiter.acquire();
+		}
+	}
+
+	/**
+	 * Return the result of the partition in case it has already been processed by a previous run.
+	 * 
+	 * @param key
+	 * @return Stored result or null if the partition needs to be processed
+	 */
+	public ConsistencyCheckResult getCompletedPartition(String key) {
+		return checkpoint == null ? null : checkpoint.get(key);
+	}
+
+	/**
+	 * Record the result of the processed partition.
+	 * 
+	 * @param key
+	 * @param count
+	 *            Amount of processed elements
+	 * @param result
+	 */
+	public void completePartition(String key, long count, ConsistencyCheckResult result) {
+		if (checkpoint != null) {
+			try {
+				checkpoint.complete(key, result);
+			} catch (IOException e) {
+				log.error("Could not write the consistency check checkpoint for partition {" + key + "}", e);
+			}
+		}
+		if (listener != null) {
+			listener.onPartition(key, count, result);
+		}
+	}
+
+	/**
+	 * Listener for processed partitions.
+	 */
+	@FunctionalInterface
+	public static interface PartitionListener {
+
+		/**
+		 * Invoked once the partition has been processed.
+		 * 
+		 * @param key
+		 *            Key of the partition
+		 * @param count
+		 *            Amount of processed elements
+		 * @param result
+		 *            Result of the partition
+		 */
+		void onPartition(String key, long count, ConsistencyCheckResult result);
+	}
+}
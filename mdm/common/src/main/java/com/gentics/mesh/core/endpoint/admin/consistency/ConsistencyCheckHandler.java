@@ -1,12 +1,19 @@
 package com.gentics.mesh.core.endpoint.admin.consistency;
 
+import static com.gentics.mesh.core.rest.MeshEvent.CONSISTENCY_CHECK_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_START;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,11 +21,19 @@ import javax.inject.Singleton;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Transactional;
+import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.ConsistencyCheckOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.json.JsonUtil;
+import com.google.common.util.concurrent.RateLimiter;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -34,13 +49,15 @@ public class ConsistencyCheckHandler extends AbstractHandler {
 	private final Database db;
 	private final HandlerUtilities utils;
 	private final Vertx vertx;
+	private final MeshOptions options;
 
 	@Inject
-	public ConsistencyCheckHandler(Vertx vertx, Database db, HandlerUtilities utils, List<ConsistencyCheck> checks) {
+	public ConsistencyCheckHandler(Vertx vertx, Database db, HandlerUtilities utils, List<ConsistencyCheck> checks, MeshOptions options) {
 		this.vertx = vertx;
 		this.db = db;
 		this.utils = utils;
 		this.checks = checks;
+		this.options = options;
 	}
 
 	/**
@@ -68,36 +85,101 @@ public class ConsistencyCheckHandler extends AbstractHandler {
 			if (!ac.getUser().isAdmin()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
-			return checkConsistency(attemptRepair).runInExistingTx(tx);
+			return checkConsistency(attemptRepair, ac.getConsistencyCheckParameters().isResume()).runInExistingTx(tx);
 		}, model -> ac.send(model, OK));
 	}
 
 	/**
-	 * Invoke the consistency check and (optional attempt a repair operation)
+	 * Invoke the consistency check and (optional attempt a repair operation). All elements are processed sequentially within the transaction in which the
+	 * returned transactional is run.
 	 * 
 	 * @param attemptRepair
 	 *            Whether to invoke a repair operation
 	 * @return Transactional for the operation which will return the check result
 	 */
 	public Transactional<ConsistencyCheckResponse> checkConsistency(boolean attemptRepair) {
+		return db.transactional(tx -> runChecks(tx, ConsistencyCheckContext.sequential(attemptRepair)));
+	}
+
+	/**
+	 * Invoke the consistency check and (optional attempt a repair operation). The elements are split into partitions which are processed by a worker pool,
+	 * each partition within its own transaction. The results of the processed partitions are stored in a checkpoint and published via the
+	 * {@link com.gentics.mesh.core.rest.MeshEvent#CONSISTENCY_CHECK_PROGRESS} event.
+	 * 
+	 * @param attemptRepair
+	 *            Whether to invoke a repair operation
+	 * @param resume
+	 *            Whether to skip the partitions which have already been processed by a previous interrupted run
+	 * @return Transactional for the operation which will return the check result
+	 */
+	public Transactional<ConsistencyCheckResponse> checkConsistency(boolean attemptRepair, boolean resume) {
 		return db.transactional(tx -> {
-			log.info("Consistency check has been invoked. Repair: " + attemptRepair);
-			vertx.eventBus().publish(REPAIR_START.address, null);
-			ConsistencyCheckResponse response = new ConsistencyCheckResponse();
-			// Check domain model
-			for (ConsistencyCheck check : checks) {
-				log.info("Invoking {" + check.getName() + "} check.");
-				ConsistencyCheckResult result = check.invoke(db, tx, attemptRepair);
-				log.info("Check {" + check.getName() + "} completed.");
-				if (attemptRepair) {
-					log.info("Check {" + check.getName() + "} repaired {" + result.getRepairCount() + "} elements.");
+			ConsistencyCheckOptions checkOptions = options.getConsistencyCheckOptions();
+			File checkpointFile = ConsistencyCheckpoint.getFile(new File(checkOptions.getCheckpointDirectory()), attemptRepair);
+			ConsistencyCheckpoint checkpoint;
+			try {
+				checkpoint = ConsistencyCheckpoint.open(checkpointFile, resume);
+			} catch (IOException e) {
+				log.error("Could not open the consistency check checkpoint {" + checkpointFile.getAbsolutePath() + "}", e);
+				throw error(INTERNAL_SERVER_ERROR, "error_internal");
+			}
+			// Repairs of different partitions may modify the same elements and are thus not run in parallel
+			int workers = attemptRepair ? 1 : checkOptions.getWorkers();
+			AtomicInteger threadCount = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+				Thread thread = new Thread(r, "mesh-consistency-check-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				ConsistencyCheckContext context = new ConsistencyCheckContext(attemptRepair)
+					.setExecutor(executor, checkOptions.getPartitionSize())
+					.setCheckpoint(checkpoint)
+					.setListener((key, count, result) -> publishProgress(attemptRepair, key, count, result));
+				if (checkOptions.getRateLimit() > 0) {
+					context.setRateLimiter(RateLimiter.create(checkOptions.getRateLimit()));
 				}
-				response.getInconsistencies().addAll(result.getResults());
-				response.getRepairCount().put(check.getName(), result.getRepairCount());
+				ConsistencyCheckResponse response = runChecks(tx, context);
+				checkpoint.delete();
+				return response;
+			} finally {
+				executor.shutdownNow();
 			}
-			vertx.eventBus().publish(REPAIR_FINISHED.address, null);
-			return response;
 		});
 	}
 
+	private ConsistencyCheckResponse runChecks(Tx tx, ConsistencyCheckContext context) {
+		boolean attemptRepair = context.isAttemptRepair();
+		log.info("Consistency check has been invoked. Repair: " + attemptRepair + ", partitioned: " + context.isPartitioned());
+		vertx.eventBus().publish(REPAIR_START.address, null);
+		ConsistencyCheckResponse response = new ConsistencyCheckResponse();
+		// Check domain model
+		for (ConsistencyCheck check : checks) {
+			log.info("Invoking {" + check.getName() + "} check.");
+			ConsistencyCheckResult result = check.invoke(db, tx, context);
+			log.info("Check {" + check.getName() + "} completed.");
+			if (attemptRepair) {
+				log.info("Check {" + check.getName() + "} repaired {" + result.getRepairCount() + "} elements.");
+			}
+			response.getInconsistencies().addAll(result.getResults());
+			response.getRepairCount().put(check.getName(), result.getRepairCount());
+		}
+		vertx.eventBus().publish(REPAIR_FINISHED.address, null);
+		return response;
+	}
+
+	private void publishProgress(boolean attemptRepair, String key, long count, ConsistencyCheckResult result) {
+		JsonArray inconsistencies = new JsonArray();
+		for (InconsistencyInfo info : result.getResults()) {
+			inconsistencies.add(new JsonObject(JsonUtil.toJson(info)));
+		}
+		JsonObject progress = new JsonObject()
+			.put("partition", key)
+			.put("repair", attemptRepair)
+			.put("processed", count)
+			.put("repairCount", result.getRepairCount())
+			.put("inconsistencies", inconsistencies);
+		vertx.eventBus().publish(CONSISTENCY_CHECK_PROGRESS.address, progress);
+	}
+
 }
@@ -22,6 +22,17 @@ public class ConsistencyCheckResult {
 		return repairCount;
 	}
 
+	/**
+	 * Set the repair count. This is used when restoring a result from a checkpoint.
+	 * 
+	 * @param repairCount
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckResult setRepairCount(long repairCount) {
+		this.repairCount = repairCount;
+		return this;
+	}
+
 	public List<InconsistencyInfo> getResults() {
 		return results;
 	}
@@ -0,0 +1,135 @@
+package com.gentics.mesh.core.endpoint.admin.consistency;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+
+import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Persistent progress of a partitioned consistency check. The checkpoint stores the results of all processed partitions so that an interrupted check can be
+ * resumed without processing these partitions again.
+ */
+public class ConsistencyCheckpoint {
+
+	private static final Logger log = LoggerFactory.getLogger(ConsistencyCheckpoint.class);
+
+	private final File file;
+
+	private final JsonObject data;
+
+	private ConsistencyCheckpoint(File file, JsonObject data) {
+		this.file = file;
+		this.data = data;
+	}
+
+	/**
+	 * Return the checkpoint file for the given operation.
+	 * 
+	 * @param directory
+	 *            Checkpoint directory
+	 * @param attemptRepair
+	 *            Whether the checkpoint belongs to a repair operation
+	 * @return
+	 */
+	public static File getFile(File directory, boolean attemptRepair) {
+		return new File(directory, (attemptRepair ? "repair" : "check") + ".json");
+	}
+
+	/**
+	 * Load the checkpoint from the given file or create a new checkpoint if the file does not exist.
+	 * 
+	 * @param file
+	 * @param resume
+	 *            Whether an existing checkpoint should be loaded. Otherwise the existing checkpoint will be replaced
+	 * @return
+	 * @throws IOException
+	 */
+	public static ConsistencyCheckpoint open(File file, boolean resume) throws IOException {
+		if (resume && file.exists()) {
+			JsonObject data = new JsonObject(FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+			ConsistencyCheckpoint checkpoint = new ConsistencyCheckpoint(file, data);
+			log.info("Resuming consistency check from checkpoint {" + file.getAbsolutePath() + "} with {" + checkpoint.size()
+				+ "} processed partitions.");
+			return checkpoint;
+		}
+		ConsistencyCheckpoint checkpoint = new ConsistencyCheckpoint(file, new JsonObject()
+			.put("created", System.currentTimeMillis())
+			.put("partitions", new JsonObject()));
+		checkpoint.save();
+		return checkpoint;
+	}
+
+	/**
+	 * Return the amount of processed partitions.
+	 * 
+	 * @return
+	 */
+	public synchronized int size() {
+		return partitions().size();
+	}
+
+	/**
+	 * Return the stored result of the partition.
+	 * 
+	 * @param key
+	 * @return Result or null if the partition has not yet been processed
+	 */
+	public synchronized ConsistencyCheckResult get(String key) {
+		JsonObject entry = partitions().getJsonObject(key);
+		if (entry == null) {
+			return null;
+		}
+		ConsistencyCheckResult result = new ConsistencyCheckResult();
+		JsonArray inconsistencies = entry.getJsonArray("inconsistencies");
+		for (int i = 0; i < inconsistencies.size(); i++) {
+			result.getResults().add(JsonUtil.readValue(inconsistencies.getJsonObject(i).encode(), InconsistencyInfo.class));
+		}
+		result.setRepairCount(entry.getLong("repairCount", 0L));
+		return result;
+	}
+
+	/**
+	 * Store the result of the processed partition and write the checkpoint.
+	 * 
+	 * @param key
+	 * @param result
+	 * @throws IOException
+	 */
+	public synchronized void complete(String key, ConsistencyCheckResult result) throws IOException {
+		JsonArray inconsistencies = new JsonArray();
+		for (InconsistencyInfo info : result.getResults()) {
+			inconsistencies.add(new JsonObject(JsonUtil.toJson(info)));
+		}
+		partitions().put(key, new JsonObject()
+			.put("repairCount", result.getRepairCount())
+			.put("inconsistencies", inconsistencies));
+		save();
+	}
+
+	/**
+	 * Remove the checkpoint file. This is done once the check has been completed.
+	 */
+	public synchronized void delete() {
+		FileUtils.deleteQuietly(file);
+	}
+
+	private void save() throws IOException {
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		FileUtils.writeStringToFile(tmp, data.encode(), StandardCharsets.UTF_8);
+		FileUtils.deleteQuietly(file);
+		FileUtils.moveFile(tmp, file);
+	}
+
+	private JsonObject partitions() {
+		return data.getJsonObject("partitions");
+	}
+}
@@ -0,0 +1,229 @@
+package com.gentics.mesh.core.jobs;
+
+import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_FLUSH_REQUEST;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.impl.NodePublishActionContextImpl;
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.job.HibNodePublishJob;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.db.CommonTx;
+import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.reactivex.Completable;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Processor for the jobs which recursively publish or take offline a subtree of nodes.
+ *
+ * The processor collects the nodes of the subtree in a deterministic order (level by level, sorted by uuid). Each node is identified by an ordering key
+ * which consists of its level and its uuid. Publishing walks the keys from the root to the leaves, taking offline walks them from the leaves to the root.
+ * This order ensures the publish consistency of every processed node, thus the consistency is only asserted for the root node. The nodes are processed in
+ * batches of {@link MeshOptions#getPublishMaxBatchSize()} nodes. Each batch is committed in a single transaction together with the key of its last node and
+ * the completion count of the job, dispatches its events at once and flushes the pending search requests. An interrupted job collects the subtree again
+ * and continues with the nodes which follow the last committed key, so nodes which were added or removed in the meantime do not shift the position.
+ */
+public class NodePublishJobProcessor implements SingleJobProcessor {
+
+	private static final Logger log = LoggerFactory.getLogger(NodePublishJobProcessor.class);
+
+	private final Database db;
+	private final MeshOptions options;
+	private final Vertx vertx;
+	private final Provider<BulkActionContext> bulkProvider;
+
+	@Inject
+	public NodePublishJobProcessor(Database db, MeshOptions options, Vertx vertx, Provider<BulkActionContext> bulkProvider) {
+		this.db = db;
+		this.options = options;
+		this.vertx = vertx;
+		this.bulkProvider = bulkProvider;
+	}
+
+	@Override
+	public Completable process(HibJob job) {
+		String jobUuid = db.tx(job::getUuid);
+		return Completable.fromAction(() -> {
+			List<String> keys = prepare(jobUuid);
+			process(jobUuid, keys);
+		}).doOnComplete(() -> {
+			db.tx(tx -> {
+				HibJob latest = tx.jobDao().findByUuid(jobUuid);
+				latest.setStopTimestamp();
+				latest.setStatus(COMPLETED);
+				CommonTx.get().jobDao().mergeIntoPersisted(latest);
+				log.info("Job {" + jobUuid + "} of type {" + latest.getType() + "} completed.");
+			});
+		}).doOnError(error -> {
+			db.tx(tx -> {
+				HibJob latest = tx.jobDao().findByUuid(jobUuid);
+				latest.setStopTimestamp();
+				latest.setStatus(FAILED);
+				latest.setError(error);
+				CommonTx.get().jobDao().mergeIntoPersisted(latest);
+				log.error("Job {" + jobUuid + "} of type {" + latest.getType() + "} failed.", error);
+			});
+		});
+	}
+
+	/**
+	 * Collect the ordering keys of the subtree in processing order and store the total count in the job.
+	 */
+	private List<String> prepare(String jobUuid) {
+		return db.tx(tx -> {
+			HibNodePublishJob job = (HibNodePublishJob) tx.jobDao().findByUuid(jobUuid);
+			HibProject project = job.getProject();
+			HibBranch branch = job.getBranch();
+			HibNode root = tx.nodeDao().findByUuid(project, job.getNodeUuid());
+			if (root == null) {
+				throw error(NOT_FOUND, "object_not_found_for_uuid", job.getNodeUuid());
+			}
+			List<String> keys = collectSubtree(tx.nodeDao(), root, branch.getUuid());
+			if (job.getType() == JobType.unpublish) {
+				// Nodes must be taken offline before their parents
+				Collections.reverse(keys);
+			}
+			job.setTotalCount(keys.size());
+			job.setStatus(RUNNING);
+			CommonTx.get().jobDao().mergeIntoPersisted(job);
+			return keys;
+		});
+	}
+
+	private void process(String jobUuid, List<String> keys) {
+		int batchSize = options.getPublishMaxBatchSize();
+		List<String> pending = db.tx(tx -> {
+			HibNodePublishJob job = (HibNodePublishJob) tx.jobDao().findByUuid(jobUuid);
+			String lastKey = job.getLastProcessedKey();
+			if (lastKey == null) {
+				return keys;
+			}
+			log.info("Resuming job {" + jobUuid + "} after node {" + getUuid(lastKey) + "}.");
+			return getPendingKeys(keys, lastKey, job.getType() == JobType.unpublish);
+		});
+		long skipped = keys.size() - pending.size();
+		for (int start = 0; start < pending.size(); start += batchSize) {
+			List<String> batch = pending.subList(start, Math.min(start + batchSize, pending.size()));
+			long completed = skipped + start + batch.size();
+			db.tx(tx -> {
+				processBatch(tx, jobUuid, batch, completed);
+			});
+			if (log.isDebugEnabled()) {
+				log.debug("Job {" + jobUuid + "} processed {" + completed + "} of {" + keys.size() + "} nodes.");
+			}
+		}
+	}
+
+	/**
+	 * Return the keys which follow the last processed key in processing order. The keys are compared by value, not by their position in the list.
+	 */
+	private List<String> getPendingKeys(List<String> keys, String lastKey, boolean descending) {
+		return keys.stream()
+			.filter(key -> descending ? key.compareTo(lastKey) < 0 : key.compareTo(lastKey) > 0)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Publish or take offline the nodes of the batch. The events of the batch are dispatched at once after the transaction has been committed.
+	 */
+	private void processBatch(Tx tx, String jobUuid, List<String> batch, long completed) {
+		NodeDao nodeDao = tx.nodeDao();
+		ContentDao contentDao = tx.contentDao();
+		HibNodePublishJob job = (HibNodePublishJob) tx.jobDao().findByUuid(jobUuid);
+		HibProject project = job.getProject();
+		HibBranch branch = job.getBranch();
+		String branchUuid = branch.getUuid();
+		boolean offline = job.getType() == JobType.unpublish;
+
+		NodePublishActionContextImpl ac = new NodePublishActionContextImpl();
+		ac.setProject(project);
+		ac.setBranch(branch);
+		ac.setUser(tx.userDao().findByUuid(job.getUserUuid()));
+
+		BulkActionContext bac = bulkProvider.get();
+		for (String key : batch) {
+			String uuid = getUuid(key);
+			HibNode node = nodeDao.findByUuid(project, uuid);
+			// The node may have been deleted since the job was started
+			if (node == null) {
+				continue;
+			}
+			if (offline) {
+				nodeDao.removePublishedEdges(node, branchUuid, bac);
+			} else {
+				for (HibNodeFieldContainer container : contentDao.getFieldContainers(node, branch, DRAFT)) {
+					if (!contentDao.isPublished(container, branchUuid)) {
+						HibNodeFieldContainer published = contentDao.publish(node, ac, container.getLanguageTag(), branch, ac.getUser());
+						bac.add(contentDao.onPublish(published, branchUuid));
+					}
+				}
+			}
+			if (uuid.equals(job.getNodeUuid())) {
+				nodeDao.assertPublishConsistency(node, ac, branch);
+			}
+		}
+
+		job.setLastProcessedKey(batch.get(batch.size() - 1));
+		job.setCompletionCount(completed);
+		CommonTx.get().jobDao().mergeIntoPersisted(job);
+		// Send the search requests of the batch as one bulk
+		bac.batch().add(() -> vertx.eventBus().publish(SEARCH_FLUSH_REQUEST.address, null));
+		bac.process(true);
+	}
+
+	/**
+	 * Collect the ordering keys of the subtree level by level. The nodes of each level are sorted by uuid, so that the keys are in ascending order.
+	 */
+	private List<String> collectSubtree(NodeDao nodeDao, HibNode root, String branchUuid) {
+		List<String> keys = new ArrayList<>();
+		List<HibNode> level = Collections.singletonList(root);
+		int depth = 0;
+		while (!level.isEmpty()) {
+			List<HibNode> next = new ArrayList<>();
+			for (HibNode node : level) {
+				keys.add(getKey(depth, node.getUuid()));
+				nodeDao.getChildren(node, branchUuid).forEach(next::add);
+			}
+			next.sort(Comparator.comparing(HibNode::getUuid));
+			level = next;
+			depth++;
+		}
+		return keys;
+	}
+
+	/**
+	 * Return the ordering key of a node. The level is padded, so that the keys can be compared as strings.
+	 */
+	private static String getKey(int depth, String uuid) {
+		return String.format("%010d:%s", depth, uuid);
+	}
+
+	private static String getUuid(String key) {
+		return key.substring(key.indexOf(':') + 1);
+	}
+}
@@ -0,0 +1,228 @@
+package com.gentics.mesh.core.jobs;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_BATCH_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_FLUSH_REQUEST;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.dao.PersistingRoleDao;
+import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.job.HibPermissionJob;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.role.HibRole;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.db.CommonTx;
+import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.event.role.PermissionChangedBatchEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.reactivex.Completable;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Processor for the jobs which recursively grant and revoke the permissions of a role on a subtree of nodes or on all nodes of a project.
+ *
+ * The processor collects the uuids of the nodes in a deterministic order (level by level and sorted by uuid for subtrees, sorted by uuid for projects). The
+ * nodes are processed in batches of {@link MeshOptions#getPermissionMaxBatchSize()} nodes. Each batch is committed in a single transaction together with the
+ * completion count of the job. Instead of one event per node, a single {@link PermissionChangedBatchEventModel} is dispatched for the changed nodes of a batch
+ * and only the cached permissions of those nodes are invalidated. An interrupted job will continue with the first batch which has not been committed.
+ */
+public class PermissionJobProcessor implements SingleJobProcessor {
+
+	private static final Logger log = LoggerFactory.getLogger(PermissionJobProcessor.class);
+
+	private final Database db;
+	private final MeshOptions options;
+	private final Vertx vertx;
+	private final Provider<BulkActionContext> bulkProvider;
+
+	@Inject
+	public PermissionJobProcessor(Database db, MeshOptions options, Vertx vertx, Provider<BulkActionContext> bulkProvider) {
+		this.db = db;
+		this.options = options;
+		this.vertx = vertx;
+		this.bulkProvider = bulkProvider;
+	}
+
+	@Override
+	public Completable process(HibJob job) {
+		String jobUuid = db.tx(job::getUuid);
+		return Completable.fromAction(() -> {
+			List<String> uuids = prepare(jobUuid);
+			process(jobUuid, uuids);
+		}).doOnComplete(() -> {
+			db.tx(tx -> {
+				HibJob latest = tx.jobDao().findByUuid(jobUuid);
+				latest.setStopTimestamp();
+				latest.setStatus(COMPLETED);
+				CommonTx.get().jobDao().mergeIntoPersisted(latest);
+				log.info("Job {" + jobUuid + "} of type {" + latest.getType() + "} completed.");
+			});
+		}).doOnError(error -> {
+			db.tx(tx -> {
+				HibJob latest = tx.jobDao().findByUuid(jobUuid);
+				latest.setStopTimestamp();
+				latest.setStatus(FAILED);
+				latest.setError(error);
+				CommonTx.get().jobDao().mergeIntoPersisted(latest);
+				log.error("Job {" + jobUuid + "} of type {" + latest.getType() + "} failed.", error);
+			});
+		});
+	}
+
+	/**
+	 * Collect the uuids of the nodes in processing order and store the total count in the job. The job fails before the first batch is committed, if the
+	 * requesting user lacks the read permission on any of the nodes.
+	 */
+	private List<String> prepare(String jobUuid) {
+		return db.tx(tx -> {
+			HibPermissionJob job = (HibPermissionJob) tx.jobDao().findByUuid(jobUuid);
+			HibProject project = job.getProject();
+			NodeDao nodeDao = tx.nodeDao();
+			HibUser user = tx.userDao().findByUuid(job.getUserUuid());
+			Consumer<HibNode> checkRead = node -> {
+				if (user == null || !tx.userDao().hasPermission(user, node, READ_PERM)) {
+					throw error(FORBIDDEN, "error_missing_perm", node.getUuid(), READ_PERM.getRestPerm().getName());
+				}
+			};
+			List<String> uuids;
+			if (job.getNodeUuid() == null) {
+				uuids = new ArrayList<>();
+				nodeDao.findAll(project).forEach(node -> {
+					checkRead.accept(node);
+					uuids.add(node.getUuid());
+				});
+				Collections.sort(uuids);
+			} else {
+				HibNode root = nodeDao.findByUuid(project, job.getNodeUuid());
+				if (root == null) {
+					throw error(NOT_FOUND, "object_not_found_for_uuid", job.getNodeUuid());
+				}
+				uuids = collectSubtree(nodeDao, root, checkRead);
+			}
+			job.setTotalCount(uuids.size());
+			job.setStatus(RUNNING);
+			CommonTx.get().jobDao().mergeIntoPersisted(job);
+			if (job.getCompletionCount() > 0) {
+				log.info("Resuming job {" + jobUuid + "} after {" + job.getCompletionCount() + "} of {" + uuids.size() + "} nodes.");
+			}
+			return uuids;
+		});
+	}
+
+	private void process(String jobUuid, List<String> uuids) {
+		int batchSize = options.getPermissionMaxBatchSize();
+		long offset = db.tx(tx -> tx.jobDao().findByUuid(jobUuid).getCompletionCount());
+		for (int start = (int) Math.min(offset, uuids.size()); start < uuids.size(); start += batchSize) {
+			List<String> batch = uuids.subList(start, Math.min(start + batchSize, uuids.size()));
+			long completed = start + batch.size();
+			db.tx(tx -> {
+				processBatch(tx, jobUuid, batch, completed);
+			});
+			if (log.isDebugEnabled()) {
+				log.debug("Job {" + jobUuid + "} processed {" + completed + "} of {" + uuids.size() + "} nodes.");
+			}
+		}
+	}
+
+	/**
+	 * Grant and revoke the permissions on the nodes of the batch. After the transaction has been committed, the cached permissions of the changed nodes are
+	 * invalidated and a single event is dispatched for them.
+	 */
+	private void processBatch(Tx tx, String jobUuid, List<String> batch, long completed) {
+		NodeDao nodeDao = tx.nodeDao();
+		PersistingRoleDao roleDao = CommonTx.get().roleDao();
+		HibPermissionJob job = (HibPermissionJob) tx.jobDao().findByUuid(jobUuid);
+		HibProject project = job.getProject();
+		HibRole role = roleDao.findByUuid(job.getRoleUuid());
+		if (role == null) {
+			throw error(NOT_FOUND, "object_not_found_for_uuid", job.getRoleUuid());
+		}
+		InternalPermission[] grant = job.getPermissionsToGrant().toArray(new InternalPermission[0]);
+		InternalPermission[] revoke = job.getPermissionsToRevoke().toArray(new InternalPermission[0]);
+
+		List<String> changedUuids = new ArrayList<>();
+		List<Object> changedIds = new ArrayList<>();
+		for (String uuid : batch) {
+			HibNode node = nodeDao.findByUuid(project, uuid);
+			// The node may have been deleted since the job was started
+			if (node == null) {
+				continue;
+			}
+			boolean changed = roleDao.grantRolePermissions(role, node, grant);
+			changed = roleDao.revokeRolePermissions(role, node, revoke) || changed;
+			if (changed) {
+				changedUuids.add(uuid);
+				changedIds.add(node.getId());
+			}
+		}
+
+		job.setCompletionCount(completed);
+		CommonTx.get().jobDao().mergeIntoPersisted(job);
+
+		BulkActionContext bac = bulkProvider.get();
+		if (!changedUuids.isEmpty()) {
+			PermissionChangedBatchEventModel event = new PermissionChangedBatchEventModel();
+			event.setEvent(ROLE_PERMISSIONS_BATCH_CHANGED);
+			event.setRole(role.transformToReference());
+			event.setProject(project.transformToReference());
+			event.setUuids(changedUuids);
+			bac.add(event);
+			PermissionCache permissionCache = tx.permissionCache();
+			bac.batch().add(() -> permissionCache.invalidate(changedIds, true));
+			// Send the search requests of the batch as one bulk
+			bac.batch().add(() -> vertx.eventBus().publish(SEARCH_FLUSH_REQUEST.address, null));
+		}
+		bac.process(true);
+	}
+
+	/**
+	 * Collect the uuids of the subtree level by level over all branches. The uuids of each level are sorted, so that an interrupted job can continue at the
+	 * same position. Nodes which have different parents in different branches are only collected once.
+	 */
+	private List<String> collectSubtree(NodeDao nodeDao, HibNode root, Consumer<HibNode> check) {
+		List<String> uuids = new ArrayList<>();
+		Set<String> visited = new HashSet<>();
+		List<HibNode> level = Collections.singletonList(root);
+		visited.add(root.getUuid());
+		while (!level.isEmpty()) {
+			List<HibNode> next = new ArrayList<>();
+			for (HibNode node : level) {
+				check.accept(node);
+				uuids.add(node.getUuid());
+				for (HibNode child : nodeDao.getChildren(node)) {
+					if (visited.add(child.getUuid())) {
+						next.add(child);
+					}
+				}
+			}
+			next.sort(Comparator.comparing(HibNode::getUuid));
+			level = next;
+		}
+		return uuids;
+	}
+}
@@ -47,7 +47,18 @@ public class VersionPurgeJobProcessor implements SingleJobProcessor {
 		});
 		HibProject project = db.tx(purgeJob::getProject);
 		Optional<ZonedDateTime> maxAge = db.tx(purgeJob::getMaxAge);
-		return handler.purgeVersions(project, maxAge.orElse(null))
+		// An interrupted job continues after the last node it has stored
+		String lastNodeUuid = db.tx(purgeJob::getLastNodeUuid);
+		long purgedBefore = lastNodeUuid == null ? 0 : db.tx(purgeJob::getPurgedCount);
+		return handler.purgeVersions(project, maxAge.orElse(null), lastNodeUuid, (total, completed, purged, lastUuid) -> {
+					db.tx(() -> {
+						purgeJob.setTotalCount(total);
+						purgeJob.setCompletionCount(completed);
+						purgeJob.setPurgedCount(purgedBefore + purged);
+						purgeJob.setLastNodeUuid(lastUuid);
+						jobDao.mergeIntoPersisted(purgeJob);
+					});
+				})
 				.doOnComplete(() -> {
 					db.tx(() -> {
 						purgeJob.setStopTimestamp();
@@ -55,7 +66,8 @@ public class VersionPurgeJobProcessor implements SingleJobProcessor {
 						jobDao.mergeIntoPersisted(purgeJob);
 					});
 					db.tx(tx -> {
-						log.info("Version purge job {" + purgeJob.getUuid() + "} for project {" + project.getName() + "} completed.");
+						log.info("Version purge job {" + purgeJob.getUuid() + "} for project {" + project.getName() + "} completed, {"
+							+ purgeJob.getPurgedCount() + "} versions have been purged.");
 						tx.createBatch().add(createEvent(PROJECT_VERSION_PURGE_FINISHED, COMPLETED, project.getName(), project.getUuid()))
 								.dispatch();
 					});
@@ -19,6 +19,44 @@ public interface ProjectVersionPurgeHandler {
 	 *            Limit the purge operation to versions which exceed the max age.
 	 * @return
 	 */
-	Completable purgeVersions(HibProject project, ZonedDateTime maxAge);
+	default Completable purgeVersions(HibProject project, ZonedDateTime maxAge) {
+		return purgeVersions(project, maxAge, null, (total, completed, purged, lastNodeUuid) -> {
+		});
+	}
 
+	/**
+	 * Purge the versions of the nodes in the project. The nodes are processed in the order of their uuids and in partitions, each partition is purged in its
+	 * own transaction. The listener is informed after every partition, so that an interrupted purge can be continued after the last reported node.
+	 * 
+	 * @param project
+	 * @param maxAge
+	 *            Limit the purge operation to versions which exceed the max age.
+	 * @param afterNodeUuid
+	 *            Uuid of the last node which has already been processed, or null to process all nodes
+	 * @param listener
+	 *            Listener for the progress of the purge operation
+	 * @return
+	 */
+	Completable purgeVersions(HibProject project, ZonedDateTime maxAge, String afterNodeUuid, ProgressListener listener);
+
+	/**
+	 * Listener for the progress of a version purge.
+	 */
+	@FunctionalInterface
+	interface ProgressListener {
+
+		/**
+		 * Handle the progress of the purge. The method is invoked after a partition has been committed and never concurrently.
+		 * 
+		 * @param total
+		 *            Amount of nodes which are processed by the purge operation
+		 * @param completed
+		 *            Amount of nodes which have been processed, including all nodes up to the last node
+		 * @param purged
+		 *            Amount of versions which have been purged so far
+		 * @param lastNodeUuid
+		 *            Uuid of the last node up to which all nodes have been processed, or null if no partition has been completed yet
+		 */
+		void onProgress(long total, long completed, long purged, String lastNodeUuid);
+	}
 }
@@ -6,6 +6,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.gentics.mesh.annotation.Getter;
 import com.gentics.mesh.cache.GroupNameCache;
+import com.gentics.mesh.cache.LinkCache;
+import com.gentics.mesh.cache.NavigationCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
@@ -87,6 +89,12 @@ public interface BaseMeshComponent {
 	@Getter
 	WebrootPathCache pathCache();
 
+	@Getter
+	NavigationCache navigationCache();
+
+	@Getter
+	LinkCache linkCache();
+
 	@Getter
 	PermissionCache permissionCache();
 
@@ -18,6 +18,14 @@ public interface MeshLocalClient extends MeshRestClient {
 	 */
 	void setUser(MeshAuthUser user);
 
+	/**
+	 * Create a new local client which uses the given user for authentication. The user of this client is not changed.
+	 *
+	 * @param user
+	 * @return
+	 */
+	MeshLocalClient forUser(MeshAuthUser user);
+
 	MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version, String fieldKey,
 		byte[] fileData, String fileName, String contentType, ParameterProvider... parameters);
 
@@ -89,6 +89,7 @@ public interface GraphFieldContainerEdge extends MeshEdge, HibNodeFieldContainer
 	 * 
 	 * @return
 	 */
+	@Override
 	default Set<String> getUrlFieldInfo() {
 		return property(WEBROOT_URLFIELD_PROPERTY_KEY);
 	}
@@ -1,14 +1,19 @@
 package com.gentics.mesh.core.data.job;
 
 import java.time.ZonedDateTime;
+import java.util.Set;
 
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.rest.job.JobType;
 
 import io.reactivex.Completable;
 
@@ -77,6 +82,31 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	HibJob enqueueVersionPurge(HibUser user, HibProject project);
 
+	/**
+	 * Enqueue a job which recursively publishes or takes offline the subtree of the given node.
+	 *
+	 * @param user
+	 * @param branch
+	 * @param node
+	 * @param type
+	 * @return
+	 */
+	HibJob enqueueNodePublish(HibUser user, HibBranch branch, HibNode node, JobType type);
+
+	/**
+	 * Enqueue a job which recursively changes the permissions of the role on the subtree of the given node or on all nodes of the project.
+	 *
+	 * @param user
+	 * @param role
+	 * @param project
+	 * @param node
+	 * @param permissionsToGrant
+	 * @param permissionsToRevoke
+	 * @return
+	 */
+	HibJob enqueuePermissionChange(HibUser user, HibRole role, HibProject project, HibNode node, Set<InternalPermission> permissionsToGrant,
+		Set<InternalPermission> permissionsToRevoke);
+
 	/**
 	 * Delete all the jobs referencing the provided project.
 	 * @param project
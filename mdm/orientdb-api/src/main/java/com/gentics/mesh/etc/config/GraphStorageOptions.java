@@ -22,11 +22,13 @@ public class GraphStorageOptions implements Option {
 	public static final String DEFAULT_DIRECTORY = DEFAULT_DATA_ROOT + File.separator + "graphdb";
 	public static final String DEFAULT_BACKUP_DIRECTORY = DEFAULT_DATA_ROOT + File.separator + "backup";
 	public static final String DEFAULT_EXPORT_DIRECTORY = DEFAULT_DATA_ROOT + File.separator + "export";
+	public static final int DEFAULT_BACKUP_CHAIN_LENGTH = 10;
 	public static final boolean DEFAULT_START_SERVER = false;
 	public static final boolean DEFAULT_SYNC_WRITES = true;
 	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final int DEFAULT_TX_RETRY_MAX_DELAY = 1000;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
 	public static final int DEFAULT_CLUSTER_JOIN_TIMEOUT = 500_000;
 	public static final NativeQueryFiltering DEFAULT_NATIVE_QUERY_FILTERING = NativeQueryFiltering.NEVER;
@@ -34,11 +36,13 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
 	public static final String MESH_GRAPH_EXPORT_DIRECTORY_ENV = "MESH_GRAPH_EXPORT_DIRECTORY";
+	public static final String MESH_GRAPH_BACKUP_CHAIN_LENGTH_ENV = "MESH_GRAPH_BACKUP_CHAIN_LENGTH";
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
 	public static final String MESH_GRAPH_SYNC_WRITES_ENV = "MESH_GRAPH_SYNC_WRITES";
 	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
 	public static final String MESH_GRAPH_CLUSTER_JOIN_TIMEOUT_ENV = "MESH_GRAPH_CLUSTER_JOIN_TIMEOUT";
 	public static final String MESH_GRAPH_NATIVE_QUERY_FILTERING = "MESH_GRAPH_NATIVE_QUERY_FILTERING";
@@ -58,6 +62,12 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_DIRECTORY_ENV, description = "Override the graph database backup directory.")
 	private String backupDirectory = DEFAULT_BACKUP_DIRECTORY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of incremental backups in a backup chain. A new chain which starts with a full backup will be created once the limit has been reached. Default: "
+		+ DEFAULT_BACKUP_CHAIN_LENGTH)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_CHAIN_LENGTH_ENV, description = "Override the graph database backup chain length.")
+	private int backupChainLength = DEFAULT_BACKUP_CHAIN_LENGTH;
+
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database export directory.")
 	@EnvironmentVariable(name = MESH_GRAPH_EXPORT_DIRECTORY_ENV, description = "Override the graph database export directory.")
@@ -79,7 +89,7 @@ public class GraphStorageOptions implements Option {
 	private long synchronizeWritesTimeout = DEFAULT_SYNC_WRITES_TIMEOUT;
 
 	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_DELAY + "ms")
-	@JsonPropertyDescription("The delay in milliseconds when a transaction has to be retried.")
+	@JsonPropertyDescription("The base delay in milliseconds when a transaction has to be retried. The delay grows exponentially with each retry and is randomized.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the transaction retry delay. Default: "
 		+ DEFAULT_TX_RETRY_DELAY)
 	private int txRetryDelay = DEFAULT_TX_RETRY_DELAY;
@@ -90,6 +100,12 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_RETRY_LIMIT)
 	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
 
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_MAX_DELAY + "ms")
+	@JsonPropertyDescription("The maximum delay in milliseconds when a transaction has to be retried.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the maximum transaction retry delay. Default: "
+		+ DEFAULT_TX_RETRY_MAX_DELAY)
+	private int txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_COMMIT_TIMEOUT + " ms")
 	@JsonPropertyDescription("The transaction commit timeout in milliseconds. A timeout value of zero means that transaction commit operations will never timeout.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV, description = "Override the transaction commit timeout. Default: "
@@ -150,6 +166,16 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getBackupChainLength() {
+		return backupChainLength;
+	}
+
+	@Setter
+	public GraphStorageOptions setBackupChainLength(int backupChainLength) {
+		this.backupChainLength = backupChainLength;
+		return this;
+	}
+
 	public String getExportDirectory() {
 		return exportDirectory;
 	}
@@ -201,6 +227,16 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	@Setter
+	public GraphStorageOptions setTxRetryMaxDelay(int txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
 	public int getTxRetryLimit() {
 		return txRetryLimit;
 	}
@@ -7,6 +7,7 @@ import java.util.stream.StreamSupport;
 
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.tinkerpop.blueprints.Graph;
 import com.tinkerpop.blueprints.Vertex;
@@ -45,14 +46,7 @@ public class MeshOrientGraphVertexQuery extends MeshOrientGraphQuery<Vertex, Opt
 		// Build the query params, including the labels (including the one provided with vertexClass).
 		final List<Object> queryParams = manageFilters(text);
 
-		maybeCustomFilter.ifPresent(filter -> {
-			if (text.indexOf(QUERY_WHERE) > 0) {
-				text.append(QUERY_FILTER_AND);
-			} else {
-				text.append(QUERY_WHERE);
-			}
-			text.append(filter);
-		});
+		appendCustomFilter(text);
 
 		if (!((OrientBaseGraph) graph).isUseClassForVertexLabel())
 			manageLabels(queryParams.size() > 0, text);
@@ -104,4 +98,45 @@ public class MeshOrientGraphVertexQuery extends MeshOrientGraphQuery<Vertex, Opt
 				.iterator();
 		}
 	}
+
+	/**
+	 * Count the vertices which match the filters of this query. Sorting and paging are ignored.
+	 *
+	 * @return
+	 */
+	public long count() {
+		final StringBuilder text = new StringBuilder(512);
+		text.append(QUERY_SELECT);
+		text.append("count(*) as count ");
+		text.append(QUERY_FROM);
+		text.append(OrientBaseGraph.encodeClassName(vertexClass.getSimpleName()));
+
+		final List<Object> queryParams = manageFilters(text);
+		appendCustomFilter(text);
+
+		if (!((OrientBaseGraph) graph).isUseClassForVertexLabel())
+			manageLabels(queryParams.size() > 0, text);
+
+		String sqlQuery = text.toString();
+		log.debug("VERTEX COUNT QUERY: {}", sqlQuery);
+
+		try (OResultSet result = ((OrientBaseGraph) graph).getRawGraph().query(sqlQuery, queryParams.toArray())) {
+			if (!result.hasNext()) {
+				return 0;
+			}
+			Number count = result.next().getProperty("count");
+			return count == null ? 0 : count.longValue();
+		}
+	}
+
+	private void appendCustomFilter(StringBuilder text) {
+		maybeCustomFilter.ifPresent(filter -> {
+			if (text.indexOf(QUERY_WHERE) > 0) {
+				text.append(QUERY_FILTER_AND);
+			} else {
+				text.append(QUERY_WHERE);
+			}
+			text.append(filter);
+		});
+	}
 }
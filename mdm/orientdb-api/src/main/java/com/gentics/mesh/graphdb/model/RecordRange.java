@@ -0,0 +1,56 @@
+package com.gentics.mesh.graphdb.model;
+
+/**
+ * Range of record positions within a single cluster of the graph database. Ranges are used to split the elements of a type into partitions which can be
+ * processed independently.
+ */
+public class RecordRange {
+
+	private final int clusterId;
+
+	private final long from;
+
+	private final long to;
+
+	/**
+	 * Create a new range.
+	 * 
+	 * @param clusterId
+	 *            Id of the cluster
+	 * @param from
+	 *            First position of the range (inclusive)
+	 * @param to
+	 *            Last position of the range (inclusive)
+	 */
+	public RecordRange(int clusterId, long from, long to) {
+		this.clusterId = clusterId;
+		this.from = from;
+		this.to = to;
+	}
+
+	public int getClusterId() {
+		return clusterId;
+	}
+
+	public long getFrom() {
+		return from;
+	}
+
+	public long getTo() {
+		return to;
+	}
+
+	/**
+	 * Return a key which identifies the range.
+	 * 
+	 * @return
+	 */
+	public String getKey() {
+		return clusterId + ":" + from + "-" + to;
+	}
+
+	@Override
+	public String toString() {
+		return "#" + getKey();
+	}
+}
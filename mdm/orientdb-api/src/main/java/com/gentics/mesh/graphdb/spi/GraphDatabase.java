@@ -1,14 +1,17 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.core.data.HibElement;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.graphdb.model.MeshElement;
+import com.gentics.mesh.graphdb.model.RecordRange;
 import com.gentics.mesh.madl.frame.VertexFrame;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.EdgeFrame;
@@ -47,6 +50,17 @@ public interface GraphDatabase extends Database {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues, PagingParameters paging, Optional<ContainerType> maybeContainerType, Optional<String> maybeFilter);
 
+	/**
+	 * Utilize the index and count the matching vertices. Optionally, a filter may be applied. The vertices are counted by the database and are not loaded.
+	 *
+	 * @param classOfVertex
+	 * @param fieldNames
+	 * @param fieldValues
+	 * @param maybeFilter
+	 * @return
+	 */
+	long countVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues, Optional<String> maybeFilter);
+
 	/**
 	 * Utilize the index and locate the matching vertices for the given parameters and the given range.
 	 * 
@@ -116,6 +130,26 @@ public interface GraphDatabase extends Database {
 	 */
 	<T extends EdgeFrame> T findEdge(String propertyKey, Object propertyValue, Class<T> clazz);
 
+	/**
+	 * Split the records of the given type (including subtypes) into ranges of record positions. Each range covers at most the given amount of positions.
+	 * 
+	 * @param classOfVertex
+	 * @param rangeSize
+	 *            Maximum amount of record positions per range
+	 * @return Ranges ordered by cluster and position
+	 */
+	List<RecordRange> getRecordRanges(Class<?> classOfVertex, long rangeSize);
+
+	/**
+	 * Locate the vertices of the given type within the given range.
+	 * 
+	 * @param classOfVertex
+	 *            Class to be used for framing
+	 * @param range
+	 * @return
+	 */
+	<T extends HibElement> Iterator<? extends T> getElementsForRange(Class<T> classOfVertex, RecordRange range);
+
 	/**
 	 * Return the index handler for the database.
 	 * 
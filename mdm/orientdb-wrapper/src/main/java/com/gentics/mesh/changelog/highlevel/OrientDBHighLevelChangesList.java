@@ -8,6 +8,7 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
 import com.gentics.mesh.changelog.highlevel.change.FixNodeVersionOrder;
+import com.gentics.mesh.changelog.highlevel.change.InitNodeRevisions;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
 import com.gentics.mesh.changelog.highlevel.change.SetAdminUserFlag;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
@@ -26,8 +27,9 @@ public class OrientDBHighLevelChangesList extends HighLevelChangesList {
 	protected final FixNodeVersionOrder fixNodeVersionOrder;
 
 	@Inject
-	public OrientDBHighLevelChangesList(ExtractPlainText plainText, SetAdminUserFlag setAdminUserFlag, RestructureWebrootIndex restructureWebroot, FixNodeVersionOrder fixNodeVersionOrder) {
-		super(plainText, setAdminUserFlag);
+	public OrientDBHighLevelChangesList(ExtractPlainText plainText, SetAdminUserFlag setAdminUserFlag, InitNodeRevisions initNodeRevisions,
+			RestructureWebrootIndex restructureWebroot, FixNodeVersionOrder fixNodeVersionOrder) {
+		super(plainText, setAdminUserFlag, initNodeRevisions);
 		this.restructureWebroot = restructureWebroot;
 		this.fixNodeVersionOrder = fixNodeVersionOrder;
 	}
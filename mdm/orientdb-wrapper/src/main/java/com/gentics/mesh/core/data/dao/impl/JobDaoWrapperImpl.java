@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.dao.impl;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
 
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javax.inject.Inject;
@@ -16,13 +17,17 @@ import com.gentics.mesh.core.data.dao.AbstractCoreDaoWrapper;
 import com.gentics.mesh.core.data.dao.JobDaoWrapper;
 import com.gentics.mesh.core.data.job.HibJob;
 import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -118,6 +123,17 @@ public class JobDaoWrapperImpl extends AbstractCoreDaoWrapper<JobResponse, HibJo
 		return boot.get().meshRoot().getJobRoot().enqueueVersionPurge(user, project);
 	}
 
+	@Override
+	public HibJob enqueueNodePublish(HibUser user, HibBranch branch, HibNode node, JobType type) {
+		return boot.get().meshRoot().getJobRoot().enqueueNodePublish(user, branch, node, type);
+	}
+
+	@Override
+	public HibJob enqueuePermissionChange(HibUser user, HibRole role, HibProject project, HibNode node, Set<InternalPermission> permissionsToGrant,
+		Set<InternalPermission> permissionsToRevoke) {
+		return boot.get().meshRoot().getJobRoot().enqueuePermissionChange(user, role, project, node, permissionsToGrant, permissionsToRevoke);
+	}
+
 	@Override
 	public void purgeFailed() {
 		boot.get().meshRoot().getJobRoot().purgeFailed();
@@ -19,6 +19,8 @@ import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.NodePublishJobImpl;
+import com.gentics.mesh.core.data.job.impl.PermissionJobImpl;
 import com.gentics.mesh.core.data.job.impl.VersionPurgeJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.impl.MicronodeGraphFieldImpl;
@@ -146,6 +148,8 @@ public final class DatabaseHelper {
 		// Jobs
 		NodeMigrationJobImpl.init(type, index);
 		VersionPurgeJobImpl.init(type, index);
+		NodePublishJobImpl.init(type, index);
+		PermissionJobImpl.init(type, index);
 		MicronodeMigrationJobImpl.init(type, index);
 		BranchMigrationJobImpl.init(type, index);
 
@@ -29,9 +29,12 @@ import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.HibJob;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
+import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.data.root.impl.AbstractRootVertex;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
@@ -191,6 +194,45 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return enqueueVersionPurge(user, project, null);
 	}
 
+	@Override
+	public Job enqueueNodePublish(HibUser user, HibBranch branch, HibNode node, JobType type) {
+		NodePublishJobImpl job = getGraph().addFramedVertex(NodePublishJobImpl.class);
+		job.setCreationTimestamp();
+		job.setType(type);
+		job.setStatus(QUEUED);
+		job.setBranch(branch);
+		job.setProject(node.getProject());
+		job.setNodeUuid(node.getUuid());
+		job.setUserUuid(user.getUuid());
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued {" + type + "} job {" + job.getUuid() + "} for node {" + node.getUuid() + "} in branch {" + branch.getUuid() + "}");
+		}
+		return job;
+	}
+
+	@Override
+	public Job enqueuePermissionChange(HibUser user, HibRole role, HibProject project, HibNode node, Set<InternalPermission> permissionsToGrant,
+		Set<InternalPermission> permissionsToRevoke) {
+		PermissionJobImpl job = getGraph().addFramedVertex(PermissionJobImpl.class);
+		job.setCreationTimestamp();
+		job.setType(JobType.permission);
+		job.setStatus(QUEUED);
+		job.setProject(project);
+		if (node != null) {
+			job.setNodeUuid(node.getUuid());
+		}
+		job.setRoleUuid(role.getUuid());
+		job.setUserUuid(user.getUuid());
+		job.setPermissionsToGrant(permissionsToGrant);
+		job.setPermissionsToRevoke(permissionsToRevoke);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued permission job {" + job.getUuid() + "} for role {" + role.getUuid() + "} in project {" + project.getName() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public HibBaseElement resolveToElement(HibBaseElement permissionRoot, HibBaseElement root, Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -237,6 +279,14 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 				.frameExplicit(VersionPurgeJobImpl.class)) {
 			versionPurgeJob.delete();
 		}
+		for (NodePublishJobImpl publishJob : project.in(HAS_PROJECT).has(NodePublishJobImpl.class)
+				.frameExplicit(NodePublishJobImpl.class)) {
+			publishJob.delete();
+		}
+		for (PermissionJobImpl permissionJob : project.in(HAS_PROJECT).has(PermissionJobImpl.class)
+				.frameExplicit(PermissionJobImpl.class)) {
+			permissionJob.delete();
+		}
 	}
 
 	@Override
@@ -263,6 +313,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 
 	@Override
 	public Optional<Set<Class<? extends Job>>> getPersistenceClassVariations() {
-		return Optional.of(Set.of(BranchMigrationJobImpl.class, MicronodeMigrationJobImpl.class, NodeMigrationJobImpl.class, VersionPurgeJobImpl.class));
+		return Optional.of(Set.of(BranchMigrationJobImpl.class, MicronodeMigrationJobImpl.class, NodeMigrationJobImpl.class, VersionPurgeJobImpl.class,
+			NodePublishJobImpl.class, PermissionJobImpl.class));
 	}
 }
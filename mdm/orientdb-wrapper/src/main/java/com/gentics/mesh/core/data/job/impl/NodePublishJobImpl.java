@@ -0,0 +1,88 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_PROJECT;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.impl.ProjectImpl;
+import com.gentics.mesh.core.data.job.HibNodePublishJob;
+import com.gentics.mesh.core.data.job.JobCore;
+import com.gentics.mesh.core.data.project.HibProject;
+
+/**
+ * Graph entity for jobs which recursively publish or take offline a subtree of nodes.
+ */
+public class NodePublishJobImpl extends JobImpl implements JobCore, HibNodePublishJob {
+
+	private static final String NODE_UUID_PROPERTY = "nodeUuid";
+
+	private static final String USER_UUID_PROPERTY = "userUuid";
+
+	private static final String TOTAL_COUNT_PROPERTY = "totalCount";
+
+	private static final String LAST_PROCESSED_KEY_PROPERTY = "lastProcessedKey";
+
+	/**
+	 * Initialize the vertex type and index.
+	 * 
+	 * @param type
+	 * @param index
+	 */
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(NodePublishJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public Project getProject() {
+		return out(HAS_PROJECT, ProjectImpl.class).nextOrNull();
+	}
+
+	@Override
+	public void setProject(HibProject project) {
+		setSingleLinkOutTo(toGraph(project), HAS_PROJECT);
+	}
+
+	@Override
+	public String getNodeUuid() {
+		return getProperty(NODE_UUID_PROPERTY);
+	}
+
+	@Override
+	public void setNodeUuid(String uuid) {
+		setProperty(NODE_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public String getUserUuid() {
+		return getProperty(USER_UUID_PROPERTY);
+	}
+
+	@Override
+	public void setUserUuid(String uuid) {
+		setProperty(USER_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public long getTotalCount() {
+		Long count = getProperty(TOTAL_COUNT_PROPERTY);
+		return count == null ? 0 : count;
+	}
+
+	@Override
+	public void setTotalCount(long count) {
+		setProperty(TOTAL_COUNT_PROPERTY, count);
+	}
+
+	@Override
+	public String getLastProcessedKey() {
+		return getProperty(LAST_PROCESSED_KEY_PROPERTY);
+	}
+
+	@Override
+	public void setLastProcessedKey(String key) {
+		setProperty(LAST_PROCESSED_KEY_PROPERTY, key);
+	}
+}
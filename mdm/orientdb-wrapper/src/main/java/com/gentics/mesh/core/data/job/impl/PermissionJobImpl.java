@@ -0,0 +1,137 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_PROJECT;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.impl.ProjectImpl;
+import com.gentics.mesh.core.data.job.HibPermissionJob;
+import com.gentics.mesh.core.data.job.JobCore;
+import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
+
+/**
+ * Graph entity for jobs which recursively change the permissions of a role on a subtree of nodes.
+ */
+public class PermissionJobImpl extends JobImpl implements JobCore, HibPermissionJob {
+
+	private static final String NODE_UUID_PROPERTY = "nodeUuid";
+
+	private static final String ROLE_UUID_PROPERTY = "roleUuid";
+
+	private static final String USER_UUID_PROPERTY = "userUuid";
+
+	private static final String GRANT_PROPERTY = "grant";
+
+	private static final String REVOKE_PROPERTY = "revoke";
+
+	private static final String TOTAL_COUNT_PROPERTY = "totalCount";
+
+	/**
+	 * Initialize the vertex type and index.
+	 *
+	 * @param type
+	 * @param index
+	 */
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(PermissionJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public Project getProject() {
+		return out(HAS_PROJECT, ProjectImpl.class).nextOrNull();
+	}
+
+	@Override
+	public void setProject(HibProject project) {
+		setSingleLinkOutTo(toGraph(project), HAS_PROJECT);
+	}
+
+	@Override
+	public String getNodeUuid() {
+		return getProperty(NODE_UUID_PROPERTY);
+	}
+
+	@Override
+	public void setNodeUuid(String uuid) {
+		setProperty(NODE_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public String getRoleUuid() {
+		return getProperty(ROLE_UUID_PROPERTY);
+	}
+
+	@Override
+	public void setRoleUuid(String uuid) {
+		setProperty(ROLE_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public String getUserUuid() {
+		return getProperty(USER_UUID_PROPERTY);
+	}
+
+	@Override
+	public void setUserUuid(String uuid) {
+		setProperty(USER_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public Set<InternalPermission> getPermissionsToGrant() {
+		return getPermissions(GRANT_PROPERTY);
+	}
+
+	@Override
+	public void setPermissionsToGrant(Set<InternalPermission> permissions) {
+		setPermissions(GRANT_PROPERTY, permissions);
+	}
+
+	@Override
+	public Set<InternalPermission> getPermissionsToRevoke() {
+		return getPermissions(REVOKE_PROPERTY);
+	}
+
+	@Override
+	public void setPermissionsToRevoke(Set<InternalPermission> permissions) {
+		setPermissions(REVOKE_PROPERTY, permissions);
+	}
+
+	@Override
+	public long getTotalCount() {
+		Long count = getProperty(TOTAL_COUNT_PROPERTY);
+		return count == null ? 0 : count;
+	}
+
+	@Override
+	public void setTotalCount(long count) {
+		setProperty(TOTAL_COUNT_PROPERTY, count);
+	}
+
+	/**
+	 * The permissions are stored as a comma separated list of their names.
+	 */
+	private Set<InternalPermission> getPermissions(String key) {
+		Set<InternalPermission> permissions = EnumSet.noneOf(InternalPermission.class);
+		String value = getProperty(key);
+		if (!StringUtils.isEmpty(value)) {
+			for (String name : value.split(",")) {
+				permissions.add(InternalPermission.valueOf(name));
+			}
+		}
+		return permissions;
+	}
+
+	private void setPermissions(String key, Set<InternalPermission> permissions) {
+		setProperty(key, permissions.stream().map(InternalPermission::name).collect(Collectors.joining(",")));
+	}
+}
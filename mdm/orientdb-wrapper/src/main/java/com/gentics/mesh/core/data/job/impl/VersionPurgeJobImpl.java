@@ -23,6 +23,12 @@ public class VersionPurgeJobImpl extends JobImpl implements JobCore, HibVersionP
 
 	private static final String MAX_AGE_PROPERTY = "maxAge";
 
+	private static final String TOTAL_COUNT_PROPERTY = "totalCount";
+
+	private static final String PURGED_COUNT_PROPERTY = "purgedCount";
+
+	private static final String LAST_NODE_UUID_PROPERTY = "lastNodeUuid";
+
 	/**
 	 * Initialize the vertex type and index.
 	 * 
@@ -69,4 +75,36 @@ public class VersionPurgeJobImpl extends JobImpl implements JobCore, HibVersionP
 			removeProperty(MAX_AGE_PROPERTY);
 		}
 	}
+
+	@Override
+	public long getTotalCount() {
+		Long count = getProperty(TOTAL_COUNT_PROPERTY);
+		return count == null ? 0 : count;
+	}
+
+	@Override
+	public void setTotalCount(long count) {
+		setProperty(TOTAL_COUNT_PROPERTY, count);
+	}
+
+	@Override
+	public long getPurgedCount() {
+		Long count = getProperty(PURGED_COUNT_PROPERTY);
+		return count == null ? 0 : count;
+	}
+
+	@Override
+	public void setPurgedCount(long count) {
+		setProperty(PURGED_COUNT_PROPERTY, count);
+	}
+
+	@Override
+	public String getLastNodeUuid() {
+		return getProperty(LAST_NODE_UUID_PROPERTY);
+	}
+
+	@Override
+	public void setLastNodeUuid(String uuid) {
+		setProperty(LAST_NODE_UUID_PROPERTY, uuid);
+	}
 }
@@ -24,12 +24,13 @@ import static com.gentics.mesh.madl.type.VertexTypeDefinition.vertexType;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,7 +51,6 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.TagEdge;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
-import com.gentics.mesh.core.data.dao.ContentDao;
 import com.gentics.mesh.core.data.dao.UserDao;
 import com.gentics.mesh.core.data.generic.AbstractGenericFieldContainerVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
@@ -65,7 +65,7 @@ import com.gentics.mesh.core.data.node.field.impl.NodeGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.nesting.HibNodeField;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
-import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.PageImpl;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.relationship.GraphRelationships;
@@ -86,6 +86,8 @@ import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.core.result.TraversalResult;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.util.UUIDUtil;
+import com.gentics.mesh.util.ValidationUtil;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.EdgeTraversal;
 import com.syncleus.ferma.traversals.VertexTraversal;
@@ -101,6 +103,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	public static final String REVISION_PROPERTY_KEY = "revision";
+
 	/**
 	 * Initialize the node vertex type and indices.
 	 * 
@@ -223,6 +227,16 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
 	}
 
+	@Override
+	public String getRevision() {
+		return property(REVISION_PROPERTY_KEY);
+	}
+
+	@Override
+	public void bumpRevision() {
+		property(REVISION_PROPERTY_KEY, UUIDUtil.randomUUID());
+	}
+
 	@Override
 	public void setSchemaContainer(HibSchema schema) {
 		property(SCHEMA_CONTAINER_KEY_PROPERTY, schema.getUuid());
@@ -352,23 +366,69 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 	}
 
-	private Stream<HibNode> getChildren(HibUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+	@Override
+	public Page<HibNode> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
+		PagingParameters pagingInfo) {
+		ValidationUtil.validate(pagingInfo);
 		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
-		UserDao userRoot = GraphDBTx.getGraphTx().userDao();
-		ContentDao contentDao = Tx.get().contentDao();
+		String[] keys = new String[] { BRANCH_PARENTS_KEY_PROPERTY };
+		Object[] values = new Object[] { branchParentEntry(branchUuid, getUuid()).encode() };
+		Optional<String> filter = childrenFilter(ac.getUser(), languageTags, branchUuid, type, perm);
+
+		Long perPage = pagingInfo.getPerPage();
+		long skip = perPage == null ? 0 : pagingInfo.getActualPage() * perPage;
+		List<HibNode> children;
+		if (perPage != null && perPage == 0) {
+			children = Collections.emptyList();
+		} else {
+			Stream<Vertex> stream;
+			if (filter.isPresent()) {
+				// SKIP and LIMIT of the page are applied by the database
+				stream = toStream(db().getVertices(NodeImpl.class, keys, values, pagingInfo, Optional.empty(), filter));
+			} else {
+				// Without a filter, the index lookup is not paged by the database, but yields only the children of this node
+				stream = toStream(db().getVertices(NodeImpl.class, keys, values, null, Optional.empty(), Optional.empty()));
+				if (perPage != null) {
+					stream = stream.skip(skip).limit(perPage);
+				}
+			}
+			children = stream.map(vertex -> (HibNode) graph.frameElementExplicit(vertex, NodeImpl.class)).collect(Collectors.toList());
+		}
 
-		Predicate<HibNode> languageFilter = languageTags == null || languageTags.isEmpty()
-			? item -> true
-			: item -> languageTags.stream().anyMatch(languageTag -> contentDao.getFieldContainer(item, languageTag, branchUuid, type) != null);
+		long totalCount;
+		if (perPage == null || (children.size() < perPage && (!children.isEmpty() || skip == 0))) {
+			// This is the last page, so the total count is known without counting
+			totalCount = skip + children.size();
+		} else {
+			// The count query still evaluates the filter for every child of this node
+			totalCount = db().countVertices(NodeImpl.class, keys, values, filter);
+		}
+		return new PageImpl<>(children, pagingInfo, totalCount);
+	}
 
-		return getChildren(branchUuid, Optional.of(requestUser)).stream()
-			.filter(languageFilter.and(item -> userRoot.hasPermission(requestUser, item, perm)));
+	/**
+	 * Create the filter for the children lookup via the branch parents index. The filter restricts the children to those which have a container of the given
+	 * type in one of the given languages and for which the user has the given permission. The filter is evaluated by the database during the index lookup.
+	 */
+	private Optional<String> childrenFilter(HibUser user, List<String> languageTags, String branchUuid, ContainerType type, InternalPermission perm) {
+		List<String> clauses = new ArrayList<>();
+		if (languageTags != null && !languageTags.isEmpty()) {
+			String languages = languageTags.stream()
+				.map(languageTag -> "'" + escapeSqlString(languageTag) + "'")
+				.collect(Collectors.joining(",", "[", "]"));
+			clauses.add("outE('" + HAS_FIELD_CONTAINER + "')[" + GraphFieldContainerEdgeImpl.BRANCH_UUID_KEY + " = '" + escapeSqlString(branchUuid) + "' AND "
+				+ GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY + " = '" + type.getCode() + "' AND " + GraphFieldContainerEdgeImpl.LANGUAGE_TAG_KEY + " IN "
+				+ languages + "].size() > 0");
+		}
+		permissionFilter(user, perm, Optional.empty(), Optional.of(type)).ifPresent(permFilter -> clauses.add("(" + permFilter + ")"));
+		if (clauses.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(String.join(" AND ", clauses));
 	}
 
-	@Override
-	public Page<HibNode> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
-		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+	private static String escapeSqlString(String value) {
+		return value.replace("\\", "\\\\").replace("'", "\\'");
 	}
 
 	@Override
@@ -8,6 +8,7 @@ import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_START;
+import static com.gentics.mesh.core.rest.admin.consistency.ConsistencyRating.INCONSISTENT;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -33,18 +34,21 @@ import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.distributed.coordinator.Coordinator;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.OrientDBMeshOptions;
+import com.gentics.mesh.graphdb.backup.BackupChain;
 import com.gentics.mesh.router.RouterStorageImpl;
 import com.gentics.mesh.router.RouterStorageRegistryImpl;
 import com.gentics.mesh.search.SearchProvider;
 
 import io.reactivex.Completable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.Vertx;
 
 /**
@@ -81,6 +85,36 @@ public class OrientDBAdminHandler extends AdminHandler {
 		}
 	}
 
+	@Override
+	public String incrementalBackup(boolean verify) {
+		String backupFile;
+		try {
+			vertx.eventBus().publish(GRAPH_BACKUP_START.address, null);
+			// Only the changes since the last backup are written. Thus the instance does not need to be switched to the backup status.
+			backupFile = db.incrementalBackupDatabase(((OrientDBMeshOptions) options).getStorageOptions().getBackupDirectory());
+		} catch (GenericRestException e) {
+			throw e;
+		} catch (Throwable e) {
+			log.error("Incremental backup process failed", e);
+			throw error(INTERNAL_SERVER_ERROR, "backup_failed", e);
+		} finally {
+			vertx.eventBus().publish(GRAPH_BACKUP_FINISHED.address, null);
+		}
+		if (verify) {
+			String chainDirectory = new File(backupFile).getParent();
+			Completable.fromAction(() -> {
+				ConsistencyCheckResponse result = db.verifyBackup(chainDirectory);
+				if (result.getResult() == INCONSISTENT) {
+					log.error("Verification of backup {" + backupFile + "} found {" + result.getInconsistencies().size() + "} inconsistencies");
+				} else {
+					log.info("Verification of backup {" + backupFile + "} finished without inconsistencies");
+				}
+			}).subscribeOn(Schedulers.io()).subscribe(() -> {
+			}, e -> log.error("Verification of backup {" + backupFile + "} failed", e));
+		}
+		return backupFile;
+	}
+
 	@Override
 	public void handleRestore(InternalActionContext ac) {
 		OrientDBMeshOptions config = (OrientDBMeshOptions) options;
@@ -114,7 +148,16 @@ public class OrientDBAdminHandler extends AdminHandler {
 		// Find the file which was last modified
 		File latestFile = Arrays.asList(backupDir.listFiles()).stream().filter(file -> file.getName().endsWith(".zip"))
 			.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
-		if (latestFile == null) {
+		// Use the latest incremental backup chain if it is newer than the latest full backup
+		BackupChain latestChain;
+		try {
+			latestChain = BackupChain.latest(backupDir);
+		} catch (IOException e) {
+			log.error("Could not load the backup chains", e);
+			throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
+		}
+		boolean useChain = latestChain != null && (latestFile == null || latestChain.getLastModified() > latestFile.lastModified());
+		if (latestFile == null && !useChain) {
 			throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
 		}
 		MeshStatus oldStatus = mesh.getStatus();
@@ -122,7 +165,11 @@ public class OrientDBAdminHandler extends AdminHandler {
 			mesh.setStatus(MeshStatus.RESTORE);
 			vertx.eventBus().publish(GRAPH_RESTORE_START.address, null);
 			db.stop();
-			db.restoreDatabase(latestFile.getAbsolutePath());
+			if (useChain) {
+				db.restoreIncrementalDatabase(latestChain.getDirectory().getAbsolutePath());
+			} else {
+				db.restoreDatabase(latestFile.getAbsolutePath());
+			}
 			// TODO add changelog execution
 			db.setupConnectionPool();
 			boot.globalCacheClear();
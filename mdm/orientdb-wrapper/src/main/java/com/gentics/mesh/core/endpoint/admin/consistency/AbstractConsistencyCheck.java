@@ -1,6 +1,12 @@
 package com.gentics.mesh.core.endpoint.admin.consistency;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
 import com.gentics.mesh.core.data.MeshVertex;
@@ -8,6 +14,8 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.GraphDBTx;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity;
+import com.gentics.mesh.graphdb.model.RecordRange;
+import com.gentics.mesh.graphdb.spi.GraphDatabase;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -59,6 +67,83 @@ public abstract class AbstractConsistencyCheck implements ConsistencyCheck {
 		return result;
 	}
 
+	/**
+	 * Loads the elements of the given type from the graph and processes them using the given action. When the context is partitioned, the elements are split
+	 * into ranges of record ids which are processed by the worker pool of the context. Each partition is processed within its own transaction. Partitions
+	 * which have already been processed according to the checkpoint of the context will be skipped.
+	 * 
+	 * @param db
+	 *            Database reference
+	 * @param clazz
+	 *            Type of elements to be loaded and processed
+	 * @param action
+	 *            Processing action to be invoked
+	 * @param context
+	 *            Context of the check
+	 * @param tx
+	 *            Current transaction
+	 * @return
+	 */
+	protected <T extends MeshVertex> ConsistencyCheckResult processForType(Database db, Class<T> clazz, BiConsumer<T, ConsistencyCheckResult> action,
+		ConsistencyCheckContext context, Tx tx) {
+		if (!context.isPartitioned()) {
+			return processForType(db, clazz, action, context.isAttemptRepair(), tx);
+		}
+		GraphDatabase graphDb = (GraphDatabase) db;
+		List<RecordRange> ranges = graphDb.getRecordRanges(clazz, context.getPartitionSize());
+		log.info("Processing elements of type {" + clazz.getSimpleName() + "} in {" + ranges.size() + "} partitions");
+		List<Future<ConsistencyCheckResult>> futures = new ArrayList<>(ranges.size());
+		for (RecordRange range : ranges) {
+			String key = getName() + "/" + clazz.getSimpleName() + "/" + range.getKey();
+			ConsistencyCheckResult completed = context.getCompletedPartition(key);
+			if (completed != null) {
+				futures.add(CompletableFuture.completedFuture(completed));
+			} else {
+				futures.add(context.getExecutor().submit(() -> processPartition(graphDb, clazz, action, context, key, range)));
+			}
+		}
+		ConsistencyCheckResult result = new ConsistencyCheckResult();
+		try {
+			for (Future<ConsistencyCheckResult> future : futures) {
+				result.merge(future.get());
+			}
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Processing of the elements of type {" + clazz.getSimpleName() + "} was interrupted", e);
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new RuntimeException("Processing of the elements of type {" + clazz.getSimpleName() + "} failed", e.getCause());
+		}
+		log.info("Processed all partitions of type {" + clazz.getSimpleName() + "}.");
+		return result;
+	}
+
+	private <T extends MeshVertex> ConsistencyCheckResult processPartition(GraphDatabase db, Class<T> clazz, BiConsumer<T, ConsistencyCheckResult> action,
+		ConsistencyCheckContext context, String key, RecordRange range) {
+		AtomicLong count = new AtomicLong();
+		// Changes of a repair are committed once the partition has been processed
+		ConsistencyCheckResult result = db.tx(tx -> {
+			ConsistencyCheckResult partitionResult = new ConsistencyCheckResult();
+			count.set(0);
+			Iterator<? extends T> it = db.getElementsForRange(clazz, range);
+			while (it.hasNext()) {
+				context.acquire();
+				action.accept(it.next(), partitionResult);
+				count.incrementAndGet();
+			}
+			return partitionResult;
+		});
+		if (log.isDebugEnabled()) {
+			log.debug("Processed {" + count.get() + "} " + clazz.getSimpleName() + " elements in partition {" + key + "}");
+		}
+		context.completePartition(key, count.get(), result);
+		return result;
+	}
+
 	/**
 	 * Check existence of an incoming edge.
 	 *
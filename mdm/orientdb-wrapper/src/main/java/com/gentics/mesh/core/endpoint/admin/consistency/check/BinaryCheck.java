@@ -9,6 +9,7 @@ import com.gentics.mesh.core.data.binary.impl.BinaryImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
@@ -24,10 +25,11 @@ public class BinaryCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
+		boolean attemptRepair = context.isAttemptRepair();
 		return processForType(db, BinaryImpl.class, (binary, result) -> {
 			checkBinary(binary, result, attemptRepair);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkBinary(HibBinary binary, ConsistencyCheckResult result, boolean attemptRepair) {
@@ -17,6 +17,7 @@ import com.gentics.mesh.core.data.root.impl.BranchRootImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 
 /**
@@ -30,14 +31,14 @@ public class BranchCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		ConsistencyCheckResult a = processForType(db, BranchRootImpl.class, (root,result) -> {
 			checkBranchRoot(root, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 
 		ConsistencyCheckResult b = processForType(db, BranchImpl.class, (release, result)-> {
 			checkBranch(release, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 
 		return a.merge(b);
 	}
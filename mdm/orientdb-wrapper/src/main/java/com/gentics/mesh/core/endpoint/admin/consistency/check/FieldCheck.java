@@ -16,6 +16,7 @@ import com.gentics.mesh.core.data.node.impl.MicronodeImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
@@ -36,24 +37,24 @@ public class FieldCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		ConsistencyCheckResult result = new ConsistencyCheckResult();
-		result.merge(checkListType(db, tx, NumberGraphFieldListImpl.class, "number", attemptRepair));
-		result.merge(checkListType(db, tx, DateGraphFieldListImpl.class, "date", attemptRepair));
-		result.merge(checkListType(db, tx, BooleanGraphFieldListImpl.class, "boolean", attemptRepair));
-		result.merge(checkListType(db, tx, HtmlGraphFieldListImpl.class, "html", attemptRepair));
-		result.merge(checkListType(db, tx, StringGraphFieldListImpl.class, "string", attemptRepair));
-		result.merge(checkListType(db, tx, NodeGraphFieldListImpl.class, "node", attemptRepair));
-		result.merge(checkListType(db, tx, MicronodeGraphFieldListImpl.class, "micronode", attemptRepair));
+		result.merge(checkListType(db, tx, NumberGraphFieldListImpl.class, "number", context));
+		result.merge(checkListType(db, tx, DateGraphFieldListImpl.class, "date", context));
+		result.merge(checkListType(db, tx, BooleanGraphFieldListImpl.class, "boolean", context));
+		result.merge(checkListType(db, tx, HtmlGraphFieldListImpl.class, "html", context));
+		result.merge(checkListType(db, tx, StringGraphFieldListImpl.class, "string", context));
+		result.merge(checkListType(db, tx, NodeGraphFieldListImpl.class, "node", context));
+		result.merge(checkListType(db, tx, MicronodeGraphFieldListImpl.class, "micronode", context));
 		return result;
 	}
 
 	private ConsistencyCheckResult checkListType(Database db, Tx tx, Class<? extends ListGraphField<?, ?, ?>> clazz, String name,
-		boolean attemptRepair) {
+		ConsistencyCheckContext context) {
 		log.info("Checking list of type {" + name + "}");
 		return processForType(db, clazz, (list, result) -> {
-			checkList(list, result, name, attemptRepair);
-		}, attemptRepair, tx);
+			checkList(list, result, name, context.isAttemptRepair());
+		}, context, tx);
 	}
 
 	private void checkList(ListGraphField<?, ?, ?> list, ConsistencyCheckResult result, String type, boolean attemptRepair) {
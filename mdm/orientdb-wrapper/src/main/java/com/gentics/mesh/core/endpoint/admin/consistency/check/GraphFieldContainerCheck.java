@@ -31,6 +31,7 @@ import com.gentics.mesh.core.db.CommonTx;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.graph.GraphAttribute;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
@@ -56,10 +57,11 @@ public class GraphFieldContainerCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
+		boolean attemptRepair = context.isAttemptRepair();
 		return processForType(db, NodeGraphFieldContainerImpl.class, (element, result) -> {
 			checkGraphFieldContainer(db, element, result, attemptRepair);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkGraphFieldContainer(Database db, NodeGraphFieldContainer container, ConsistencyCheckResult result, boolean attemptRepair) {
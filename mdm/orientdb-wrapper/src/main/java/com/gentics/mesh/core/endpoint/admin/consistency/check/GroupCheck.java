@@ -11,6 +11,7 @@ import com.gentics.mesh.core.data.root.impl.GroupRootImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 
 /**
@@ -24,10 +25,10 @@ public class GroupCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		return processForType(db, GroupImpl.class, (group, result) -> {
 			checkGroup(group, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkGroup(Group group, ConsistencyCheckResult result) {
@@ -7,6 +7,7 @@ import com.gentics.mesh.core.data.schema.Microschema;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 
 /**
@@ -20,10 +21,10 @@ public class MicroschemaContainerCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		return processForType(db, MicroschemaContainerImpl.class, (schema, result) -> {
 			checkMicroschemaContainer(schema, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkMicroschemaContainer(Microschema microschema, ConsistencyCheckResult result) {
@@ -21,6 +21,7 @@ import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.gentics.mesh.core.rest.common.ContainerType;
 
@@ -35,10 +36,10 @@ public class NodeCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		return processForType(db, NodeImpl.class, (node, result) -> {
 			checkNode(node, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkNode(Node node, ConsistencyCheckResult result) {
@@ -9,6 +9,7 @@ import com.gentics.mesh.core.data.impl.RoleImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 
 /**
@@ -22,10 +23,10 @@ public class RoleCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		return processForType(db, RoleImpl.class, (role, result) -> {
 			checkRole(role, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 	
 	private void checkRole(Role role, ConsistencyCheckResult result) {
@@ -18,6 +18,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 
 /**
@@ -31,14 +32,14 @@ public class SchemaContainerCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		ConsistencyCheckResult a = processForType(db, SchemaContainerImpl.class, (schema, result) -> {
 			checkSchemaContainer(schema, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 
 		ConsistencyCheckResult b = processForType(db, SchemaContainerVersionImpl.class, (version, result) -> {
 			checkSchemaContainerVersion(version, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 
 		return a.merge(b);
 	}
@@ -8,6 +8,7 @@ import com.gentics.mesh.core.data.impl.TagFamilyImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 
 /**
@@ -21,10 +22,10 @@ public class TagFamilyCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		return processForType(db, TagFamilyImpl.class, (tagFamily, result) -> {
 			checkTagFamily(tagFamily, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkTagFamily(TagFamily tagFamily, ConsistencyCheckResult result) {
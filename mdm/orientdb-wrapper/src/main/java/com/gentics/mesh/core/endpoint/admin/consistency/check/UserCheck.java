@@ -17,6 +17,7 @@ import com.gentics.mesh.core.data.root.impl.UserRootImpl;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.consistency.AbstractConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
 import com.google.common.collect.Sets;
 
@@ -31,10 +32,10 @@ public class UserCheck extends AbstractConsistencyCheck {
 	}
 
 	@Override
-	public ConsistencyCheckResult invoke(Database db, Tx tx, boolean attemptRepair) {
+	public ConsistencyCheckResult invoke(Database db, Tx tx, ConsistencyCheckContext context) {
 		return processForType(db, UserImpl.class, (user, result) -> {
 			checkUser(user, result);
-		}, attemptRepair, tx);
+		}, context, tx);
 	}
 
 	private void checkUser(User user, ConsistencyCheckResult result) {
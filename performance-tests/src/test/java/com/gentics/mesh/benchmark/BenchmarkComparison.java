@@ -0,0 +1,176 @@
+package com.gentics.mesh.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Comparison of two JMH result files in the JSON format. A benchmark regresses, when its score got worse by more than the threshold (in percent). For the
+ * throughput mode a higher score is better, for all other modes (average time, sample time, single shot) a lower score is better. Benchmarks are matched by
+ * their name, mode and parameters. Benchmarks which only exist in one of the files are ignored.
+ */
+public class BenchmarkComparison {
+
+	private final double thresholdPercent;
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	/**
+	 * Compare the results with the baseline.
+	 *
+	 * @param baseline
+	 *            JMH result array of the baseline run
+	 * @param results
+	 *            JMH result array of the current run
+	 * @param thresholdPercent
+	 *            Allowed degradation of the score in percent
+	 */
+	public BenchmarkComparison(JsonArray baseline, JsonArray results, double thresholdPercent) {
+		this.thresholdPercent = thresholdPercent;
+		Map<String, JsonObject> baselineByKey = index(baseline);
+		for (Map.Entry<String, JsonObject> result : index(results).entrySet()) {
+			JsonObject base = baselineByKey.get(result.getKey());
+			if (base != null) {
+				entries.add(new Entry(result.getKey(), result.getValue().getString("mode"), score(base), score(result.getValue()),
+					result.getValue().getJsonObject("primaryMetric").getString("scoreUnit")));
+			}
+		}
+	}
+
+	/**
+	 * Load the comparison from the given JMH result files.
+	 *
+	 * @param baselineFile
+	 * @param resultFile
+	 * @param thresholdPercent
+	 * @return
+	 * @throws IOException
+	 */
+	public static BenchmarkComparison load(Path baselineFile, Path resultFile, double thresholdPercent) throws IOException {
+		return new BenchmarkComparison(read(baselineFile), read(resultFile), thresholdPercent);
+	}
+
+	/**
+	 * Return the compared benchmarks.
+	 *
+	 * @return
+	 */
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Return the benchmarks which regressed beyond the threshold.
+	 *
+	 * @return
+	 */
+	public List<Entry> getRegressions() {
+		List<Entry> regressions = new ArrayList<>();
+		for (Entry entry : entries) {
+			if (entry.getDegradationPercent() > thresholdPercent) {
+				regressions.add(entry);
+			}
+		}
+		return regressions;
+	}
+
+	/**
+	 * Render the comparison as a table.
+	 *
+	 * @return
+	 */
+	public String render() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-90s %15s %15s %10s%n", "Benchmark", "Baseline", "Current", "Change"));
+		for (Entry entry : entries) {
+			sb.append(String.format("%-90s %15.3f %15.3f %+9.1f%% %s%s%n", entry.getKey(), entry.getBaselineScore(), entry.getScore(),
+				entry.getDegradationPercent(), entry.getUnit(), entry.getDegradationPercent() > thresholdPercent ? " REGRESSION" : ""));
+		}
+		return sb.toString();
+	}
+
+	private static JsonArray read(Path file) throws IOException {
+		return new JsonArray(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+	}
+
+	private static Map<String, JsonObject> index(JsonArray results) {
+		Map<String, JsonObject> byKey = new LinkedHashMap<>();
+		for (int i = 0; i < results.size(); i++) {
+			JsonObject result = results.getJsonObject(i);
+			byKey.put(key(result), result);
+		}
+		return byKey;
+	}
+
+	private static String key(JsonObject result) {
+		StringBuilder key = new StringBuilder(result.getString("benchmark")).append(" [").append(result.getString("mode")).append("]");
+		JsonObject params = result.getJsonObject("params");
+		if (params != null) {
+			// Sort the parameters, so that the key does not depend on their order in the file
+			new TreeMap<>(params.getMap()).forEach((name, value) -> key.append(" ").append(name).append("=").append(value));
+		}
+		return key.toString();
+	}
+
+	private static double score(JsonObject result) {
+		return result.getJsonObject("primaryMetric").getDouble("score");
+	}
+
+	/**
+	 * Comparison of a single benchmark.
+	 */
+	public static class Entry {
+
+		private final String key;
+		private final String mode;
+		private final double baselineScore;
+		private final double score;
+		private final String unit;
+
+		Entry(String key, String mode, double baselineScore, double score, String unit) {
+			this.key = key;
+			this.mode = mode;
+			this.baselineScore = baselineScore;
+			this.score = score;
+			this.unit = unit;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public double getBaselineScore() {
+			return baselineScore;
+		}
+
+		public double getScore() {
+			return score;
+		}
+
+		public String getUnit() {
+			return unit;
+		}
+
+		/**
+		 * Return by how many percent the score got worse. Negative values denote an improvement.
+		 *
+		 * @return
+		 */
+		public double getDegradationPercent() {
+			if (baselineScore == 0) {
+				return 0;
+			}
+			double change = (score - baselineScore) / baselineScore * 100;
+			return "thrpt".equals(mode) ? -change : change;
+		}
+	}
+}
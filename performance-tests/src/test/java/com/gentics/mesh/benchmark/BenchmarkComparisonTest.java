@@ -0,0 +1,53 @@
+package com.gentics.mesh.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.benchmark.BenchmarkComparison.Entry;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class BenchmarkComparisonTest {
+
+	@Test
+	public void testAverageTimeRegression() {
+		JsonArray baseline = new JsonArray().add(result("a.serialize", "avgt", 100)).add(result("a.deserialize", "avgt", 100));
+		JsonArray current = new JsonArray().add(result("a.serialize", "avgt", 105)).add(result("a.deserialize", "avgt", 120));
+
+		List<Entry> regressions = new BenchmarkComparison(baseline, current, 10).getRegressions();
+		assertEquals(1, regressions.size());
+		assertEquals("a.deserialize [avgt] fieldCount=10", regressions.get(0).getKey());
+	}
+
+	@Test
+	public void testThroughputRegression() {
+		JsonArray baseline = new JsonArray().add(result("a.hit", "thrpt", 1000)).add(result("a.miss", "thrpt", 1000));
+		JsonArray current = new JsonArray().add(result("a.hit", "thrpt", 1500)).add(result("a.miss", "thrpt", 800));
+
+		List<Entry> regressions = new BenchmarkComparison(baseline, current, 10).getRegressions();
+		assertEquals(1, regressions.size());
+		assertEquals("a.miss [thrpt] fieldCount=10", regressions.get(0).getKey());
+	}
+
+	@Test
+	public void testUnmatchedBenchmarksAreIgnored() {
+		JsonArray baseline = new JsonArray().add(result("a.removed", "avgt", 100));
+		JsonArray current = new JsonArray().add(result("a.added", "avgt", 1000));
+
+		BenchmarkComparison comparison = new BenchmarkComparison(baseline, current, 10);
+		assertEquals(0, comparison.getEntries().size());
+		assertEquals(0, comparison.getRegressions().size());
+	}
+
+	private JsonObject result(String benchmark, String mode, double score) {
+		return new JsonObject()
+			.put("benchmark", benchmark)
+			.put("mode", mode)
+			.put("params", new JsonObject().put("fieldCount", "10"))
+			.put("primaryMetric", new JsonObject().put("score", score).put("scoreUnit", "us/op"));
+	}
+}
@@ -0,0 +1,64 @@
+package com.gentics.mesh.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runner for the benchmarks of this package. The results are written in the JSON format of JMH. When a baseline result file is given, the results are
+ * compared with the baseline and the runner exits with a non-zero status, when a benchmark regressed beyond the threshold.
+ *
+ * The runner is configured via system properties:
+ * <ul>
+ * <li><code>mesh.benchmark.include</code> - Regular expression for the benchmarks to run (default: all benchmarks of this package)</li>
+ * <li><code>mesh.benchmark.result</code> - Result file (default: <code>target/jmh-result.json</code>)</li>
+ * <li><code>mesh.benchmark.baseline</code> - Result file of a previous run to compare with (optional)</li>
+ * <li><code>mesh.benchmark.threshold</code> - Allowed degradation of the score in percent (default: 10)</li>
+ * <li><code>mesh.benchmark.compareOnly</code> - Only compare the existing result file with the baseline without running the benchmarks</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+	public static final String INCLUDE_PROPERTY = "mesh.benchmark.include";
+
+	public static final String RESULT_PROPERTY = "mesh.benchmark.result";
+
+	public static final String BASELINE_PROPERTY = "mesh.benchmark.baseline";
+
+	public static final String THRESHOLD_PROPERTY = "mesh.benchmark.threshold";
+
+	public static final String COMPARE_ONLY_PROPERTY = "mesh.benchmark.compareOnly";
+
+	public static void main(String[] args) throws Exception {
+		String include = System.getProperty(INCLUDE_PROPERTY, BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+		Path resultFile = Paths.get(System.getProperty(RESULT_PROPERTY, "target/jmh-result.json"));
+		String baseline = System.getProperty(BASELINE_PROPERTY);
+		double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY, "10"));
+
+		if (!Boolean.getBoolean(COMPARE_ONLY_PROPERTY)) {
+			if (resultFile.toAbsolutePath().getParent() != null) {
+				Files.createDirectories(resultFile.toAbsolutePath().getParent());
+			}
+			ChainedOptionsBuilder options = new OptionsBuilder()
+				.include(include)
+				.resultFormat(ResultFormatType.JSON)
+				.result(resultFile.toString());
+			new Runner(options.build()).run();
+		}
+
+		if (baseline != null) {
+			BenchmarkComparison comparison = BenchmarkComparison.load(Paths.get(baseline), resultFile, threshold);
+			System.out.println(comparison.render());
+			int regressions = comparison.getRegressions().size();
+			if (regressions > 0) {
+				System.err.println(regressions + " benchmark(s) regressed by more than " + threshold + "% compared to " + baseline);
+				System.exit(1);
+			}
+		}
+	}
+}
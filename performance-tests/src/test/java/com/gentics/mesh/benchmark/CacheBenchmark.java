@@ -0,0 +1,87 @@
+package com.gentics.mesh.benchmark;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.cache.CachedLink;
+import com.gentics.mesh.cache.LinkCache;
+import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.core.data.perm.InternalPermission;
+
+/**
+ * Benchmark for the lookups in the permission cache and the link cache. Both caches are backed by the event aware cache implementation, so the benchmark
+ * also covers the hit and miss accounting of the cache metrics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+
+	private static final int ENTRIES = 10_000;
+
+	/**
+	 * Caches of the started Mesh instance with prefilled entries.
+	 */
+	@State(Scope.Benchmark)
+	public static class CacheState {
+
+		PermissionCache permissionCache;
+
+		LinkCache linkCache;
+
+		Object userId;
+
+		AtomicLong counter = new AtomicLong();
+
+		@Setup
+		public void setup(MeshBenchmarkState mesh) {
+			permissionCache = mesh.mesh().permissionCache();
+			linkCache = mesh.mesh().linkCache();
+			linkCache.enable();
+			userId = mesh.tx(() -> mesh.user().getId());
+			for (int i = 0; i < ENTRIES; i++) {
+				permissionCache.store(userId, EnumSet.of(InternalPermission.READ_PERM), "element-" + i);
+				linkCache.store("link-" + i, new CachedLink("/path/" + i, Collections.emptySet()));
+			}
+		}
+
+		long next() {
+			return counter.incrementAndGet();
+		}
+	}
+
+	@Benchmark
+	public Boolean permissionCacheHit(CacheState state) {
+		return state.permissionCache.hasPermission(state.userId, InternalPermission.READ_PERM, "element-" + state.next() % ENTRIES);
+	}
+
+	@Benchmark
+	public Boolean permissionCacheMiss(CacheState state) {
+		return state.permissionCache.hasPermission(state.userId, InternalPermission.READ_PERM, "missing-" + state.next() % ENTRIES);
+	}
+
+	@Benchmark
+	public CachedLink linkCacheHit(CacheState state) {
+		return state.linkCache.get("link-" + state.next() % ENTRIES);
+	}
+
+	@Benchmark
+	public CachedLink linkCacheMiss(CacheState state) {
+		return state.linkCache.get("missing-" + state.next() % ENTRIES);
+	}
+}
@@ -0,0 +1,95 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.search.index.node.NodeContainerTransformer;
+
+/**
+ * Benchmark for the transformation of the contents of the dataset into search index documents and REST responses and for the tokenization of HTML
+ * contents with mesh links. Each operation handles all contents of the dataset.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ContentTransformationBenchmark {
+
+	/**
+	 * State with the uuids of the dataset and the HTML content which is tokenized.
+	 */
+	@State(Scope.Benchmark)
+	public static class ContentState {
+
+		MeshBenchmarkState mesh;
+
+		List<String> contentUuids;
+
+		String html;
+
+		@Setup
+		public void setup(MeshBenchmarkState mesh) {
+			this.mesh = mesh;
+			this.contentUuids = mesh.getContentUuids();
+			this.html = MeshBenchmarkState.createHtml(mesh.getLinkTargets(), mesh.linksPerContent);
+		}
+	}
+
+	@Benchmark
+	public void toSearchDocument(ContentState state, Blackhole blackhole) {
+		state.mesh.tx(tx -> {
+			NodeContainerTransformer transformer = new NodeContainerTransformer(state.mesh.options(), tx.roleDao());
+			NodeDao nodeDao = tx.nodeDao();
+			ContentDao contentDao = tx.contentDao();
+			HibBranch branch = state.mesh.project().getLatestBranch();
+			for (String uuid : state.contentUuids) {
+				HibNode node = nodeDao.findByUuid(state.mesh.project(), uuid);
+				HibNodeFieldContainer container = contentDao.getFieldContainer(node, "en", branch, DRAFT);
+				blackhole.consume(transformer.toDocument(container, branch.getUuid(), DRAFT));
+			}
+		});
+	}
+
+	@Benchmark
+	public void toRestResponse(ContentState state, Blackhole blackhole) {
+		state.mesh.tx(tx -> {
+			InternalActionContext ac = state.mesh.mockActionContext("version=draft&lang=en");
+			NodeDao nodeDao = tx.nodeDao();
+			for (String uuid : state.contentUuids) {
+				HibNode node = nodeDao.findByUuid(state.mesh.project(), uuid);
+				blackhole.consume(nodeDao.transformToRestSync(node, ac, 0));
+			}
+		});
+	}
+
+	@Benchmark
+	public void tokenizeLinks(ContentState state, Blackhole blackhole) {
+		WebRootLinkReplacer replacer = state.mesh.mesh().webRootLinkReplacer();
+		String branchUuid = state.mesh.initialBranchUuid();
+		for (int i = 0; i < state.contentUuids.size(); i++) {
+			blackhole.consume(replacer.tokenize(state.html, branchUuid, "en"));
+		}
+	}
+}
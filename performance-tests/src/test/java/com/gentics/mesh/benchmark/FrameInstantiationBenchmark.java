@@ -0,0 +1,105 @@
+package com.gentics.mesh.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.graphdb.MeshTypeResolver;
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
+import com.syncleus.ferma.framefactories.FrameFactory;
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
+
+/**
+ * Benchmark for the instantiation of frames and for repeated reads of the same elements within a transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameInstantiationBenchmark {
+
+	private static final FrameFactory FACTORY = new DefaultFrameFactory();
+
+	/**
+	 * Graph which contains node vertices.
+	 */
+	@State(Scope.Thread)
+	public static class GraphState {
+
+		private static final int ELEMENTS = 1_000;
+
+		/**
+		 * Size of the frame identity map. 0 disables the map.
+		 */
+		@Param({ "0", "10000" })
+		public int frameCacheSize;
+
+		TinkerGraph baseGraph;
+
+		MeshTypeResolver resolver;
+
+		List<Vertex> vertices = new ArrayList<>();
+
+		@Setup
+		public void setup() {
+			baseGraph = new TinkerGraph();
+			resolver = new MeshTypeResolver("com.gentics.mesh.core.data");
+			for (int i = 0; i < ELEMENTS; i++) {
+				Vertex vertex = baseGraph.addVertex(null);
+				vertex.setProperty(MeshTypeResolver.TYPE_RESOLUTION_KEY, NodeImpl.class.getSimpleName());
+				vertices.add(vertex);
+			}
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Benchmark
+	public Object reflectiveInstantiation() throws Exception {
+		return NodeImpl.class.newInstance();
+	}
+
+	@Benchmark
+	public Object factoryInstantiation() {
+		return FACTORY.create(null, NodeImpl.class);
+	}
+
+	/**
+	 * Frame each element three times within one transaction, which is typical for loading nodes together with their containers and edges.
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void frameRepeatedReads(GraphState state, Blackhole blackhole) {
+		DelegatingFramedGraph<TinkerGraph> graph = new DelegatingFramedGraph<>(state.baseGraph, state.resolver);
+		graph.setFrameCacheSize(state.frameCacheSize);
+		for (int pass = 0; pass < 3; pass++) {
+			for (Vertex vertex : state.vertices) {
+				blackhole.consume(graph.frameElement(vertex, MeshVertexImpl.class));
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(FrameInstantiationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
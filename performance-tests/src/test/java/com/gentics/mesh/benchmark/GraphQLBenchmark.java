@@ -0,0 +1,40 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+
+/**
+ * Benchmark for the execution of GraphQL queries over the contents of the dataset. The queries are sent via the REST client to the started server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GraphQLBenchmark {
+
+	private static final String CHILDREN_QUERY = "{ node(path: \"/News\") { children(perPage: 100) { elements { uuid path fields { ... on content { title teaser } } } } } }";
+
+	private static final String CONTENT_WITH_LINKS_QUERY = "{ nodes(perPage: 25) { elements { uuid fields { ... on content { content(linkType: SHORT) } } } } }";
+
+	@Benchmark
+	public GraphQLResponse children(MeshBenchmarkState state) {
+		return state.client().graphqlQuery(PROJECT_NAME, CHILDREN_QUERY).blockingGet();
+	}
+
+	@Benchmark
+	public GraphQLResponse contentWithLinks(MeshBenchmarkState state) {
+		return state.client().graphqlQuery(PROJECT_NAME, CONTENT_WITH_LINKS_QUERY).blockingGet();
+	}
+}
@@ -0,0 +1,74 @@
+package com.gentics.mesh.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.UUIDUtil;
+
+/**
+ * Benchmark for the serialization and deserialization of node responses with {@link JsonUtil}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonUtilBenchmark {
+
+	/**
+	 * Amount of string fields of the node.
+	 */
+	@Param({ "10", "100" })
+	public int fieldCount;
+
+	private NodeResponse response;
+
+	private String json;
+
+	@Setup
+	public void setup() {
+		response = new NodeResponse();
+		response.setUuid(UUIDUtil.randomUUID());
+		response.setLanguage("en");
+		response.setVersion("1.0");
+		response.setSchema(new SchemaReferenceImpl().setName("content").setUuid(UUIDUtil.randomUUID()));
+		response.setParentNode(new NodeReference().setUuid(UUIDUtil.randomUUID()).setProjectName("dummy"));
+		FieldMap fields = new FieldMapImpl();
+		for (int i = 0; i < fieldCount; i++) {
+			fields.put("field" + i, FieldUtil.createStringField("Value of field " + i));
+		}
+		fields.put("content", FieldUtil.createHtmlField(MeshBenchmarkState.createHtml(Collections.singletonList(UUIDUtil.randomUUID()), 20)));
+		response.setFields(fields);
+		json = JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public String serialize() {
+		return JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public NodeResponse deserialize() {
+		return JsonUtil.readValue(json, NodeResponse.class);
+	}
+}
@@ -0,0 +1,141 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.schema.HibSchemaVersion;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.MeshTestContext;
+import com.gentics.mesh.test.context.TestHelper;
+import com.gentics.mesh.test.context.event.EventAsserter;
+
+/**
+ * Benchmark state which starts Mesh with an in-memory OrientDB and the test data of the {@link com.gentics.mesh.test.TestSize#FULL} test size. The state
+ * additionally creates a dataset of contents with teaser, title, slug and an HTML field which contains mesh links, so that the benchmarks work on
+ * representative contents.
+ */
+@State(Scope.Benchmark)
+@MeshTestSetting(testSize = FULL, startServer = true, inMemoryDB = true)
+public class MeshBenchmarkState implements TestHelper {
+
+	/**
+	 * Amount of contents in the dataset.
+	 */
+	@Param({ "100" })
+	public int contentCount;
+
+	/**
+	 * Amount of mesh links in the HTML field of each content.
+	 */
+	@Param({ "20" })
+	public int linksPerContent;
+
+	private MeshTestContext context;
+
+	private MeshTestSetting settings;
+
+	private EventAsserter eventAsserter;
+
+	private List<String> contentUuids;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		settings = getClass().getAnnotation(MeshTestSetting.class);
+		context = new MeshTestContext();
+		context.setupOnce(settings);
+		context.setup(settings);
+		eventAsserter = new EventAsserter(context);
+		contentUuids = createDataset();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		context.tearDown(settings);
+		context.tearDownOnce(settings);
+	}
+
+	@Override
+	public MeshTestContext getTestContext() {
+		return context;
+	}
+
+	@Override
+	public EventAsserter eventAsserter() {
+		return eventAsserter;
+	}
+
+	/**
+	 * Return the uuids of the contents of the dataset.
+	 *
+	 * @return
+	 */
+	public List<String> getContentUuids() {
+		return contentUuids;
+	}
+
+	/**
+	 * Create the HTML content with the given amount of mesh links to the given nodes.
+	 *
+	 * @param linkTargets
+	 * @param links
+	 * @return
+	 */
+	public static String createHtml(List<String> linkTargets, int links) {
+		StringBuilder html = new StringBuilder();
+		for (int i = 0; i < links; i++) {
+			String uuid = linkTargets.get(i % linkTargets.size());
+			String language = i % 2 == 0 ? "en" : "de";
+			html.append("<p>Paragraph ").append(i).append(" with a <a href=\"{{mesh.link('").append(uuid).append("', '").append(language)
+				.append("')}}\">link</a> and some text.</p>");
+		}
+		return html.toString();
+	}
+
+	/**
+	 * Return the uuids of the nodes which are used as link targets.
+	 *
+	 * @return
+	 */
+	public List<String> getLinkTargets() {
+		return tx(() -> Arrays.asList(folder("news").getUuid(), folder("2015").getUuid(), folder("products").getUuid(),
+			content("news overview").getUuid(), content("concorde").getUuid()));
+	}
+
+	private List<String> createDataset() {
+		String html = createHtml(getLinkTargets(), linksPerContent);
+		return tx(tx -> {
+			NodeDao nodeDao = tx.nodeDao();
+			ContentDao contentDao = tx.contentDao();
+			HibBranch branch = project().getLatestBranch();
+			HibSchemaVersion version = schemaContainer("content").getLatestVersion();
+			HibNode parent = folder("news");
+			List<String> uuids = new ArrayList<>();
+			for (int i = 0; i < contentCount; i++) {
+				HibNode node = nodeDao.create(parent, user(), version, project());
+				HibNodeFieldContainer container = contentDao.createFieldContainer(node, "en", branch, user());
+				container.createString("teaser").setString("Benchmark teaser " + i);
+				container.createString("title").setString("Benchmark title " + i);
+				container.createString("slug").setString("benchmark-" + i + ".en.html");
+				container.createHTML("content").setHtml(html);
+				contentDao.updateDisplayFieldValue(container);
+				uuids.add(node.getUuid());
+			}
+			return uuids;
+		});
+	}
+}
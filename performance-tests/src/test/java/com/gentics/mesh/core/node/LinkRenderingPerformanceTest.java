@@ -0,0 +1,64 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class LinkRenderingPerformanceTest extends AbstractMeshTest {
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	private String addLinks() {
+		List<String> uuids = tx(() -> Arrays.asList(folder("news").getUuid(), folder("2015").getUuid(), folder("products").getUuid(),
+			content("news overview").getUuid(), content("concorde").getUuid()));
+
+		StringBuilder html = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			String uuid = uuids.get(i % uuids.size());
+			String language = i % 2 == 0 ? "en" : "de";
+			html.append("<p><a href=\"{{mesh.link('").append(uuid).append("', '").append(language).append("')}}\">Link ").append(i).append("</a></p>");
+		}
+
+		String uuid = contentUuid();
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("content", FieldUtil.createHtmlField(html.toString()));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+		return uuid;
+	}
+
+	@Test
+	public void testPerformance() {
+		String uuid = addLinks();
+		NodeParametersImpl parameters = new NodeParametersImpl().setResolveLinks(LinkType.SHORT);
+
+		mesh().linkCache().enable();
+		loggingStopWatch(logger, "node.read-with-links-cached", 200, (step) -> {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, parameters));
+		});
+
+		mesh().linkCache().disable();
+		mesh().linkCache().clear();
+		loggingStopWatch(logger, "node.read-with-links-uncached", 200, (step) -> {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, parameters));
+		});
+		mesh().linkCache().enable();
+	}
+
+}
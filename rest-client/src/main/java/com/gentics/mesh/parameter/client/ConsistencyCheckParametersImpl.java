@@ -0,0 +1,10 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
+
+/**
+ * @see ConsistencyCheckParameters
+ */
+public class ConsistencyCheckParametersImpl extends AbstractParameters implements ConsistencyCheckParameters {
+
+}
@@ -19,7 +19,14 @@ public class EventbusEvent {
 	 * @throws IOException
 	 */
 	public EventbusEvent(String rawText) throws IOException {
-		ObjectNode parsed = (ObjectNode) JsonUtil.getMapper().readTree(rawText);
+		this((ObjectNode) JsonUtil.getMapper().readTree(rawText));
+	}
+
+	/**
+	 * Creates the event from an already parsed websocket text frame.
+	 * @param parsed
+	 */
+	public EventbusEvent(ObjectNode parsed) {
 		address = parsed.get("address").textValue();
 		body = parsed.get("body");
 	}
@@ -7,7 +7,11 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ListResponse;
+import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.client.PagingParametersImpl;
 
+import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.reactivex.SingleTransformer;
 import io.reactivex.functions.Function;
@@ -88,6 +92,34 @@ public final class MeshRestClientUtil {
 			.orElse(false);
 	}
 
+	/**
+	 * Returns a flowable which emits the elements of all pages of a list request one by one. The pages are requested sequentially when the subscriber
+	 * requests more elements, so that at most two pages are held in memory at the same time regardless of the total amount of elements.
+	 *
+	 * <p>Example:</p>
+	 * <pre>
+	 *     for (NodeResponse node : fetchAll(paging -&gt; client.findNodes("project", paging), 100).blockingIterable(1)) {
+	 *     	...
+	 *     }
+	 * </pre>
+	 *
+	 * @param pageRequest
+	 *            Function which creates the request for the given paging parameters
+	 * @param perPage
+	 *            Amount of elements per page
+	 * @param <T>
+	 *            Type of the list elements
+	 * @return
+	 */
+	public static <T> Flowable<T> fetchAll(Function<PagingParameters, MeshRequest<? extends ListResponse<T>>> pageRequest, long perPage) {
+		return Flowable.<Long, Long>generate(() -> 1L, (page, emitter) -> {
+			emitter.onNext(page);
+			return page + 1;
+		}).<ListResponse<T>>concatMap(page -> pageRequest.apply(new PagingParametersImpl().setPage(page).setPerPage(perPage)).toFlowable(), 1)
+			.takeUntil(response -> response.getData().isEmpty() || response.getMetainfo().getCurrentPage() >= response.getMetainfo().getPageCount())
+			.concatMapIterable(ListResponse::getData, 1);
+	}
+
 	/**
 	 * Unpacks a runtime error until a certain error class has been found.
 	 * Returns an empty optional if the class could not be found or if the chain of causes is cyclic.
@@ -1,6 +1,7 @@
 package com.gentics.mesh.rest.client;
 
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
 import io.reactivex.Observable;
 
 import static com.gentics.mesh.rest.client.impl.Util.toAddresses;
@@ -41,6 +42,27 @@ public interface MeshWebsocket {
 		registerEvents(toAddresses(events));
 	}
 
+	/**
+	 * Registers on an event with a filter so that this websocket will only receive messages for the given addresses which match the filter.
+	 * The filter is evaluated by Mesh. Only one filter can be registered per address. A subsequent filtered registration of the same address replaces the previous one.
+	 * Subscribe {@link #events()} to react to incoming events.
+	 *
+	 * @param filter The filter which will be applied to the events
+	 * @param eventNames The names of the events to register to
+	 */
+	void registerEvents(EventSubscriptionFilter filter, String... eventNames);
+
+	/**
+	 * Registers on an event with a filter so that this websocket will only receive messages for the given addresses which match the filter.
+	 * Subscribe {@link #events()} to react to incoming events.
+	 *
+	 * @param filter The filter which will be applied to the events
+	 * @param events The events to register to
+	 */
+	default void registerEvents(EventSubscriptionFilter filter, MeshEvent... events) {
+		registerEvents(filter, toAddresses(events));
+	}
+
 	/**
 	 * Unregisters on events.
 	 * The {@link #events()} observable will stop receiving events of the given addresses.
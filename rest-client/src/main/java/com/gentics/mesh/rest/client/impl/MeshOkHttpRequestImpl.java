@@ -291,7 +291,10 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 		} else if (resultClass.isAssignableFrom(MeshWebrootFieldResponse.class)) {
 			return (T) new OkHttpWebrootFieldResponse(response);
 		} else if (contentType != null && contentType.startsWith("application/json")) {
-			return JsonUtil.readValue(response.body().string(), resultClass);
+			// Decode directly from the response stream to avoid buffering large responses as a string
+			try (ResponseBody body = response.body()) {
+				return JsonUtil.readValue(body.byteStream(), resultClass);
+			}
 		} else if (resultClass.isAssignableFrom(String.class)) {
 			return (T) response.body().string();
 		} else {
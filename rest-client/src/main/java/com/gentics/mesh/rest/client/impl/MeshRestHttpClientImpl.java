@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.impl;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_YAML_UTF8;
 import static com.gentics.mesh.rest.client.impl.HttpMethod.DELETE;
 import static com.gentics.mesh.rest.client.impl.HttpMethod.GET;
@@ -107,6 +108,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
 import com.gentics.mesh.core.rest.validation.SchemaValidationResponse;
 import com.gentics.mesh.parameter.BackupParameters;
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.ParameterProvider;
@@ -155,6 +157,14 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 			nodeUpsertRequest);
 	}
 
+	@Override
+	public MeshRequest<String> importNodes(String projectName, InputStream ndjson, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(ndjson, "ndjson must not be null");
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/import" + getQuery(parameters), String.class, ndjson, -1,
+			APPLICATION_NDJSON);
+	}
+
 	@Override
 	public MeshRequest<NodeResponse> createNode(String projectName, NodeCreateRequest nodeCreateRequest, ParameterProvider... parameters) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
@@ -1052,11 +1062,21 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(GET, "/admin/consistency/check", ConsistencyCheckResponse.class);
 	}
 
+	@Override
+	public MeshRequest<ConsistencyCheckResponse> checkConsistency(ConsistencyCheckParameters parameters) {
+		return prepareRequest(GET, "/admin/consistency/check" + getQuery(parameters), ConsistencyCheckResponse.class);
+	}
+
 	@Override
 	public MeshRequest<ConsistencyCheckResponse> repairConsistency() {
 		return prepareRequest(POST, "/admin/consistency/repair", ConsistencyCheckResponse.class);
 	}
 
+	@Override
+	public MeshRequest<ConsistencyCheckResponse> repairConsistency(ConsistencyCheckParameters parameters) {
+		return prepareRequest(POST, "/admin/consistency/repair" + getQuery(parameters), ConsistencyCheckResponse.class);
+	}
+
 	@Override
 	public MeshRequest<MeshStatusResponse> meshStatus() {
 		return prepareRequest(GET, "/admin/status", MeshStatusResponse.class);
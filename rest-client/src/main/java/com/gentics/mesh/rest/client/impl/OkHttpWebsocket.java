@@ -1,5 +1,8 @@
 package com.gentics.mesh.rest.client.impl;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.EventbusEvent;
 import com.gentics.mesh.rest.client.MeshRestClientConfig;
 import com.gentics.mesh.rest.client.MeshWebsocket;
@@ -22,12 +25,15 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static com.gentics.mesh.rest.client.impl.Util.eventbusMessage;
+import static com.gentics.mesh.rest.client.impl.Util.eventbusMessageWithHeaders;
 
 /**
  * Websocket client implementation for {@link OkHttpClient}. 
@@ -45,6 +51,7 @@ public class OkHttpWebsocket implements MeshWebsocket {
 	private final Subject<Object> connections = PublishSubject.create();
 	private final Subject<Throwable> errors = PublishSubject.create();
 	private final Set<String> registeredEventAddresses = Collections.synchronizedSet(new HashSet<>());
+	private final Map<String, EventSubscriptionFilter> filteredEventAddresses = new ConcurrentHashMap<>();
 
 	private WebSocket currentConnection;
 	private AtomicBoolean connected = new AtomicBoolean(false);
@@ -84,7 +91,13 @@ public class OkHttpWebsocket implements MeshWebsocket {
 				log.trace("Received message: {}", text);
 
 				try {
-					events.onNext(new EventbusEvent(text));
+					ObjectNode message = (ObjectNode) JsonUtil.getMapper().readTree(text);
+					if ("err".equals(message.path("type").textValue())) {
+						// Error frames of the bridge, e.g. for rejected registrations, contain no address
+						errors.onNext(new Exception("Error from mesh eventbus: " + message.path("body").asText()));
+					} else {
+						events.onNext(new EventbusEvent(message));
+					}
 				} catch (IOException e) {
 					errors.onNext(new Exception("Could not parse message from mesh", e));
 				}
@@ -153,13 +166,35 @@ public class OkHttpWebsocket implements MeshWebsocket {
 		sendRegisterEvents();
 	}
 
+	@Override
+	public void registerEvents(EventSubscriptionFilter filter, String... eventNames) {
+		if (filter == null || filter.isEmpty()) {
+			registerEvents(eventNames);
+			return;
+		}
+		for (String address : eventNames) {
+			EventSubscriptionFilter previous = filteredEventAddresses.put(address, filter);
+			if (previous != null && !previous.equals(filter)) {
+				send(eventbusMessageWithHeaders(EventbusMessageType.UNREGISTER, address, previous.toHeaders()));
+			}
+		}
+		sendRegisterEvents();
+	}
+
 	@Override
 	public void unregisterEvents(String... eventNames) {
 		Stream.of(eventNames).forEach(registeredEventAddresses::remove);
+		for (String address : eventNames) {
+			EventSubscriptionFilter filter = filteredEventAddresses.remove(address);
+			if (filter != null) {
+				send(eventbusMessageWithHeaders(EventbusMessageType.UNREGISTER, address, filter.toHeaders()));
+			}
+		}
 	}
 
 	private void sendRegisterEvents() {
 		registeredEventAddresses.forEach(address -> send(eventbusMessage(EventbusMessageType.REGISTER, address)));
+		filteredEventAddresses.forEach((address, filter) -> send(eventbusMessageWithHeaders(EventbusMessageType.REGISTER, address, filter.toHeaders())));
 	}
 
 	private void send(String text) {
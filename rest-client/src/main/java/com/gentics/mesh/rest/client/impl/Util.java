@@ -1,11 +1,13 @@
 package com.gentics.mesh.rest.client.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.MeshRestClient;
 
 import java.security.InvalidParameterException;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -66,6 +68,25 @@ public final class Util {
 			.toString();
 	}
 
+	/**
+	 * Creates a Vert.x event bus message with headers to be send over a websocket.
+	 *
+	 * @see com.gentics.mesh.rest.client.MeshWebsocket
+	 *
+	 * @param type
+	 * @param address
+	 * @param headers
+	 * @return
+	 */
+	public static String eventbusMessageWithHeaders(EventbusMessageType type, String address, Map<String, String> headers) {
+		ObjectNode message = JsonUtil.getMapper().createObjectNode()
+			.put("type", type.type)
+			.put("address", address);
+		ObjectNode jsonHeaders = message.putObject("headers");
+		headers.forEach(jsonHeaders::put);
+		return message.toString();
+	}
+
 	/**
 	 * A container for a value that is evaluated on demand. The supplier will be called at most once. After that, the received value is stored and returned on
 	 * subsequent calls of {@link Supplier#get()}
@@ -9,6 +9,7 @@ import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.parameter.BackupParameters;
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
 import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.monitoring.MonitoringRestClient;
@@ -97,6 +98,14 @@ public interface AdminClientMethods {
 	 */
 	MeshRequest<ConsistencyCheckResponse> checkConsistency();
 
+	/**
+	 * Invoke a consistency check of the graph database.
+	 * 
+	 * @param parameters
+	 * @return
+	 */
+	MeshRequest<ConsistencyCheckResponse> checkConsistency(ConsistencyCheckParameters parameters);
+
 	/**
 	 * Invoke a consistency check and repair of the graph database.
 	 * 
@@ -104,6 +113,14 @@ public interface AdminClientMethods {
 	 */
 	MeshRequest<ConsistencyCheckResponse> repairConsistency();
 
+	/**
+	 * Invoke a consistency check and repair of the graph database.
+	 * 
+	 * @param parameters
+	 * @return
+	 */
+	MeshRequest<ConsistencyCheckResponse> repairConsistency(ConsistencyCheckParameters parameters);
+
 	/**
 	 * Gets zip file containing debug information.
 	 * @return
@@ -1,5 +1,7 @@
 package com.gentics.mesh.rest.client.method;
 
+import java.io.InputStream;
+
 import com.gentics.mesh.core.rest.common.ObjectPermissionGrantRequest;
 import com.gentics.mesh.core.rest.common.ObjectPermissionResponse;
 import com.gentics.mesh.core.rest.common.ObjectPermissionRevokeRequest;
@@ -72,6 +74,19 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<NodeResponse> upsertNode(String projectName, String uuid, NodeUpsertRequest nodeUpsertRequest, ParameterProvider... parameters);
 
+	/**
+	 * Import nodes from the given NDJSON stream. Each line of the stream must contain a node create or update request which may contain the uuid of the
+	 * node. The response contains one {@link com.gentics.mesh.core.rest.node.NodeImportResult} per line.
+	 * 
+	 * @param projectName
+	 *            Name of the project
+	 * @param ndjson
+	 *            Stream of the NDJSON document
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<String> importNodes(String projectName, InputStream ndjson, ParameterProvider... parameters);
+
 	/**
 	 * Update the node with the given UUID.
 	 * 
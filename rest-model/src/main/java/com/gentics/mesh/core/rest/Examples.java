@@ -2,6 +2,8 @@ package com.gentics.mesh.core.rest;
 
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 
+import java.util.Arrays;
+
 import com.gentics.mesh.ElementType;
 import com.gentics.mesh.core.rest.branch.BranchReference;
 import com.gentics.mesh.core.rest.event.branch.BranchMeshEventModel;
@@ -19,6 +21,7 @@ import com.gentics.mesh.core.rest.event.migration.SchemaMigrationMeshEventModel;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.event.node.NodeMovedEventModel;
 import com.gentics.mesh.core.rest.event.node.NodeTaggedEventModel;
+import com.gentics.mesh.core.rest.event.role.PermissionChangedBatchEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModelImpl;
 import com.gentics.mesh.core.rest.event.tag.TagMeshEventModel;
@@ -136,6 +139,14 @@ public final class Examples {
 		return model;
 	}
 
+	public static PermissionChangedBatchEventModel rolePermissionBatchChangedEvent() {
+		PermissionChangedBatchEventModel model = new PermissionChangedBatchEventModel();
+		model.setRole(roleRef());
+		model.setProject(projectRef());
+		model.setUuids(Arrays.asList(uuid1(), uuid2()));
+		return model;
+	}
+
 	public static MeshElementEventModelImpl projectEvent() {
 		return elementEvent("demo");
 	}
@@ -30,6 +30,7 @@ import com.gentics.mesh.core.rest.event.node.NodeTaggedEventModel;
 import com.gentics.mesh.core.rest.event.project.ProjectBranchEventModel;
 import com.gentics.mesh.core.rest.event.project.ProjectMicroschemaEventModel;
 import com.gentics.mesh.core.rest.event.project.ProjectSchemaEventModel;
+import com.gentics.mesh.core.rest.event.role.PermissionChangedBatchEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModel;
 import com.gentics.mesh.core.rest.event.s3binary.S3BinaryEventModel;
 import com.gentics.mesh.core.rest.event.search.SearchIndexSyncEventModel;
@@ -206,7 +207,7 @@ public enum MeshEvent {
 	 */
 	CLEAR_PERMISSION_STORE("mesh.clear-permission-store",
 		null,
-		"Event which will clear the permission stores."),
+		"Event which will clear the permission stores. When the event contains the ids of elements, only the permissions of those elements are cleared."),
 
 	/**
 	 * Event which is send to update the webroot path stores.
@@ -298,6 +299,11 @@ public enum MeshEvent {
 		"Emitted when the role permissions were changed.",
 		Examples::rolePermissionChangedEvent),
 
+	ROLE_PERMISSIONS_BATCH_CHANGED("mesh.role.permissions.batch-changed",
+		PermissionChangedBatchEventModel.class,
+		"Emitted when the role permissions of a batch of nodes were changed by a recursive permission job.",
+		Examples::rolePermissionBatchChangedEvent),
+
 	/* Tag */
 
 	TAG_CREATED("mesh.tag.created",
@@ -637,6 +643,10 @@ public enum MeshEvent {
 		null,
 		"Emitted once the repair operation finishes."),
 
+	CONSISTENCY_CHECK_PROGRESS("mesh.graph.consistency.progress",
+		null,
+		"Emitted once a partition of a consistency check or repair operation has been processed. The event contains the partial results of the partition."),
+
 	// Plugin Events
 
 	PLUGIN_DEPLOYING("mesh.plugin.deploying",
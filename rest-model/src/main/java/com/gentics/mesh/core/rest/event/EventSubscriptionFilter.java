@@ -0,0 +1,247 @@
+package com.gentics.mesh.core.rest.event;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Filter for eventbus bridge subscriptions. The filter is transmitted as headers of the register message and is evaluated by Mesh before events are relayed
+ * to the websocket. Unset properties match all events. Events which do not contain the filtered property (e.g. user events for a language filter) will not
+ * match.
+ */
+public class EventSubscriptionFilter {
+
+	public static final String PROJECT_HEADER = "project";
+
+	public static final String BRANCH_HEADER = "branch";
+
+	public static final String SCHEMA_HEADER = "schema";
+
+	public static final String NODE_HEADER = "node";
+
+	public static final String LANGUAGE_HEADER = "language";
+
+	private String project;
+
+	private String branch;
+
+	private String schema;
+
+	private String node;
+
+	private String language;
+
+	/**
+	 * Create a filter from the given register message headers.
+	 *
+	 * @param headers
+	 * @return Filter or null when the headers don't contain any filter property
+	 */
+	public static EventSubscriptionFilter fromHeaders(JsonObject headers) {
+		if (headers == null) {
+			return null;
+		}
+		EventSubscriptionFilter filter = new EventSubscriptionFilter()
+			.setProject(headers.getString(PROJECT_HEADER))
+			.setBranch(headers.getString(BRANCH_HEADER))
+			.setSchema(headers.getString(SCHEMA_HEADER))
+			.setNode(headers.getString(NODE_HEADER))
+			.setLanguage(headers.getString(LANGUAGE_HEADER));
+		return filter.isEmpty() ? null : filter;
+	}
+
+	/**
+	 * Return the headers which represent the filter in a register message.
+	 *
+	 * @return
+	 */
+	public Map<String, String> toHeaders() {
+		Map<String, String> headers = new LinkedHashMap<>();
+		putIfSet(headers, PROJECT_HEADER, project);
+		putIfSet(headers, BRANCH_HEADER, branch);
+		putIfSet(headers, SCHEMA_HEADER, schema);
+		putIfSet(headers, NODE_HEADER, node);
+		putIfSet(headers, LANGUAGE_HEADER, language);
+		return headers;
+	}
+
+	/**
+	 * Check whether the given event body matches the filter.
+	 *
+	 * @param event
+	 *            JSON body of the event
+	 * @return
+	 */
+	public boolean matches(JsonObject event) {
+		if (event == null) {
+			return false;
+		}
+		if (project != null && !matchesReference(event.getValue("project"), project)) {
+			return false;
+		}
+		if (branch != null && !branch.equals(event.getValue("branchUuid"))) {
+			return false;
+		}
+		if (schema != null && !matchesReference(event.getValue("schema"), schema)) {
+			return false;
+		}
+		if (node != null && !node.equals(event.getValue("uuid"))) {
+			return false;
+		}
+		if (language != null && !language.equals(event.getValue("languageTag"))) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the name / uuid reference matches the filter value.
+	 */
+	private boolean matchesReference(Object reference, String nameOrUuid) {
+		if (!(reference instanceof JsonObject)) {
+			return false;
+		}
+		JsonObject json = (JsonObject) reference;
+		return nameOrUuid.equals(json.getValue("name")) || nameOrUuid.equals(json.getValue("uuid"));
+	}
+
+	private static void putIfSet(Map<String, String> headers, String key, String value) {
+		if (value != null) {
+			headers.put(key, value);
+		}
+	}
+
+	/**
+	 * Check whether no filter property has been set.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return project == null && branch == null && schema == null && node == null && language == null;
+	}
+
+	/**
+	 * Return the name or uuid of the project.
+	 *
+	 * @return
+	 */
+	public String getProject() {
+		return project;
+	}
+
+	/**
+	 * Set the name or uuid of the project.
+	 *
+	 * @param project
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setProject(String project) {
+		this.project = project;
+		return this;
+	}
+
+	/**
+	 * Return the uuid of the branch.
+	 *
+	 * @return
+	 */
+	public String getBranch() {
+		return branch;
+	}
+
+	/**
+	 * Set the uuid of the branch.
+	 *
+	 * @param branch
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setBranch(String branch) {
+		this.branch = branch;
+		return this;
+	}
+
+	/**
+	 * Return the name or uuid of the schema.
+	 *
+	 * @return
+	 */
+	public String getSchema() {
+		return schema;
+	}
+
+	/**
+	 * Set the name or uuid of the schema.
+	 *
+	 * @param schema
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setSchema(String schema) {
+		this.schema = schema;
+		return this;
+	}
+
+	/**
+	 * Return the uuid of the node.
+	 *
+	 * @return
+	 */
+	public String getNode() {
+		return node;
+	}
+
+	/**
+	 * Set the uuid of the node.
+	 *
+	 * @param node
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setNode(String node) {
+		this.node = node;
+		return this;
+	}
+
+	/**
+	 * Return the language tag.
+	 *
+	 * @return
+	 */
+	public String getLanguage() {
+		return language;
+	}
+
+	/**
+	 * Set the language tag.
+	 *
+	 * @param language
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setLanguage(String language) {
+		this.language = language;
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof EventSubscriptionFilter)) {
+			return false;
+		}
+		EventSubscriptionFilter other = (EventSubscriptionFilter) obj;
+		return Objects.equals(project, other.project) && Objects.equals(branch, other.branch) && Objects.equals(schema, other.schema)
+			&& Objects.equals(node, other.node) && Objects.equals(language, other.language);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(project, branch, schema, node, language);
+	}
+
+	@Override
+	public String toString() {
+		return toHeaders().toString();
+	}
+}
@@ -0,0 +1,49 @@
+package com.gentics.mesh.core.rest.event;
+
+import java.util.Map;
+
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * JSON body of an internal mesh event message which keeps a reference to the {@link MeshEventModel} it was created from. Consumers which use
+ * {@link MeshEventModel#fromMessage(io.vertx.core.eventbus.Message)} will receive the model without deserializing the body again. Consumers which only handle
+ * {@link JsonObject} bodies (e.g. the eventbus bridge) are not affected.
+ *
+ * The body is passed by reference to all local consumers (see {@link MeshEventMessageCodec}) and must thus not be modified.
+ */
+public class MeshEventJsonObject extends JsonObject {
+
+	private final MeshEventModel model;
+
+	/**
+	 * Create the body for the given model.
+	 *
+	 * @param model
+	 */
+	@SuppressWarnings("unchecked")
+	public MeshEventJsonObject(MeshEventModel model) {
+		super(JsonUtil.getMapper().convertValue(model, Map.class));
+		this.model = model;
+	}
+
+	/**
+	 * Create the body for the given map. This is used for messages which were received from other cluster instances.
+	 *
+	 * @param map
+	 */
+	public MeshEventJsonObject(Map<String, Object> map) {
+		super(map);
+		this.model = null;
+	}
+
+	/**
+	 * Return the model from which the body was created.
+	 *
+	 * @return Model or null if the body was received from another cluster instance
+	 */
+	public MeshEventModel getModel() {
+		return model;
+	}
+}
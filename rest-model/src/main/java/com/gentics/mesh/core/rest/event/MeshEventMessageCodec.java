@@ -0,0 +1,62 @@
+package com.gentics.mesh.core.rest.event;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * Eventbus codec for {@link MeshEventJsonObject} message bodies.
+ *
+ * Local consumers receive the same body instance instead of a copy. Messages which are sent to other cluster instances are encoded as compact length
+ * prefixed JSON which is written directly from the event model.
+ */
+public class MeshEventMessageCodec implements MessageCodec<MeshEventJsonObject, MeshEventJsonObject> {
+
+	public static final String NAME = "mesh-event";
+
+	@Override
+	public void encodeToWire(Buffer buffer, MeshEventJsonObject body) {
+		byte[] bytes;
+		try {
+			Object value = body.getModel() != null ? body.getModel() : body.getMap();
+			bytes = JsonUtil.getMapper().writeValueAsBytes(value);
+		} catch (IOException e) {
+			throw new RuntimeException("Could not encode event", e);
+		}
+		buffer.appendInt(bytes.length);
+		buffer.appendBytes(bytes);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public MeshEventJsonObject decodeFromWire(int pos, Buffer buffer) {
+		int length = buffer.getInt(pos);
+		pos += 4;
+		byte[] bytes = buffer.getBytes(pos, pos + length);
+		try {
+			return new MeshEventJsonObject(JsonUtil.getMapper().readValue(bytes, Map.class));
+		} catch (IOException e) {
+			throw new RuntimeException("Could not decode event", e);
+		}
+	}
+
+	@Override
+	public MeshEventJsonObject transform(MeshEventJsonObject body) {
+		// Event bodies are not modified by the consumers and can thus be shared
+		return body;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+}
@@ -55,7 +55,7 @@ public interface MeshEventModel extends RestModel {
 	void setCause(EventCauseInfo cause);
 
 	/**
-	 * Gets the body of an eventbus message as a POJO.
+	 * Gets the body of an eventbus message as a POJO. Bodies which were published via the {@link MeshEventMessageCodec} will not be deserialized again.
 	 * 
 	 * @param message
 	 * @return
@@ -66,12 +66,18 @@ public interface MeshEventModel extends RestModel {
 			.orElseThrow(() -> new RuntimeException(String.format("No event found for address %s", address)));
 
 		JsonObject body = message.body();
-		// TODO Find better way to deserialize
 		if (body == null) {
 			return null;
-		} else {
-			return (T) JsonUtil.readValue(body.toString(), event.bodyModel);
 		}
+		if (body instanceof MeshEventJsonObject) {
+			MeshEventModel model = ((MeshEventJsonObject) body).getModel();
+			if (model != null && event.bodyModel.isInstance(model)) {
+				return (T) model;
+			}
+			// Bodies which were received from other instances only contain plain JSON values
+			return (T) JsonUtil.getMapper().convertValue(body.getMap(), event.bodyModel);
+		}
+		return (T) JsonUtil.readValue(body.toString(), event.bodyModel);
 	}
 
 }
@@ -0,0 +1,80 @@
+package com.gentics.mesh.core.rest.event.role;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.event.AbstractMeshEventModel;
+import com.gentics.mesh.core.rest.event.ProjectEvent;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+import com.gentics.mesh.core.rest.role.RoleReference;
+
+/**
+ * Event model POJO for permission changes of a batch of nodes. The event replaces the single permission change events of the nodes which were changed by a
+ * recursive permission job.
+ */
+public class PermissionChangedBatchEventModel extends AbstractMeshEventModel implements ProjectEvent {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Reference to the role that was used when changing permissions.")
+	private RoleReference role;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Reference to the project of the nodes.")
+	private ProjectReference project;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Uuids of the nodes for which the permissions have changed.")
+	private List<String> uuids = new ArrayList<>();
+
+	/**
+	 * Return the role that was used during the permission change action.
+	 *
+	 * @return
+	 */
+	public RoleReference getRole() {
+		return role;
+	}
+
+	/**
+	 * Set the role of the permission change action.
+	 *
+	 * @param role
+	 * @return Fluent API
+	 */
+	public PermissionChangedBatchEventModel setRole(RoleReference role) {
+		this.role = role;
+		return this;
+	}
+
+	@Override
+	public ProjectReference getProject() {
+		return project;
+	}
+
+	@Override
+	public void setProject(ProjectReference project) {
+		this.project = project;
+	}
+
+	/**
+	 * Return the uuids of the nodes for which the permissions have changed.
+	 *
+	 * @return
+	 */
+	public List<String> getUuids() {
+		return uuids;
+	}
+
+	/**
+	 * Set the uuids of the nodes for which the permissions have changed.
+	 *
+	 * @param uuids
+	 * @return Fluent API
+	 */
+	public PermissionChangedBatchEventModel setUuids(List<String> uuids) {
+		this.uuids = uuids;
+		return this;
+	}
+}
@@ -11,6 +11,12 @@ public enum JobType {
 
 	branch,
 
-	versionpurge
+	versionpurge,
+
+	publish,
+
+	unpublish,
+
+	permission
 
 }
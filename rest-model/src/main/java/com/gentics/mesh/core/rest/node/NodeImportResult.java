@@ -0,0 +1,70 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.annotation.Setter;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * REST model for the result of a single record of a node import. The import responds with one result per line of the imported NDJSON document.
+ */
+public class NodeImportResult implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Line number of the record within the imported document.")
+	private long line;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the created or updated node.")
+	private String uuid;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("HTTP status code which the equivalent create or update request would have returned.")
+	private int status;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Error message in case the record could not be imported.")
+	private GenericMessageResponse message;
+
+	public long getLine() {
+		return line;
+	}
+
+	@Setter
+	public NodeImportResult setLine(long line) {
+		this.line = line;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	@Setter
+	public NodeImportResult setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	@Setter
+	public NodeImportResult setStatus(int status) {
+		this.status = status;
+		return this;
+	}
+
+	public GenericMessageResponse getMessage() {
+		return message;
+	}
+
+	@Setter
+	public NodeImportResult setMessage(GenericMessageResponse message) {
+		this.message = message;
+		return this;
+	}
+
+}
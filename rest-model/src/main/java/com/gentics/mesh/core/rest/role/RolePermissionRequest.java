@@ -20,6 +20,10 @@ public class RolePermissionRequest implements RestModel {
 	@JsonPropertyDescription("Flag which indicates whether the permission update should be applied recursively.")
 	private Boolean recursive = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether a recursive permission update on a node or on the nodes of a project should be processed by a background job. The job changes the permissions in batches and can be resumed when it was interrupted.")
+	private Boolean background = false;
+
 	public RolePermissionRequest() {
 	}
 
@@ -53,6 +57,27 @@ public class RolePermissionRequest implements RestModel {
 		return this;
 	}
 
+	/**
+	 * Flag that indicates that the recursive request should be processed by a background job.
+	 *
+	 * @return Flag value
+	 */
+	public Boolean getBackground() {
+		return background;
+	}
+
+	/**
+	 * Set the flag which indicates whether the recursive permission changes should be processed by a background job.
+	 *
+	 * @param background
+	 *            Background flag value
+	 * @return Fluent API
+	 */
+	public RolePermissionRequest setBackground(Boolean background) {
+		this.background = background;
+		return this;
+	}
+
 	/**
 	 * Creates a {@link RolePermissionRequest} that is non-recursive and only has the given permissions set to true.
 	 * All other permissions are set to false.
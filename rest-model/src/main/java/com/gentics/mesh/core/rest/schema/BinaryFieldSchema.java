@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.rest.schema;
 
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 
@@ -60,4 +61,22 @@ public interface BinaryFieldSchema extends FieldSchema {
 	 * @return Fluent API.
 	 */
 	BinaryFieldSchema setCheckServiceUrl(String checkServiceUrl);
+
+	/**
+	 * Return the rendition presets which will be generated for images stored in this field. The presets are applied in addition to the globally
+	 * configured presets.
+	 *
+	 * @see ImageManipulatorOptions#getRenditionPresets()
+	 *
+	 * @return Presets in the image manipulation query parameter format or null when no presets have been set
+	 */
+	String[] getRenditionPresets();
+
+	/**
+	 * Set the rendition presets.
+	 *
+	 * @param renditionPresets
+	 * @return Fluent API
+	 */
+	BinaryFieldSchema setRenditionPresets(String... renditionPresets);
 }
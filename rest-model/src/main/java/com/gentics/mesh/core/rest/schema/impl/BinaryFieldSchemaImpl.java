@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.rest.schema.impl;
 
+import java.util.Collection;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -21,6 +22,8 @@ public class BinaryFieldSchemaImpl extends AbstractFieldSchema implements Binary
 
 	public static String CHANGE_CHECK_SERVICE_URL = "checkServiceUrl";
 
+	public static String CHANGE_RENDITION_PRESETS_KEY = "renditionPresets";
+
 	@JsonProperty("allow")
 	@JsonPropertyDescription("Array of allowed mimetypes")
 	private String[] allowedMimeTypes;
@@ -33,6 +36,10 @@ public class BinaryFieldSchemaImpl extends AbstractFieldSchema implements Binary
 	@JsonPropertyDescription("The URL for the optional service which checks uploaded binaries before making them available.")
 	private String checkServiceUrl;
 
+	@JsonProperty("renditionPresets")
+	@JsonPropertyDescription("Image rendition presets which will be generated in the background once an image has been uploaded to the field. Each preset is specified using the image manipulation query parameters (e.g. w=200&h=200&crop=fp).")
+	private String[] renditionPresets;
+
 	@Override
 	public String[] getAllowedMimeTypes() {
 		return allowedMimeTypes;
@@ -64,6 +71,7 @@ public class BinaryFieldSchemaImpl extends AbstractFieldSchema implements Binary
 		}
 
 		properties.put(CHANGE_CHECK_SERVICE_URL, checkServiceUrl);
+		properties.put(CHANGE_RENDITION_PRESETS_KEY, renditionPresets);
 
 		return properties;
 	}
@@ -89,6 +97,13 @@ public class BinaryFieldSchemaImpl extends AbstractFieldSchema implements Binary
 		if (fieldProperties.get(CHANGE_CHECK_SERVICE_URL) != null) {
 			setCheckServiceUrl((String) fieldProperties.get(CHANGE_CHECK_SERVICE_URL));
 		}
+
+		Object presets = fieldProperties.get(CHANGE_RENDITION_PRESETS_KEY);
+		if (presets instanceof String[]) {
+			setRenditionPresets((String[]) presets);
+		} else if (presets instanceof Collection) {
+			setRenditionPresets(((Collection<?>) presets).stream().map(String::valueOf).toArray(String[]::new));
+		}
 	}
 
 	private BinaryExtractOptions createOrGetBinaryExtractOptions() {
@@ -120,4 +135,15 @@ public class BinaryFieldSchemaImpl extends AbstractFieldSchema implements Binary
 		this.checkServiceUrl = checkServiceUrl;
 		return this;
 	}
+
+	@Override
+	public String[] getRenditionPresets() {
+		return renditionPresets;
+	}
+
+	@Override
+	public BinaryFieldSchemaImpl setRenditionPresets(String... renditionPresets) {
+		this.renditionPresets = renditionPresets;
+		return this;
+	}
 }
@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -189,28 +190,61 @@ public final class JsonUtil {
 			return defaultMapper.readValue(content, valueType);
 		} catch (JsonMappingException e) {
 			log.error("Could not deserialize json {" + content + "} into {" + valueType.getName() + "}", e);
+			throw toRestException(e);
+		} catch (Exception e) {
+			throw toRestException(e);
+		}
+	}
+
+	/**
+	 * Transform the JSON content of the given stream back into a POJO. The content is decoded directly from the stream without buffering it as a string. The
+	 * stream will not be closed.
+	 * 
+	 * @param content
+	 *            Stream of UTF-8 encoded JSON
+	 * @param valueType
+	 *            Class of the POJO
+	 * @return POJO instance
+	 * @throws GenericRestException
+	 *             Exception which contains information about the JSON error line, column
+	 */
+	public static <T> T readValue(InputStream content, Class<T> valueType) throws GenericRestException {
+		try {
+			return defaultMapper.readValue(content, valueType);
+		} catch (JsonMappingException e) {
+			log.error("Could not deserialize json stream into {" + valueType.getName() + "}", e);
+			throw toRestException(e);
+		} catch (Exception e) {
+			throw toRestException(e);
+		}
+	}
+
+	private static GenericRestException toRestException(Exception e) {
+		if (e instanceof JsonMappingException) {
+			JsonMappingException mappingException = (JsonMappingException) e;
 			String line = "unknown";
 			String column = "unknown";
-			if (e.getLocation() != null) {
-				line = String.valueOf(e.getLocation().getLineNr());
-				column = String.valueOf(e.getLocation().getColumnNr());
+			if (mappingException.getLocation() != null) {
+				line = String.valueOf(mappingException.getLocation().getLineNr());
+				column = String.valueOf(mappingException.getLocation().getColumnNr());
 			}
 			String field = "";
-			if (e.getPath() != null && e.getPath().size() >= 1) {
-				field = e.getPath().get(0).getFieldName();
+			if (mappingException.getPath() != null && mappingException.getPath().size() >= 1) {
+				field = mappingException.getPath().get(0).getFieldName();
 			}
-			throw new GenericRestException(BAD_REQUEST, "error_json_structure_invalid", line, column, field, e.getOriginalMessage());
-		} catch (JsonParseException e) {
-			String msg = e.getOriginalMessage();
+			return new GenericRestException(BAD_REQUEST, "error_json_structure_invalid", line, column, field, mappingException.getOriginalMessage());
+		} else if (e instanceof JsonParseException) {
+			JsonParseException parseException = (JsonParseException) e;
+			String msg = parseException.getOriginalMessage();
 			String line = "unknown";
 			String column = "unknown";
-			if (e.getLocation() != null) {
-				line = String.valueOf(e.getLocation().getLineNr());
-				column = String.valueOf(e.getLocation().getColumnNr());
+			if (parseException.getLocation() != null) {
+				line = String.valueOf(parseException.getLocation().getLineNr());
+				column = String.valueOf(parseException.getLocation().getColumnNr());
 			}
-			throw new GenericRestException(BAD_REQUEST, "error_json_malformed", line, column, msg);
-		} catch (Exception e) {
-			throw new GenericRestException(BAD_REQUEST, "error_json_parse", e);
+			return new GenericRestException(BAD_REQUEST, "error_json_malformed", line, column, msg);
+		} else {
+			return new GenericRestException(BAD_REQUEST, "error_json_parse", e);
 		}
 	}
 
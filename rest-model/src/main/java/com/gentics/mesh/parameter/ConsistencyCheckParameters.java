@@ -0,0 +1,32 @@
+package com.gentics.mesh.parameter;
+
+import org.apache.commons.lang.BooleanUtils;
+
+/**
+ * Interface for consistency check query parameters.
+ */
+public interface ConsistencyCheckParameters extends ParameterProvider {
+
+	public static final String RESUME_PARAMETER_KEY = "resume";
+
+	/**
+	 * Set the resume flag. When enabled the check will continue from the checkpoint of a previously interrupted check and skip the partitions which have
+	 * already been processed.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default ConsistencyCheckParameters setResume(boolean flag) {
+		setParameter(RESUME_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the resume flag has been set.
+	 * 
+	 * @return
+	 */
+	default boolean isResume() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(RESUME_PARAMETER_KEY)), false);
+	}
+}
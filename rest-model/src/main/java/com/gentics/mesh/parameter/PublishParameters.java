@@ -9,6 +9,8 @@ public interface PublishParameters extends ParameterProvider {
 
 	public static final String RECURSIVE_PARAMETER_KEY = "recursive";
 
+	public static final String BACKGROUND_PARAMETER_KEY = "background";
+
 	/**
 	 * Set the recursive flag which can be used to recursively publish a subtree of nodes.
 	 * 
@@ -30,4 +32,24 @@ public interface PublishParameters extends ParameterProvider {
 		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(RECURSIVE_PARAMETER_KEY)), false);
 	}
 
+	/**
+	 * Set the background flag which can be used to run a recursive publish or take offline action as a job.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default PublishParameters setBackground(boolean flag) {
+		setParameter(BACKGROUND_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether a recursive action should be run as a job.
+	 * 
+	 * @return
+	 */
+	default boolean isBackground() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(BACKGROUND_PARAMETER_KEY)), false);
+	}
+
 }
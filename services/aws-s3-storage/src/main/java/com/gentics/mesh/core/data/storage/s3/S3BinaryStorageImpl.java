@@ -1,13 +1,24 @@
 package com.gentics.mesh.core.data.storage.s3;
 
+import static com.gentics.mesh.metric.SimpleMetric.S3_UPLOAD_BYTES;
+import static com.gentics.mesh.metric.SimpleMetric.S3_UPLOAD_PART_FAILURES;
+import static com.gentics.mesh.metric.SimpleMetric.S3_UPLOAD_TIME;
 import static java.util.Objects.isNull;
 
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,14 +27,19 @@ import com.gentics.mesh.core.rest.node.field.s3binary.S3RestResponse;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.S3Options;
 import com.gentics.mesh.core.data.storage.S3BinaryStorage;
+import com.gentics.mesh.metric.MetricsService;
 
 import hu.akarnokd.rxjava2.interop.CompletableInterop;
-import hu.akarnokd.rxjava2.interop.FlowableInterop;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -38,9 +54,15 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CORSConfiguration;
 import software.amazon.awssdk.services.s3.model.CORSRule;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
@@ -50,6 +72,7 @@ import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutBucketCorsRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -63,23 +86,47 @@ public class S3BinaryStorageImpl implements S3BinaryStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(S3BinaryStorageImpl.class);
 
+	/**
+	 * Maximum amount of parts of a single multipart upload, which is accepted by S3.
+	 */
+	public static final int MAX_MULTIPART_PARTS = 10_000;
+
 	private S3AsyncClient client;
 
 	private S3Presigner presigner;
 
 	private S3Options s3Options;
 
+	private Counter uploadBytes;
+
+	private Timer uploadTimer;
+
+	private Counter uploadPartFailures;
+
 	@Inject
-	public S3BinaryStorageImpl(MeshOptions options) {
-		this.s3Options = options.getS3Options();
+	public S3BinaryStorageImpl(MeshOptions options, MetricsService metrics) {
+		this(options, null, metrics.getMetricRegistry());
 	}
 
 	public S3BinaryStorageImpl(MeshOptions options, S3AsyncClient client) {
-		this.s3Options = options.getS3Options();
-		this.client = client;
+		this(options, client, new SimpleMeterRegistry());
 	}
 
-	public S3BinaryStorageImpl() {
+	/**
+	 * Create the storage.
+	 * 
+	 * @param options
+	 * @param client
+	 *            S3 client to be used. If null, the client will be created from the S3 options on first use.
+	 * @param registry
+	 *            Registry for the upload metrics
+	 */
+	public S3BinaryStorageImpl(MeshOptions options, S3AsyncClient client, MeterRegistry registry) {
+		this.s3Options = options.getS3Options();
+		this.client = client;
+		this.uploadBytes = registry.counter(S3_UPLOAD_BYTES.key());
+		this.uploadTimer = registry.timer(S3_UPLOAD_TIME.key());
+		this.uploadPartFailures = registry.counter(S3_UPLOAD_PART_FAILURES.key());
 	}
 
 	protected Single<Boolean> init() {
@@ -215,36 +262,163 @@ public class S3BinaryStorageImpl implements S3BinaryStorage {
 
 	@Override
 	public Flowable<Buffer> read(String bucketName, String objectKey) {
+		return read(GetObjectRequest.builder().bucket(bucketName).key(objectKey).build());
+	}
+
+	@Override
+	public Flowable<Buffer> read(String bucketName, String objectKey, long start, long end) {
+		// The range of the S3 GET request is inclusive, just like the HTTP range header
+		String range = "bytes=" + start + "-" + end;
+		return read(GetObjectRequest.builder().bucket(bucketName).key(objectKey).range(range).build());
+	}
+
+	@Override
+	public Completable readToFile(String bucketName, String objectKey, File target) {
 		Single<Boolean> initClient = Single.just(true);
 		if (isNull(client)) {
 			initClient = init();
 		}
-		return initClient.toFlowable().flatMap(unused -> Flowable.defer(() -> {
+		return initClient.flatMapCompletable(unused -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Loading data for uuid {" + objectKey + "}");
+				log.debug("Loading data for uuid {" + objectKey + "} into file {" + target.getAbsolutePath() + "}");
 			}
+			// The SDK refuses to overwrite existing files
+			Files.deleteIfExists(target.toPath());
 			GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(objectKey).build();
-			return FlowableInterop.fromFuture(client.getObject(request, AsyncResponseTransformer.toBytes()));
-		}).map(f -> Buffer.buffer(f.asByteArray())));
+			return CompletableInterop.fromFuture(client.getObject(request, AsyncResponseTransformer.toFile(target.toPath())));
+		});
+	}
+
+	/**
+	 * Execute the request and emit the chunks of the response body as they arrive.
+	 */
+	private Flowable<Buffer> read(GetObjectRequest request) {
+		return initIfRequiredAndExecute(unused -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Loading data for uuid {" + request.key() + "}" + (request.range() != null ? " with range {" + request.range() + "}" : ""));
+			}
+			return SingleInterop.fromFuture(client.getObject(request, new S3StreamingResponseTransformer()));
+		}).flatMapPublisher(chunks -> chunks);
 	}
 
 	@Override
 	public Single<S3RestResponse> uploadFile(String bucket, String objectKey, File file, boolean isCache) {
 		return initIfRequiredAndExecute(unused -> {
 			String mimeTypeForFilename = MimeMapping.getMimeTypeForFilename(file.getName());
-	
-			PutObjectRequest objectRequest = PutObjectRequest.builder().bucket(bucket).key(objectKey)
-					.contentType(mimeTypeForFilename).build();
 			String[] split = objectKey.split("/");
-	
-			// Put the object into the bucket
-			Completable completable = CompletableInterop
-					.fromFuture(client.putObject(objectRequest, AsyncRequestBody.fromFile(file)));
-			return completable.andThen(createUploadPresignedUrl(bucket, split[0], split[1], null, isCache))
+			long size = file.length();
+
+			Completable upload;
+			if (s3Options.getMultipartThreshold() > 0 && size > s3Options.getMultipartThreshold()) {
+				upload = multipartUpload(bucket, objectKey, mimeTypeForFilename, file, size);
+			} else {
+				PutObjectRequest objectRequest = PutObjectRequest.builder().bucket(bucket).key(objectKey)
+						.contentType(mimeTypeForFilename).build();
+				// Put the object into the bucket
+				upload = Completable.defer(() -> CompletableInterop
+						.fromFuture(client.putObject(objectRequest, AsyncRequestBody.fromFile(file))));
+			}
+			return recordUpload(upload, size).andThen(createUploadPresignedUrl(bucket, split[0], split[1], null, isCache))
 					.doOnError(err -> Single.error(err));
 		});
 	}
 
+	/**
+	 * Upload the file in parts of {@link #getMultipartPartSize(long, long)} bytes. The parts are uploaded in parallel and every part is retried on its own. If
+	 * the upload fails or is cancelled, it is aborted so that the already uploaded parts are removed.
+	 */
+	private Completable multipartUpload(String bucket, String objectKey, String contentType, File file, long size) {
+		long partSize = getMultipartPartSize(s3Options.getMultipartPartSize(), size);
+		int partCount = (int) ((size + partSize - 1) / partSize);
+		CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder().bucket(bucket).key(objectKey)
+				.contentType(contentType).build();
+		return Single.defer(() -> SingleInterop.fromFuture(client.createMultipartUpload(createRequest)))
+				.map(CreateMultipartUploadResponse::uploadId)
+				.flatMapCompletable(uploadId -> {
+					if (log.isDebugEnabled()) {
+						log.debug("Uploading {" + objectKey + "} in {" + partCount + "} parts with upload id {" + uploadId + "}");
+					}
+					return Flowable.range(1, partCount)
+							.flatMapSingle(partNumber -> uploadPart(bucket, objectKey, uploadId, file, partNumber, partSize, size), false,
+									s3Options.getMultipartConcurrency())
+							.toSortedList(Comparator.comparing(CompletedPart::partNumber))
+							.flatMapCompletable(parts -> {
+								CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder().bucket(bucket)
+										.key(objectKey).uploadId(uploadId).multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+										.build();
+								return CompletableInterop.fromFuture(client.completeMultipartUpload(completeRequest));
+							})
+							.onErrorResumeNext(e -> abortMultipartUpload(bucket, objectKey, uploadId).andThen(Completable.error(e)))
+							.doOnDispose(() -> abortMultipartUpload(bucket, objectKey, uploadId).subscribe());
+				});
+	}
+
+	/**
+	 * Return the part size for a multipart upload of the given size. The configured part size is increased if the upload would otherwise need more than
+	 * {@link #MAX_MULTIPART_PARTS} parts.
+	 *
+	 * @param configuredPartSize
+	 *            Configured part size
+	 * @param size
+	 *            Size of the upload in bytes
+	 * @return Part size in bytes
+	 */
+	public static long getMultipartPartSize(long configuredPartSize, long size) {
+		return Math.max(configuredPartSize, (size + MAX_MULTIPART_PARTS - 1) / MAX_MULTIPART_PARTS);
+	}
+
+	private Single<CompletedPart> uploadPart(String bucket, String objectKey, String uploadId, File file, int partNumber, long partSize,
+			long size) {
+		long offset = (long) (partNumber - 1) * partSize;
+		int length = (int) Math.min(partSize, size - offset);
+		UploadPartRequest request = UploadPartRequest.builder().bucket(bucket).key(objectKey).uploadId(uploadId).partNumber(partNumber)
+				.contentLength((long) length).build();
+		// The part is read again for every attempt, so that only the parts which are currently uploaded are held in memory
+		return Single.fromCallable(() -> readPart(file, offset, length))
+				.subscribeOn(Schedulers.io())
+				.flatMap(data -> SingleInterop.fromFuture(client.uploadPart(request, AsyncRequestBody.fromByteBuffer(data))))
+				.doOnError(e -> {
+					uploadPartFailures.increment();
+					log.warn("Upload of part {" + partNumber + "} of {" + objectKey + "} failed", e);
+				})
+				.retry(s3Options.getMultipartRetries())
+				.map(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+	}
+
+	private Completable abortMultipartUpload(String bucket, String objectKey, String uploadId) {
+		AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder().bucket(bucket).key(objectKey).uploadId(uploadId)
+				.build();
+		return CompletableInterop.fromFuture(client.abortMultipartUpload(abortRequest))
+				.doOnError(e -> log.error("Could not abort the multipart upload {" + uploadId + "} of {" + objectKey + "}", e))
+				.onErrorComplete();
+	}
+
+	private static ByteBuffer readPart(File file, long offset, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, offset + buffer.position()) < 0) {
+					throw new EOFException("Unexpected end of file {" + file.getAbsolutePath() + "} at position {" + (offset + buffer.position()) + "}");
+				}
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Record the size and the duration of the successful upload.
+	 */
+	private Completable recordUpload(Completable upload, long size) {
+		return Completable.defer(() -> {
+			long start = System.nanoTime();
+			return upload.doOnComplete(() -> {
+				uploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				uploadBytes.increment(size);
+			});
+		});
+	}
+
 	@Override
 	public Single<Boolean> exists(String bucket, String objectKey) {
 		return initIfRequiredAndExecute(unused -> {
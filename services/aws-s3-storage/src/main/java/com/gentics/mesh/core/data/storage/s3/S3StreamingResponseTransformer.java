@@ -0,0 +1,49 @@
+package com.gentics.mesh.core.data.storage.s3;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import io.reactivex.Flowable;
+import io.vertx.reactivex.core.buffer.Buffer;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Response transformer which exposes the body of a S3 object as a flowable of buffers. The chunks are only requested from the SDK when the subscriber of the
+ * flowable requests them, so that the object is never held in memory completely. The returned flowable can only be subscribed once.
+ */
+class S3StreamingResponseTransformer implements AsyncResponseTransformer<GetObjectResponse, Flowable<Buffer>> {
+
+	private volatile CompletableFuture<Flowable<Buffer>> future;
+
+	@Override
+	public CompletableFuture<Flowable<Buffer>> prepare() {
+		// The SDK invokes prepare again when the request is retried
+		future = new CompletableFuture<>();
+		return future;
+	}
+
+	@Override
+	public void onResponse(GetObjectResponse response) {
+	}
+
+	@Override
+	public void onStream(SdkPublisher<ByteBuffer> publisher) {
+		future.complete(Flowable.fromPublisher(publisher).map(S3StreamingResponseTransformer::toBuffer));
+	}
+
+	@Override
+	public void exceptionOccurred(Throwable error) {
+		future.completeExceptionally(error);
+	}
+
+	/**
+	 * Copy the chunk since the SDK may reuse the underlying memory once the next chunk has been requested.
+	 */
+	private static Buffer toBuffer(ByteBuffer chunk) {
+		byte[] bytes = new byte[chunk.remaining()];
+		chunk.get(bytes);
+		return Buffer.buffer(bytes);
+	}
+}
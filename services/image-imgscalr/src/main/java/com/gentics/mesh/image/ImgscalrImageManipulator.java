@@ -2,14 +2,12 @@ package com.gentics.mesh.image;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
-import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
-import static java.util.Objects.nonNull;
 
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -379,51 +377,10 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		parameters.validate();
 		parameters.validateLimits(options);
 
-		return s3BinaryStorage.read(bucketName, s3ObjectKey)
-				.flatMapSingle(originalFile -> workerPool.<File>rxExecuteBlocking(bh -> {
-					try (InputStream is = new ByteArrayInputStream(originalFile.getBytes());
-							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-						BufferedImage image;
-						ImageReader reader = getImageReader(ins);
-
-						try {
-							image = reader.read(0);
-						} catch (IOException e) {
-							log.error("Could not read input image", e);
-							throw error(BAD_REQUEST, "image_error_reading_failed");
-						}
-
-						if (log.isDebugEnabled()) {
-							log.debug("Read image from stream " + ins.hashCode() + " with reader "
-									+ reader.getClass().getName());
-						}
-
-						image = cropAndResize(image, parameters);
-
-						String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-						String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-						String cacheFilePath = options.getImageCacheDirectory()  + File.pathSeparator + filename;
-						File outCacheFile = new File(cacheFilePath);
-
-						// Write image
-						try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-							ImageWriteParam params = getImageWriteparams(extension);
-
-							// same as write(image), but with image parameters
-							getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-						} catch (Exception e) {
-							throw error(BAD_REQUEST, "image_error_writing_failed");
-						}
-						// Return buffer to written cache file
-						bh.complete(outCacheFile);
-					} catch (Exception e) {
-						bh.fail(e);
-					}
-				}).toSingle()).flatMapSingle(file ->
+		return resizeS3Original(bucketName, s3ObjectKey, filename, parameters).flatMap(file ->
 				// write cache to AWS
 				s3BinaryStorage.uploadFile(bucketName, s3ObjectKey, file, true)
-						.flatMap(ignoreElement -> Single.just(file)))
-				.singleOrError();
+						.map(ignoreElement -> file));
 	}
 
 	@Override
@@ -434,68 +391,76 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		parameters.validateLimits(options);
 
 		return s3BinaryStorage.exists(cacheBucketName, cacheS3ObjectKey)
-				// read from aws and return buffer with data
 				.flatMapCompletable(res -> {
-					if (res)
-						return s3BinaryStorage.read(cacheBucketName, cacheS3ObjectKey)
-								.flatMapCompletable(cacheFileInfo -> {
-									if (nonNull(cacheFileInfo) || cacheFileInfo.getBytes().length > 0) {
-										return Completable.complete();
-									} else {
-										log.error("Could not read input image");
-										return Completable
-												.error(error(INTERNAL_SERVER_ERROR, "image_error_reading_failed"));
-									}
-								});
-					else {
-						return s3BinaryStorage.read(bucketName, s3ObjectKey)
-								.flatMapSingle(originalFile -> workerPool.<File>rxExecuteBlocking(bh -> {
-									try (InputStream is = new ByteArrayInputStream(originalFile.getBytes());
-											ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-										BufferedImage image;
-										ImageReader reader = getImageReader(ins);
-
-										try {
-											image = reader.read(0);
-										} catch (IOException e) {
-											log.error("Could not read input image", e);
-											throw error(BAD_REQUEST, "image_error_reading_failed");
-										}
-
-										if (log.isDebugEnabled()) {
-											log.debug("Read image from stream " + ins.hashCode() + " with reader "
-													+ reader.getClass().getName());
-										}
-
-										image = cropAndResize(image, parameters);
-
-										String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-										String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-										String cacheFilePath = options.getImageCacheDirectory()  + File.pathSeparator + filename;
-										File outCacheFile = new File(cacheFilePath);
-
-										// Write image
-										try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-											ImageWriteParam params = getImageWriteparams(extension);
-
-											// same as write(image), but with image parameters
-											getImageWriter(reader, out).write(null, new IIOImage(image, null, null),
-													params);
-										} catch (Exception e) {
-											throw error(BAD_REQUEST, "image_error_writing_failed");
-										}
-										// Return buffer to written cache file
-										bh.complete(outCacheFile);
-									} catch (Exception e) {
-										bh.fail(e);
-									}
-								}).toSingle()).flatMapSingle(file ->
+					if (res) {
+						// The resized image is already in the cache bucket
+						return Completable.complete();
+					} else {
+						return resizeS3Original(bucketName, s3ObjectKey, filename, parameters).flatMap(file ->
 						// write cache to AWS
-						s3BinaryStorage.uploadFile(cacheBucketName, cacheS3ObjectKey, file, true)).ignoreElements();
+						s3BinaryStorage.uploadFile(cacheBucketName, cacheS3ObjectKey, file, true)).ignoreElement();
 					}
 				});
 	}
 
+	/**
+	 * Download the original image from S3 into a temporary file and resize it. The original image is streamed to the file, so that only the decoded image
+	 * needs to be kept in memory. The temporary file is removed afterwards.
+	 *
+	 * @param bucketName
+	 * @param s3ObjectKey
+	 * @param filename
+	 * @param parameters
+	 * @return Resized image file
+	 */
+	private Single<File> resizeS3Original(String bucketName, String s3ObjectKey, String filename,
+			ImageManipulationParameters parameters) {
+		return Single.defer(() -> {
+			File originalFile = File.createTempFile("mesh-s3-image", null);
+			return s3BinaryStorage.readToFile(bucketName, s3ObjectKey, originalFile)
+					.andThen(workerPool.<File>rxExecuteBlocking(bh -> {
+						try (ImageInputStream ins = ImageIO.createImageInputStream(originalFile)) {
+							BufferedImage image;
+							ImageReader reader = getImageReader(ins);
+
+							try {
+								image = reader.read(0);
+							} catch (IOException e) {
+								log.error("Could not read input image", e);
+								throw error(BAD_REQUEST, "image_error_reading_failed");
+							}
+
+							if (log.isDebugEnabled()) {
+								log.debug("Read image from stream " + ins.hashCode() + " with reader "
+										+ reader.getClass().getName());
+							}
+
+							image = cropAndResize(image, parameters);
+
+							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+							String cacheFilePath = options.getImageCacheDirectory()  + File.pathSeparator + filename;
+							File outCacheFile = new File(cacheFilePath);
+
+							// Write image
+							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
+								ImageWriteParam params = getImageWriteparams(extension);
+
+								// same as write(image), but with image parameters
+								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
+							} catch (Exception e) {
+								throw error(BAD_REQUEST, "image_error_writing_failed");
+							}
+							// Return buffer to written cache file
+							bh.complete(outCacheFile);
+						} catch (Exception e) {
+							bh.fail(e);
+						}
+					}).toSingle())
+					.doFinally(() -> Files.deleteIfExists(originalFile.toPath()));
+		});
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
@@ -1,6 +1,7 @@
 package com.gentics.mesh.test;
 
 import java.net.ServerSocket;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -22,6 +23,8 @@ public enum MeshCoreOptionChanger implements MeshOptionChanger {
 		options.getCacheConfig().setPathCacheSize(0);
 	}), NO_UPLOAD_PARSER(options -> {
 		options.getUploadOptions().setParser(false);
+	}), ASYNC_UPLOAD_PARSER(options -> {
+		options.getUploadOptions().setParserAsync(true);
 	}), EXCLUDE_BINARY_SEARCH(options -> {
 		options.getSearchOptions().setIncludeBinaryFields(false);
 	}), INITIAL_ADMIN_PASSWORD(options -> {
@@ -45,6 +48,8 @@ public enum MeshCoreOptionChanger implements MeshOptionChanger {
 		options.setNativeQueryFiltering(NativeQueryFiltering.NEVER);
 	}), SHORT_BINARY_CHECK_INTERVAL(options -> {
 		options.getUploadOptions().setCheckInterval(5_000);
+	}), IMAGE_RENDITION_PRESETS(options -> {
+		options.getImageOptions().setRenditionPresets(Arrays.asList("w=100", "w=50&h=50"));
 	});
 
 	private final Consumer<MeshOptions> changer;
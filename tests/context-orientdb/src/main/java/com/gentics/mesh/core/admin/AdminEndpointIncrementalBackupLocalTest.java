@@ -0,0 +1,90 @@
+package com.gentics.mesh.core.admin;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_START;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.NONE;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.etc.config.OrientDBMeshOptions;
+import com.gentics.mesh.graphdb.backup.BackupChain;
+import com.gentics.mesh.parameter.client.BackupParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = true, inMemoryDB = false)
+public class AdminEndpointIncrementalBackupLocalTest extends AbstractMeshTest {
+
+	@Test
+	public void testIncrementalBackupRestore() throws IOException {
+		final String backupDir = ((OrientDBMeshOptions) testContext.getOptions()).getStorageOptions().getBackupDirectory();
+		grantAdmin();
+
+		GenericMessageResponse message = call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true)));
+		assertThat(message).matches("backup_finished");
+
+		// The project is only contained in the second backup of the chain
+		ProjectResponse includedProject = createProject("included");
+
+		call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true)));
+		BackupChain chain = BackupChain.latest(new File(backupDir));
+		assertNotNull("A backup chain should have been created", chain);
+		assertEquals("Both backups should have been added to the same chain", 2, chain.size());
+		assertEquals(BackupChain.TYPE_INCREMENTAL, chain.getLast().getString("type"));
+
+		ProjectResponse excludedProject = createProject("excluded");
+
+		expect(GRAPH_RESTORE_START).one();
+		expect(GRAPH_RESTORE_FINISHED).one();
+		message = call(() -> client().invokeRestore());
+		awaitEvents();
+		assertThat(message).matches("restore_finished");
+
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		call(() -> client().findNodeByUuid("included", includedProject.getRootNode().getUuid()));
+		call(() -> client().findNodeByUuid("excluded", excludedProject.getRootNode().getUuid()), NOT_FOUND, "project_not_found", "excluded");
+	}
+
+	@Test
+	public void testVerifyIncrementalBackup() throws Exception {
+		final String backupDir = ((OrientDBMeshOptions) testContext.getOptions()).getStorageOptions().getBackupDirectory();
+		grantAdmin();
+
+		call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true).setConsistencyCheck(true)));
+
+		// The verification runs in the background on a restored copy of the backup
+		long timeout = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2);
+		JsonObject verification = null;
+		while (verification == null && System.currentTimeMillis() < timeout) {
+			Thread.sleep(500);
+			verification = BackupChain.latest(new File(backupDir)).getLast().getJsonObject("verification");
+		}
+		assertNotNull("The backup should have been verified", verification);
+		assertEquals("CONSISTENT", verification.getString("result"));
+		assertNotNull("The element counts of the source database should have been recorded",
+			BackupChain.latest(new File(backupDir)).getLast().getJsonObject("counts"));
+	}
+
+	private ProjectResponse createProject(String name) {
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName(name);
+		request.setSchemaRef("folder");
+		return call(() -> client().createProject(request));
+	}
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.admin;
 
+import static com.gentics.mesh.core.rest.MeshEvent.CONSISTENCY_CHECK_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_START;
 import static com.gentics.mesh.core.rest.admin.consistency.ConsistencyRating.CONSISTENT;
@@ -12,7 +13,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
@@ -30,6 +34,9 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.relationship.GraphRelationships;
 import com.gentics.mesh.core.db.GraphDBTx;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheck;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckpoint;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyRating;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
@@ -41,12 +48,19 @@ import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.etc.config.ConsistencyCheckOptions;
+import com.gentics.mesh.graphdb.model.RecordRange;
+import com.gentics.mesh.graphdb.spi.GraphDatabase;
+import com.gentics.mesh.parameter.client.ConsistencyCheckParametersImpl;
 import com.gentics.mesh.parameter.client.NodeParametersImpl;
 import com.gentics.mesh.parameter.client.VersioningParametersImpl;
 import com.gentics.mesh.test.MeshTestSetting;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.syncleus.ferma.TEdge;
 
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+
 @MeshTestSetting(testSize = FULL, startServer = true, inMemoryDB = true)
 public class ConsistencyCheckTest extends AbstractMeshTest {
 
@@ -218,4 +232,76 @@ public class ConsistencyCheckTest extends AbstractMeshTest {
 		assertThat(response.getInconsistencies()).isEmpty();
 		assertThat(response.getResult()).as("Result").isEqualTo(ConsistencyRating.CONSISTENT);
 	}
+
+	@Test
+	public void testPartitionedCheckProgress() throws Exception {
+		grantAdmin();
+		ConsistencyCheckOptions checkOptions = testContext.getOptions().getConsistencyCheckOptions();
+		int partitionSize = checkOptions.getPartitionSize();
+		checkOptions.setPartitionSize(10);
+		List<JsonObject> progress = new CopyOnWriteArrayList<>();
+		MessageConsumer<JsonObject> consumer = vertx().eventBus().consumer(CONSISTENCY_CHECK_PROGRESS.address, msg -> progress.add(msg.body()));
+		try {
+			tx(() -> {
+				((User) user()).getVertex().removeProperty(UserImpl.USERNAME_PROPERTY_KEY);
+			});
+			ConsistencyCheckResponse response = call(() -> client().checkConsistency());
+			assertThat(response.getInconsistencies()).hasSize(1);
+			assertEquals(userUuid(), response.getInconsistencies().get(0).getElementUuid());
+
+			// The partial results of each partition are published once the partition has been processed
+			long timeout = System.currentTimeMillis() + 10_000;
+			while (!containsInconsistency(progress, userUuid()) && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100);
+			}
+			assertTrue("The inconsistency should have been published by the progress event", containsInconsistency(progress, userUuid()));
+			assertTrue("The elements should have been split into multiple partitions", progress.size() > checks().size());
+			assertFalse("The checkpoint should be removed once the check completed",
+				ConsistencyCheckpoint.getFile(new File(checkOptions.getCheckpointDirectory()), false).exists());
+		} finally {
+			consumer.unregister();
+			checkOptions.setPartitionSize(partitionSize);
+			tx(() -> {
+				((User) user()).getVertex().setProperty(UserImpl.USERNAME_PROPERTY_KEY, "blub");
+			});
+		}
+	}
+
+	@Test
+	public void testResumeFromCheckpoint() throws Exception {
+		grantAdmin();
+		ConsistencyCheckOptions checkOptions = testContext.getOptions().getConsistencyCheckOptions();
+		String key = tx(() -> {
+			RecordRange range = ((GraphDatabase) db()).getRecordRanges(UserImpl.class, checkOptions.getPartitionSize()).get(0);
+			return "users/" + UserImpl.class.getSimpleName() + "/" + range.getKey();
+		});
+
+		// Store the result of a partition of a previous interrupted run
+		File checkpointFile = ConsistencyCheckpoint.getFile(new File(checkOptions.getCheckpointDirectory()), false);
+		ConsistencyCheckResult stored = new ConsistencyCheckResult();
+		stored.addInconsistency("Inconsistency of a previous run", userUuid(), InconsistencySeverity.LOW);
+		ConsistencyCheckpoint.open(checkpointFile, false).complete(key, stored);
+
+		ConsistencyCheckResponse response = call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setResume(true)));
+		assertThat(response.getInconsistencies()).hasSize(1);
+		assertEquals("The stored result of the skipped partition should be included", "Inconsistency of a previous run",
+			response.getInconsistencies().get(0).getDescription());
+		assertFalse("The checkpoint should be removed once the check completed", checkpointFile.exists());
+
+		// Without resuming, all partitions will be processed again
+		ConsistencyCheckpoint.open(checkpointFile, false).complete(key, stored);
+		response = call(() -> client().checkConsistency());
+		assertThat(response.getInconsistencies()).isEmpty();
+		assertEquals(CONSISTENT, response.getResult());
+	}
+
+	private boolean containsInconsistency(List<JsonObject> progress, String uuid) {
+		return progress.stream()
+			.flatMap(event -> event.getJsonArray("inconsistencies").stream())
+			.anyMatch(info -> uuid.equals(((JsonObject) info).getString("elementUuid")));
+	}
+
+	private List<ConsistencyCheck> checks() {
+		return testContext.getMeshComponent().consistencyChecks();
+	}
 }
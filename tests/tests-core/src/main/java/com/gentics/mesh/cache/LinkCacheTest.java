@@ -0,0 +1,64 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class LinkCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private LinkCache cache() {
+		return mesh().linkCache();
+	}
+
+	@Test
+	public void testLinkCache() {
+		String newsOverviewUuid = tx(() -> content("news overview").getUuid());
+		String newsUuid = tx(() -> folder("news").getUuid());
+		String productsUuid = tx(() -> folder("products").getUuid());
+		String content = "{{mesh.link('" + newsOverviewUuid + "')}} {{mesh.link('" + productsUuid + "')}}";
+
+		assertEquals("/News/News%20Overview.en.html /Products", renderContent(content));
+		assertEquals("Both links should be cached", 2, cache().size());
+		assertEquals("The links should be rendered from the cache", "/News/News%20Overview.en.html /Products", renderContent(content));
+
+		// Rename the parent folder of the linked content
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", FieldUtil.createStringField("Neues"));
+		call(() -> client().updateNode(projectName(), newsUuid, request));
+
+		// Only the link which depends on the renamed folder should have been invalidated
+		assertThat(waitFor(() -> cache().size() == 1, 10_000)).as("Cache has been invalidated within given timeout").isTrue();
+		assertEquals("/Neues/News%20Overview.en.html /Products", renderContent(content));
+		assertEquals(2, cache().size());
+
+		// Disable the cache and check caching
+		cache().disable();
+		cache().clear();
+		assertEquals("/Neues/News%20Overview.en.html /Products", renderContent(content));
+		assertEquals("The cache should not have any entries", 0, cache().size());
+	}
+
+	private String renderContent(String content) {
+		return call(() -> client().resolveLinks(content, new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+	}
+}
@@ -2,6 +2,7 @@ package com.gentics.mesh.cache;
 
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -16,6 +17,7 @@ import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
+import com.gentics.mesh.core.rest.tag.TagUpdateRequest;
 import com.gentics.mesh.error.MeshSchemaException;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.test.MeshTestSetting;
@@ -115,6 +117,29 @@ public class NameCacheTest extends AbstractMeshTest {
 		});
 	}
 
+	@Test
+	public void testTagUpdateInvalidation() {
+		TagNameCache cache = mesh().tagNameCache();
+		cache.clear();
+		String redUuid = tx(() -> tag("red").getUuid());
+		String colorsUuid = tx(() -> tagFamily("colors").getUuid());
+		tx(tx -> {
+			assertNotNull(tx.tagDao().findByName(tagFamily("colors"), "red"));
+			assertNotNull(tx.tagDao().findByName(tagFamily("colors"), "green"));
+			assertNull(tx.tagDao().findByName(tagFamily("colors"), "crimson"));
+		});
+		assertEquals("All lookups, including the missing one, should be cached", 3, cache.size());
+
+		call(() -> client().updateTag(projectName(), colorsUuid, redUuid, new TagUpdateRequest().setName("crimson")));
+
+		// The entry of the old name and the missing entry of the new name must be invalidated, the other tag must stay cached
+		assertThat(waitFor(() -> cache.size() == 1, 10_000)).as("Cache has been invalidated within given timeout").isTrue();
+		tx(tx -> {
+			assertNull(tx.tagDao().findByName(tagFamily("colors"), "red"));
+			assertEquals(redUuid, tx.tagDao().findByName(tagFamily("colors"), "crimson").getUuid());
+		});
+	}
+
 	@Test
 	public void testProjectCreation() {
 		testEntityCreation(
@@ -1,5 +1,6 @@
 package com.gentics.mesh.client;
 
+import static com.gentics.mesh.rest.client.MeshRestClientUtil.fetchAll;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ElasticsearchTestMode.TRACKING;
 import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
@@ -7,6 +8,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -30,6 +34,20 @@ public class MeshRestClientTest extends AbstractMeshTest {
 		assertTrue(list.getData().size() != 0);
 	}
 
+	@Test
+	public void testFetchAll() {
+		UserCreateRequest request = new UserCreateRequest();
+		request.setPassword("finger123");
+		for (int i = 0; i < 5; i++) {
+			request.setUsername("pagedUser" + i);
+			call(() -> client().createUser(request));
+		}
+
+		List<String> expected = call(() -> client().findUsers()).getData().stream().map(UserResponse::getUuid).collect(Collectors.toList());
+		List<String> fetched = fetchAll(paging -> client().findUsers(paging), 2).map(UserResponse::getUuid).toList().blockingGet();
+		assertEquals("All users should have been fetched in order across the pages", expected, fetched);
+	}
+
 	@Test
 	public void testGenericPost() {
 		JsonObject userJson = new JsonObject();
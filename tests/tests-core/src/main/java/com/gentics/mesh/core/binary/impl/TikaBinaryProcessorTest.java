@@ -1,37 +1,51 @@
 package com.gentics.mesh.core.binary.impl;
 
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.tika.exception.TikaException;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.gentics.mesh.cache.TikaResultCache;
 import com.gentics.mesh.core.binary.BinaryDataProcessorContext;
+import com.gentics.mesh.core.data.binary.Binaries;
 import com.gentics.mesh.core.data.node.field.HibBinaryField;
+import com.gentics.mesh.core.data.storage.BinaryStorage;
 import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.rest.node.field.binary.Location;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.test.MeshOptionsTypeUnawareContext;
 
-import dagger.Lazy;
 import io.reactivex.Maybe;
 import io.vertx.ext.web.FileUpload;
-import io.vertx.reactivex.core.Vertx;
 
 public class TikaBinaryProcessorTest implements MeshOptionsTypeUnawareContext {
 
 	@Test
 	public void tikaCachingTest() throws FileNotFoundException, IOException {
-		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
-		when(lazy.get()).thenReturn(Vertx.vertx());
-		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, getOptions(), mockDb());
+		TikaBinaryProcessor processor = createProcessor(getOptions(), mockCache());
 		FileUpload ul = mockUpload("test.pdf", "application/pdf");
 
 		Maybe<Consumer<HibBinaryField>> result = processor.process(new BinaryDataProcessorContext(null, null, null, ul, "HASHSUM"));
@@ -41,14 +55,124 @@ public class TikaBinaryProcessorTest implements MeshOptionsTypeUnawareContext {
 		consumer.accept(field);
 	}
 
+	@Test
+	public void testReuseCachedResult() throws IOException {
+		TikaResultCache cache = mockCache();
+		when(cache.get(anyString())).thenReturn(new TikaResult(Collections.singletonMap("author", "mesh"), Optional.of("cached text"), new Location()));
+		TikaBinaryProcessor processor = createProcessor(getOptions(), cache);
+		// The upload file does not exist, thus it can't have been parsed
+		FileUpload ul = mock(FileUpload.class);
+		when(ul.uploadedFileName()).thenReturn(new File("target", "missing.pdf").getAbsolutePath());
+		when(ul.contentType()).thenReturn("application/pdf");
+
+		Consumer<HibBinaryField> consumer = processor.process(new BinaryDataProcessorContext(null, null, null, ul, "HASHSUM")).blockingGet();
+		HibBinaryField field = Mockito.mock(HibBinaryField.class);
+		consumer.accept(field);
+		verify(field).setPlainText("cached text");
+		verify(field).setMetadata("author", "mesh");
+	}
+
+	@Test
+	public void testStoreResult() throws IOException {
+		TikaResultCache cache = mockCache();
+		TikaBinaryProcessor processor = createProcessor(getOptions(), cache);
+		FileUpload ul = mockUpload("test.pdf", "application/pdf");
+
+		processor.process(new BinaryDataProcessorContext(null, null, null, ul, "HASHSUM")).blockingGet();
+		verify(cache).store(startsWith("HASHSUM-"), any(TikaResult.class));
+	}
+
+	@Test
+	public void testFileSizeLimit() throws IOException {
+		MeshOptions options = getOptions();
+		options.getUploadOptions().setParserFileSizeLimit(1);
+		TikaBinaryProcessor processor = createProcessor(options, mockCache());
+		FileUpload ul = mockUpload("test.pdf", "application/pdf");
+		when(ul.size()).thenReturn(2L);
+
+		assertNull("Uploads which exceed the limit should not be parsed",
+			processor.process(new BinaryDataProcessorContext(null, null, null, ul, "HASHSUM")).blockingGet());
+	}
+
+	@Test
+	public void testDeferredParsing() throws IOException {
+		MeshOptions options = getOptions();
+		options.getUploadOptions().setParserAsync(true);
+		TikaBinaryProcessor processor = createProcessor(options, mockCache());
+		FileUpload ul = mockUpload("test.pdf", "application/pdf");
+
+		BinaryDataProcessorContext ctx = new BinaryDataProcessorContext(null, null, null, ul, "HASHSUM");
+		assertNull("The upload should not be parsed immediately", processor.process(ctx).blockingGet());
+		assertTrue("The parsing should have been deferred", ctx.isDeferred());
+	}
+
+	@Test(timeout = 10_000)
+	public void testParserDeadline() throws IOException {
+		TikaBinaryProcessor processor = createProcessor(getOptions(), mockCache());
+		// Slow and endless stream which never lets the parser finish
+		InputStream endless = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+				return 'a';
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (len == 0) {
+					return 0;
+				}
+				b[off] = (byte) read();
+				return 1;
+			}
+		};
+		try {
+			processor.parseFile(endless, -1, true, System.currentTimeMillis() + 200);
+			fail("The parser should have failed at the deadline");
+		} catch (TikaException | IOException e) {
+			// expected
+		}
+	}
+
+	@Test(timeout = 10_000)
+	public void testReplaceAbandonedWorker() {
+		MeshOptions options = getOptions();
+		options.getUploadOptions().setParserThreads(1);
+		options.getUploadOptions().setParserTimeout(500);
+		TikaBinaryProcessor processor = createProcessor(options, mockCache());
+
+		// Simulates a parser which ignores the interruption and does not reach the deadline
+		CountDownLatch release = new CountDownLatch(1);
+		TikaResult stuck = processor.parse(() -> {
+			while (release.getCount() > 0) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					// ignored
+				}
+			}
+			return new ByteArrayInputStream(new byte[0]);
+		}, 100, true).blockingGet();
+		assertNull("The parsing should have been aborted", stuck);
+
+		try {
+			TikaResult result = processor.parse(() -> getClass().getResourceAsStream("/testfiles/test.pdf"), 100, true).blockingGet();
+			assertNotNull("The upload should have been parsed by the replacement thread", result);
+		} finally {
+			release.countDown();
+		}
+	}
+
 	@Test
 	@Ignore
 	public void testFilesInFolder() throws IOException {
 		File folder = new File("/media/ext4/tmp/dbfiles");
 
-		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
-		when(lazy.get()).thenReturn(Vertx.vertx());
-		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, getOptions(), mockDb());
+		TikaBinaryProcessor processor = createProcessor(getOptions(), mockCache());
 
 		for (int i = 0; i < 2; i++) {
 			for (File file : folder.listFiles()) {
@@ -78,6 +202,14 @@ public class TikaBinaryProcessorTest implements MeshOptionsTypeUnawareContext {
 		consumer.accept(field);
 	}
 
+	private TikaBinaryProcessor createProcessor(MeshOptions options, TikaResultCache cache) {
+		return new TikaBinaryProcessor(options, mockDb(), cache, mock(Binaries.class), mock(BinaryStorage.class));
+	}
+
+	private TikaResultCache mockCache() {
+		return mock(TikaResultCache.class);
+	}
+
 	private Database mockDb() {
 		Database mock = mock(Database.class);
 		// This is to shortcut the check if the field needs to be parsed.
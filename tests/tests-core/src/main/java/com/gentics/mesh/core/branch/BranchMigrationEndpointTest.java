@@ -5,6 +5,8 @@ import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
@@ -30,11 +32,13 @@ import com.gentics.mesh.core.rest.job.JobListResponse;
 import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.MeshTestSetting;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 
@@ -203,6 +207,50 @@ public class BranchMigrationEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testMigrateWebrootInfo() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+
+		NodeCreateRequest create = new NodeCreateRequest();
+		create.setLanguage("en");
+		create.setSchemaName("content");
+		create.setParentNodeUuid(baseNodeUuid);
+		create.getFields().put("title", FieldUtil.createStringField("page"));
+		create.getFields().put("teaser", FieldUtil.createStringField("page"));
+		create.getFields().put("slug", FieldUtil.createStringField("page.html"));
+		create.setPublish(true);
+		String uuid = call(() -> client().createNode(PROJECT_NAME, create)).getUuid();
+
+		// The draft and the published container use different segments
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion("draft");
+		update.getFields().put("slug", FieldUtil.createStringField("draft-page.html"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, update));
+
+		waitForJobs(() -> {
+			call(() -> client().createBranch(PROJECT_NAME, new BranchCreateRequest().setName("branch1")));
+		}, COMPLETED, 1);
+
+		VersioningParametersImpl draft = new VersioningParametersImpl().setBranch("branch1").draft();
+		VersioningParametersImpl published = new VersioningParametersImpl().setBranch("branch1").published();
+		assertThat(call(() -> client().webroot(PROJECT_NAME, "/draft-page.html", draft)).getNodeUuid()).isEqualTo(uuid);
+		assertThat(call(() -> client().webroot(PROJECT_NAME, "/page.html", published)).getNodeUuid()).isEqualTo(uuid);
+		call(() -> client().webroot(PROJECT_NAME, "/page.html", draft), NOT_FOUND, "node_not_found_for_path", "/page.html");
+		call(() -> client().webroot(PROJECT_NAME, "/draft-page.html", published), NOT_FOUND, "node_not_found_for_path", "/draft-page.html");
+
+		// The webroot info of the new branch is checked for conflicts
+		NodeCreateRequest conflicting = new NodeCreateRequest();
+		conflicting.setLanguage("en");
+		conflicting.setSchemaName("content");
+		conflicting.setParentNodeUuid(baseNodeUuid);
+		conflicting.getFields().put("title", FieldUtil.createStringField("conflict"));
+		conflicting.getFields().put("teaser", FieldUtil.createStringField("conflict"));
+		conflicting.getFields().put("slug", FieldUtil.createStringField("draft-page.html"));
+		call(() -> client().createNode(PROJECT_NAME, conflicting, new VersioningParametersImpl().setBranch("branch1")), CONFLICT,
+			"node_conflicting_segmentfield_update", "slug", "draft-page.html");
+	}
+
 	@Test
 	public void testBigData() throws Throwable {
 		EventQueueBatch batch = createBatch();
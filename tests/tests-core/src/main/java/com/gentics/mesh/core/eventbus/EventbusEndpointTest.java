@@ -22,6 +22,7 @@ import org.junit.runner.RunWith;
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.assertj.MeshAssertions;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
@@ -77,6 +78,43 @@ public class EventbusEndpointTest extends AbstractMeshTest {
 		vertx().eventBus().publish(allowedAddress.address, new JsonObject().put("test", "someValue"));
 	}
 
+	@Test(timeout = 4_000)
+	public void testFilteredSubscription(TestContext context) throws Exception {
+		Async async = context.async();
+		MeshEvent address = USER_CREATED;
+
+		// Register with filter
+		ws.registerEvents(new EventSubscriptionFilter().setNode("matchingUuid"), address);
+
+		// Only the matching event must be relayed and the original address must be kept
+		ws.events().firstOrError().subscribe(event -> {
+			context.assertEquals(address.address, event.getAddress());
+			context.assertEquals("matchingUuid", event.getBodyAsJson().get("uuid").textValue());
+			async.complete();
+		});
+
+		Thread.sleep(1000);
+		vertx().eventBus().publish(address.address, new JsonObject().put("uuid", "otherUuid"));
+		vertx().eventBus().publish(address.address, new JsonObject().put("uuid", "matchingUuid"));
+	}
+
+	@Test(timeout = 4_000)
+	public void testFilteredSubscriptionToInternalAddress(TestContext context) throws Exception {
+		Async async = context.async();
+		String internalAddress = "mesh.internal.test";
+
+		ws.events().subscribe(event -> context.fail("No event of an internal address must be relayed"));
+
+		// The registration must be rejected and events of the address must not be relayed
+		ws.errors().firstOrError().subscribe(error -> {
+			context.assertTrue(error.getMessage().contains("rejected"), "The registration should have been rejected");
+			vertx().eventBus().publish(internalAddress, new JsonObject().put("uuid", "matchingUuid"));
+			vertx().setTimer(1000, id -> async.complete());
+		});
+
+		ws.registerEvents(new EventSubscriptionFilter().setNode("matchingUuid"), internalAddress);
+	}
+
 	@Test(timeout = 4_000)
 	public void testNodeDeleteEvent(TestContext context) throws Exception {
 		Async async = context.async();
@@ -0,0 +1,49 @@
+package com.gentics.mesh.core.eventbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventJsonObject;
+import com.gentics.mesh.core.rest.event.MeshEventMessageCodec;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+
+import io.vertx.core.buffer.Buffer;
+
+public class MeshEventMessageCodecTest {
+
+	private final MeshEventMessageCodec codec = new MeshEventMessageCodec();
+
+	@Test
+	public void testLocalTransform() {
+		MeshEventJsonObject body = new MeshEventJsonObject(createModel());
+		assertSame("Local consumers should receive the same instance", body, codec.transform(body));
+		assertEquals("content", body.getJsonObject("schema").getString("name"));
+	}
+
+	@Test
+	public void testWireRoundtrip() {
+		MeshEventJsonObject body = new MeshEventJsonObject(createModel());
+		Buffer buffer = Buffer.buffer().appendString("prefix");
+		codec.encodeToWire(buffer, body);
+
+		MeshEventJsonObject decoded = codec.decodeFromWire(6, buffer);
+		assertNull("The model is not transferred to other instances", decoded.getModel());
+		assertEquals(body, decoded);
+		assertEquals("nodeUuid", decoded.getString("uuid"));
+		assertEquals("en", decoded.getString("languageTag"));
+	}
+
+	private NodeMeshEventModel createModel() {
+		NodeMeshEventModel model = new NodeMeshEventModel();
+		model.setEvent(MeshEvent.NODE_UPDATED);
+		model.setUuid("nodeUuid");
+		model.setLanguageTag("en");
+		model.setSchema(new SchemaReferenceImpl().setName("content").setUuid("schemaUuid"));
+		return model;
+	}
+}
@@ -0,0 +1,53 @@
+package com.gentics.mesh.core.field.binary;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.MeshCoreOptionChanger.ASYNC_UPLOAD_PARSER;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Test upload processing with the parser running in the background.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = ASYNC_UPLOAD_PARSER)
+public class UploadAsyncParserTest extends AbstractMeshTest {
+
+	@Test
+	public void testUploadParsedInBackground() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/testfiles/test.pdf");
+
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+			buffer.length(), "test.pdf", "application/pdf"));
+
+		assertThat(waitFor(() -> getPlainText(node.getUuid()) != null, 10_000)).as("The plain text has been extracted within given timeout").isTrue();
+		assertEquals("Enemenemu", getPlainText(node.getUuid()));
+
+		// A second upload of the same content reuses the result of the first upload
+		NodeResponse node2 = createBinaryNode(parentNodeUuid);
+		NodeResponse response = call(
+			() -> client().updateNodeBinaryField(PROJECT_NAME, node2.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+				buffer.length(), "test2.pdf", "application/pdf"));
+		assertEquals("The cached plain text should be used", "Enemenemu", response.getFields().getBinaryField("binary").getPlainText());
+	}
+
+	private String getPlainText(String nodeUuid) {
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid));
+		BinaryField binaryField = response.getFields().getBinaryField("binary");
+		return binaryField == null ? null : binaryField.getPlainText();
+	}
+}
@@ -0,0 +1,56 @@
+package com.gentics.mesh.core.field.binary;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.MeshCoreOptionChanger.IMAGE_RENDITION_PRESETS;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.binary.ImageRenditionGenerator;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Test the eager generation of the configured image rendition presets.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = IMAGE_RENDITION_PRESETS)
+public class UploadRenditionPresetTest extends AbstractMeshTest {
+
+	@Test
+	public void testRenditionsGeneratedOnUpload() throws IOException, InterruptedException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/pictures/blume.jpg");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		NodeResponse node2 = call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary",
+			new ByteArrayInputStream(buffer.getBytes()), buffer.length(), "blume.jpg", "image/jpeg"));
+
+		BinaryField binaryField = node2.getFields().getBinaryField("binary");
+		assertEquals("The scheduled presets should be tracked in the metadata", "w=100,w=50&h=50",
+			binaryField.getMetadata().get(ImageRenditionGenerator.RENDITIONS_METADATA_KEY));
+
+		ImageManipulationParameters small = new ImageManipulationParametersImpl().setWidth(100);
+		ImageManipulationParameters square = new ImageManipulationParametersImpl().setWidth(50).setHeight(50);
+		String hash = binaryField.getSha512sum();
+		for (int i = 0; i < 50 && !(isCached(hash, small) && isCached(hash, square)); i++) {
+			Thread.sleep(200);
+		}
+		assertTrue("The rendition {w=100} should have been generated", isCached(hash, small));
+		assertTrue("The rendition {w=50&h=50} should have been generated", isCached(hash, square));
+	}
+
+	private boolean isCached(String hash, ImageManipulationParameters parameters) {
+		return mesh().imageManipulator().getCacheFilePath(hash, parameters).blockingGet().exists;
+	}
+}
@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.test.AWSTestMode.MINIO;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -19,6 +20,7 @@ import java.io.InputStream;
 
 import javax.imageio.ImageIO;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -156,6 +158,30 @@ public class S3BinaryFieldEndpointTest extends AbstractFieldEndpointTest {
         response.close();
     }
 
+    @Test
+    public void testStreamDownloadBinary() throws IOException {
+        NodeResponse s3binaryNode = createNodeWithField();
+        call(() -> client().updateNodeS3BinaryField(PROJECT_NAME, s3binaryNode.getUuid(), "s3", UPLOAD_REQUEST));
+        //uploading
+        File tempFile = createTempFile();
+        s3BinaryStorage().createBucket("test-bucket").blockingGet();
+        s3BinaryStorage().createBucket("test-cache-bucket").blockingGet();
+        s3BinaryStorage().uploadFile("test-bucket", s3binaryNode.getUuid() + "/s3", tempFile, false).blockingGet();
+        //extracting metadata in order to store the size of the binary
+        call(() -> client().extractMetadataNodeS3BinaryField(PROJECT_NAME, s3binaryNode.getUuid(), "s3", METADATA_REQUEST));
+
+        options().getS3Options().setStreamDownloads(true);
+        try {
+            // The data should be streamed through Mesh instead of redirecting to S3
+            MeshBinaryResponse response = call(() -> client().downloadBinaryField(PROJECT_NAME, s3binaryNode.getUuid(), "en", "s3"));
+            assertEquals("image/jpeg", response.getContentType());
+            assertArrayEquals(FileUtils.readFileToByteArray(tempFile), IOUtils.toByteArray(response.getStream()));
+            response.close();
+        } finally {
+            options().getS3Options().setStreamDownloads(false);
+        }
+    }
+
     @Test
     public void testExtractMetadataSuccessful() {
         S3RestResponse s3RestResponse = new S3RestResponse();
@@ -14,7 +14,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -182,6 +184,73 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testPageNodeChildrenWithoutChildPermission() throws Exception {
+		HibNode node = folder("news");
+		HibNode nodeWithNoPerm = folder("2015");
+		Set<String> expectedUuids;
+		try (Tx tx = tx()) {
+			tx.roleDao().revokePermissions(role(), nodeWithNoPerm, READ_PERM);
+			expectedUuids = tx.nodeDao().getChildren(node).stream()
+				.map(HibNode::getUuid)
+				.filter(uuid -> !uuid.equals(nodeWithNoPerm.getUuid()))
+				.collect(Collectors.toSet());
+			tx.success();
+		}
+
+		String nodeUuid = tx(() -> node.getUuid());
+		Set<String> foundUuids = new HashSet<>();
+		for (int page = 1; page <= expectedUuids.size(); page++) {
+			int currentPage = page;
+			NodeListResponse nodeList = call(() -> client().findNodeChildren(PROJECT_NAME, nodeUuid,
+				new PagingParametersImpl(currentPage, 1L), new VersioningParametersImpl().draft()));
+			assertEquals("Each page should contain exactly one child.", 1, nodeList.getData().size());
+			assertEquals(expectedUuids.size(), nodeList.getMetainfo().getTotalCount());
+			assertEquals(expectedUuids.size(), nodeList.getMetainfo().getPageCount());
+			foundUuids.add(nodeList.getData().get(0).getUuid());
+		}
+		assertEquals("All readable children should have been found on the pages.", expectedUuids, foundUuids);
+	}
+
+	@Test
+	public void testPageNodeChildrenTotalCount() throws Exception {
+		HibNode node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		int childCount = tx(tx -> {
+			return (int) tx.nodeDao().getChildren(node, initialBranchUuid()).count();
+		});
+		long perPage = childCount - 1;
+		assertTrue("The folder needs at least three children for this test.", perPage >= 2);
+
+		// Full first page, the total is counted
+		NodeListResponse firstPage = call(() -> client().findNodeChildren(PROJECT_NAME, nodeUuid,
+			new PagingParametersImpl(1, perPage), new VersioningParametersImpl().draft()));
+		assertEquals(perPage, firstPage.getData().size());
+		assertEquals(childCount, firstPage.getMetainfo().getTotalCount());
+		assertEquals(2, firstPage.getMetainfo().getPageCount());
+
+		// Partial last page, the total is derived from the page
+		NodeListResponse lastPage = call(() -> client().findNodeChildren(PROJECT_NAME, nodeUuid,
+			new PagingParametersImpl(2, perPage), new VersioningParametersImpl().draft()));
+		assertEquals(1, lastPage.getData().size());
+		assertEquals(childCount, lastPage.getMetainfo().getTotalCount());
+		assertEquals(2, lastPage.getMetainfo().getPageCount());
+
+		// Empty page after the last page, the total is counted
+		NodeListResponse emptyPage = call(() -> client().findNodeChildren(PROJECT_NAME, nodeUuid,
+			new PagingParametersImpl(3, perPage), new VersioningParametersImpl().draft()));
+		assertEquals(0, emptyPage.getData().size());
+		assertEquals(childCount, emptyPage.getMetainfo().getTotalCount());
+	}
+
+	@Test
+	public void testFilterByInvalidLanguage() {
+		String uuid = db().tx(() -> folder("news").getUuid());
+		NodeListResponse listResponse = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new NodeParametersImpl().setLanguages("en' OR 1 = 1")));
+		assertEquals(0, listResponse.getData().size());
+		assertEquals(0, listResponse.getMetainfo().getTotalCount());
+	}
+
 	@Test
 	public void testReadNodeChildrenWithNoPermission() throws Exception {
 		HibNode node = folder("news");
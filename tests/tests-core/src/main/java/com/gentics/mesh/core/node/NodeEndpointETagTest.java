@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.node;
 
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.ClientHelper.callETagRaw;
@@ -24,7 +26,9 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.tag.TagUpdateRequest;
 import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.demo.UserInfo;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -116,6 +120,123 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
 	}
 
+	@Test
+	public void testMoveNode() {
+		String uuid = contentUuid();
+		String oldParentUuid = tx(tx -> {
+			return tx.nodeDao().getParentNode(content(), project().getLatestBranch().getUuid()).getUuid();
+		});
+		String targetUuid = tx(() -> folder("news").getUuid());
+
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		String oldParentEtag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, oldParentUuid));
+		String targetEtag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, targetUuid));
+
+		call(() -> client().moveNode(PROJECT_NAME, uuid, targetUuid));
+
+		// The location of the node and the children of both parents changed
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, oldParentUuid), oldParentEtag, true, 200);
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, targetUuid), targetEtag, true, 200);
+	}
+
+	@Test
+	public void testUpdateParentNode() {
+		String uuid = contentUuid();
+		String parentUuid = tx(tx -> {
+			return tx.nodeDao().getParentNode(content(), project().getLatestBranch().getUuid()).getUuid();
+		});
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		// The display name of the parent is part of the breadcrumb
+		NodeResponse parent = call(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage(parent.getLanguage());
+		request.setVersion(parent.getVersion());
+		request.getFields().put("name", FieldUtil.createStringField("Renamed folder"));
+		call(() -> client().updateNode(PROJECT_NAME, parentUuid, request));
+
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
+	@Test
+	public void testChildPermissionChange() {
+		String uuid = tx(() -> folder("news").getUuid());
+		tx(() -> {
+			folder("news").bumpRevision();
+		});
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		// Permissions on nodes which are no children of the node don't change the etag
+		tx(tx -> {
+			tx.roleDao().revokePermissions(role(), folder("deals"), READ_PERM, READ_PUBLISHED_PERM);
+		});
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// The child is no longer part of the children info
+		tx(tx -> {
+			tx.roleDao().revokePermissions(role(), folder("2015"), READ_PERM, READ_PUBLISHED_PERM);
+		});
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
+	@Test
+	public void testCreateChild() {
+		String uuid = tx(() -> folder("news").getUuid());
+		tx(() -> {
+			folder("news").bumpRevision();
+		});
+		String revision = tx(() -> folder("news").getRevision());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(uuid));
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("newFolder"));
+		call(() -> client().createNode(PROJECT_NAME, request));
+
+		// The children info changed, but the parent must not be written
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+		assertEquals("The revision of the parent should not have been changed.", revision, tx(() -> folder("news").getRevision()));
+	}
+
+	@Test
+	public void testETagDependsOnRoles() {
+		String uuid = tx(() -> folder("news").getUuid());
+		tx(tx -> {
+			folder("news").bumpRevision();
+			UserInfo userInfo = data().createUserInfo("dummy", "Dummy Firstname", "Dummy Lastname");
+			tx.roleDao().grantPermissions(userInfo.getRole(), project(), READ_PERM);
+			tx.roleDao().grantPermissions(userInfo.getRole(), folder("news"), READ_PERM, READ_PUBLISHED_PERM);
+		});
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		client().logout().blockingGet();
+		client().setLogin("dummy", "test123");
+		client().login().blockingGet();
+
+		// The other user can't see the children of the node and must not get the etag of the first user
+		String otherEtag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+		assertNotEquals(etag, otherEtag);
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), otherEtag, true, 304);
+	}
+
+	@Test
+	public void testRenameTag() {
+		String uuid = contentUuid();
+		String tagUuid = tx(() -> tag("red").getUuid());
+		String tagFamilyUuid = tx(() -> tag("red").getTagFamily().getUuid());
+		call(() -> client().addTagToNode(PROJECT_NAME, uuid, tagUuid));
+
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// The tag name is part of the node response
+		call(() -> client().updateTag(PROJECT_NAME, tagFamilyUuid, tagUuid, new TagUpdateRequest().setName("crimson")));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
 	@Test
 	public void testReadChildren() {
 		String uuid = tx(() -> project().getBaseNode().getUuid());
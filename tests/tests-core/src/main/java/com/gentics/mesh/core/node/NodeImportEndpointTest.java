@@ -0,0 +1,192 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.TRACKING;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeImportResult;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+@MeshTestSetting(elasticsearch = TRACKING, testSize = FULL, startServer = true)
+public class NodeImportEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testImport() {
+		String parentNodeUuid = tx(() -> folder("news").getUuid());
+		String updatedUuid = contentUuid();
+
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion("draft");
+		update.getFields().put("teaser", FieldUtil.createStringField("imported teaser"));
+
+		StringBuilder ndjson = new StringBuilder();
+		ndjson.append(record(createRequest(parentNodeUuid, "first"))).append("\n");
+		ndjson.append(new JsonObject(update.toJson()).put("uuid", updatedUuid).encode()).append("\n");
+		ndjson.append("{ no json }").append("\n");
+		ndjson.append("\n");
+		ndjson.append(record(createRequest(parentNodeUuid, "second"))).append("\n");
+
+		List<NodeImportResult> results = importNodes(ndjson.toString());
+		assertEquals(4, results.size());
+
+		assertEquals(1, results.get(0).getLine());
+		assertEquals(CREATED.code(), results.get(0).getStatus());
+		assertNotNull(results.get(0).getUuid());
+
+		assertEquals(2, results.get(1).getLine());
+		assertEquals(OK.code(), results.get(1).getStatus());
+		assertEquals(updatedUuid, results.get(1).getUuid());
+
+		assertEquals(3, results.get(2).getLine());
+		assertEquals(BAD_REQUEST.code(), results.get(2).getStatus());
+		assertNull(results.get(2).getUuid());
+		assertEquals("error_parse_request_json_error", results.get(2).getMessage().getInternalMessage());
+
+		assertEquals("Empty lines should be skipped but counted", 5, results.get(3).getLine());
+		assertEquals(CREATED.code(), results.get(3).getStatus());
+
+		NodeResponse first = call(() -> client().findNodeByUuid(PROJECT_NAME, results.get(0).getUuid()));
+		assertEquals("first.html", first.getFields().getStringField("slug").getString());
+		assertEquals(parentNodeUuid, first.getParentNode().getUuid());
+		call(() -> client().findNodeByUuid(PROJECT_NAME, results.get(3).getUuid()));
+
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, updatedUuid));
+		assertEquals("imported teaser", updated.getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testImportWithGivenUuid() {
+		String parentNodeUuid = tx(() -> folder("news").getUuid());
+		String uuid = "b7d5a8e4f1c94e0a95a8e4f1c9fe0a26";
+		String ndjson = new JsonObject(createRequest(parentNodeUuid, "given").toJson()).put("uuid", uuid).encode();
+
+		List<NodeImportResult> results = importNodes(ndjson);
+		assertEquals(1, results.size());
+		assertEquals(CREATED.code(), results.get(0).getStatus());
+		assertEquals(uuid, results.get(0).getUuid());
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+	}
+
+	@Test
+	public void testImportFailedRecordDoesNotAffectBatch() {
+		String parentNodeUuid = tx(() -> folder("news").getUuid());
+		NodeCreateRequest invalid = createRequest(parentNodeUuid, "invalid");
+		invalid.setSchemaName("bogus");
+
+		StringBuilder ndjson = new StringBuilder();
+		ndjson.append(record(createRequest(parentNodeUuid, "before"))).append("\n");
+		ndjson.append(record(invalid)).append("\n");
+		ndjson.append(record(createRequest(parentNodeUuid, "after"))).append("\n");
+
+		List<NodeImportResult> results = importNodes(ndjson.toString());
+		assertEquals(3, results.size());
+		assertEquals(CREATED.code(), results.get(0).getStatus());
+		assertEquals(NOT_FOUND.code(), results.get(1).getStatus());
+		assertEquals("schema_not_found", results.get(1).getMessage().getInternalMessage());
+		assertEquals(CREATED.code(), results.get(2).getStatus());
+
+		// The records which were imported together with the failed record must not have been rolled back
+		call(() -> client().findNodeByUuid(PROJECT_NAME, results.get(0).getUuid()));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, results.get(2).getUuid()));
+	}
+
+	@Test
+	public void testImportMultipleFailedRecords() {
+		String parentNodeUuid = tx(() -> folder("news").getUuid());
+		NodeCreateRequest invalid = createRequest(parentNodeUuid, "invalid");
+		invalid.setSchemaName("bogus");
+
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			if (i % 3 == 1) {
+				ndjson.append(record(invalid)).append("\n");
+			} else {
+				ndjson.append(record(createRequest(parentNodeUuid, "node" + i))).append("\n");
+			}
+		}
+		ndjson.append(new JsonObject(createRequest(parentNodeUuid, "illegal").toJson()).put("uuid", "bogus").encode()).append("\n");
+
+		List<NodeImportResult> results = importNodes(ndjson.toString());
+		assertEquals(11, results.size());
+		for (int i = 0; i < 10; i++) {
+			NodeImportResult result = results.get(i);
+			assertEquals(i + 1, result.getLine());
+			if (i % 3 == 1) {
+				assertEquals(NOT_FOUND.code(), result.getStatus());
+			} else {
+				assertEquals(CREATED.code(), result.getStatus());
+				NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, result.getUuid()));
+				assertEquals("node" + i + ".html", node.getFields().getStringField("slug").getString());
+			}
+		}
+		assertEquals(BAD_REQUEST.code(), results.get(10).getStatus());
+		assertEquals("error_illegal_uuid", results.get(10).getMessage().getInternalMessage());
+	}
+
+	@Test
+	public void testNdjsonRequestToOtherEndpoint() throws IOException {
+		// Only the import streams NDJSON requests. Other endpoints must still receive the buffered body.
+		String login = new JsonObject().put("username", "admin").put("password", "admin").encode();
+		Response response = httpClient().newCall(new Request.Builder()
+			.url(String.format("http://%s:%s/api/v2/auth/login", "localhost", port()))
+			.post(RequestBody.create(MediaType.parse(APPLICATION_NDJSON), login))
+			.build()).execute();
+		assertEquals(OK.code(), response.code());
+	}
+
+	private List<NodeImportResult> importNodes(String ndjson) {
+		String response = call(() -> client().importNodes(PROJECT_NAME, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))));
+		List<NodeImportResult> results = new ArrayList<>();
+		for (String line : response.split("\n")) {
+			if (!line.isEmpty()) {
+				results.add(JsonUtil.readValue(line, NodeImportResult.class));
+			}
+		}
+		return results;
+	}
+
+	private String record(NodeCreateRequest request) {
+		return new JsonObject(request.toJson()).encode();
+	}
+
+	private NodeCreateRequest createRequest(String parentNodeUuid, String name) {
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchemaName("content");
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentNodeUuid);
+		request.getFields().put("title", FieldUtil.createStringField(name));
+		request.getFields().put("teaser", FieldUtil.createStringField(name));
+		request.getFields().put("slug", FieldUtil.createStringField(name + ".html"));
+		return request;
+	}
+}
@@ -25,6 +25,7 @@ import com.gentics.mesh.core.rest.navigation.NavigationElement;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.StringField;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.parameter.LinkType;
@@ -308,6 +309,33 @@ public class NodeNavigationEndpointTest extends AbstractMeshTest {
 		assertThat(response).hasDepth(1).isValid(4);
 	}
 
+	/**
+	 * Test that changes to nodes within the navigation are not hidden by cached navigation subtrees.
+	 */
+	@Test
+	public void testNavigationAfterUpdate() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = tx(() -> folder("news").getUuid());
+
+		NavigationResponse response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(2),
+			new VersioningParametersImpl().draft()));
+		NavigationElement folderElement = response.getChildren().stream().filter(e -> e.getUuid().equals(folderUuid)).findFirst().get();
+		assertNotNull("The folder should have children", folderElement.getChildren());
+
+		NodeResponse folder = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid, new VersioningParametersImpl().draft()));
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage(folder.getLanguage());
+		request.setVersion(folder.getVersion());
+		request.getFields().put("name", FieldUtil.createStringField("Renamed folder"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, request));
+
+		response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(2),
+			new VersioningParametersImpl().draft()));
+		folderElement = response.getChildren().stream().filter(e -> e.getUuid().equals(folderUuid)).findFirst().get();
+		assertEquals("Renamed folder", folderElement.getNode().getFields().getStringField("name").getString());
+		assertNotNull("The folder should still have children", folderElement.getChildren());
+	}
+
 	@Test
 	public void testPublishedNavigation() {
 		// TODO
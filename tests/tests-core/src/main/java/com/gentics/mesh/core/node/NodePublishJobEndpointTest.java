@@ -0,0 +1,112 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.TRACKING;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.job.HibNodePublishJob;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.core.rest.node.PublishStatusModel;
+import com.gentics.mesh.core.rest.node.PublishStatusResponse;
+import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(elasticsearch = TRACKING, testSize = FULL, startServer = true)
+public class NodePublishJobEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testPublishRecursivelyInBackground() {
+		String nodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+		options().setPublishMaxBatchSize(3);
+
+		try {
+			// 1. Take all nodes offline
+			call(() -> client().takeNodeOffline(PROJECT_NAME, nodeUuid, new PublishParametersImpl().setRecursive(true).setBackground(true)));
+			triggerAndWaitForAllJobs(COMPLETED);
+			assertPublishStatus("Node should be offline.", nodeUuid, false);
+			assertPublishStatus("Node should be offline.", folderUuid, false);
+			assertPublishStatus("Node should be offline.", contentUuid, false);
+			assertJob(JobType.unpublish, nodeUuid);
+
+			// 2. Publish all nodes again
+			call(() -> client().publishNode(PROJECT_NAME, nodeUuid, new PublishParametersImpl().setRecursive(true).setBackground(true)));
+			triggerAndWaitForAllJobs(COMPLETED);
+			assertPublishStatus("Node should be online again.", nodeUuid, true);
+			assertPublishStatus("Node should be online again.", folderUuid, true);
+			assertPublishStatus("Node should be online again.", contentUuid, true);
+			assertJob(JobType.publish, nodeUuid);
+		} finally {
+			options().setPublishMaxBatchSize(500);
+		}
+	}
+
+	/**
+	 * Test that an interrupted job continues after the last processed node, regardless of the stored completion count.
+	 */
+	@Test
+	public void testResumePublishJob() {
+		String nodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+		call(() -> client().takeNodeOffline(PROJECT_NAME, nodeUuid, new PublishParametersImpl().setRecursive(true)));
+
+		// Simulate a job which was interrupted after the root node has been processed
+		tx(tx -> {
+			HibNodePublishJob job = (HibNodePublishJob) tx.jobDao().enqueueNodePublish(user(), initialBranch(), project().getBaseNode(), JobType.publish);
+			job.setLastProcessedKey(String.format("%010d:%s", 0, nodeUuid));
+		});
+		triggerAndWaitForAllJobs(COMPLETED);
+
+		assertPublishStatus("The already processed root node should not have been processed again.", nodeUuid, false);
+		assertPublishStatus("Node should have been published.", folderUuid, true);
+		assertPublishStatus("Node should have been published.", contentUuid, true);
+	}
+
+	@Test
+	public void testBackgroundWithoutRecursion() {
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+
+		// The background flag only applies to recursive actions
+		call(() -> client().takeNodeOffline(PROJECT_NAME, contentUuid, new PublishParametersImpl().setBackground(true)));
+		assertPublishStatus("Node should be offline.", contentUuid, false);
+		assertPublishStatus("Parent node should still be published.", folderUuid, true);
+
+		JobListResponse jobs = adminCall(() -> client().findJobs());
+		assertEquals("No job should have been created.", 0, jobs.getData().size());
+	}
+
+	private void assertJob(JobType type, String nodeUuid) {
+		JobListResponse jobs = adminCall(() -> client().findJobs());
+		JobResponse job = jobs.getData().stream().filter(j -> j.getType() == type).findFirst().orElse(null);
+		assertNotNull("The job of type {" + type + "} could not be found.", job);
+		assertEquals(nodeUuid, job.getProperties().get("nodeUuid"));
+		long totalCount = Long.parseLong(job.getProperties().get("totalCount"));
+		assertTrue("The job should have processed the subtree in multiple batches.", totalCount > 3);
+		assertEquals("All nodes of the subtree should have been processed.", totalCount, job.getCompletionCount());
+	}
+
+	private void assertPublishStatus(String message, String nodeUuid, boolean expectPublished) {
+		PublishStatusResponse status = call(() -> client().getNodePublishStatus(PROJECT_NAME, nodeUuid));
+		for (Entry<String, PublishStatusModel> entry : status.getAvailableLanguages().entrySet()) {
+			if (expectPublished != entry.getValue().isPublished()) {
+				fail("Publish status check for node {" + nodeUuid + "} failed for language {" + entry.getKey() + "} [" + message + "]");
+			}
+		}
+	}
+}
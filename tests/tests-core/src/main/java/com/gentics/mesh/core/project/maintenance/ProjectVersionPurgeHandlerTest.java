@@ -2,12 +2,18 @@ package com.gentics.mesh.core.project.maintenance;
 
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ElasticsearchTestMode.NONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.test.MeshTestSetting;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -18,7 +24,48 @@ public class ProjectVersionPurgeHandlerTest extends AbstractMeshTest {
 	@Test
 	public void testHandler() {
 		HibProject project = project();
+		createVersions();
+
+		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
+		handler.purgeVersions(project, null).blockingAwait();
+	}
+
+	@Test
+	public void testPartitionedPurge() {
+		HibProject project = project();
+		createVersions();
 
+		options().setVersionPurgePartitionSize(3).setVersionPurgeWorkers(2);
+		try {
+			List<long[]> progress = new ArrayList<>();
+			List<String> lastNodeUuids = new ArrayList<>();
+			ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
+			handler.purgeVersions(project, null, null, (total, completed, purged, lastNodeUuid) -> {
+				progress.add(new long[] { total, completed, purged });
+				lastNodeUuids.add(lastNodeUuid);
+			}).blockingAwait();
+
+			long total = tx(tx -> {
+				return tx.nodeDao().count(project);
+			});
+			assertEquals("Every partition should report its progress", (total + 2) / 3, progress.size());
+			long[] last = progress.get(progress.size() - 1);
+			assertEquals(total, last[0]);
+			assertEquals("All nodes should have been processed", total, last[1]);
+			assertTrue("The old versions of the content should have been purged", last[2] >= 9);
+
+			// Continuing the completed purge does not process any node
+			List<long[]> resumed = new ArrayList<>();
+			String lastNodeUuid = lastNodeUuids.get(lastNodeUuids.size() - 1);
+			handler.purgeVersions(project, null, lastNodeUuid, (t, c, p, l) -> resumed.add(new long[] { t, c, p })).blockingAwait();
+			assertTrue(resumed.isEmpty());
+		} finally {
+			options().setVersionPurgePartitionSize(MeshOptions.DEFAULT_VERSION_PURGE_PARTITION_SIZE)
+				.setVersionPurgeWorkers(MeshOptions.DEFAULT_VERSION_PURGE_WORKERS);
+		}
+	}
+
+	private void createVersions() {
 		for (int i = 0; i < 10; i++) {
 			NodeUpdateRequest request = new NodeUpdateRequest();
 			request.setVersion("draft");
@@ -26,8 +73,5 @@ public class ProjectVersionPurgeHandlerTest extends AbstractMeshTest {
 			request.getFields().put("slug", FieldUtil.createStringField("blub" + i));
 			call(() -> client().updateNode(projectName(), contentUuid(), request));
 		}
-
-		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
-		handler.purgeVersions(project, null).blockingAwait();
 	}
 }
@@ -0,0 +1,211 @@
+package com.gentics.mesh.core.role;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_BATCH_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.TRACKING;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.event.role.PermissionChangedBatchEventModel;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.core.rest.role.RolePermissionRequest;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(elasticsearch = TRACKING, testSize = FULL, startServer = true)
+public class RolePermissionJobEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testRevokeRecursivelyInBackground() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		options().setPermissionMaxBatchSize(3);
+
+		try {
+			RolePermissionRequest request = new RolePermissionRequest();
+			request.setRecursive(true);
+			request.setBackground(true);
+			request.getPermissions().setUpdate(false);
+
+			GenericMessageResponse message = call(
+				() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid() + "/nodes/" + folderUuid, request));
+			assertThat(message).matches("role_permission_job_enqueued", getJobUuid(JobType.permission));
+
+			triggerAndWaitForAllJobs(COMPLETED);
+
+			tx(tx -> {
+				assertFalse(tx.roleDao().hasPermission(role(), InternalPermission.UPDATE_PERM, folder("news")));
+				assertFalse(tx.roleDao().hasPermission(role(), InternalPermission.UPDATE_PERM, content("news_2015")));
+				assertTrue("Other permissions must not be changed.", tx.roleDao().hasPermission(role(), InternalPermission.READ_PERM, content("news_2015")));
+				assertTrue("Nodes outside of the subtree must not be changed.", tx.roleDao().hasPermission(role(), InternalPermission.UPDATE_PERM, folder("deals")));
+			});
+
+			JobResponse job = assertJob(folderUuid);
+			assertTrue("The job should have processed the subtree in multiple batches.", Long.parseLong(job.getProperties().get("totalCount")) > 3);
+		} finally {
+			options().setPermissionMaxBatchSize(500);
+		}
+	}
+
+	@Test
+	public void testRevokeOnProjectNodesInBackground() {
+		options().setPermissionMaxBatchSize(3);
+
+		try {
+			RolePermissionRequest request = new RolePermissionRequest();
+			request.setRecursive(true);
+			request.setBackground(true);
+			request.getPermissions().setDelete(false);
+
+			call(() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid() + "/nodes", request));
+			triggerAndWaitForAllJobs(COMPLETED);
+
+			tx(tx -> {
+				assertFalse(tx.roleDao().hasPermission(role(), InternalPermission.DELETE_PERM, project().getBaseNode()));
+				assertFalse(tx.roleDao().hasPermission(role(), InternalPermission.DELETE_PERM, content("news_2015")));
+			});
+
+			JobResponse job = assertJob(null);
+			assertEquals("All nodes of the project should have been processed.", getNodeCount(), Long.parseLong(job.getProperties().get("totalCount")));
+		} finally {
+			options().setPermissionMaxBatchSize(500);
+		}
+	}
+
+	@Test
+	public void testInvalidateOnlyChangedNodes() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String unchangedUuid = tx(() -> folder("2014").getUuid());
+		tx(tx -> {
+			tx.roleDao().revokePermissions(role(), folder("2014"), InternalPermission.UPDATE_PERM);
+		});
+		long total = tx(tx -> countSubtree(tx.nodeDao(), folder("news")));
+		int batchSize = 3;
+		int batches = (int) ((total + batchSize - 1) / batchSize);
+		options().setPermissionMaxBatchSize(batchSize);
+
+		try {
+			// Cache the permissions of a changed node, an unchanged node in the subtree and a node outside of the subtree
+			PermissionCache cache = meshDagger().permissionCache();
+			Object userId = tx(() -> user().getId());
+			Object changedId = tx(() -> content("news_2015").getId());
+			Object unchangedId = tx(() -> folder("2014").getId());
+			Object outsideId = tx(() -> folder("deals").getId());
+			tx(tx -> {
+				tx.userDao().hasPermission(user(), content("news_2015"), InternalPermission.READ_PERM);
+				tx.userDao().hasPermission(user(), folder("2014"), InternalPermission.READ_PERM);
+				tx.userDao().hasPermission(user(), folder("deals"), InternalPermission.READ_PERM);
+			});
+			assertNotNull(cache.get(userId, changedId));
+
+			expect(ROLE_PERMISSIONS_CHANGED).none();
+			expect(ROLE_PERMISSIONS_BATCH_CHANGED).match(batches, PermissionChangedBatchEventModel.class, event -> {
+				assertTrue("Each event should only contain the nodes of a single batch.", event.getUuids().size() <= batchSize);
+				assertFalse("Unchanged nodes must not be part of the event.", event.getUuids().contains(unchangedUuid));
+			}).total(batches);
+
+			RolePermissionRequest request = new RolePermissionRequest();
+			request.setRecursive(true);
+			request.setBackground(true);
+			request.getPermissions().setUpdate(false);
+			call(() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid() + "/nodes/" + folderUuid, request));
+			triggerAndWaitForAllJobs(COMPLETED);
+			awaitEvents();
+
+			assertNull("The permissions of the changed node should have been invalidated.", cache.get(userId, changedId));
+			assertNotNull("The permissions of the unchanged node should still be cached.", cache.get(userId, unchangedId));
+			assertNotNull("The permissions of nodes outside of the subtree should still be cached.", cache.get(userId, outsideId));
+		} finally {
+			options().setPermissionMaxBatchSize(500);
+		}
+	}
+
+	@Test
+	public void testMissingReadPermission() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		options().setPermissionMaxBatchSize(1);
+
+		try {
+			// The requester can't read a node deep in the subtree
+			tx(tx -> {
+				tx.roleDao().revokePermissions(role(), content("news_2015"), InternalPermission.READ_PERM);
+			});
+
+			RolePermissionRequest request = new RolePermissionRequest();
+			request.setRecursive(true);
+			request.setBackground(true);
+			request.getPermissions().setUpdate(false);
+			call(() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid() + "/nodes/" + folderUuid, request));
+			triggerAndWaitForAllJobs(FAILED);
+
+			tx(tx -> {
+				assertTrue("No node should have been changed.", tx.roleDao().hasPermission(role(), InternalPermission.UPDATE_PERM, folder("news")));
+				assertTrue("No node should have been changed.", tx.roleDao().hasPermission(role(), InternalPermission.UPDATE_PERM, folder("2015")));
+			});
+		} finally {
+			options().setPermissionMaxBatchSize(500);
+		}
+	}
+
+	@Test
+	public void testBackgroundWithoutRecursion() {
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+
+		// The background flag only applies to recursive actions
+		RolePermissionRequest request = new RolePermissionRequest();
+		request.setBackground(true);
+		request.getPermissions().setUpdate(false);
+		GenericMessageResponse message = call(
+			() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid() + "/nodes/" + contentUuid, request));
+		assertThat(message).matches("role_updated_permission", tx(() -> role().getName()));
+		tx(tx -> {
+			assertFalse(tx.roleDao().hasPermission(role(), InternalPermission.UPDATE_PERM, content("news_2015")));
+		});
+
+		JobListResponse jobs = adminCall(() -> client().findJobs());
+		assertEquals("No job should have been created.", 0, jobs.getData().size());
+	}
+
+	private long countSubtree(NodeDao nodeDao, HibNode node) {
+		long count = 1;
+		for (HibNode child : nodeDao.getChildren(node)) {
+			count += countSubtree(nodeDao, child);
+		}
+		return count;
+	}
+
+	private String getJobUuid(JobType type) {
+		JobListResponse jobs = adminCall(() -> client().findJobs());
+		return jobs.getData().stream().filter(j -> j.getType() == type).map(JobResponse::getUuid).findFirst().orElse(null);
+	}
+
+	private JobResponse assertJob(String nodeUuid) {
+		JobListResponse jobs = adminCall(() -> client().findJobs());
+		JobResponse job = jobs.getData().stream().filter(j -> j.getType() == JobType.permission).findFirst().orElse(null);
+		assertNotNull("The permission job could not be found.", job);
+		if (nodeUuid == null) {
+			assertNull(job.getProperties().get("nodeUuid"));
+		} else {
+			assertEquals(nodeUuid, job.getProperties().get("nodeUuid"));
+		}
+		assertEquals(roleUuid(), job.getProperties().get("roleUuid"));
+		assertEquals("All nodes should have been processed.", Long.parseLong(job.getProperties().get("totalCount")), job.getCompletionCount());
+		return job;
+	}
+}
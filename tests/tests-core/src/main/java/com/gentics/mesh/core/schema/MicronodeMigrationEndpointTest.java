@@ -5,15 +5,29 @@ import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHE
 import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_START;
 import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeOperation.UPDATEFIELD;
 import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import org.junit.Test;
 
+import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
 import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangesListModel;
+import com.gentics.mesh.core.rest.schema.impl.MicronodeFieldSchemaImpl;
+import com.gentics.mesh.core.rest.schema.impl.MicroschemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.MeshTestSetting;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 
@@ -44,4 +58,159 @@ public class MicronodeMigrationEndpointTest extends AbstractMeshTest {
 		}, COMPLETED, 1);
 		awaitEvents();
 	}
+
+	/**
+	 * Test that a compatible change updates the micronodes in place, when enabled.
+	 */
+	@Test
+	public void testInPlaceMigration() {
+		options().setMicronodeMigrationInPlace(true);
+		try {
+			NodeResponse node = createVcardNode();
+			MicroschemaResponse microschema = addVcardField();
+
+			NodeResponse migrated = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid()));
+			assertEquals("No new version of the node should have been created", node.getVersion(), migrated.getVersion());
+			MicronodeResponse micronode = migrated.getFields().getMicronodeField("micronodeField");
+			assertEquals(microschema.getVersion(), micronode.getMicroschema().getVersion());
+			assertEquals("Max", micronode.getFields().getStringField("firstName").getString());
+		} finally {
+			options().setMicronodeMigrationInPlace(false);
+		}
+	}
+
+	/**
+	 * Test that a change of the field constraints creates a new version, even when the in place migration is enabled.
+	 */
+	@Test
+	public void testInPlaceMigrationWithRequiredField() {
+		options().setMicronodeMigrationInPlace(true);
+		try {
+			NodeResponse node = createVcardNode();
+			SchemaChangeModel change = new SchemaChangeModel(UPDATEFIELD, "lastName");
+			change.setProperty(SchemaChangeModel.REQUIRED_KEY, true);
+			MicroschemaResponse microschema = applyVcardChange(change);
+
+			NodeResponse migrated = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid()));
+			assertNotEquals("A new version of the node should have been created", node.getVersion(), migrated.getVersion());
+			MicronodeResponse micronode = migrated.getFields().getMicronodeField("micronodeField");
+			assertEquals(microschema.getVersion(), micronode.getMicroschema().getVersion());
+			assertEquals("Mustermann", micronode.getFields().getStringField("lastName").getString());
+		} finally {
+			options().setMicronodeMigrationInPlace(false);
+		}
+	}
+
+	/**
+	 * Test that a migration which is not done in place creates a new version with the migrated micronode.
+	 */
+	@Test
+	public void testVersionedMigration() {
+		NodeResponse node = createVcardNode();
+		MicroschemaResponse microschema = addVcardField();
+
+		NodeResponse migrated = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid()));
+		assertNotEquals("A new version of the node should have been created", node.getVersion(), migrated.getVersion());
+		MicronodeResponse micronode = migrated.getFields().getMicronodeField("micronodeField");
+		assertEquals(microschema.getVersion(), micronode.getMicroschema().getVersion());
+		assertEquals("Max", micronode.getFields().getStringField("firstName").getString());
+	}
+
+	/**
+	 * Test that the in place migration creates a new version, when the micronodes are also used in another branch.
+	 */
+	@Test
+	public void testInPlaceMigrationWithOtherBranch() {
+		options().setMicronodeMigrationInPlace(true);
+		try {
+			NodeResponse node = createVcardNode();
+			String oldVersion = node.getFields().getMicronodeField("micronodeField").getMicroschema().getVersion();
+			grantAdmin();
+			waitForJobs(() -> {
+				call(() -> client().createBranch(PROJECT_NAME, new BranchCreateRequest().setName("branch1")));
+			}, COMPLETED, 1);
+			MicroschemaResponse microschema = addVcardField();
+
+			NodeResponse migrated = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid(),
+				new VersioningParametersImpl().setBranch(initialBranchUuid())));
+			assertNotEquals("A new version of the node should have been created", node.getVersion(), migrated.getVersion());
+			assertEquals(microschema.getVersion(), migrated.getFields().getMicronodeField("micronodeField").getMicroschema().getVersion());
+
+			NodeResponse other = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid(), new VersioningParametersImpl().setBranch("branch1")));
+			assertEquals("The node in the other branch should not have been changed", node.getVersion(), other.getVersion());
+			MicronodeResponse micronode = other.getFields().getMicronodeField("micronodeField");
+			assertEquals("The other branch should still use the old microschema version", oldVersion, micronode.getMicroschema().getVersion());
+			assertEquals("Max", micronode.getFields().getStringField("firstName").getString());
+		} finally {
+			options().setMicronodeMigrationInPlace(false);
+		}
+	}
+
+	/**
+	 * Test that a new version shares the micronode fields, which are not affected by the migration, with the previous version.
+	 */
+	@Test
+	public void testVersionedMigrationWithUnaffectedMicronode() {
+		NodeResponse node = addCaptionedImage(createVcardNode());
+		String oldVersion = node.getFields().getMicronodeField("micronodeField").getMicroschema().getVersion();
+		MicroschemaResponse microschema = addVcardField();
+
+		NodeResponse migrated = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid()));
+		assertNotEquals("A new version of the node should have been created", node.getVersion(), migrated.getVersion());
+		assertEquals(microschema.getVersion(), migrated.getFields().getMicronodeField("micronodeField").getMicroschema().getVersion());
+		MicronodeResponse image = migrated.getFields().getMicronodeField("imageField");
+		assertEquals("captionedImage", image.getMicroschema().getName());
+		assertEquals("The unaffected micronode should have been kept", "Flower", image.getFields().getStringField("caption").getString());
+
+		// The previous version must not be changed by the migration
+		NodeResponse previous = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid(), new VersioningParametersImpl().setVersion(node.getVersion())));
+		assertEquals(oldVersion, previous.getFields().getMicronodeField("micronodeField").getMicroschema().getVersion());
+		assertEquals("Flower", previous.getFields().getMicronodeField("imageField").getFields().getStringField("caption").getString());
+	}
+
+	private NodeResponse createVcardNode() {
+		tx(() -> {
+			SchemaVersionModel schema = schemaContainer("folder").getLatestVersion().getSchema();
+			schema.addField(new MicronodeFieldSchemaImpl().setAllowedMicroSchemas("vcard").setName("micronodeField").setLabel("Some label"));
+			schemaContainer("folder").getLatestVersion().setSchema(schema);
+		});
+		MicronodeResponse micronode = new MicronodeResponse();
+		micronode.setMicroschema(new MicroschemaReferenceImpl().setName("vcard"));
+		micronode.getFields().put("firstName", new StringFieldImpl().setString("Max"));
+		micronode.getFields().put("lastName", new StringFieldImpl().setString("Mustermann"));
+		return createNode("micronodeField", micronode);
+	}
+
+	private NodeResponse addCaptionedImage(NodeResponse node) {
+		tx(() -> {
+			SchemaVersionModel schema = schemaContainer("folder").getLatestVersion().getSchema();
+			schema.addField(new MicronodeFieldSchemaImpl().setAllowedMicroSchemas("captionedImage").setName("imageField").setLabel("Image"));
+			schemaContainer("folder").getLatestVersion().setSchema(schema);
+		});
+		MicronodeResponse micronode = new MicronodeResponse();
+		micronode.setMicroschema(new MicroschemaReferenceImpl().setName("captionedImage"));
+		micronode.getFields().put("caption", new StringFieldImpl().setString("Flower"));
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(node.getVersion());
+		update.getFields().put("imageField", micronode);
+		return call(() -> client().updateNode(PROJECT_NAME, node.getUuid(), update));
+	}
+
+	private MicroschemaResponse addVcardField() {
+		return applyVcardChange(SchemaChangeModel.createAddFieldChange("newField", "html", "fieldLabel", null));
+	}
+
+	private MicroschemaResponse applyVcardChange(SchemaChangeModel change) {
+		String microschemaUuid = tx(() -> microschemaContainer("vcard").getUuid());
+		SchemaChangesListModel listOfChanges = new SchemaChangesListModel();
+		listOfChanges.getChanges().add(change);
+		call(() -> client().applyChangesToMicroschema(microschemaUuid, listOfChanges));
+		MicroschemaResponse microschema = call(() -> client().findMicroschemaByUuid(microschemaUuid));
+		waitForJobs(() -> {
+			call(() -> client().assignBranchMicroschemaVersions(PROJECT_NAME, initialBranchUuid(),
+				new MicroschemaReferenceImpl().setName(microschema.getName()).setVersion(microschema.getVersion())));
+		}, COMPLETED, 1);
+		return microschema;
+	}
 }
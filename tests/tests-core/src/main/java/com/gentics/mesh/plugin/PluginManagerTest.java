@@ -9,9 +9,11 @@ import static com.gentics.mesh.test.TestSize.PROJECT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Proxy;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -28,6 +30,8 @@ import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
+import com.gentics.mesh.rest.MeshLoopbackClient;
+import com.gentics.mesh.rest.client.MeshRestClient;
 import com.gentics.mesh.test.MeshTestSetting;
 import com.gentics.mesh.test.category.PluginTests;
 import com.gentics.mesh.test.helper.ExpectedEvent;
@@ -181,6 +185,25 @@ public class PluginManagerTest extends AbstractPluginTest {
 		assertEquals("testabc", project.getName());
 	}
 
+	/**
+	 * Test whether the user and admin client are working as expected when the local transport is used.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testClientAPIWithLocalTransport() throws IOException, TimeoutException {
+		options().setPluginUseLocalTransport(true);
+		try {
+			testClientAPI();
+
+			MeshRestClient adminClient = ((MeshPlugin) pluginManager().getPlugin("client").getPlugin()).adminClient();
+			assertTrue("The admin client of the plugin should use the local transport",
+				Proxy.isProxyClass(adminClient.getClass()) && Proxy.getInvocationHandler(adminClient) instanceof MeshLoopbackClient);
+		} finally {
+			options().setPluginUseLocalTransport(false);
+		}
+	}
+
 	private String getJSONViaClient(String path) throws IOException {
 		HttpUrl url = prepareUrl(path);
 
@@ -0,0 +1,81 @@
+package com.gentics.mesh.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.user.MeshAuthUser;
+import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.rest.client.MeshRequest;
+import com.gentics.mesh.rest.client.MeshRestClient;
+
+import io.reactivex.Single;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+public class MeshLoopbackClientTest {
+
+	private MeshRestClient httpClient;
+
+	private MeshLocalClient localClient;
+
+	private MeshLocalClient userClient;
+
+	private final AtomicReference<MeshAuthUser> user = new AtomicReference<>();
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		httpClient = mock(MeshRestClient.class);
+		when(httpClient.getAPIKey()).thenReturn("apikey");
+		MeshRequest<UserResponse> httpRequest = mock(MeshRequest.class);
+		when(httpRequest.toMaybe()).thenAnswer(invocation -> Single.just(new UserResponse().setUsername("http")).toMaybe());
+		when(httpClient.me()).thenReturn(httpRequest);
+
+		userClient = mock(MeshLocalClient.class);
+		when(userClient.me()).thenAnswer(invocation -> new MeshLocalRequestImpl<>(Future.succeededFuture(new UserResponse().setUsername("local"))));
+		localClient = mock(MeshLocalClient.class);
+		when(localClient.forUser(any())).thenReturn(userClient);
+
+		user.set(mock(MeshAuthUser.class));
+	}
+
+	@Test
+	public void testLocalRequest() {
+		MeshRestClient client = MeshLoopbackClient.create(mock(Vertx.class), localClient, httpClient, key -> user.get());
+
+		assertEquals("local", client.me().blockingGet().getUsername());
+		verify(userClient).me();
+		verify(httpClient, never()).me();
+	}
+
+	@Test
+	public void testRevokedKey() {
+		MeshRestClient client = MeshLoopbackClient.create(mock(Vertx.class), localClient, httpClient, key -> user.get());
+		assertEquals("local", client.me().blockingGet().getUsername());
+
+		// The key is validated for each request
+		user.set(null);
+		assertEquals("http", client.me().blockingGet().getUsername());
+		verify(userClient, times(1)).me();
+		verify(httpClient).me();
+	}
+
+	@Test
+	public void testLogout() {
+		MeshRestClient client = MeshLoopbackClient.create(mock(Vertx.class), localClient, httpClient, key -> user.get());
+		client.logout();
+
+		assertEquals("http", client.me().blockingGet().getUsername());
+		verify(userClient, never()).me();
+	}
+}
@@ -698,6 +698,9 @@ public class MeshTestContext implements TestRule {
 		String plugindirPath = newFolder("plugins");
 		meshOptions.setPluginDirectory(plugindirPath);
 
+		String consistencyCheckpointDir = newFolder("consistency");
+		meshOptions.getConsistencyCheckOptions().setCheckpointDirectory(consistencyCheckpointDir);
+
 		meshTestContextProvider.getInstanceProvider().initFolders(this::newFolder);
 	}
 
@@ -1,10 +1,19 @@
 package com.gentics.mesh.storage.s3;
 
+import static com.gentics.mesh.metric.SimpleMetric.S3_UPLOAD_BYTES;
+import static com.gentics.mesh.metric.SimpleMetric.S3_UPLOAD_TIME;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
 
 import com.gentics.mesh.core.data.storage.s3.S3BinaryStorageImpl;
 import org.junit.AfterClass;
@@ -18,17 +27,21 @@ import com.gentics.mesh.test.MeshOptionsTypeUnawareContext;
 import com.gentics.mesh.test.docker.AWSContainer;
 
 import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.buffer.Buffer;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.DeleteBucketRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 public class S3BinaryStorageTest implements MeshOptionsTypeUnawareContext {
     private static final String ACCESS_KEY = "accessKey";
@@ -77,6 +90,91 @@ public class S3BinaryStorageTest implements MeshOptionsTypeUnawareContext {
         assertFalse(aBoolean);
     }
 
+    @Test
+    public void testStreamingRead() {
+        byte[] data = upload("streaming", 1024 * 1024);
+        Buffer result = s3BinaryStorage.read(BUCKET, "streaming")
+                .reduce(Buffer.buffer(), Buffer::appendBuffer)
+                .blockingGet();
+        assertArrayEquals("The streamed data should match the uploaded data", data, result.getBytes());
+    }
+
+    @Test
+    public void testRangedRead() {
+        byte[] data = upload("ranged", 1024 * 1024);
+        Buffer result = s3BinaryStorage.read(BUCKET, "ranged", 1000, 500_999)
+                .reduce(Buffer.buffer(), Buffer::appendBuffer)
+                .blockingGet();
+        assertArrayEquals("Only the requested range should be returned", Arrays.copyOfRange(data, 1000, 501_000), result.getBytes());
+    }
+
+    @Test
+    public void testReadToFile() throws IOException {
+        byte[] data = upload("file", 1024 * 1024);
+        File target = File.createTempFile("s3-read", null);
+        try {
+            s3BinaryStorage.readToFile(BUCKET, "file", target).blockingAwait();
+            assertArrayEquals("The file should contain the uploaded data", data, Files.readAllBytes(target.toPath()));
+        } finally {
+            target.delete();
+        }
+    }
+
+    @Test
+    public void testMultipartUpload() throws IOException {
+        int partSize = 5 * 1024 * 1024;
+        S3Options s3Options = meshOptions.getS3Options();
+        s3Options.setEnabled(true)
+                .setRegion("eu-central-1")
+                .setEndpoint("http://" + container.getHostAddress())
+                .setMultipartThreshold(partSize)
+                .setMultipartPartSize(partSize)
+                .setMultipartConcurrency(2);
+        s3Options.getS3CacheOptions().setBucket(BUCKET);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        S3BinaryStorage storage = new S3BinaryStorageImpl(meshOptions, null, registry);
+
+        // The file is uploaded in three parts
+        byte[] data = new byte[2 * partSize + 1000];
+        new Random(data.length).nextBytes(data);
+        File file = File.createTempFile("s3-multipart", null);
+        try {
+            Files.write(file.toPath(), data);
+            storage.uploadFile(BUCKET, "multipart/file", file, false).blockingGet();
+        } finally {
+            file.delete();
+        }
+
+        Buffer result = storage.read(BUCKET, "multipart/file")
+                .reduce(Buffer.buffer(), Buffer::appendBuffer)
+                .blockingGet();
+        assertArrayEquals("The uploaded parts should have been combined", data, result.getBytes());
+        assertEquals("The uploaded bytes should have been recorded", data.length, registry.counter(S3_UPLOAD_BYTES.key()).count(), 0);
+        assertEquals(1, registry.timer(S3_UPLOAD_TIME.key()).count());
+    }
+
+    @Test
+    public void testMultipartPartSize() {
+        long partSize = 5 * 1024 * 1024;
+        assertEquals("The configured part size should be used", partSize, S3BinaryStorageImpl.getMultipartPartSize(partSize, 3 * partSize));
+        assertEquals(partSize, S3BinaryStorageImpl.getMultipartPartSize(partSize, S3BinaryStorageImpl.MAX_MULTIPART_PARTS * partSize));
+
+        // The part size is increased, so that the upload does not exceed the maximum amount of parts
+        long size = S3BinaryStorageImpl.MAX_MULTIPART_PARTS * partSize + 1;
+        long increasedPartSize = S3BinaryStorageImpl.getMultipartPartSize(partSize, size);
+        assertEquals(partSize + 1, increasedPartSize);
+        assertTrue("The upload should not need more parts than allowed",
+                (size + increasedPartSize - 1) / increasedPartSize <= S3BinaryStorageImpl.MAX_MULTIPART_PARTS);
+    }
+
+    private byte[] upload(String objectKey, int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        PutObjectRequest request = PutObjectRequest.builder().bucket(BUCKET).key(objectKey).build();
+        SingleInterop.fromFuture(client.putObject(request, AsyncRequestBody.fromBytes(data))).blockingGet();
+        return data;
+    }
+
     private S3AsyncClient getClient() {
         client = getClient(container);
         return client;